@@ -0,0 +1,383 @@
+/*
+ * Copyright 2014 - 2020 Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import net.bytebuddy.matcher.PrefixMatcher;
+import net.bytebuddy.matcher.StringMatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.instrument.IllegalClassFormatException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+
+/**
+ * <p>
+ * A benchmark for measuring the latency that an installed {@link AgentBuilder} adds to the loading of a class. The benchmark
+ * drives a {@link ClassFileTransformer} directly by supplying the class files of a corpus of JDK classes, similarly
+ * to the JVM when the classes are loaded. This way, the overhead of an agent is measured for types that are ignored, for
+ * types that are matched but not transformed and for types that are transformed by an {@link Advice}. The benchmark is
+ * parameterized by the agent's {@link AgentBuilder.PoolStrategy}, {@link AgentBuilder.DescriptionStrategy} and
+ * {@link AgentBuilder.TypeStrategy}.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClassFileTransformationBenchmark {
+
+    /**
+     * The JDK classes that are supplied to the class file transformers.
+     */
+    public static final Class<?>[] CORPUS = new Class<?>[]{
+            String.class,
+            Integer.class,
+            StringBuilder.class,
+            Thread.class,
+            java.util.ArrayList.class,
+            java.util.LinkedList.class,
+            java.util.HashMap.class,
+            java.util.TreeMap.class,
+            java.util.HashSet.class,
+            java.util.Collections.class,
+            java.util.Arrays.class,
+            java.util.Formatter.class,
+            java.util.Scanner.class,
+            java.util.concurrent.ConcurrentHashMap.class,
+            java.util.concurrent.ThreadPoolExecutor.class,
+            java.util.concurrent.locks.ReentrantLock.class,
+            java.util.regex.Pattern.class,
+            java.io.File.class,
+            java.io.BufferedReader.class,
+            java.net.URL.class,
+            java.net.URI.class,
+            java.text.SimpleDateFormat.class,
+            java.math.BigDecimal.class,
+            java.math.BigInteger.class
+    };
+
+    /**
+     * The pool strategy to use.
+     */
+    @Param
+    public PoolStrategy poolStrategy = PoolStrategy.FAST;
+
+    /**
+     * The description strategy to use.
+     */
+    @Param
+    public AgentBuilder.DescriptionStrategy.Default descriptionStrategy = AgentBuilder.DescriptionStrategy.Default.HYBRID;
+
+    /**
+     * The type strategy to use.
+     */
+    @Param
+    public AgentBuilder.TypeStrategy.Default typeStrategy = AgentBuilder.TypeStrategy.Default.REDEFINE;
+
+    /**
+     * The zero-length of the class loader's URL.
+     */
+    private int urlLength = 0;
+
+    /**
+     * The class loader that is supplied as the defining class loader of the corpus' classes.
+     */
+    private ClassLoader classLoader;
+
+    /**
+     * The internal names of the corpus' classes.
+     */
+    private String[] internalNames;
+
+    /**
+     * The class files of the corpus' classes.
+     */
+    private byte[][] binaryRepresentations;
+
+    /**
+     * A class file transformer that ignores all types by a matcher for type descriptions.
+     */
+    private ClassFileTransformer ignoringClassFileTransformer;
+
+    /**
+     * A class file transformer that ignores all types by a matcher for type names.
+     */
+    private ClassFileTransformer nameIgnoringClassFileTransformer;
+
+    /**
+     * A class file transformer that ignores all types by a matcher for several name prefixes.
+     */
+    private ClassFileTransformer prefixIgnoringClassFileTransformer;
+
+    /**
+     * A class file transformer that matches all types without transforming any of them.
+     */
+    private ClassFileTransformer matchingClassFileTransformer;
+
+    /**
+     * A class file transformer that applies an advice to all methods of all types.
+     */
+    private ClassFileTransformer adviceClassFileTransformer;
+
+    /**
+     * Sets up the class file transformers and reads the corpus' class files.
+     *
+     * @throws Exception If a class file cannot be read.
+     */
+    @Setup
+    public void setup() throws Exception {
+        classLoader = new URLClassLoader(new URL[urlLength]);
+        internalNames = new String[CORPUS.length];
+        binaryRepresentations = new byte[CORPUS.length][];
+        ClassFileLocator classFileLocator = ClassFileLocator.ForClassLoader.ofSystemLoader();
+        for (int index = 0; index < CORPUS.length; index++) {
+            internalNames[index] = CORPUS[index].getName().replace('.', '/');
+            binaryRepresentations[index] = classFileLocator.locate(CORPUS[index].getName()).resolve();
+        }
+        ignoringClassFileTransformer = agentBuilder()
+                .ignore(nameStartsWith("java."))
+                .type(any())
+                .transform(new AgentBuilder.Transformer.ForAdvice().advice(isMethod(), ExampleAdvice.class.getName()).include(ExampleAdvice.class.getClassLoader()))
+                .makeRaw();
+        nameIgnoringClassFileTransformer = agentBuilder()
+                .ignoreNames(new StringMatcher("java.", StringMatcher.Mode.STARTS_WITH))
+                .type(any())
+                .transform(new AgentBuilder.Transformer.ForAdvice().advice(isMethod(), ExampleAdvice.class.getName()).include(ExampleAdvice.class.getClassLoader()))
+                .makeRaw();
+        prefixIgnoringClassFileTransformer = agentBuilder()
+                .ignoreNames(new PrefixMatcher("sun.", "com.sun.", "jdk.", "javax.", "java."))
+                .type(any())
+                .transform(new AgentBuilder.Transformer.ForAdvice().advice(isMethod(), ExampleAdvice.class.getName()).include(ExampleAdvice.class.getClassLoader()))
+                .makeRaw();
+        matchingClassFileTransformer = agentBuilder()
+                .ignore(none())
+                .type(isAnnotatedWith(ExampleAnnotation.class))
+                .transform(new AgentBuilder.Transformer.ForAdvice().advice(isMethod(), ExampleAdvice.class.getName()).include(ExampleAdvice.class.getClassLoader()))
+                .makeRaw();
+        adviceClassFileTransformer = agentBuilder()
+                .ignore(none())
+                .type(any())
+                .transform(new AgentBuilder.Transformer.ForAdvice()
+                        .advice(isMethod().and(not(isAbstract())).and(not(isNative())), ExampleAdvice.class.getName())
+                        .include(ExampleAdvice.class.getClassLoader()))
+                .makeRaw();
+    }
+
+    /**
+     * Creates an agent builder that applies this benchmark's configuration.
+     *
+     * @return An agent builder that applies this benchmark's configuration.
+     */
+    private AgentBuilder agentBuilder() {
+        return new AgentBuilder.Default(new ByteBuddy().with(TypeValidation.DISABLED))
+                .disableClassFormatChanges()
+                .with(poolStrategy.getPoolStrategy())
+                .with(descriptionStrategy)
+                .with(typeStrategy)
+                .with(AgentBuilder.InitializationStrategy.NoOp.INSTANCE);
+    }
+
+    /**
+     * Transforms all classes of the corpus.
+     *
+     * @param classFileTransformer The class file transformer to apply.
+     * @return The number of transformed classes.
+     * @throws IllegalClassFormatException If a class file is illegal.
+     */
+    private int transform(ClassFileTransformer classFileTransformer) throws IllegalClassFormatException {
+        int transformed = 0;
+        for (int index = 0; index < internalNames.length; index++) {
+            if (classFileTransformer.transform(classLoader, internalNames[index], null, null, binaryRepresentations[index]) != null) {
+                transformed++;
+            }
+        }
+        return transformed;
+    }
+
+    /**
+     * Performs a benchmark of transforming all classes of the corpus without any class file transformer as a baseline.
+     *
+     * @return The number of transformed classes.
+     */
+    @Benchmark
+    @OperationsPerInvocation(24)
+    public int baseline() {
+        int transformed = 0;
+        for (int index = 0; index < internalNames.length; index++) {
+            if (binaryRepresentations[index] == null) {
+                transformed++;
+            }
+        }
+        return transformed;
+    }
+
+    /**
+     * Performs a benchmark of transforming all classes of the corpus with a class file transformer that ignores them by
+     * a matcher for type descriptions.
+     *
+     * @return The number of transformed classes.
+     * @throws Exception If the transformation fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(24)
+    public int benchmarkIgnored() throws Exception {
+        return transform(ignoringClassFileTransformer);
+    }
+
+    /**
+     * Performs a benchmark of transforming all classes of the corpus with a class file transformer that ignores them by
+     * a matcher for type names.
+     *
+     * @return The number of transformed classes.
+     * @throws Exception If the transformation fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(24)
+    public int benchmarkIgnoredByName() throws Exception {
+        return transform(nameIgnoringClassFileTransformer);
+    }
+
+    /**
+     * Performs a benchmark of transforming all classes of the corpus with a class file transformer that ignores them by
+     * a matcher for several name prefixes.
+     *
+     * @return The number of transformed classes.
+     * @throws Exception If the transformation fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(24)
+    public int benchmarkIgnoredByPrefixes() throws Exception {
+        return transform(prefixIgnoringClassFileTransformer);
+    }
+
+    /**
+     * Performs a benchmark of transforming all classes of the corpus with a class file transformer that matches them
+     * without transforming any of them.
+     *
+     * @return The number of transformed classes.
+     * @throws Exception If the transformation fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(24)
+    public int benchmarkMatchedUntransformed() throws Exception {
+        return transform(matchingClassFileTransformer);
+    }
+
+    /**
+     * Performs a benchmark of transforming all classes of the corpus with a class file transformer that applies an
+     * advice to all of their methods.
+     *
+     * @return The number of transformed classes.
+     * @throws Exception If the transformation fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(24)
+    public int benchmarkAdvice() throws Exception {
+        return transform(adviceClassFileTransformer);
+    }
+
+    /**
+     * The pool strategies that are considered by this benchmark.
+     */
+    public enum PoolStrategy {
+
+        /**
+         * A default pool strategy that uses a fast reader mode.
+         */
+        FAST(AgentBuilder.PoolStrategy.Default.FAST),
+
+        /**
+         * A default pool strategy that uses an extended reader mode.
+         */
+        EXTENDED(AgentBuilder.PoolStrategy.Default.EXTENDED),
+
+        /**
+         * A default pool strategy that uses a tiered reader mode.
+         */
+        TIERED(AgentBuilder.PoolStrategy.Default.TIERED),
+
+        /**
+         * An eager pool strategy that uses a fast reader mode.
+         */
+        EAGER(AgentBuilder.PoolStrategy.Eager.FAST),
+
+        /**
+         * A pool strategy that uses a fast reader mode and that loads any already loaded classes.
+         */
+        CLASS_LOADING(AgentBuilder.PoolStrategy.ClassLoading.FAST);
+
+        /**
+         * The represented pool strategy.
+         */
+        private final AgentBuilder.PoolStrategy poolStrategy;
+
+        /**
+         * Creates a new pool strategy.
+         *
+         * @param poolStrategy The represented pool strategy.
+         */
+        PoolStrategy(AgentBuilder.PoolStrategy poolStrategy) {
+            this.poolStrategy = poolStrategy;
+        }
+
+        /**
+         * Returns the represented pool strategy.
+         *
+         * @return The represented pool strategy.
+         */
+        protected AgentBuilder.PoolStrategy getPoolStrategy() {
+            return poolStrategy;
+        }
+    }
+
+    /**
+     * An annotation that is not declared by any class of the corpus.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface ExampleAnnotation {
+        /* empty */
+    }
+
+    /**
+     * An advice class that is applied to all methods of the corpus' classes.
+     */
+    public static class ExampleAdvice {
+
+        /**
+         * An advice that reads the current time upon entering a method.
+         *
+         * @return The current time.
+         */
+        @Advice.OnMethodEnter
+        public static long enter() {
+            return System.nanoTime();
+        }
+    }
+}
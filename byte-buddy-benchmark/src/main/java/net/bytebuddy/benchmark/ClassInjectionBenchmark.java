@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014 - 2020 Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ClassInjector;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * A benchmark for measuring how the injection of types by a {@link ClassInjector.UsingReflection} scales with the number of
+ * types that are injected at once, as it is the case when an instrumented type requires several auxiliary types. All types
+ * are injected into a fresh class loader, either by a single injection of all types or by an individual injection per type.
+ * The types are created once such that the benchmark only measures their injection.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClassInjectionBenchmark {
+
+    /**
+     * The number of types to inject.
+     */
+    @Param({"1", "8", "32"})
+    public int batchSize = 8;
+
+    /**
+     * The injection to apply.
+     */
+    @Param
+    public Injection injection = Injection.BATCH;
+
+    /**
+     * The zero-length of the class loader's URL.
+     */
+    private int urlLength = 0;
+
+    /**
+     * The binary representations of the injected types by their names.
+     */
+    private Map<String, byte[]> types;
+
+    /**
+     * Sets up this benchmark.
+     */
+    @Setup
+    public void setup() {
+        ByteBuddy byteBuddy = new ByteBuddy().with(TypeValidation.DISABLED);
+        types = new LinkedHashMap<String, byte[]>();
+        for (int index = 0; index < batchSize; index++) {
+            String name = ClassInjectionBenchmark.class.getPackage().getName() + ".Injected" + index;
+            types.put(name, byteBuddy.subclass(Object.class).name(name).make().getBytes());
+        }
+    }
+
+    /**
+     * Performs a benchmark of injecting all types into a new class loader.
+     *
+     * @return The injected types.
+     */
+    @Benchmark
+    public Map<String, Class<?>> benchmarkInjection() {
+        return injection.inject(new ClassInjector.UsingReflection(new URLClassLoader(new URL[urlLength], null)), types);
+    }
+
+    /**
+     * An injection of several types.
+     */
+    public enum Injection {
+
+        /**
+         * Injects every type individually.
+         */
+        INDIVIDUAL {
+            @Override
+            protected Map<String, Class<?>> inject(ClassInjector classInjector, Map<String, byte[]> types) {
+                Map<String, Class<?>> result = new LinkedHashMap<String, Class<?>>();
+                for (Map.Entry<String, byte[]> entry : types.entrySet()) {
+                    result.putAll(classInjector.injectRaw(Collections.singletonMap(entry.getKey(), entry.getValue())));
+                }
+                return result;
+            }
+        },
+
+        /**
+         * Injects all types at once.
+         */
+        BATCH {
+            @Override
+            protected Map<String, Class<?>> inject(ClassInjector classInjector, Map<String, byte[]> types) {
+                return classInjector.injectRaw(types);
+            }
+        };
+
+        /**
+         * Injects the supplied types.
+         *
+         * @param classInjector The class injector to use.
+         * @param types         The binary representations of the injected types by their names.
+         * @return The injected types.
+         */
+        protected abstract Map<String, Class<?>> inject(ClassInjector classInjector, Map<String, byte[]> types);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2014 - 2020 Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * A benchmark for measuring the loading of types from a {@link ByteArrayClassLoader} that is shared by several threads, as it
+ * is the case when a class loader that defines many proxy types is used by a multi-threaded application during its start-up.
+ * Every benchmark thread loads all types of a fresh class loader, starting at a different type. The benchmark compares the
+ * parallel capable {@link ByteArrayClassLoader}, which locks the loading of every type on a lock that is specific to its name,
+ * to a subclass that is not registered as parallel capable and therefore locks the loading of any type on the class loader
+ * instance. The types are created once such that the benchmark only measures their loading.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class ClassLoaderContentionBenchmark {
+
+    /**
+     * The locking of the class loader to apply.
+     */
+    @Param
+    public Locking locking = Locking.PARALLEL;
+
+    /**
+     * The number of types that are defined by the class loader.
+     */
+    @Param("1000")
+    public int types = 1000;
+
+    /**
+     * The binary representations of the loaded types by their names.
+     */
+    private Map<String, byte[]> typeDefinitions;
+
+    /**
+     * The names of the loaded types.
+     */
+    private List<String> names;
+
+    /**
+     * The class loader to load the types from.
+     */
+    private ClassLoader classLoader;
+
+    /**
+     * The sequence that determines the first type that is loaded by a benchmark thread.
+     */
+    private AtomicInteger sequence;
+
+    /**
+     * Sets up this benchmark.
+     */
+    @Setup
+    public void setup() {
+        ByteBuddy byteBuddy = new ByteBuddy().with(TypeValidation.DISABLED);
+        typeDefinitions = new LinkedHashMap<String, byte[]>();
+        for (int index = 0; index < types; index++) {
+            String name = ClassLoaderContentionBenchmark.class.getPackage().getName() + ".Loaded" + index;
+            typeDefinitions.put(name, byteBuddy.subclass(Object.class).name(name).make().getBytes());
+        }
+        names = new ArrayList<String>(typeDefinitions.keySet());
+    }
+
+    /**
+     * Creates a fresh class loader before each iteration such that every iteration defines all types.
+     */
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        classLoader = locking.make(typeDefinitions);
+        sequence = new AtomicInteger();
+    }
+
+    /**
+     * Performs a benchmark of loading all types from a class loader that is shared by all benchmark threads.
+     *
+     * @return The loaded types.
+     * @throws ClassNotFoundException If a type cannot be loaded.
+     */
+    @Benchmark
+    public Class<?>[] benchmarkLoading() throws ClassNotFoundException {
+        int offset = sequence.getAndIncrement() * 31;
+        Class<?>[] loaded = new Class<?>[names.size()];
+        for (int index = 0; index < loaded.length; index++) {
+            loaded[index] = classLoader.loadClass(names.get((index + offset) % loaded.length));
+        }
+        return loaded;
+    }
+
+    /**
+     * The locking of a class loader.
+     */
+    public enum Locking {
+
+        /**
+         * A class loader that is registered as parallel capable and locks on the loaded type's name.
+         */
+        PARALLEL {
+            @Override
+            protected ClassLoader make(Map<String, byte[]> typeDefinitions) {
+                return new ByteArrayClassLoader(ClassLoadingStrategy.BOOTSTRAP_LOADER, typeDefinitions);
+            }
+        },
+
+        /**
+         * A class loader that is not registered as parallel capable and locks on the class loader instance.
+         */
+        SERIAL {
+            @Override
+            protected ClassLoader make(Map<String, byte[]> typeDefinitions) {
+                return new SerialByteArrayClassLoader(typeDefinitions);
+            }
+        };
+
+        /**
+         * Creates a class loader for the supplied types.
+         *
+         * @param typeDefinitions The binary representations of the types by their names.
+         * @return A class loader for the supplied types.
+         */
+        protected abstract ClassLoader make(Map<String, byte[]> typeDefinitions);
+    }
+
+    /**
+     * A byte array class loader that does not register itself as parallel capable.
+     */
+    protected static class SerialByteArrayClassLoader extends ByteArrayClassLoader {
+
+        /**
+         * Creates a new serial byte array class loader.
+         *
+         * @param typeDefinitions The binary representations of the types by their names.
+         */
+        protected SerialByteArrayClassLoader(Map<String, byte[]> typeDefinitions) {
+            super(ClassLoadingStrategy.BOOTSTRAP_LOADER, typeDefinitions);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2014 - 2020 Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import net.bytebuddy.implementation.FixedValue;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * <p>
+ * A benchmark for comparing the definition of a proxy class as a hidden class to its definition in a dedicated
+ * {@link net.bytebuddy.dynamic.loading.ByteArrayClassLoader} as done by {@link ClassLoadingStrategy.Default#WRAPPER}. The proxy
+ * class is created once such that the benchmark only measures the definition of the class. Besides the time for defining a single
+ * class, the benchmark reports the number of bytes of heap and metaspace that remain reachable after defining a batch of classes as
+ * auxiliary counters. The retained bytes are approximated by the used memory after requesting garbage collections and should
+ * therefore be measured with a single benchmark thread. Hidden classes are only supported from Java 15 on.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HiddenClassBenchmark {
+
+    /**
+     * The number of garbage collections that are requested before measuring the used memory.
+     */
+    private static final int COLLECTIONS = 3;
+
+    /**
+     * The strategy for defining the proxy class.
+     */
+    @Param
+    public Definition definition = Definition.HIDDEN;
+
+    /**
+     * The number of classes that are defined and retained when measuring the retained memory.
+     */
+    public int batch = 1000;
+
+    /**
+     * The proxy class to define.
+     */
+    private DynamicType.Unloaded<?> unloaded;
+
+    /**
+     * The class loading strategy to use.
+     */
+    private ClassLoadingStrategy<ClassLoader> classLoadingStrategy;
+
+    /**
+     * The class loader to define the proxy class in or to use as a parent.
+     */
+    private ClassLoader classLoader;
+
+    /**
+     * Sets up this benchmark.
+     *
+     * @throws Exception If the method handle lookup cannot be resolved.
+     */
+    @Setup
+    public void setup() throws Exception {
+        unloaded = new ByteBuddy()
+                .with(TypeValidation.DISABLED)
+                .subclass(Object.class)
+                .name(HiddenClassBenchmark.class.getPackage().getName() + ".Proxy")
+                .method(named("toString"))
+                .intercept(FixedValue.value("proxy"))
+                .make();
+        classLoadingStrategy = definition.resolve(Class.forName("java.lang.invoke.MethodHandles").getMethod("lookup").invoke(null));
+        classLoader = HiddenClassBenchmark.class.getClassLoader();
+    }
+
+    /**
+     * Performs a benchmark of defining a single proxy class.
+     *
+     * @return The defined class.
+     */
+    @Benchmark
+    public Class<?> benchmarkDefinition() {
+        return unloaded.load(classLoader, classLoadingStrategy).getLoaded();
+    }
+
+    /**
+     * Performs a benchmark of defining and retaining a batch of proxy classes.
+     *
+     * @param retention The counters for the retained memory.
+     * @return The defined classes.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Class<?>> benchmarkRetention(Retention retention) {
+        long heap = Retention.usedHeap(), metaspace = Retention.usedMetaspace();
+        List<Class<?>> types = new ArrayList<Class<?>>(batch);
+        for (int index = 0; index < batch; index++) {
+            types.add(unloaded.load(classLoader, classLoadingStrategy).getLoaded());
+        }
+        retention.types += types.size();
+        retention.retainedHeapBytes += Retention.usedHeap() - heap;
+        retention.retainedMetaspaceBytes += Retention.usedMetaspace() - metaspace;
+        return types;
+    }
+
+    /**
+     * A strategy for defining a proxy class.
+     */
+    public enum Definition {
+
+        /**
+         * Defines every proxy class in a dedicated class loader.
+         */
+        WRAPPER {
+            @Override
+            protected ClassLoadingStrategy<ClassLoader> resolve(Object lookup) {
+                return ClassLoadingStrategy.Default.WRAPPER;
+            }
+        },
+
+        /**
+         * Defines every proxy class as a hidden class that is not a nest mate of the lookup type.
+         */
+        HIDDEN {
+            @Override
+            protected ClassLoadingStrategy<ClassLoader> resolve(Object lookup) {
+                return ClassLoadingStrategy.UsingHiddenClasses.of(lookup);
+            }
+        };
+
+        /**
+         * Resolves the class loading strategy to use.
+         *
+         * @param lookup A {@code java.lang.invoke.MethodHandles$Lookup} for the benchmark class.
+         * @return The class loading strategy to use.
+         */
+        protected abstract ClassLoadingStrategy<ClassLoader> resolve(Object lookup);
+    }
+
+    /**
+     * Auxiliary counters that describe the memory that is retained by the defined classes.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Retention {
+
+        /**
+         * The number of defined types.
+         */
+        public long types;
+
+        /**
+         * The approximate number of heap bytes that are retained by the defined types.
+         */
+        public long retainedHeapBytes;
+
+        /**
+         * The approximate number of metaspace bytes that are retained by the defined types.
+         */
+        public long retainedMetaspaceBytes;
+
+        /**
+         * Resets all counters before an iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            types = 0;
+            retainedHeapBytes = 0;
+            retainedMetaspaceBytes = 0;
+        }
+
+        /**
+         * Returns the currently used heap after requesting garbage collections.
+         *
+         * @return The currently used heap in bytes.
+         */
+        protected static long usedHeap() {
+            Runtime runtime = Runtime.getRuntime();
+            for (int index = 0; index < COLLECTIONS; index++) {
+                System.gc();
+            }
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+
+        /**
+         * Returns the currently used metaspace or {@code 0} if the current VM does not expose a metaspace memory pool.
+         *
+         * @return The currently used metaspace in bytes.
+         */
+        protected static long usedMetaspace() {
+            for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (memoryPool.getName().equals("Metaspace")) {
+                    return memoryPool.getUsage().getUsed();
+                }
+            }
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2014 - 2020 Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.scaffold.ClassWriterStrategy;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import net.bytebuddy.pool.TypePool;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+/**
+ * <p>
+ * A benchmark for measuring the cost of transforming a single method of a class that declares many methods. Any method that is
+ * not transformed is retained from the original class file. If the original class's constant pool is retained, such methods are
+ * copied as a byte array without visiting their code. This benchmark is parameterized by the {@link ClassWriterStrategy} and
+ * the {@link TypeValidation} that are applied, where discarding the constant pool requires to visit all methods.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RetainedMethodBenchmark {
+
+    /**
+     * The class that is transformed, a class that declares a large number of methods.
+     */
+    public static final Class<?> TYPE = Character.class;
+
+    /**
+     * The class writer strategy to use.
+     */
+    @Param
+    public ClassWriterStrategy.Default classWriterStrategy = ClassWriterStrategy.Default.CONSTANT_POOL_RETAINING;
+
+    /**
+     * The type validation to apply.
+     */
+    @Param
+    public TypeValidation typeValidation = TypeValidation.ENABLED;
+
+    /**
+     * The Byte Buddy instance to use.
+     */
+    private ByteBuddy byteBuddy;
+
+    /**
+     * A description of the transformed type.
+     */
+    private TypeDescription typeDescription;
+
+    /**
+     * The class file locator to use.
+     */
+    private ClassFileLocator classFileLocator;
+
+    /**
+     * The ASM visitor wrapper that applies an advice to a single method.
+     */
+    private AsmVisitorWrapper asmVisitorWrapper;
+
+    /**
+     * Sets up this benchmark.
+     */
+    @Setup
+    public void setup() {
+        byteBuddy = new ByteBuddy().with(classWriterStrategy).with(typeValidation);
+        classFileLocator = ClassFileLocator.ForClassLoader.ofSystemLoader();
+        typeDescription = TypePool.Default.of(classFileLocator).describe(TYPE.getName()).resolve();
+        asmVisitorWrapper = Advice.to(ExampleAdvice.class).on(named("toString").and(takesArguments(0)));
+    }
+
+    /**
+     * Performs a benchmark of redefining a type where a single method is advised.
+     *
+     * @return The byte array of the redefined type.
+     */
+    @Benchmark
+    public byte[] benchmarkRedefinition() {
+        return byteBuddy.redefine(typeDescription, classFileLocator)
+                .visit(asmVisitorWrapper)
+                .make()
+                .getBytes();
+    }
+
+    /**
+     * Performs a benchmark of rebasing a type where a single method is advised.
+     *
+     * @return The byte array of the rebased type.
+     */
+    @Benchmark
+    public byte[] benchmarkRebase() {
+        return byteBuddy.rebase(typeDescription, classFileLocator)
+                .visit(asmVisitorWrapper)
+                .make()
+                .getBytes();
+    }
+
+    /**
+     * Performs a benchmark of decorating a type where a single method is advised.
+     *
+     * @return The byte array of the decorated type.
+     */
+    @Benchmark
+    public byte[] benchmarkDecoration() {
+        return byteBuddy.decorate(typeDescription, classFileLocator)
+                .visit(asmVisitorWrapper)
+                .make()
+                .getBytes();
+    }
+
+    /**
+     * An advice class that is applied to a single method of the transformed type.
+     */
+    public static class ExampleAdvice {
+
+        /**
+         * An advice that reads the current time upon entering a method.
+         *
+         * @return The current time.
+         */
+        @Advice.OnMethodEnter
+        public static long enter() {
+            return System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2014 - 2020 Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.TypeCache;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * A benchmark for measuring the creation of types by a {@link TypeCache} if several threads request the same type concurrently,
+ * as it is typical for proxy factories during the warm-up of an application. Every key is requested by a number of consecutive
+ * invocations that are distributed over all benchmark threads. The benchmark compares an unsynchronized creation where every
+ * thread might create the same type, a creation that is serialized by a shared monitor and a single flight creation by a
+ * {@link TypeCache.WithSingleFlight} cache. Besides the time per lookup, the benchmark reports the number of types that were
+ * created as an auxiliary counter.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class TypeCacheBenchmark {
+
+    /**
+     * The mode of creating types to apply.
+     */
+    @Param
+    public CreationMode creationMode = CreationMode.SINGLE_FLIGHT;
+
+    /**
+     * The number of consecutive lookups of the same key.
+     */
+    @Param("4")
+    public int contenders = 4;
+
+    /**
+     * The Byte Buddy instance to use for creating types.
+     */
+    private ByteBuddy byteBuddy;
+
+    /**
+     * The type cache to use.
+     */
+    private TypeCache<String> typeCache;
+
+    /**
+     * The monitor to use if creations are serialized.
+     */
+    private Object monitor;
+
+    /**
+     * The sequence of lookups that determines the key of the next lookup.
+     */
+    private AtomicLong sequence;
+
+    /**
+     * Sets up this benchmark before each iteration such that every iteration starts with an empty cache.
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        byteBuddy = new ByteBuddy().with(TypeValidation.DISABLED);
+        typeCache = creationMode.make();
+        monitor = new Object();
+        sequence = new AtomicLong();
+    }
+
+    /**
+     * Performs a benchmark of looking up a type that is created if it is not yet cached.
+     *
+     * @param creations The counters for the number of created types.
+     * @return The looked up type.
+     */
+    @Benchmark
+    public Class<?> benchmarkFindOrInsert(final Creations creations) {
+        creations.lookups++;
+        return creationMode.findOrInsert(typeCache, "key" + sequence.getAndIncrement() / contenders, new Callable<Class<?>>() {
+            public Class<?> call() {
+                creations.types++;
+                return byteBuddy.subclass(Object.class)
+                        .make()
+                        .load(ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassLoadingStrategy.Default.WRAPPER)
+                        .getLoaded();
+            }
+        }, monitor);
+    }
+
+    /**
+     * A mode of creating types that are not yet cached.
+     */
+    public enum CreationMode {
+
+        /**
+         * Creates types without any synchronization such that several threads might create the same type.
+         */
+        UNSYNCHRONIZED {
+            @Override
+            protected TypeCache<String> make() {
+                return new TypeCache<String>(TypeCache.Sort.SOFT);
+            }
+
+            @Override
+            protected Class<?> findOrInsert(TypeCache<String> typeCache, String key, Callable<Class<?>> lazy, Object monitor) {
+                return typeCache.findOrInsert(ClassLoadingStrategy.BOOTSTRAP_LOADER, key, lazy);
+            }
+        },
+
+        /**
+         * Creates types while holding a monitor that is shared by all keys.
+         */
+        MONITOR {
+            @Override
+            protected TypeCache<String> make() {
+                return new TypeCache<String>(TypeCache.Sort.SOFT);
+            }
+
+            @Override
+            protected Class<?> findOrInsert(TypeCache<String> typeCache, String key, Callable<Class<?>> lazy, Object monitor) {
+                return typeCache.findOrInsert(ClassLoadingStrategy.BOOTSTRAP_LOADER, key, lazy, monitor);
+            }
+        },
+
+        /**
+         * Creates types such that concurrent lookups of the same key wait for a single creation.
+         */
+        SINGLE_FLIGHT {
+            @Override
+            protected TypeCache<String> make() {
+                return new TypeCache.WithSingleFlight<String>(TypeCache.Sort.SOFT);
+            }
+
+            @Override
+            protected Class<?> findOrInsert(TypeCache<String> typeCache, String key, Callable<Class<?>> lazy, Object monitor) {
+                return typeCache.findOrInsert(ClassLoadingStrategy.BOOTSTRAP_LOADER, key, lazy);
+            }
+        };
+
+        /**
+         * Creates the type cache to use.
+         *
+         * @return The type cache to use.
+         */
+        protected abstract TypeCache<String> make();
+
+        /**
+         * Looks up a type or creates it if it is not yet cached.
+         *
+         * @param typeCache The type cache to use.
+         * @param key       The key of the type.
+         * @param lazy      The lazy creator of the type.
+         * @param monitor   The monitor to use if creations are serialized.
+         * @return The looked up type.
+         */
+        protected abstract Class<?> findOrInsert(TypeCache<String> typeCache, String key, Callable<Class<?>> lazy, Object monitor);
+    }
+
+    /**
+     * Auxiliary counters that describe the number of lookups and the number of types that were created.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Creations {
+
+        /**
+         * The number of lookups.
+         */
+        public long lookups;
+
+        /**
+         * The number of created types.
+         */
+        public long types;
+
+        /**
+         * Resets all counters before an iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            lookups = 0;
+            types = 0;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2014 - 2020 Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * <p>
+ * A benchmark for measuring the memory that a {@link TypePool.Default} retains when caching the descriptions of all types
+ * of the {@code java} namespace of the boot class path, what corresponds to the {@code java.base} module and a few more types
+ * on a modular VM. If the boot class path is not contained in a jar file, the benchmark falls back to the corpus of
+ * the {@link ClassFileTransformationBenchmark}. Besides the time for parsing all types, the benchmark reports the number of
+ * described types, the number of their members and the number of bytes that remain reachable from the type pool as
+ * auxiliary counters. The retained bytes are approximated by the used heap after requesting garbage collections and should
+ * therefore be measured with a single benchmark thread. The benchmark is parameterized by the type pool's
+ * {@link TypePool.Default.ReaderMode} and by its {@link TypePool.Default.SymbolTable}.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TypePoolRetentionBenchmark {
+
+    /**
+     * The number of garbage collections that are requested before measuring the used heap.
+     */
+    private static final int COLLECTIONS = 3;
+
+    /**
+     * The symbol table to apply.
+     */
+    @Param
+    public SymbolTable symbolTable = SymbolTable.INTERNING;
+
+    /**
+     * The reader mode to apply.
+     */
+    @Param
+    public TypePool.Default.ReaderMode readerMode = TypePool.Default.ReaderMode.FAST;
+
+    /**
+     * The maximum number of types to describe.
+     */
+    public int limit = Integer.MAX_VALUE;
+
+    /**
+     * The class file locator to use.
+     */
+    private ClassFileLocator classFileLocator;
+
+    /**
+     * The names of the types to describe.
+     */
+    private List<String> names;
+
+    /**
+     * Sets up this benchmark.
+     *
+     * @throws IOException If the boot class path cannot be read.
+     */
+    @Setup
+    public void setup() throws IOException {
+        classFileLocator = ClassFileLocator.ForClassLoader.ofBootLoader();
+        names = corpus(limit);
+    }
+
+    /**
+     * Resolves the names of the types to describe.
+     *
+     * @param limit The maximum number of types to describe.
+     * @return The names of the types to describe.
+     * @throws IOException If the boot class path cannot be read.
+     */
+    private static List<String> corpus(int limit) throws IOException {
+        List<String> names = new ArrayList<String>();
+        URL url = ClassLoader.getSystemResource(Object.class.getName().replace('.', '/') + ".class");
+        URLConnection connection = url == null
+                ? null
+                : url.openConnection();
+        if (connection instanceof JarURLConnection) {
+            connection.setUseCaches(false);
+            JarFile jarFile = ((JarURLConnection) connection).getJarFile();
+            try {
+                Enumeration<JarEntry> entries = jarFile.entries();
+                while (entries.hasMoreElements() && names.size() < limit) {
+                    String name = entries.nextElement().getName();
+                    if (name.startsWith("java/") && name.endsWith(".class")) {
+                        names.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+                    }
+                }
+            } finally {
+                jarFile.close();
+            }
+        } else {
+            for (Class<?> type : ClassFileTransformationBenchmark.CORPUS) {
+                if (names.size() == limit) {
+                    break;
+                }
+                names.add(type.getName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Performs a benchmark of describing all types of the corpus by a caching type pool, including their fields and methods.
+     *
+     * @param retention The counters for the retained memory.
+     * @return The type pool that caches all described types.
+     */
+    @Benchmark
+    public TypePool benchmarkCaching(Retention retention) {
+        long before = Retention.usedHeap();
+        TypePool typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(),
+                classFileLocator,
+                readerMode,
+                TypePool.Empty.INSTANCE,
+                symbolTable.make());
+        for (String name : names) {
+            TypeDescription typeDescription = typePool.describe(name).resolve();
+            retention.types++;
+            retention.members += typeDescription.getDeclaredFields().size() + typeDescription.getDeclaredMethods().size();
+        }
+        retention.retainedBytes += Retention.usedHeap() - before;
+        return typePool;
+    }
+
+    /**
+     * A symbol table to apply by the benchmarked type pool.
+     */
+    public enum SymbolTable {
+
+        /**
+         * A symbol table that does not deduplicate any symbols.
+         */
+        NONE {
+            @Override
+            protected TypePool.Default.SymbolTable make() {
+                return TypePool.Default.SymbolTable.NoOp.INSTANCE;
+            }
+        },
+
+        /**
+         * A symbol table that interns all symbols.
+         */
+        INTERNING {
+            @Override
+            protected TypePool.Default.SymbolTable make() {
+                return new TypePool.Default.SymbolTable.Interning();
+            }
+        };
+
+        /**
+         * Creates the symbol table to apply.
+         *
+         * @return The symbol table to apply.
+         */
+        protected abstract TypePool.Default.SymbolTable make();
+    }
+
+    /**
+     * Auxiliary counters that describe the types that were cached by a benchmarked type pool.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Retention {
+
+        /**
+         * The number of described types.
+         */
+        public long types;
+
+        /**
+         * The number of described fields and methods.
+         */
+        public long members;
+
+        /**
+         * The approximate number of bytes that are retained by the type pool.
+         */
+        public long retainedBytes;
+
+        /**
+         * Resets all counters before an iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            types = 0;
+            members = 0;
+            retainedBytes = 0;
+        }
+
+        /**
+         * Returns the currently used heap after requesting garbage collections.
+         *
+         * @return The currently used heap in bytes.
+         */
+        protected static long usedHeap() {
+            Runtime runtime = Runtime.getRuntime();
+            for (int index = 0; index < COLLECTIONS; index++) {
+                System.gc();
+            }
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+    }
+}
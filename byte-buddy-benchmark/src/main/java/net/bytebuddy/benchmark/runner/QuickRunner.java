@@ -52,6 +52,13 @@ public class QuickRunner {
                 .include(WILDCARD + ClassByImplementationBenchmark.class.getSimpleName() + WILDCARD)
                 .include(WILDCARD + ClassByExtensionBenchmark.class.getSimpleName() + WILDCARD)
                 .include(WILDCARD + TrivialClassCreationBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + ClassFileTransformationBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + RetainedMethodBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + TypePoolRetentionBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + TypeCacheBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + HiddenClassBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + ClassInjectionBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + ClassLoaderContentionBenchmark.class.getSimpleName() + WILDCARD)
                 .forks(0) // Should rather be 1 but there seems to be a bug in JMH.
                 .build()).run();
     }
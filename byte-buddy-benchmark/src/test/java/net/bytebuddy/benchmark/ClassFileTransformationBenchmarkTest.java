@@ -0,0 +1,72 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.agent.builder.AgentBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RunWith(Parameterized.class)
+public class ClassFileTransformationBenchmarkTest {
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        List<Object[]> data = new ArrayList<Object[]>();
+        for (ClassFileTransformationBenchmark.PoolStrategy poolStrategy : ClassFileTransformationBenchmark.PoolStrategy.values()) {
+            for (AgentBuilder.DescriptionStrategy.Default descriptionStrategy : AgentBuilder.DescriptionStrategy.Default.values()) {
+                for (AgentBuilder.TypeStrategy.Default typeStrategy : AgentBuilder.TypeStrategy.Default.values()) {
+                    data.add(new Object[]{poolStrategy, descriptionStrategy, typeStrategy});
+                }
+            }
+        }
+        return data;
+    }
+
+    private final ClassFileTransformationBenchmark classFileTransformationBenchmark;
+
+    public ClassFileTransformationBenchmarkTest(ClassFileTransformationBenchmark.PoolStrategy poolStrategy,
+                                                AgentBuilder.DescriptionStrategy.Default descriptionStrategy,
+                                                AgentBuilder.TypeStrategy.Default typeStrategy) throws Exception {
+        classFileTransformationBenchmark = new ClassFileTransformationBenchmark();
+        classFileTransformationBenchmark.poolStrategy = poolStrategy;
+        classFileTransformationBenchmark.descriptionStrategy = descriptionStrategy;
+        classFileTransformationBenchmark.typeStrategy = typeStrategy;
+        classFileTransformationBenchmark.setup();
+    }
+
+    @Test
+    public void testBaseline() throws Exception {
+        assertThat(classFileTransformationBenchmark.baseline(), is(0));
+    }
+
+    @Test
+    public void testIgnored() throws Exception {
+        assertThat(classFileTransformationBenchmark.benchmarkIgnored(), is(0));
+    }
+
+    @Test
+    public void testIgnoredByName() throws Exception {
+        assertThat(classFileTransformationBenchmark.benchmarkIgnoredByName(), is(0));
+    }
+
+    @Test
+    public void testIgnoredByPrefixes() throws Exception {
+        assertThat(classFileTransformationBenchmark.benchmarkIgnoredByPrefixes(), is(0));
+    }
+
+    @Test
+    public void testMatchedUntransformed() throws Exception {
+        assertThat(classFileTransformationBenchmark.benchmarkMatchedUntransformed(), is(0));
+    }
+
+    @Test
+    public void testAdvice() throws Exception {
+        assertThat(classFileTransformationBenchmark.benchmarkAdvice(), is(ClassFileTransformationBenchmark.CORPUS.length));
+    }
+}
@@ -0,0 +1,46 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RunWith(Parameterized.class)
+public class ClassInjectionBenchmarkTest {
+
+    private static final int BATCH_SIZE = 4;
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        List<Object[]> data = new ArrayList<Object[]>();
+        for (ClassInjectionBenchmark.Injection injection : ClassInjectionBenchmark.Injection.values()) {
+            data.add(new Object[]{injection});
+        }
+        return data;
+    }
+
+    private final ClassInjectionBenchmark classInjectionBenchmark;
+
+    public ClassInjectionBenchmarkTest(ClassInjectionBenchmark.Injection injection) {
+        classInjectionBenchmark = new ClassInjectionBenchmark();
+        classInjectionBenchmark.injection = injection;
+        classInjectionBenchmark.batchSize = BATCH_SIZE;
+        classInjectionBenchmark.setup();
+    }
+
+    @Test
+    public void testInjection() throws Exception {
+        Map<String, Class<?>> types = classInjectionBenchmark.benchmarkInjection();
+        assertThat(types.size(), is(BATCH_SIZE));
+        for (Map.Entry<String, Class<?>> entry : types.entrySet()) {
+            assertThat(entry.getValue().getName(), is(entry.getKey()));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RunWith(Parameterized.class)
+public class ClassLoaderContentionBenchmarkTest {
+
+    private static final int TYPES = 4;
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        List<Object[]> data = new ArrayList<Object[]>();
+        for (ClassLoaderContentionBenchmark.Locking locking : ClassLoaderContentionBenchmark.Locking.values()) {
+            data.add(new Object[]{locking});
+        }
+        return data;
+    }
+
+    private final ClassLoaderContentionBenchmark classLoaderContentionBenchmark;
+
+    public ClassLoaderContentionBenchmarkTest(ClassLoaderContentionBenchmark.Locking locking) {
+        classLoaderContentionBenchmark = new ClassLoaderContentionBenchmark();
+        classLoaderContentionBenchmark.locking = locking;
+        classLoaderContentionBenchmark.types = TYPES;
+        classLoaderContentionBenchmark.setup();
+        classLoaderContentionBenchmark.setupIteration();
+    }
+
+    @Test
+    public void testLoading() throws Exception {
+        Class<?>[] types = classLoaderContentionBenchmark.benchmarkLoading();
+        assertThat(types.length, is(TYPES));
+        Class<?>[] reloaded = classLoaderContentionBenchmark.benchmarkLoading();
+        for (Class<?> type : types) {
+            boolean found = false;
+            for (Class<?> reloadedType : reloaded) {
+                found |= reloadedType == type;
+            }
+            assertThat(found, is(true));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.dynamic.loading.ClassInjector;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RunWith(Parameterized.class)
+public class HiddenClassBenchmarkTest {
+
+    private static final int BATCH = 10;
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        List<Object[]> data = new ArrayList<Object[]>();
+        data.add(new Object[]{HiddenClassBenchmark.Definition.WRAPPER});
+        if (ClassInjector.UsingHiddenClasses.isAvailable()) {
+            data.add(new Object[]{HiddenClassBenchmark.Definition.HIDDEN});
+        }
+        return data;
+    }
+
+    private final HiddenClassBenchmark hiddenClassBenchmark;
+
+    public HiddenClassBenchmarkTest(HiddenClassBenchmark.Definition definition) throws Exception {
+        hiddenClassBenchmark = new HiddenClassBenchmark();
+        hiddenClassBenchmark.definition = definition;
+        hiddenClassBenchmark.batch = BATCH;
+        hiddenClassBenchmark.setup();
+    }
+
+    @Test
+    public void testDefinition() throws Exception {
+        Class<?> type = hiddenClassBenchmark.benchmarkDefinition();
+        assertThat(type.getDeclaredConstructor().newInstance().toString(), is("proxy"));
+        assertThat(hiddenClassBenchmark.benchmarkDefinition(), not(is((Object) type)));
+    }
+
+    @Test
+    public void testRetention() throws Exception {
+        HiddenClassBenchmark.Retention retention = new HiddenClassBenchmark.Retention();
+        retention.reset();
+        assertThat(hiddenClassBenchmark.benchmarkRetention(retention).size(), is(BATCH));
+        assertThat(retention.types, is((long) BATCH));
+    }
+}
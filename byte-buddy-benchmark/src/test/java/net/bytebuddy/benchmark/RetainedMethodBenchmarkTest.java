@@ -0,0 +1,53 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.dynamic.scaffold.ClassWriterStrategy;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RunWith(Parameterized.class)
+public class RetainedMethodBenchmarkTest {
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        List<Object[]> data = new ArrayList<Object[]>();
+        for (ClassWriterStrategy.Default classWriterStrategy : ClassWriterStrategy.Default.values()) {
+            for (TypeValidation typeValidation : TypeValidation.values()) {
+                data.add(new Object[]{classWriterStrategy, typeValidation});
+            }
+        }
+        return data;
+    }
+
+    private final RetainedMethodBenchmark retainedMethodBenchmark;
+
+    public RetainedMethodBenchmarkTest(ClassWriterStrategy.Default classWriterStrategy, TypeValidation typeValidation) {
+        retainedMethodBenchmark = new RetainedMethodBenchmark();
+        retainedMethodBenchmark.classWriterStrategy = classWriterStrategy;
+        retainedMethodBenchmark.typeValidation = typeValidation;
+        retainedMethodBenchmark.setup();
+    }
+
+    @Test
+    public void testRedefinition() throws Exception {
+        assertThat(retainedMethodBenchmark.benchmarkRedefinition(), notNullValue(byte[].class));
+    }
+
+    @Test
+    public void testRebase() throws Exception {
+        assertThat(retainedMethodBenchmark.benchmarkRebase(), notNullValue(byte[].class));
+    }
+
+    @Test
+    public void testDecoration() throws Exception {
+        assertThat(retainedMethodBenchmark.benchmarkDecoration(), notNullValue(byte[].class));
+    }
+}
@@ -0,0 +1,45 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RunWith(Parameterized.class)
+public class TypeCacheBenchmarkTest {
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        List<Object[]> data = new ArrayList<Object[]>();
+        for (TypeCacheBenchmark.CreationMode creationMode : TypeCacheBenchmark.CreationMode.values()) {
+            data.add(new Object[]{creationMode});
+        }
+        return data;
+    }
+
+    private final TypeCacheBenchmark typeCacheBenchmark;
+
+    public TypeCacheBenchmarkTest(TypeCacheBenchmark.CreationMode creationMode) throws Exception {
+        typeCacheBenchmark = new TypeCacheBenchmark();
+        typeCacheBenchmark.creationMode = creationMode;
+        typeCacheBenchmark.contenders = 2;
+        typeCacheBenchmark.setup();
+    }
+
+    @Test
+    public void testFindOrInsert() throws Exception {
+        TypeCacheBenchmark.Creations creations = new TypeCacheBenchmark.Creations();
+        creations.reset();
+        Class<?> type = typeCacheBenchmark.benchmarkFindOrInsert(creations);
+        assertThat(typeCacheBenchmark.benchmarkFindOrInsert(creations), is((Object) type));
+        assertThat(typeCacheBenchmark.benchmarkFindOrInsert(creations) == type, is(false));
+        assertThat(creations.lookups, is(3L));
+        assertThat(creations.types, is(2L));
+    }
+}
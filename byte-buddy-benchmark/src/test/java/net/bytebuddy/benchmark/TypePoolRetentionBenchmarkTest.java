@@ -0,0 +1,50 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.pool.TypePool;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RunWith(Parameterized.class)
+public class TypePoolRetentionBenchmarkTest {
+
+    private static final int LIMIT = 20;
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        List<Object[]> data = new ArrayList<Object[]>();
+        for (TypePoolRetentionBenchmark.SymbolTable symbolTable : TypePoolRetentionBenchmark.SymbolTable.values()) {
+            for (TypePool.Default.ReaderMode readerMode : TypePool.Default.ReaderMode.values()) {
+                data.add(new Object[]{symbolTable, readerMode});
+            }
+        }
+        return data;
+    }
+
+    private final TypePoolRetentionBenchmark typePoolRetentionBenchmark;
+
+    public TypePoolRetentionBenchmarkTest(TypePoolRetentionBenchmark.SymbolTable symbolTable, TypePool.Default.ReaderMode readerMode) throws Exception {
+        typePoolRetentionBenchmark = new TypePoolRetentionBenchmark();
+        typePoolRetentionBenchmark.symbolTable = symbolTable;
+        typePoolRetentionBenchmark.readerMode = readerMode;
+        typePoolRetentionBenchmark.limit = LIMIT;
+        typePoolRetentionBenchmark.setup();
+    }
+
+    @Test
+    public void testCaching() throws Exception {
+        TypePoolRetentionBenchmark.Retention retention = new TypePoolRetentionBenchmark.Retention();
+        retention.reset();
+        assertThat(typePoolRetentionBenchmark.benchmarkCaching(retention), notNullValue(TypePool.class));
+        assertThat(retention.types, is((long) LIMIT));
+        assertThat(retention.members > 0, is(true));
+    }
+}
@@ -16,16 +16,20 @@
 package net.bytebuddy;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import net.bytebuddy.build.HashCodeAndEqualsPlugin;
 import net.bytebuddy.utility.CompoundList;
 
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>
@@ -34,7 +38,8 @@ import java.util.concurrent.ConcurrentMap;
  * <p>
  * <b>Note</b>: In order to clean obsolete class loader references from the map, {@link TypeCache#expungeStaleEntries()} must be called
  * regularly. This can happen in a different thread, in custom intervals or on every use of the cache by creating an instance of
- * {@link WithInlineExpunction}. This cache is fully thread-safe.
+ * {@link WithInlineExpunction}. Alternatively, an instance of {@link WithBackgroundExpunction} delegates the expunction to a {@link Reaper}
+ * that is typically run by a background thread. This cache is fully thread-safe.
  * </p>
  * <p>
  * <b>Important</b>: The behavior of a type cache might not be as expected. A class is only eligible for garbage collection once its class
@@ -49,6 +54,8 @@ import java.util.concurrent.ConcurrentMap;
  *            types or class loaders without potentially corrupting the garbage eligibility of stored classes. As the storage is segmented
  *            by class loader, it is normally sufficient to store types by their name.
  * @see WithInlineExpunction
+ * @see WithBackgroundExpunction
+ * @see WithSingleFlight
  * @see SimpleKey
  */
 public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
@@ -113,7 +120,7 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
         ConcurrentMap<T, Reference<Class<?>>> storage = cache.get(new LookupKey(classLoader));
         if (storage == null) {
             storage = new ConcurrentHashMap<T, Reference<Class<?>>>();
-            ConcurrentMap<T, Reference<Class<?>>> previous = cache.putIfAbsent(new StorageKey(classLoader, this), storage);
+            ConcurrentMap<T, Reference<Class<?>>> previous = cache.putIfAbsent(toStorageKey(classLoader), storage);
             if (previous != null) {
                 storage = previous;
             }
@@ -176,6 +183,16 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
         }
     }
 
+    /**
+     * Creates a storage key for a class loader that is not yet represented by this cache.
+     *
+     * @param classLoader The class loader to represent.
+     * @return A storage key for the supplied class loader.
+     */
+    protected StorageKey toStorageKey(ClassLoader classLoader) {
+        return new StorageKey(classLoader, this);
+    }
+
     /**
      * Removes any stale class loader entries from the cache.
      */
@@ -380,6 +397,439 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
         }
     }
 
+    /**
+     * <p>
+     * An implementation of a {@link TypeCache} where obsolete references are cleared by a {@link Reaper} that drains the reference queue
+     * that is shared by all caches that register with the reaper. This way, looking up a type does not require any additional work
+     * while the memory that is retained for collected class loaders remains bounded.
+     * </p>
+     * <p>
+     * <b>Important</b>: Obsolete references are only cleared if the reaper is run. The {@link Reaper#shared()} reaper is run by a daemon
+     * thread. A reaper that is created explicitly must be run by its creator, for example by submitting it to an executor or by
+     * calling {@link Reaper#drain()} in custom intervals.
+     * </p>
+     *
+     * @param <S> The type of the key that is used for identifying stored classes per class loader. Such keys must not strongly reference any
+     *            types or class loaders without potentially corrupting the garbage eligibility of stored classes. As the storage is segmented
+     *            by class loader, it is normally sufficient to store types by their name.
+     * @see TypeCache
+     */
+    public static class WithBackgroundExpunction<S> extends TypeCache<S> {
+
+        /**
+         * The reaper that clears obsolete references of this cache.
+         */
+        private final Reaper reaper;
+
+        /**
+         * Creates a new type cache where obsolete references are cleared by the shared reaper.
+         *
+         * @param sort The reference type to use for stored types.
+         */
+        public WithBackgroundExpunction(Sort sort) {
+            this(sort, Reaper.shared());
+        }
+
+        /**
+         * Creates a new type cache where obsolete references are cleared by the supplied reaper.
+         *
+         * @param sort   The reference type to use for stored types.
+         * @param reaper The reaper that clears obsolete references of this cache.
+         */
+        public WithBackgroundExpunction(Sort sort, Reaper reaper) {
+            super(sort);
+            this.reaper = reaper;
+        }
+
+        @Override
+        protected StorageKey toStorageKey(ClassLoader classLoader) {
+            return new ExpungingStorageKey(classLoader, reaper, cache);
+        }
+
+        /**
+         * A storage key that removes itself from its cache once it is dequeued by a reaper.
+         */
+        protected static class ExpungingStorageKey extends StorageKey {
+
+            /**
+             * The cache map that contains this storage key.
+             */
+            private final Map<StorageKey, ?> cache;
+
+            /**
+             * Creates a new expunging storage key.
+             *
+             * @param classLoader The represented class loader.
+             * @param reaper      The reaper to notify upon a garbage collection.
+             * @param cache       The cache map that contains this storage key.
+             */
+            protected ExpungingStorageKey(ClassLoader classLoader, Reaper reaper, Map<StorageKey, ?> cache) {
+                super(classLoader, reaper);
+                this.cache = cache;
+            }
+
+            /**
+             * Removes this storage key from its cache.
+             */
+            protected void expunge() {
+                cache.remove(this);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * A reaper that clears obsolete references of any {@link WithBackgroundExpunction} cache that registers with this reaper. When being
+     * run, a reaper blocks until a class loader of a registered cache is collected and removes the corresponding entry from its cache.
+     * A reaper stops running once its thread is interrupted.
+     * </p>
+     * <p>
+     * <b>Note</b>: The {@link Reaper#shared()} reaper is run by a daemon thread that is started upon the first request of the shared reaper.
+     * This thread is created with Byte Buddy's privileges within the root thread group and without a context class loader such that it
+     * does not reference the thread group, the context class loader or the access control context of the requesting thread. The thread
+     * is stopped by {@link Reaper#stopShared()}.
+     * </p>
+     */
+    public static class Reaper extends ReferenceQueue<ClassLoader> implements Runnable {
+
+        /**
+         * The name of the thread that runs the shared reaper.
+         */
+        private static final String NAME = "byte-buddy-type-cache-reaper";
+
+        /**
+         * The shared reaper or {@code null} if it was not yet requested or was stopped.
+         */
+        private static Reaper shared;
+
+        /**
+         * The thread that runs the shared reaper or {@code null} if the shared reaper was not yet requested or was stopped.
+         */
+        private static Thread thread;
+
+        /**
+         * Returns a reaper that is shared by all caches and that is run by a daemon thread.
+         *
+         * @return A reaper that is shared by all caches.
+         */
+        public static synchronized Reaper shared() {
+            if (shared == null) {
+                Reaper reaper = new Reaper();
+                thread = AccessController.doPrivileged(new StartingAction(reaper));
+                shared = reaper;
+            }
+            return shared;
+        }
+
+        /**
+         * Stops the thread that runs the shared reaper. Caches that were created with the stopped reaper are no longer expunged in the
+         * background. Any later request of the shared reaper starts a new reaper.
+         *
+         * @return {@code true} if a shared reaper was stopped or {@code false} if no shared reaper was running.
+         */
+        public static synchronized boolean stopShared() {
+            if (shared == null) {
+                return false;
+            }
+            thread.interrupt();
+            thread = null;
+            shared = null;
+            return true;
+        }
+
+        /**
+         * Clears all obsolete references that are currently enqueued without blocking.
+         *
+         * @return The number of cleared references.
+         */
+        public int drain() {
+            int cleared = 0;
+            Reference<?> reference;
+            while ((reference = poll()) != null) {
+                cleared += expunge(reference);
+            }
+            return cleared;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public void run() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    expunge(remove());
+                }
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Removes the supplied reference from its cache.
+         *
+         * @param reference The reference to remove.
+         * @return {@code 1} if the reference was removed from its cache or {@code 0} if the reference was not a storage key.
+         */
+        private static int expunge(Reference<?> reference) {
+            if (reference instanceof WithBackgroundExpunction.ExpungingStorageKey) {
+                ((WithBackgroundExpunction.ExpungingStorageKey) reference).expunge();
+                return 1;
+            } else {
+                return 0;
+            }
+        }
+
+        /**
+         * A privileged action for starting the thread that runs the shared reaper.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        protected static class StartingAction implements PrivilegedAction<Thread> {
+
+            /**
+             * The reaper to run.
+             */
+            private final Reaper reaper;
+
+            /**
+             * Creates a new starting action.
+             *
+             * @param reaper The reaper to run.
+             */
+            protected StartingAction(Reaper reaper) {
+                this.reaper = reaper;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Thread run() {
+                ThreadGroup threadGroup = Thread.currentThread().getThreadGroup();
+                while (threadGroup.getParent() != null) {
+                    threadGroup = threadGroup.getParent();
+                }
+                Thread thread = new Thread(threadGroup, reaper, NAME);
+                thread.setDaemon(true);
+                thread.setContextClassLoader(null);
+                thread.start();
+                return thread;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * An implementation of a {@link TypeCache} where concurrent attempts to create a type for the same class loader and key are
+     * coalesced. If a type is not yet cached and is requested by several threads at the same time, only one thread invokes the
+     * lazy creator while all other threads wait for the created type. Creations for different class loaders or keys are not
+     * serialized with one another, as it is the case when supplying a shared monitor to
+     * {@link TypeCache#findOrInsert(ClassLoader, Object, Callable, Object)}.
+     * </p>
+     * <p>
+     * <b>Important</b>: If a creation fails exceptionally, any waiting thread attempts the creation anew. If a thread requests a type
+     * while it is already creating a type of any single flight cache, it creates the requested type without coalescing its creation
+     * and without waiting for another thread. This way, a thread that waits never conducts a creation itself such that nested creations
+     * of different types, for example in opposite order by two threads, cannot dead lock.
+     * </p>
+     *
+     * @param <S> The type of the key that is used for identifying stored classes per class loader. Such keys must not strongly reference any
+     *            types or class loaders without potentially corrupting the garbage eligibility of stored classes. As the storage is segmented
+     *            by class loader, it is normally sufficient to store types by their name.
+     * @see TypeCache
+     */
+    public static class WithSingleFlight<S> extends TypeCache<S> {
+
+        /**
+         * Indicates if the current thread is conducting a creation of any single flight cache.
+         */
+        private static final ThreadLocal<Boolean> IN_FLIGHT = new ThreadLocal<Boolean>();
+
+        /**
+         * A map of all creations that are currently in flight.
+         */
+        private final ConcurrentMap<FlightKey, Flight> flights;
+
+        /**
+         * The number of types that were created by this cache.
+         */
+        private final AtomicLong creationCount;
+
+        /**
+         * The number of times a thread waited for a creation of another thread.
+         */
+        private final AtomicLong contentionCount;
+
+        /**
+         * Creates a new type cache with single flight creation.
+         *
+         * @param sort The reference type to use for stored types.
+         */
+        public WithSingleFlight(Sort sort) {
+            super(sort);
+            flights = new ConcurrentHashMap<FlightKey, Flight>();
+            creationCount = new AtomicLong();
+            contentionCount = new AtomicLong();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Class<?> findOrInsert(ClassLoader classLoader, S key, Callable<Class<?>> lazy) {
+            Class<?> type = find(classLoader, key);
+            if (type != null) {
+                return type;
+            }
+            if (IN_FLIGHT.get() != null) {
+                return super.findOrInsert(classLoader, key, lazy);
+            }
+            FlightKey flightKey = new FlightKey(classLoader, key);
+            Flight flight = new Flight(), previous;
+            while ((previous = flights.putIfAbsent(flightKey, flight)) != null) {
+                contentionCount.incrementAndGet();
+                type = previous.await();
+                if (type == null) {
+                    type = find(classLoader, key);
+                }
+                if (type != null) {
+                    return type;
+                }
+            }
+            IN_FLIGHT.set(true);
+            try {
+                type = find(classLoader, key);
+                if (type == null) {
+                    creationCount.incrementAndGet();
+                    type = insert(classLoader, key, lazy.call());
+                }
+                return type;
+            } catch (Throwable throwable) {
+                throw new IllegalArgumentException("Could not create type", throwable);
+            } finally {
+                IN_FLIGHT.remove();
+                flights.remove(flightKey, flight);
+                flight.complete(type);
+            }
+        }
+
+        /**
+         * Returns the number of types that were created by this cache's lazy creators.
+         *
+         * @return The number of types that were created by this cache's lazy creators.
+         */
+        public long getCreationCount() {
+            return creationCount.get();
+        }
+
+        /**
+         * Returns the number of times a thread waited for the creation of a type by another thread instead of creating the type itself.
+         *
+         * @return The number of times a thread waited for the creation of a type by another thread.
+         */
+        public long getContentionCount() {
+            return contentionCount.get();
+        }
+
+        /**
+         * A key for a creation that is in flight. As a flight only exists for the duration of a creation, this key references
+         * the class loader strongly.
+         */
+        protected static class FlightKey {
+
+            /**
+             * The class loader for which a type is created.
+             */
+            private final ClassLoader classLoader;
+
+            /**
+             * The key of the created type.
+             */
+            private final Object key;
+
+            /**
+             * The hash code of this flight key.
+             */
+            private final int hashCode;
+
+            /**
+             * Creates a new flight key.
+             *
+             * @param classLoader The class loader for which a type is created.
+             * @param key         The key of the created type.
+             */
+            protected FlightKey(ClassLoader classLoader, Object key) {
+                this.classLoader = classLoader;
+                this.key = key;
+                hashCode = 31 * System.identityHashCode(classLoader) + key.hashCode();
+            }
+
+            @Override
+            public int hashCode() {
+                return hashCode;
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) {
+                    return true;
+                } else if (other == null || getClass() != other.getClass()) {
+                    return false;
+                }
+                FlightKey flightKey = (FlightKey) other;
+                return classLoader == flightKey.classLoader && key.equals(flightKey.key);
+            }
+        }
+
+        /**
+         * A creation that is currently conducted by a thread.
+         */
+        protected static class Flight {
+
+            /**
+             * The created type or {@code null} if the creation is not yet complete or failed.
+             */
+            private Class<?> type;
+
+            /**
+             * {@code true} if the creation is complete.
+             */
+            private boolean complete;
+
+            /**
+             * Completes this flight and releases all waiting threads.
+             *
+             * @param type The created type or {@code null} if the creation failed.
+             */
+            protected synchronized void complete(Class<?> type) {
+                this.type = type;
+                complete = true;
+                notifyAll();
+            }
+
+            /**
+             * Waits for this flight to complete. Interruption does not abort the waiting but the thread's interruption
+             * flag is restored before this method returns.
+             *
+             * @return The created type or {@code null} if the creation failed.
+             */
+            protected synchronized Class<?> await() {
+                boolean interrupted = false;
+                try {
+                    while (!complete) {
+                        try {
+                            wait();
+                        } catch (InterruptedException ignored) {
+                            interrupted = true;
+                        }
+                    }
+                } finally {
+                    if (interrupted) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return type;
+            }
+        }
+    }
+
     /**
      * A simple key based on a collection of types where no type is strongly referenced.
      */
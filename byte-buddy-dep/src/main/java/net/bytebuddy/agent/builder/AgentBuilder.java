@@ -20,6 +20,7 @@ import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.build.CachedReturnPlugin;
 import net.bytebuddy.build.EntryPoint;
 import net.bytebuddy.build.HashCodeAndEqualsPlugin;
 import net.bytebuddy.build.Plugin;
@@ -56,7 +57,9 @@ import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
 import net.bytebuddy.implementation.bytecode.member.MethodReturn;
 import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
 import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.InternalNameMatcher;
 import net.bytebuddy.matcher.LatentMatcher;
+import net.bytebuddy.matcher.NameConstraint;
 import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.utility.CompoundList;
 import net.bytebuddy.utility.JavaConstant;
@@ -72,6 +75,7 @@ import java.lang.instrument.ClassDefinition;
 import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.Instrumentation;
 import java.lang.instrument.UnmodifiableClassException;
+import java.lang.management.ManagementFactory;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -84,6 +88,8 @@ import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -130,6 +136,17 @@ public interface AgentBuilder {
      */
     AgentBuilder with(Listener listener);
 
+    /**
+     * Defines the given {@link net.bytebuddy.agent.builder.AgentBuilder.Metrics} to be notified on the phases of any
+     * transformation that is applied by the created agent. Any previously registered metrics are replaced. To observe
+     * which phase or matcher dominates the startup of an application, {@link Metrics.Collector} can be registered
+     * and polled.
+     *
+     * @param metrics The metrics to be notified.
+     * @return A new instance of this agent builder which creates an agent that notifies the given metrics.
+     */
+    AgentBuilder withMetrics(Metrics metrics);
+
     /**
      * Defines a circularity lock that is acquired upon executing code that potentially loads new classes. While the
      * lock is acquired, any class file transformer refrains from transforming any classes. By default, all created
@@ -253,6 +270,54 @@ public interface AgentBuilder {
      */
     AgentBuilder with(InstallationListener installationListener);
 
+    /**
+     * <p>
+     * Warms up the created class file transformer upon its installation by transforming the supplied types as if they were loaded
+     * for the first time. This way, the classes and advice that are used by the transformer are loaded and resolved, the type pool
+     * is populated with the hierarchy of each warm-up type and the transformation code is exercised before the application loads
+     * any type. The results of these transformations are discarded.
+     * </p>
+     * <p>
+     * <b>Important</b>: A warm-up does not notify any registered {@link Listener} and does not register the transformed types with
+     * the {@link InitializationStrategy} such that no auxiliary types are injected and no {@link LoadedTypeInitializer} is registered.
+     * Side effects of user code that is invoked by matchers and transformers are however applied. A populated type pool cache is
+     * only reused if the {@link PoolStrategy} retains its caches, for example when using a {@link PoolStrategy.WithTypePoolCache}.
+     * </p>
+     *
+     * @param type The types to transform for warming up the class file transformer.
+     * @return A new agent builder that warms up the created class file transformer using the supplied types.
+     */
+    AgentBuilder warmUp(Class<?>... type);
+
+    /**
+     * <p>
+     * Warms up the created class file transformer upon its installation by transforming the supplied types as if they were loaded
+     * for the first time. This way, the classes and advice that are used by the transformer are loaded and resolved, the type pool
+     * is populated with the hierarchy of each warm-up type and the transformation code is exercised before the application loads
+     * any type. The results of these transformations are discarded.
+     * </p>
+     * <p>
+     * <b>Important</b>: A warm-up does not notify any registered {@link Listener} and does not register the transformed types with
+     * the {@link InitializationStrategy} such that no auxiliary types are injected and no {@link LoadedTypeInitializer} is registered.
+     * Side effects of user code that is invoked by matchers and transformers are however applied. A populated type pool cache is
+     * only reused if the {@link PoolStrategy} retains its caches, for example when using a {@link PoolStrategy.WithTypePoolCache}.
+     * </p>
+     *
+     * @param types The types to transform for warming up the class file transformer.
+     * @return A new agent builder that warms up the created class file transformer using the supplied types.
+     */
+    AgentBuilder warmUp(Collection<Class<?>> types);
+
+    /**
+     * Performs the warm-up of the created class file transformer on the supplied executor, for example on a single background thread,
+     * instead of completing it prior to the class file transformer's registration. This way, the installation of an agent is not delayed
+     * by its warm-up.
+     *
+     * @param executor The executor to submit the warm-up to.
+     * @return A new agent builder that performs any warm-up on the supplied executor.
+     */
+    AgentBuilder warmUpAsynchronously(Executor executor);
+
     /**
      * Defines a strategy for injecting auxiliary types into the target class loader.
      *
@@ -620,6 +685,46 @@ public interface AgentBuilder {
      */
     Ignored ignore(RawMatcher rawMatcher);
 
+    /**
+     * <p>
+     * Excludes any type of which the binary name is matched by the provided matcher. Other than with {@link AgentBuilder#ignore(ElementMatcher)},
+     * the matcher is applied prior to locating or parsing a type's class file such that an ignored type only costs the evaluation
+     * of the supplied matcher. Types that are ignored by this matcher are not reported to the {@link Listener}. By default, Byte Buddy
+     * does not instrument synthetic types, types within a {@code net.bytebuddy.*} package or types that are loaded by the bootstrap class loader.
+     * Names can for example be matched by a {@link net.bytebuddy.matcher.StringMatcher} or by a {@link net.bytebuddy.matcher.PrefixMatcher}
+     * which are both applied to a type's internal name without translating it into the binary name.
+     * </p>
+     * <p>
+     * When ignoring a type, any subsequently chained matcher is applied after this matcher in the order of their registration. A name
+     * matcher is only applied prior to parsing a type's class file if it is chained as a disjunction.
+     * </p>
+     *
+     * @param nameMatcher A matcher that identifies the binary names of types that should not be instrumented.
+     * @return A new instance of this agent builder that ignores all types that are matched by the provided matcher.
+     * All previous matchers for ignored types are discarded.
+     */
+    Ignored ignoreNames(ElementMatcher<? super String> nameMatcher);
+
+    /**
+     * <p>
+     * Excludes any type of which the binary name is matched by the provided matcher and that is loaded by a class loader matching
+     * the second matcher. Other than with {@link AgentBuilder#ignore(ElementMatcher, ElementMatcher)}, the matchers are applied prior
+     * to locating or parsing a type's class file such that an ignored type only costs the evaluation of the supplied matchers. Types
+     * that are ignored by these matchers are not reported to the {@link Listener}. By default, Byte Buddy does not instrument synthetic
+     * types, types within a {@code net.bytebuddy.*} package or types that are loaded by the bootstrap class loader.
+     * </p>
+     * <p>
+     * When ignoring a type, any subsequently chained matcher is applied after this matcher in the order of their registration. A name
+     * matcher is only applied prior to parsing a type's class file if it is chained as a disjunction.
+     * </p>
+     *
+     * @param nameMatcher        A matcher that identifies the binary names of types that should not be instrumented.
+     * @param classLoaderMatcher A matcher that identifies a class loader that identifies classes that should not be instrumented.
+     * @return A new instance of this agent builder that ignores all types that are matched by the provided matchers.
+     * All previous matchers for ignored types are discarded.
+     */
+    Ignored ignoreNames(ElementMatcher<? super String> nameMatcher, ElementMatcher<? super ClassLoader> classLoaderMatcher);
+
     /**
      * Creates a {@link ResettableClassFileTransformer} that implements the configuration of this
      * agent builder. When using a raw class file transformer, the {@link InstallationListener} callbacks are
@@ -863,6 +968,32 @@ public interface AgentBuilder {
          */
         RedefinitionListenable with(RedefinitionStrategy.Listener redefinitionListener);
 
+        /**
+         * <p>
+         * Applies a precomputation strategy that computes the transformations of the types of each redefinition batch before the
+         * batch is redefined. A precomputation strategy can for example compute these transformations in parallel such that the
+         * class file transformer only returns the precomputed result when it is invoked by the JVM.
+         * </p>
+         * <p>
+         * <b>Note</b>: A precomputed transformation is only applied if the class file that is supplied by the JVM is identical to
+         * the class file that was located for the precomputation or if the {@link ClassFileBufferStrategy} discards the supplied
+         * class file. Otherwise, the transformation is computed regularly. Upon a retransformation, the JVM supplies a reconstituted
+         * class file that does typically not equal the located class file. Therefore, types are only precomputed for a retransformation
+         * if the {@link ClassFileBufferStrategy} discards the supplied class file. A precomputation does not notify the {@link Listener}
+         * and does not register the transformed type with its {@link InitializationStrategy}. Those side effects are only applied once
+         * the JVM invokes the class file transformer and the precomputed transformation is used.
+         * </p>
+         * <p>
+         * <b>Important</b>: A precomputation acquires the {@link CircularityLock} on the thread that computes the transformation while
+         * the thread that triggers the redefinition holds this lock. With a lock that is shared among threads, such as
+         * {@link CircularityLock.Global}, no transformation can be precomputed such that every transformation is computed regularly.
+         * </p>
+         *
+         * @param redefinitionPrecomputationStrategy The precomputation strategy to apply.
+         * @return A new instance of this agent builder that applies the supplied precomputation strategy.
+         */
+        RedefinitionListenable with(RedefinitionStrategy.PrecomputationStrategy redefinitionPrecomputationStrategy);
+
         /**
          * Enables resubmission of failed transformations by applying a retransformation of the loaded type. This can be meaningful if
          * class files cannot be located from the class loader as a resource where the loaded type becomes available.
@@ -1299,6 +1430,113 @@ public interface AgentBuilder {
                 return moduleMatcher.matches(module) && classLoaderMatcher.matches(classLoader) && typeMatcher.matches(typeDescription);
             }
         }
+
+        /**
+         * <p>
+         * A raw matcher that identifies types only by their binary name, their class loader and their module. As no other property
+         * of a type is considered, Byte Buddy applies this matcher before locating or parsing a type's class file or creating a
+         * {@link TypeDescription} if it is registered as an ignore matcher or as a disjunctive part of an ignore matcher.
+         * </p>
+         * <p>
+         * <b>Note</b>: A type that is ignored prior to the creation of a type description is not reported to a {@link Listener}.
+         * </p>
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class ForTypeNames implements RawMatcher {
+
+            /**
+             * The matcher to apply to a type's binary name.
+             */
+            private final ElementMatcher<? super String> nameMatcher;
+
+            /**
+             * The class loader matcher to apply to a {@link java.lang.ClassLoader}.
+             */
+            private final ElementMatcher<? super ClassLoader> classLoaderMatcher;
+
+            /**
+             * A module matcher to apply to a {@code java.lang.Module}.
+             */
+            private final ElementMatcher<? super JavaModule> moduleMatcher;
+
+            /**
+             * A matcher that is equivalent to the name matcher but that is applied to a type's internal name.
+             */
+            @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+            private final ElementMatcher<String> internalNameMatcher;
+
+            /**
+             * Creates a new raw matcher that only matches a type's binary name.
+             *
+             * @param nameMatcher The matcher to apply to a type's binary name.
+             */
+            public ForTypeNames(ElementMatcher<? super String> nameMatcher) {
+                this(nameMatcher, any());
+            }
+
+            /**
+             * Creates a new raw matcher that only matches a type's binary name and its class loader.
+             *
+             * @param nameMatcher        The matcher to apply to a type's binary name.
+             * @param classLoaderMatcher The class loader matcher to apply to a {@link java.lang.ClassLoader}.
+             */
+            public ForTypeNames(ElementMatcher<? super String> nameMatcher, ElementMatcher<? super ClassLoader> classLoaderMatcher) {
+                this(nameMatcher, classLoaderMatcher, any());
+            }
+
+            /**
+             * Creates a new raw matcher that only matches a type's binary name, its class loader and its module.
+             *
+             * @param nameMatcher        The matcher to apply to a type's binary name.
+             * @param classLoaderMatcher The class loader matcher to apply to a {@link java.lang.ClassLoader}.
+             * @param moduleMatcher      A module matcher to apply to a {@code java.lang.Module}.
+             */
+            public ForTypeNames(ElementMatcher<? super String> nameMatcher,
+                                ElementMatcher<? super ClassLoader> classLoaderMatcher,
+                                ElementMatcher<? super JavaModule> moduleMatcher) {
+                this.nameMatcher = nameMatcher;
+                this.classLoaderMatcher = classLoaderMatcher;
+                this.moduleMatcher = moduleMatcher;
+                internalNameMatcher = InternalNameMatcher.of(nameMatcher);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean matches(TypeDescription typeDescription,
+                                   ClassLoader classLoader,
+                                   JavaModule module,
+                                   Class<?> classBeingRedefined,
+                                   ProtectionDomain protectionDomain) {
+                return matches(typeDescription.getName(), classLoader, module);
+            }
+
+            /**
+             * Matches a type only by its name, its class loader and its module.
+             *
+             * @param typeName    The binary name of the type.
+             * @param classLoader The type's class loader or {@code null} if the type is loaded by the bootstrap loader.
+             * @param module      The type's module or {@code null} if the current VM does not support modules.
+             * @return {@code true} if the type is matched.
+             */
+            public boolean matches(String typeName, ClassLoader classLoader, JavaModule module) {
+                return moduleMatcher.matches(module) && classLoaderMatcher.matches(classLoader) && nameMatcher.matches(typeName);
+            }
+
+            /**
+             * Matches a type only by its internal name, its class loader and its module. If the name matcher is
+             * {@link InternalNameMatcher.Translatable}, the internal name is matched without translating it into
+             * the type's binary name.
+             *
+             * @param internalTypeName The internal name of the type.
+             * @param classLoader      The type's class loader or {@code null} if the type is loaded by the bootstrap loader.
+             * @param module           The type's module or {@code null} if the current VM does not support modules.
+             * @return {@code true} if the type is matched.
+             */
+            public boolean matchesInternalName(String internalTypeName, ClassLoader classLoader, JavaModule module) {
+                return moduleMatcher.matches(module) && classLoaderMatcher.matches(classLoader) && internalNameMatcher.matches(internalTypeName);
+            }
+        }
     }
 
     /**
@@ -1849,167 +2087,977 @@ public interface AgentBuilder {
     }
 
     /**
-     * A circularity lock is responsible for preventing that a {@link ClassFileLocator} is used recursively.
-     * This can happen when a class file transformation causes another class to be loaded. Without avoiding
-     * such circularities, a class loading is aborted by a {@link ClassCircularityError} which causes the
-     * class loading to fail.
+     * <p>
+     * Metrics that are recorded for the individual phases of the transformations that are applied by an agent builder's
+     * class file transformer. For any type that is discovered, a {@link Measurement} is begun which is notified upon the
+     * completion of each phase of its transformation. The duration of a phase is measured from the completion of the
+     * previous phase or from the discovery of the type. If a transformation is retried by a {@link FallbackStrategy}, only
+     * the phases of the first attempt are recorded while the retry is only reflected by the measurement's completion.
+     * </p>
+     * <p>
+     * <b>Important</b>: Metrics are invoked from within a class file transformer and must therefore not load any classes.
+     * </p>
      */
-    interface CircularityLock {
+    interface Metrics {
 
         /**
-         * Attempts to acquire a circularity lock.
+         * Begins the measurement of the transformation of a discovered type.
          *
-         * @return {@code true} if the lock was acquired successfully, {@code false} if it is already hold.
+         * @param typeName The binary name of the discovered type.
+         * @return A measurement of the discovered type's transformation.
          */
-        boolean acquire();
+        Measurement begin(String typeName);
 
         /**
-         * Releases the circularity lock if it is currently acquired.
+         * A measurement of a single type's transformation.
          */
-        void release();
+        interface Measurement {
+
+            /**
+             * Invoked upon the completion of a phase of the transformation.
+             *
+             * @param phase The completed phase.
+             */
+            void onPhase(Phase phase);
+
+            /**
+             * Invoked after a transformation's matcher was applied onto the measured type.
+             *
+             * @param index   The index of the transformation in the order of the transformations' registration.
+             * @param matcher The matcher that was applied.
+             */
+            void onMatcher(int index, RawMatcher matcher);
+
+            /**
+             * Invoked upon the completion of the measured type's transformation, independently of its outcome.
+             */
+            void onComplete();
+        }
 
         /**
-         * An inactive circularity lock which is always acquirable.
+         * The phases of a type's transformation.
          */
-        enum Inactive implements CircularityLock {
+        enum Phase {
 
             /**
-             * The singleton instance.
+             * The resolution of the type's description, including the creation of its type pool.
              */
-            INSTANCE;
+            DESCRIPTION,
 
             /**
-             * {@inheritDoc}
+             * The application of the ignore matcher.
              */
-            public boolean acquire() {
-                return true;
-            }
+            IGNORE_MATCHING,
 
             /**
-             * {@inheritDoc}
+             * The creation of the type's builder and the application of all matched transformers.
              */
-            public void release() {
-                /* do nothing */
-            }
+            TRANSFORMATION,
+
+            /**
+             * The creation of the transformed type's class file.
+             */
+            MAKE,
+
+            /**
+             * The registration or injection of the transformed type's auxiliary types and initializers.
+             */
+            INJECTION
         }
 
         /**
-         * A default implementation of a circularity lock. Since class loading already synchronizes on a class loader,
-         * it suffices to apply a thread-local lock.
+         * A non-operational implementation of metrics that does not record anything.
          */
-        class Default extends ThreadLocal<Boolean> implements CircularityLock {
+        enum NoOp implements Metrics, Measurement {
 
             /**
-             * Indicates that the circularity lock is not currently acquired.
+             * The singleton instance.
              */
-            private static final Boolean NOT_ACQUIRED = null;
+            INSTANCE;
 
             /**
              * {@inheritDoc}
              */
-            public boolean acquire() {
-                if (get() == NOT_ACQUIRED) {
-                    set(true);
-                    return true;
-                } else {
-                    return false;
-                }
+            public Measurement begin(String typeName) {
+                return this;
             }
 
             /**
              * {@inheritDoc}
              */
-            public void release() {
-                set(NOT_ACQUIRED);
+            public void onPhase(Phase phase) {
+                /* do nothing */
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onMatcher(int index, RawMatcher matcher) {
+                /* do nothing */
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onComplete() {
+                /* do nothing */
             }
         }
 
         /**
-         * A circularity lock that holds a global monitor and does not permit concurrent access.
+         * A histogram of recorded values where each value is counted within a bucket that represents a power of two. A histogram
+         * can be updated concurrently without locking.
          */
-        @HashCodeAndEqualsPlugin.Enhance
-        class Global implements CircularityLock {
+        class Histogram {
 
             /**
-             * The lock to hold.
+             * The number of buckets of a histogram, one for each possible bit length of a positive {@code long} value.
              */
-            private final Lock lock;
+            private static final int BUCKETS = 64;
 
             /**
-             * The time to wait for the lock.
+             * The number of recorded values within each bucket.
              */
-            private final long time;
+            private final AtomicLongArray buckets;
 
             /**
-             * The time's time unit.
+             * The sum of all recorded values.
              */
-            private final TimeUnit timeUnit;
+            private final AtomicLong total;
 
             /**
-             * Creates a new global circularity lock that does not wait for a release.
+             * The largest recorded value.
              */
-            public Global() {
-                this(0, TimeUnit.MILLISECONDS);
+            private final AtomicLong maximum;
+
+            /**
+             * Creates a new empty histogram.
+             */
+            public Histogram() {
+                buckets = new AtomicLongArray(BUCKETS);
+                total = new AtomicLong();
+                maximum = new AtomicLong();
             }
 
             /**
-             * Creates a new global circularity lock.
+             * Records a value. Negative values are recorded as zero.
              *
-             * @param time     The time to wait for the lock.
-             * @param timeUnit The time's time unit.
+             * @param value The value to record.
              */
-            public Global(long time, TimeUnit timeUnit) {
-                lock = new ReentrantLock();
-                this.time = time;
-                this.timeUnit = timeUnit;
+            public void record(long value) {
+                value = Math.max(0L, value);
+                buckets.incrementAndGet(Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(value)));
+                total.addAndGet(value);
+                long maximum;
+                do {
+                    maximum = this.maximum.get();
+                } while (value > maximum && !this.maximum.compareAndSet(maximum, value));
             }
 
             /**
-             * {@inheritDoc}
+             * Creates a snapshot of this histogram. As the histogram might be updated concurrently, the snapshot's properties
+             * might not be fully consistent with another.
+             *
+             * @return A snapshot of this histogram.
              */
-            public boolean acquire() {
-                try {
-                    return time == 0
-                            ? lock.tryLock()
-                            : lock.tryLock(time, timeUnit);
-                } catch (InterruptedException ignored) {
-                    return false;
+            public Snapshot snapshot() {
+                long[] buckets = new long[BUCKETS];
+                long count = 0L;
+                for (int index = 0; index < BUCKETS; index++) {
+                    buckets[index] = this.buckets.get(index);
+                    count += buckets[index];
                 }
+                return new Snapshot(buckets, count, total.get(), maximum.get());
             }
 
             /**
-             * {@inheritDoc}
+             * An immutable snapshot of a histogram.
              */
-            public void release() {
-                lock.unlock();
-            }
-        }
-    }
+            @HashCodeAndEqualsPlugin.Enhance
+            public static class Snapshot {
 
-    /**
-     * A type strategy is responsible for creating a type builder for a type that is being instrumented.
-     */
-    interface TypeStrategy {
+                /**
+                 * The number of recorded values within each bucket where the bucket with index {@code n} contains values
+                 * smaller than {@code 2^n} but not smaller than {@code 2^(n-1)}.
+                 */
+                private final long[] buckets;
 
-        /**
-         * Creates a type builder for a given type.
-         *
-         * @param typeDescription       The type being instrumented.
-         * @param byteBuddy             The Byte Buddy configuration.
-         * @param classFileLocator      The class file locator to use.
-         * @param methodNameTransformer The method name transformer to use.
-         * @param classLoader           The instrumented type's class loader or {@code null} if the type is loaded by the bootstrap loader.
-         * @param module                The instrumented type's module or {@code null} if it is not declared by a module.
-         * @param protectionDomain      The instrumented type's protection domain or {@code null} if it does not define a protection domain.
-         * @return A type builder for the given arguments.
-         */
-        DynamicType.Builder<?> builder(TypeDescription typeDescription,
-                                       ByteBuddy byteBuddy,
-                                       ClassFileLocator classFileLocator,
-                                       MethodNameTransformer methodNameTransformer,
-                                       ClassLoader classLoader,
-                                       JavaModule module,
-                                       ProtectionDomain protectionDomain);
+                /**
+                 * The number of recorded values.
+                 */
+                private final long count;
+
+                /**
+                 * The sum of all recorded values.
+                 */
+                private final long total;
+
+                /**
+                 * The largest recorded value.
+                 */
+                private final long maximum;
+
+                /**
+                 * Creates a new snapshot of a histogram.
+                 *
+                 * @param buckets The number of recorded values within each bucket.
+                 * @param count   The number of recorded values.
+                 * @param total   The sum of all recorded values.
+                 * @param maximum The largest recorded value.
+                 */
+                protected Snapshot(long[] buckets, long count, long total, long maximum) {
+                    this.buckets = buckets;
+                    this.count = count;
+                    this.total = total;
+                    this.maximum = maximum;
+                }
+
+                /**
+                 * Returns the number of recorded values.
+                 *
+                 * @return The number of recorded values.
+                 */
+                public long getCount() {
+                    return count;
+                }
+
+                /**
+                 * Returns the sum of all recorded values.
+                 *
+                 * @return The sum of all recorded values.
+                 */
+                public long getTotal() {
+                    return total;
+                }
+
+                /**
+                 * Returns the largest recorded value.
+                 *
+                 * @return The largest recorded value.
+                 */
+                public long getMaximum() {
+                    return maximum;
+                }
+
+                /**
+                 * Returns the mean of all recorded values or {@code 0} if no value was recorded.
+                 *
+                 * @return The mean of all recorded values.
+                 */
+                public double getMean() {
+                    return count == 0L
+                            ? 0d
+                            : (double) total / count;
+                }
+
+                /**
+                 * Returns an upper bound of the supplied percentile of all recorded values. The returned value is exact within a
+                 * factor of two as values are recorded within buckets that represent powers of two.
+                 *
+                 * @param percentile The percentile to resolve, a value between {@code 0} and {@code 100}.
+                 * @return An upper bound of the requested percentile or {@code 0} if no value was recorded.
+                 */
+                public long getPercentile(double percentile) {
+                    if (percentile < 0d || percentile > 100d) {
+                        throw new IllegalArgumentException("Percentile must be within 0 and 100: " + percentile);
+                    }
+                    long threshold = (long) Math.ceil(count * percentile / 100d), accumulated = 0L;
+                    for (int index = 0; index < buckets.length; index++) {
+                        accumulated += buckets[index];
+                        if (accumulated >= threshold && accumulated > 0L) {
+                            return Math.min(maximum, (1L << index) - 1);
+                        }
+                    }
+                    return 0L;
+                }
+
+                /**
+                 * Returns the number of recorded values within each bucket where the bucket with index {@code n} contains values
+                 * smaller than {@code 2^n} but not smaller than {@code 2^(n-1)}.
+                 *
+                 * @return The number of recorded values within each bucket.
+                 */
+                public long[] getBuckets() {
+                    return buckets.clone();
+                }
+
+                @Override
+                public String toString() {
+                    return "count=" + count
+                            + ", mean=" + (long) getMean()
+                            + ", p50=" + getPercentile(50d)
+                            + ", p99=" + getPercentile(99d)
+                            + ", max=" + maximum;
+                }
+            }
+        }
+
+        /**
+         * An implementation of metrics that collects the recorded durations in nanoseconds and, if supported by the current
+         * VM, the number of bytes that were allocated by the transforming thread within {@link Histogram}s. A collector can
+         * be polled for a {@link Snapshot} at any time.
+         */
+        class Collector implements Metrics {
+
+            /**
+             * The dispatcher to use for reading the number of bytes that were allocated by the current thread.
+             */
+            private static final Dispatcher DISPATCHER = AccessController.doPrivileged(Dispatcher.CreationAction.INSTANCE);
+
+            /**
+             * The durations of each phase.
+             */
+            private final Map<Phase, Histogram> durations;
+
+            /**
+             * The allocated bytes of each phase.
+             */
+            private final Map<Phase, Histogram> allocations;
+
+            /**
+             * The durations of applying each transformation's matcher by the transformation's index.
+             */
+            private volatile Histogram[] matchers;
+
+            /**
+             * The total durations of each transformation.
+             */
+            private final Histogram duration;
+
+            /**
+             * The total allocated bytes of each transformation.
+             */
+            private final Histogram allocation;
+
+            /**
+             * Creates a new metrics collector.
+             */
+            public Collector() {
+                durations = new EnumMap<Phase, Histogram>(Phase.class);
+                allocations = new EnumMap<Phase, Histogram>(Phase.class);
+                for (Phase phase : Phase.values()) {
+                    durations.put(phase, new Histogram());
+                    allocations.put(phase, new Histogram());
+                }
+                matchers = new Histogram[0];
+                duration = new Histogram();
+                allocation = new Histogram();
+            }
+
+            /**
+             * Returns {@code true} if the current VM supports the measurement of allocated bytes per thread.
+             *
+             * @return {@code true} if the current VM supports the measurement of allocated bytes per thread.
+             */
+            public static boolean isAllocationMeasurable() {
+                return DISPATCHER.isAvailable();
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Measurement begin(String typeName) {
+                return new CollectingMeasurement(System.nanoTime(), DISPATCHER.getAllocatedBytes());
+            }
+
+            /**
+             * Creates a snapshot of all metrics that were collected so far.
+             *
+             * @return A snapshot of all metrics that were collected so far.
+             */
+            public Snapshot snapshot() {
+                Map<Phase, Histogram.Snapshot> durations = new EnumMap<Phase, Histogram.Snapshot>(Phase.class);
+                for (Map.Entry<Phase, Histogram> entry : this.durations.entrySet()) {
+                    durations.put(entry.getKey(), entry.getValue().snapshot());
+                }
+                Map<Phase, Histogram.Snapshot> allocations = new EnumMap<Phase, Histogram.Snapshot>(Phase.class);
+                for (Map.Entry<Phase, Histogram> entry : this.allocations.entrySet()) {
+                    allocations.put(entry.getKey(), entry.getValue().snapshot());
+                }
+                List<Histogram.Snapshot> matchers = new ArrayList<Histogram.Snapshot>();
+                for (Histogram histogram : this.matchers) {
+                    matchers.add((histogram == null
+                            ? new Histogram()
+                            : histogram).snapshot());
+                }
+                return new Snapshot(durations, allocations, matchers, duration.snapshot(), allocation.snapshot());
+            }
+
+            /**
+             * Resolves the histogram of the durations of applying the matcher of the transformation with the given index.
+             *
+             * @param index The index of the transformation.
+             * @return The histogram of the durations of applying the transformation's matcher.
+             */
+            private Histogram matcher(int index) {
+                Histogram[] matchers = this.matchers;
+                if (index < matchers.length && matchers[index] != null) {
+                    return matchers[index];
+                }
+                synchronized (this) {
+                    matchers = this.matchers;
+                    if (index < matchers.length && matchers[index] != null) {
+                        return matchers[index];
+                    }
+                    Histogram[] resolved = new Histogram[Math.max(matchers.length, index + 1)];
+                    System.arraycopy(matchers, 0, resolved, 0, matchers.length);
+                    Histogram histogram = new Histogram();
+                    resolved[index] = histogram;
+                    this.matchers = resolved;
+                    return histogram;
+                }
+            }
+
+            /**
+             * A dispatcher for reading the number of bytes that were allocated by the current thread.
+             */
+            protected interface Dispatcher {
+
+                /**
+                 * Returns {@code true} if allocated bytes can be measured.
+                 *
+                 * @return {@code true} if allocated bytes can be measured.
+                 */
+                boolean isAvailable();
+
+                /**
+                 * Returns the number of bytes that were allocated by the current thread or {@code 0} if this is not measurable.
+                 *
+                 * @return The number of bytes that were allocated by the current thread.
+                 */
+                long getAllocatedBytes();
+
+                /**
+                 * Returns the number of bytes that are allocated by a single invocation of {@link Dispatcher#getAllocatedBytes()}
+                 * itself. This overhead is contained in the difference of any two consecutive readings and must be subtracted.
+                 *
+                 * @return The number of bytes that are allocated by reading the number of allocated bytes.
+                 */
+                long getOverhead();
+
+                /**
+                 * An action for creating a dispatcher.
+                 */
+                enum CreationAction implements PrivilegedAction<Dispatcher> {
+
+                    /**
+                     * The singleton instance.
+                     */
+                    INSTANCE;
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    @SuppressFBWarnings(value = "REC_CATCH_EXCEPTION", justification = "Exception should not be rethrown but trigger a fallback")
+                    public Dispatcher run() {
+                        try {
+                            Object threadMXBean = ManagementFactory.getThreadMXBean();
+                            Class<?> type = Class.forName("com.sun.management.ThreadMXBean");
+                            if (!type.isInstance(threadMXBean)
+                                    || !(Boolean) type.getMethod("isThreadAllocatedMemorySupported").invoke(threadMXBean)
+                                    || !(Boolean) type.getMethod("isThreadAllocatedMemoryEnabled").invoke(threadMXBean)) {
+                                return ForUnavailableAllocations.INSTANCE;
+                            }
+                            return ForThreadMXBean.of(threadMXBean, type.getMethod("getThreadAllocatedBytes", long.class));
+                        } catch (Exception ignored) {
+                            return ForUnavailableAllocations.INSTANCE;
+                        }
+                    }
+                }
+
+                /**
+                 * A dispatcher for a VM that does not support measuring allocated bytes per thread.
+                 */
+                enum ForUnavailableAllocations implements Dispatcher {
+
+                    /**
+                     * The singleton instance.
+                     */
+                    INSTANCE;
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public boolean isAvailable() {
+                        return false;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public long getAllocatedBytes() {
+                        return 0L;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public long getOverhead() {
+                        return 0L;
+                    }
+                }
+
+                /**
+                 * A dispatcher that reads allocated bytes from HotSpot's extended {@code com.sun.management.ThreadMXBean}. As this bean
+                 * is not part of the Java 5 API, it is invoked reflectively which allocates itself. This overhead is calibrated once
+                 * when the dispatcher is created such that it can be subtracted from any measurement.
+                 */
+                @HashCodeAndEqualsPlugin.Enhance
+                class ForThreadMXBean implements Dispatcher {
+
+                    /**
+                     * The number of readings that are taken before calibrating the overhead, exceeding the threshold after which
+                     * a reflective invocation is typically optimized.
+                     */
+                    private static final int WARMUP = 32;
+
+                    /**
+                     * The number of readings that are taken for calibrating the overhead.
+                     */
+                    private static final int CALIBRATION = 16;
+
+                    /**
+                     * The thread management bean to use.
+                     */
+                    private final Object threadMXBean;
+
+                    /**
+                     * The {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} method.
+                     */
+                    private final Method getThreadAllocatedBytes;
+
+                    /**
+                     * The number of bytes that are allocated by a single reading.
+                     */
+                    private final long overhead;
+
+                    /**
+                     * Creates a new dispatcher for a thread management bean.
+                     *
+                     * @param threadMXBean            The thread management bean to use.
+                     * @param getThreadAllocatedBytes The {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} method.
+                     * @param overhead                The number of bytes that are allocated by a single reading.
+                     */
+                    protected ForThreadMXBean(Object threadMXBean, Method getThreadAllocatedBytes, long overhead) {
+                        this.threadMXBean = threadMXBean;
+                        this.getThreadAllocatedBytes = getThreadAllocatedBytes;
+                        this.overhead = overhead;
+                    }
+
+                    /**
+                     * Creates a dispatcher for a thread management bean and calibrates the number of bytes that are allocated by
+                     * a single reading as the smallest difference of two consecutive readings.
+                     *
+                     * @param threadMXBean            The thread management bean to use.
+                     * @param getThreadAllocatedBytes The {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} method.
+                     * @return An appropriate dispatcher.
+                     */
+                    protected static Dispatcher of(Object threadMXBean, Method getThreadAllocatedBytes) {
+                        Dispatcher dispatcher = new ForThreadMXBean(threadMXBean, getThreadAllocatedBytes, 0L);
+                        for (int index = 0; index < WARMUP; index++) {
+                            dispatcher.getAllocatedBytes();
+                        }
+                        long overhead = Long.MAX_VALUE, previous = dispatcher.getAllocatedBytes();
+                        for (int index = 0; index < CALIBRATION; index++) {
+                            long current = dispatcher.getAllocatedBytes();
+                            overhead = Math.min(overhead, current - previous);
+                            previous = current;
+                        }
+                        return new ForThreadMXBean(threadMXBean, getThreadAllocatedBytes, Math.max(0L, overhead));
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public boolean isAvailable() {
+                        return true;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public long getAllocatedBytes() {
+                        try {
+                            return (Long) getThreadAllocatedBytes.invoke(threadMXBean, Thread.currentThread().getId());
+                        } catch (IllegalAccessException exception) {
+                            throw new IllegalStateException("Cannot access " + getThreadAllocatedBytes, exception);
+                        } catch (InvocationTargetException exception) {
+                            throw new IllegalStateException("Error invoking " + getThreadAllocatedBytes, exception.getCause());
+                        }
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public long getOverhead() {
+                        return overhead;
+                    }
+                }
+            }
+
+            /**
+             * A measurement that records its values within the histograms of the enclosing collector. The number of bytes that
+             * are allocated by reading the allocated bytes is subtracted from each recorded allocation.
+             */
+            protected class CollectingMeasurement implements Measurement {
+
+                /**
+                 * The time stamp of the measurement's begin in nanoseconds.
+                 */
+                private final long began;
+
+                /**
+                 * The number of allocated bytes of the transforming thread when the measurement began.
+                 */
+                private final long allocatedOnBegin;
+
+                /**
+                 * The time stamp of the last completed phase in nanoseconds.
+                 */
+                private long completed;
+
+                /**
+                 * The number of allocated bytes of the transforming thread when the last phase was completed.
+                 */
+                private long allocatedOnCompletion;
+
+                /**
+                 * The number of readings of the allocated bytes since the measurement began.
+                 */
+                private int readings;
+
+                /**
+                 * Creates a new collecting measurement.
+                 *
+                 * @param began            The time stamp of the measurement's begin in nanoseconds.
+                 * @param allocatedOnBegin The number of allocated bytes of the transforming thread when the measurement began.
+                 */
+                protected CollectingMeasurement(long began, long allocatedOnBegin) {
+                    this.began = began;
+                    this.allocatedOnBegin = allocatedOnBegin;
+                    completed = began;
+                    allocatedOnCompletion = allocatedOnBegin;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void onPhase(Phase phase) {
+                    long now = System.nanoTime(), allocated = DISPATCHER.getAllocatedBytes();
+                    readings++;
+                    durations.get(phase).record(now - completed);
+                    if (DISPATCHER.isAvailable()) {
+                        allocations.get(phase).record(allocated - allocatedOnCompletion - DISPATCHER.getOverhead());
+                    }
+                    completed = now;
+                    allocatedOnCompletion = allocated;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void onMatcher(int index, RawMatcher matcher) {
+                    long now = System.nanoTime();
+                    matcher(index).record(now - completed);
+                    completed = now;
+                    allocatedOnCompletion = DISPATCHER.getAllocatedBytes();
+                    readings++;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void onComplete() {
+                    duration.record(System.nanoTime() - began);
+                    if (DISPATCHER.isAvailable()) {
+                        allocation.record(DISPATCHER.getAllocatedBytes() - allocatedOnBegin - DISPATCHER.getOverhead() * (readings + 1));
+                    }
+                }
+            }
+
+            /**
+             * A snapshot of the metrics that were collected by a collector. All durations are represented in nanoseconds and
+             * all allocations in bytes. If the current VM does not support the measurement of allocated bytes, the allocation
+             * histograms are empty.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            public static class Snapshot {
+
+                /**
+                 * The durations of each phase.
+                 */
+                private final Map<Phase, Histogram.Snapshot> durations;
+
+                /**
+                 * The allocated bytes of each phase.
+                 */
+                private final Map<Phase, Histogram.Snapshot> allocations;
+
+                /**
+                 * The durations of applying each transformation's matcher by the transformation's index.
+                 */
+                private final List<Histogram.Snapshot> matchers;
+
+                /**
+                 * The total durations of each transformation.
+                 */
+                private final Histogram.Snapshot duration;
+
+                /**
+                 * The total allocated bytes of each transformation.
+                 */
+                private final Histogram.Snapshot allocation;
+
+                /**
+                 * Creates a new snapshot.
+                 *
+                 * @param durations   The durations of each phase.
+                 * @param allocations The allocated bytes of each phase.
+                 * @param matchers    The durations of applying each transformation's matcher by the transformation's index.
+                 * @param duration    The total durations of each transformation.
+                 * @param allocation  The total allocated bytes of each transformation.
+                 */
+                protected Snapshot(Map<Phase, Histogram.Snapshot> durations,
+                                   Map<Phase, Histogram.Snapshot> allocations,
+                                   List<Histogram.Snapshot> matchers,
+                                   Histogram.Snapshot duration,
+                                   Histogram.Snapshot allocation) {
+                    this.durations = durations;
+                    this.allocations = allocations;
+                    this.matchers = matchers;
+                    this.duration = duration;
+                    this.allocation = allocation;
+                }
+
+                /**
+                 * Returns the durations of each phase.
+                 *
+                 * @return The durations of each phase.
+                 */
+                public Map<Phase, Histogram.Snapshot> getDurations() {
+                    return durations;
+                }
+
+                /**
+                 * Returns the allocated bytes of each phase.
+                 *
+                 * @return The allocated bytes of each phase.
+                 */
+                public Map<Phase, Histogram.Snapshot> getAllocations() {
+                    return allocations;
+                }
+
+                /**
+                 * Returns the durations of applying each transformation's matcher by the transformation's index in the order of
+                 * the transformations' registration. Transformations that were never applied might not be contained.
+                 *
+                 * @return The durations of applying each transformation's matcher by the transformation's index.
+                 */
+                public List<Histogram.Snapshot> getMatchers() {
+                    return matchers;
+                }
+
+                /**
+                 * Returns the total durations of each transformation.
+                 *
+                 * @return The total durations of each transformation.
+                 */
+                public Histogram.Snapshot getDuration() {
+                    return duration;
+                }
+
+                /**
+                 * Returns the total allocated bytes of each transformation.
+                 *
+                 * @return The total allocated bytes of each transformation.
+                 */
+                public Histogram.Snapshot getAllocation() {
+                    return allocation;
+                }
+
+                @Override
+                public String toString() {
+                    StringBuilder stringBuilder = new StringBuilder("Transformation: ").append(duration).append(" ns");
+                    for (Map.Entry<Phase, Histogram.Snapshot> entry : durations.entrySet()) {
+                        stringBuilder.append('\n').append(entry.getKey()).append(": ").append(entry.getValue()).append(" ns");
+                    }
+                    for (int index = 0; index < matchers.size(); index++) {
+                        stringBuilder.append("\nMATCHER #").append(index).append(": ").append(matchers.get(index)).append(" ns");
+                    }
+                    if (allocation.getCount() > 0L) {
+                        stringBuilder.append("\nAllocation: ").append(allocation).append(" bytes");
+                        for (Map.Entry<Phase, Histogram.Snapshot> entry : allocations.entrySet()) {
+                            stringBuilder.append('\n').append(entry.getKey()).append(": ").append(entry.getValue()).append(" bytes");
+                        }
+                    }
+                    return stringBuilder.toString();
+                }
+            }
+        }
+    }
+
+    /**
+     * A circularity lock is responsible for preventing that a {@link ClassFileLocator} is used recursively.
+     * This can happen when a class file transformation causes another class to be loaded. Without avoiding
+     * such circularities, a class loading is aborted by a {@link ClassCircularityError} which causes the
+     * class loading to fail.
+     */
+    interface CircularityLock {
+
+        /**
+         * Attempts to acquire a circularity lock.
+         *
+         * @return {@code true} if the lock was acquired successfully, {@code false} if it is already hold.
+         */
+        boolean acquire();
+
+        /**
+         * Releases the circularity lock if it is currently acquired.
+         */
+        void release();
+
+        /**
+         * An inactive circularity lock which is always acquirable.
+         */
+        enum Inactive implements CircularityLock {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean acquire() {
+                return true;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void release() {
+                /* do nothing */
+            }
+        }
+
+        /**
+         * A default implementation of a circularity lock. Since class loading already synchronizes on a class loader,
+         * it suffices to apply a thread-local lock.
+         */
+        class Default extends ThreadLocal<Boolean> implements CircularityLock {
+
+            /**
+             * Indicates that the circularity lock is not currently acquired.
+             */
+            private static final Boolean NOT_ACQUIRED = null;
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean acquire() {
+                if (get() == NOT_ACQUIRED) {
+                    set(true);
+                    return true;
+                } else {
+                    return false;
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void release() {
+                set(NOT_ACQUIRED);
+            }
+        }
+
+        /**
+         * A circularity lock that holds a global monitor and does not permit concurrent access.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class Global implements CircularityLock {
+
+            /**
+             * The lock to hold.
+             */
+            private final Lock lock;
+
+            /**
+             * The time to wait for the lock.
+             */
+            private final long time;
+
+            /**
+             * The time's time unit.
+             */
+            private final TimeUnit timeUnit;
+
+            /**
+             * Creates a new global circularity lock that does not wait for a release.
+             */
+            public Global() {
+                this(0, TimeUnit.MILLISECONDS);
+            }
+
+            /**
+             * Creates a new global circularity lock.
+             *
+             * @param time     The time to wait for the lock.
+             * @param timeUnit The time's time unit.
+             */
+            public Global(long time, TimeUnit timeUnit) {
+                lock = new ReentrantLock();
+                this.time = time;
+                this.timeUnit = timeUnit;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean acquire() {
+                try {
+                    return time == 0
+                            ? lock.tryLock()
+                            : lock.tryLock(time, timeUnit);
+                } catch (InterruptedException ignored) {
+                    return false;
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void release() {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * A type strategy is responsible for creating a type builder for a type that is being instrumented.
+     */
+    interface TypeStrategy {
+
+        /**
+         * Creates a type builder for a given type.
+         *
+         * @param typeDescription       The type being instrumented.
+         * @param byteBuddy             The Byte Buddy configuration.
+         * @param classFileLocator      The class file locator to use.
+         * @param methodNameTransformer The method name transformer to use.
+         * @param classLoader           The instrumented type's class loader or {@code null} if the type is loaded by the bootstrap loader.
+         * @param module                The instrumented type's module or {@code null} if it is not declared by a module.
+         * @param protectionDomain      The instrumented type's protection domain or {@code null} if it does not define a protection domain.
+         * @return A type builder for the given arguments.
+         */
+        DynamicType.Builder<?> builder(TypeDescription typeDescription,
+                                       ByteBuddy byteBuddy,
+                                       ClassFileLocator classFileLocator,
+                                       MethodNameTransformer methodNameTransformer,
+                                       ClassLoader classLoader,
+                                       JavaModule module,
+                                       ProtectionDomain protectionDomain);
 
         /**
          * Default implementations of type strategies.
@@ -2211,7 +3259,9 @@ public interface AgentBuilder {
          * class loader. Using this transformer, it is possible to apply advice without including any library dependencies of this advice
          * class which are then rather looked up from the transformed class's class loader. For this to work, it is required to register
          * the advice class's class loader manually via the {@code include} methods and to reference the advice class by its fully-qualified
-         * name. The advice class is then never loaded by rather described by a {@link TypePool}.
+         * name. The advice class is then never loaded by rather described by a {@link TypePool}. If an agent only applies advice, consider
+         * using {@link TypeStrategy.Default#DECORATE} where a class file is streamed through the advice without compiling the transformed
+         * type's method graph.
          */
         @HashCodeAndEqualsPlugin.Enhance
         class ForAdvice implements Transformer {
@@ -2606,7 +3656,14 @@ public interface AgentBuilder {
              *
              * @see net.bytebuddy.pool.TypePool.Default.ReaderMode#FAST
              */
-            FAST(TypePool.Default.ReaderMode.FAST);
+            FAST(TypePool.Default.ReaderMode.FAST),
+
+            /**
+             * A type locator that only parses the header of a class file until any of the type's members is requested.
+             *
+             * @see net.bytebuddy.pool.TypePool.Default.ReaderMode#TIERED
+             */
+            TIERED(TypePool.Default.ReaderMode.TIERED);
 
             /**
              * The reader mode to apply by this type locator.
@@ -2655,7 +3712,14 @@ public interface AgentBuilder {
              *
              * @see net.bytebuddy.pool.TypePool.Default.ReaderMode#FAST
              */
-            FAST(TypePool.Default.ReaderMode.FAST);
+            FAST(TypePool.Default.ReaderMode.FAST),
+
+            /**
+             * A type locator that only parses the header of a class file until any of the type's members is requested.
+             *
+             * @see net.bytebuddy.pool.TypePool.Default.ReaderMode#TIERED
+             */
+            TIERED(TypePool.Default.ReaderMode.TIERED);
 
             /**
              * The reader mode to apply by this type locator.
@@ -2705,7 +3769,14 @@ public interface AgentBuilder {
              *
              * @see net.bytebuddy.pool.TypePool.Default.ReaderMode#FAST
              */
-            FAST(TypePool.Default.ReaderMode.FAST);
+            FAST(TypePool.Default.ReaderMode.FAST),
+
+            /**
+             * A type locator that only parses the header of a class file until any of the type's members is requested.
+             *
+             * @see net.bytebuddy.pool.TypePool.Default.ReaderMode#TIERED
+             */
+            TIERED(TypePool.Default.ReaderMode.TIERED);
 
             /**
              * The reader mode to apply by this type locator.
@@ -2810,7 +3881,7 @@ public interface AgentBuilder {
                     classLoader = classLoader == null ? getBootstrapMarkerLoader() : classLoader;
                     TypePool.CacheProvider cacheProvider = cacheProviders.get(classLoader);
                     while (cacheProvider == null) {
-                        cacheProvider = TypePool.CacheProvider.Simple.withObjectType();
+                        cacheProvider = make();
                         TypePool.CacheProvider previous = cacheProviders.putIfAbsent(classLoader, cacheProvider);
                         if (previous != null) {
                             cacheProvider = previous;
@@ -2819,6 +3890,15 @@ public interface AgentBuilder {
                     return cacheProvider;
                 }
 
+                /**
+                 * Creates a new cache provider for a class loader that is not yet represented in the map of cache providers.
+                 *
+                 * @return A new cache provider.
+                 */
+                protected TypePool.CacheProvider make() {
+                    return TypePool.CacheProvider.Simple.withObjectType();
+                }
+
                 /**
                  * <p>
                  * Returns the class loader to serve as a cache key if a cache provider for the bootstrap class loader is requested.
@@ -2837,6 +3917,40 @@ public interface AgentBuilder {
                     return ClassLoader.getSystemClassLoader();
                 }
             }
+
+            /**
+             * An implementation of a type locator {@link WithTypePoolCache} (note documentation of the linked class) that is based on a
+             * {@link ConcurrentMap} and that uses a {@link TypePool.CacheProvider.SingleFlight} cache per class loader. This way, concurrent
+             * lookups of the same type await a single parsing of the type's class file, what avoids duplicate work if classes are loaded in
+             * parallel. It is the responsibility of the type locator's user to avoid the type locator from leaking memory.
+             */
+            public static class SingleFlight extends Simple {
+
+                /**
+                 * Creates a new type locator that caches a single flight cache provider per class loader in a concurrent map. The type
+                 * locator uses a fast {@link net.bytebuddy.pool.TypePool.Default.ReaderMode}.
+                 *
+                 * @param cacheProviders The concurrent map that is used for storing a cache provider per class loader.
+                 */
+                public SingleFlight(ConcurrentMap<? super ClassLoader, TypePool.CacheProvider> cacheProviders) {
+                    super(cacheProviders);
+                }
+
+                /**
+                 * Creates a new type locator that caches a single flight cache provider per class loader in a concurrent map.
+                 *
+                 * @param readerMode     The reader mode to use for parsing a class file.
+                 * @param cacheProviders The concurrent map that is used for storing a cache provider per class loader.
+                 */
+                public SingleFlight(TypePool.Default.ReaderMode readerMode, ConcurrentMap<? super ClassLoader, TypePool.CacheProvider> cacheProviders) {
+                    super(readerMode, cacheProviders);
+                }
+
+                @Override
+                protected TypePool.CacheProvider make() {
+                    return TypePool.CacheProvider.SingleFlight.withObjectType();
+                }
+            }
         }
     }
 
@@ -4211,6 +5325,32 @@ public interface AgentBuilder {
          */
         void onReset(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer);
 
+        /**
+         * Invoked prior to the warm-up of a class file transformer.
+         *
+         * @param types                The types that are used for the warm-up.
+         * @param classFileTransformer The class file transformer that is warmed up.
+         */
+        void onBeforeWarmUp(Set<Class<?>> types, ResettableClassFileTransformer classFileTransformer);
+
+        /**
+         * Invoked if the warm-up of a class file transformer causes an error for a given type.
+         *
+         * @param type                 The type that was transformed for the warm-up.
+         * @param classFileTransformer The class file transformer that is warmed up.
+         * @param throwable            The throwable that causes the error.
+         */
+        void onWarmUpError(Class<?> type, ResettableClassFileTransformer classFileTransformer, Throwable throwable);
+
+        /**
+         * Invoked after the warm-up of a class file transformer.
+         *
+         * @param types                The types that are used for the warm-up.
+         * @param classFileTransformer The class file transformer that is warmed up.
+         * @param transformed          {@code true} if at least one type was transformed during the warm-up.
+         */
+        void onAfterWarmUp(Set<Class<?>> types, ResettableClassFileTransformer classFileTransformer, boolean transformed);
+
         /**
          * A non-operational listener that does not do anything.
          */
@@ -4224,28 +5364,49 @@ public interface AgentBuilder {
             /**
              * {@inheritDoc}
              */
-            public void onBeforeInstall(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
+            public void onBeforeInstall(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
+                /* do nothing */
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onInstall(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
+                /* do nothing */
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Throwable onError(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer, Throwable throwable) {
+                return throwable;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onReset(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
                 /* do nothing */
             }
 
             /**
              * {@inheritDoc}
              */
-            public void onInstall(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
+            public void onBeforeWarmUp(Set<Class<?>> types, ResettableClassFileTransformer classFileTransformer) {
                 /* do nothing */
             }
 
             /**
              * {@inheritDoc}
              */
-            public Throwable onError(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer, Throwable throwable) {
-                return throwable;
+            public void onWarmUpError(Class<?> type, ResettableClassFileTransformer classFileTransformer, Throwable throwable) {
+                /* do nothing */
             }
 
             /**
              * {@inheritDoc}
              */
-            public void onReset(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
+            public void onAfterWarmUp(Set<Class<?>> types, ResettableClassFileTransformer classFileTransformer, boolean transformed) {
                 /* do nothing */
             }
         }
@@ -4287,6 +5448,27 @@ public interface AgentBuilder {
             public void onReset(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
                 /* do nothing */
             }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onBeforeWarmUp(Set<Class<?>> types, ResettableClassFileTransformer classFileTransformer) {
+                /* do nothing */
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onWarmUpError(Class<?> type, ResettableClassFileTransformer classFileTransformer, Throwable throwable) {
+                /* do nothing */
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onAfterWarmUp(Set<Class<?>> types, ResettableClassFileTransformer classFileTransformer, boolean transformed) {
+                /* do nothing */
+            }
         }
 
         /**
@@ -4321,6 +5503,27 @@ public interface AgentBuilder {
             public void onReset(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
                 /* do nothing */
             }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onBeforeWarmUp(Set<Class<?>> types, ResettableClassFileTransformer classFileTransformer) {
+                /* do nothing */
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onWarmUpError(Class<?> type, ResettableClassFileTransformer classFileTransformer, Throwable throwable) {
+                /* do nothing */
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onAfterWarmUp(Set<Class<?>> types, ResettableClassFileTransformer classFileTransformer, boolean transformed) {
+                /* do nothing */
+            }
         }
 
         /**
@@ -4353,126 +5556,449 @@ public interface AgentBuilder {
              *
              * @return An installation listener that prints to {@link System#out}.
              */
-            public static InstallationListener toSystemOut() {
-                return new StreamWriting(System.out);
+            public static InstallationListener toSystemOut() {
+                return new StreamWriting(System.out);
+            }
+
+            /**
+             * Creates a stream writing installation listener that prints to {@link System#err}.
+             *
+             * @return An installation listener that prints to {@link System#err}.
+             */
+            public static InstallationListener toSystemError() {
+                return new StreamWriting(System.err);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onBeforeInstall(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
+                printStream.printf(PREFIX + " BEFORE_INSTALL %s on %s%n", classFileTransformer, instrumentation);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onInstall(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
+                printStream.printf(PREFIX + " INSTALL %s on %s%n", classFileTransformer, instrumentation);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Throwable onError(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer, Throwable throwable) {
+                synchronized (printStream) {
+                    printStream.printf(PREFIX + " ERROR %s on %s%n", classFileTransformer, instrumentation);
+                    throwable.printStackTrace(printStream);
+                }
+                return throwable;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onReset(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
+                printStream.printf(PREFIX + " RESET %s on %s%n", classFileTransformer, instrumentation);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onBeforeWarmUp(Set<Class<?>> types, ResettableClassFileTransformer classFileTransformer) {
+                printStream.printf(PREFIX + " BEFORE_WARMUP %s on %s%n", classFileTransformer, types);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onWarmUpError(Class<?> type, ResettableClassFileTransformer classFileTransformer, Throwable throwable) {
+                synchronized (printStream) {
+                    printStream.printf(PREFIX + " ERROR_WARMUP %s on %s%n", classFileTransformer, type);
+                    throwable.printStackTrace(printStream);
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onAfterWarmUp(Set<Class<?>> types, ResettableClassFileTransformer classFileTransformer, boolean transformed) {
+                printStream.printf(PREFIX + " AFTER_WARMUP %s %s on %s%n", transformed ? "transformed" : "not transformed", classFileTransformer, types);
+            }
+        }
+
+        /**
+         * A compound installation listener.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class Compound implements InstallationListener {
+
+            /**
+             * The installation listeners to notify.
+             */
+            private final List<InstallationListener> installationListeners;
+
+            /**
+             * Creates a new compound listener.
+             *
+             * @param installationListener The installation listeners to notify.
+             */
+            public Compound(InstallationListener... installationListener) {
+                this(Arrays.asList(installationListener));
+            }
+
+            /**
+             * Creates a new compound listener.
+             *
+             * @param installationListeners The installation listeners to notify.
+             */
+            public Compound(List<? extends InstallationListener> installationListeners) {
+                this.installationListeners = new ArrayList<InstallationListener>();
+                for (InstallationListener installationListener : installationListeners) {
+                    if (installationListener instanceof Compound) {
+                        this.installationListeners.addAll(((Compound) installationListener).installationListeners);
+                    } else if (!(installationListener instanceof NoOp)) {
+                        this.installationListeners.add(installationListener);
+                    }
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onBeforeInstall(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
+                for (InstallationListener installationListener : installationListeners) {
+                    installationListener.onBeforeInstall(instrumentation, classFileTransformer);
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onInstall(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
+                for (InstallationListener installationListener : installationListeners) {
+                    installationListener.onInstall(instrumentation, classFileTransformer);
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Throwable onError(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer, Throwable throwable) {
+                for (InstallationListener installationListener : installationListeners) {
+                    if (throwable == SUPPRESS_ERROR) {
+                        return SUPPRESS_ERROR;
+                    }
+                    throwable = installationListener.onError(instrumentation, classFileTransformer, throwable);
+                }
+                return throwable;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onReset(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
+                for (InstallationListener installationListener : installationListeners) {
+                    installationListener.onReset(instrumentation, classFileTransformer);
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onBeforeWarmUp(Set<Class<?>> types, ResettableClassFileTransformer classFileTransformer) {
+                for (InstallationListener installationListener : installationListeners) {
+                    installationListener.onBeforeWarmUp(types, classFileTransformer);
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onWarmUpError(Class<?> type, ResettableClassFileTransformer classFileTransformer, Throwable throwable) {
+                for (InstallationListener installationListener : installationListeners) {
+                    installationListener.onWarmUpError(type, classFileTransformer, throwable);
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void onAfterWarmUp(Set<Class<?>> types, ResettableClassFileTransformer classFileTransformer, boolean transformed) {
+                for (InstallationListener installationListener : installationListeners) {
+                    installationListener.onAfterWarmUp(types, classFileTransformer, transformed);
+                }
+            }
+        }
+    }
+
+    /**
+     * A warm-up strategy is applied upon the installation of a class file transformer. A warm-up transforms a set of representative
+     * types as if they were loaded for the first time such that the classes that are required by a transformer are loaded, that
+     * advice classes are resolved and that the type pool is populated with the described hierarchy of each type before the
+     * application loads its types. The results of these transformations are discarded. A warm-up does not notify the
+     * {@link Listener} and does not register any transformed type with the {@link InitializationStrategy}. Note that a
+     * populated type pool cache is only reused if the {@link PoolStrategy} retains its caches between transformations.
+     */
+    interface WarmupStrategy {
+
+        /**
+         * Applies this warm-up strategy. This method is invoked by the installing thread while it holds the supplied circularity lock.
+         *
+         * @param classFileTransformer The class file transformer to warm up.
+         * @param target               The target that transforms a single type for warming up the class file transformer.
+         * @param circularityLock      The circularity lock that is held by the installing thread.
+         * @param installationListener The installation listener to notify.
+         */
+        void apply(ResettableClassFileTransformer classFileTransformer,
+                   Target target,
+                   CircularityLock circularityLock,
+                   InstallationListener installationListener);
+
+        /**
+         * Returns a warm-up strategy that additionally transforms the supplied types.
+         *
+         * @param types The types to transform additionally.
+         * @return A warm-up strategy that additionally transforms the supplied types.
+         */
+        WarmupStrategy with(Collection<Class<?>> types);
+
+        /**
+         * Returns a warm-up strategy that submits any warm-up to the supplied executor.
+         *
+         * @param executor The executor to submit the warm-up to.
+         * @return A warm-up strategy that submits any warm-up to the supplied executor.
+         */
+        WarmupStrategy with(Executor executor);
+
+        /**
+         * A target that transforms a single type for warming up a class file transformer.
+         */
+        interface Target {
+
+            /**
+             * Transforms the supplied type as if it was loaded for the first time and discards the result. A warm-up must not
+             * notify any listeners or register the transformed type. This method must only be invoked while the current thread
+             * holds the circularity lock of the warmed up class file transformer.
+             *
+             * @param type The type to transform.
+             * @return {@code true} if the type was transformed.
+             */
+            boolean warmUp(Class<?> type);
+        }
+
+        /**
+         * A non-operational warm-up strategy.
+         */
+        enum NoOp implements WarmupStrategy {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            /**
+             * {@inheritDoc}
+             */
+            public void apply(ResettableClassFileTransformer classFileTransformer,
+                              Target target,
+                              CircularityLock circularityLock,
+                              InstallationListener installationListener) {
+                /* do nothing */
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public WarmupStrategy with(Collection<Class<?>> types) {
+                return types.isEmpty()
+                        ? this
+                        : new Enabled(new LinkedHashSet<Class<?>>(types));
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public WarmupStrategy with(Executor executor) {
+                return new Asynchronous(Collections.<Class<?>>emptySet(), executor);
             }
+        }
+
+        /**
+         * A warm-up strategy that transforms the warm-up types prior to registering the class file transformer. The warm-up is
+         * applied by the installing thread which retains the circularity lock during the warm-up.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class Enabled implements WarmupStrategy {
 
             /**
-             * Creates a stream writing installation listener that prints to {@link System#err}.
-             *
-             * @return An installation listener that prints to {@link System#err}.
+             * The types to transform for warming up the class file transformer.
              */
-            public static InstallationListener toSystemError() {
-                return new StreamWriting(System.err);
-            }
+            private final Set<Class<?>> types;
 
             /**
-             * {@inheritDoc}
+             * Creates a new warm-up strategy that is applied by the installing thread.
+             *
+             * @param types The types to transform for warming up the class file transformer.
              */
-            public void onBeforeInstall(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
-                printStream.printf(PREFIX + " BEFORE_INSTALL %s on %s%n", classFileTransformer, instrumentation);
+            protected Enabled(Set<Class<?>> types) {
+                this.types = types;
             }
 
             /**
              * {@inheritDoc}
              */
-            public void onInstall(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
-                printStream.printf(PREFIX + " INSTALL %s on %s%n", classFileTransformer, instrumentation);
+            public void apply(ResettableClassFileTransformer classFileTransformer,
+                              Target target,
+                              CircularityLock circularityLock,
+                              InstallationListener installationListener) {
+                new WarmUp(types, classFileTransformer, target, CircularityLock.Inactive.INSTANCE, installationListener).run();
             }
 
             /**
              * {@inheritDoc}
              */
-            public Throwable onError(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer, Throwable throwable) {
-                synchronized (printStream) {
-                    printStream.printf(PREFIX + " ERROR %s on %s%n", classFileTransformer, instrumentation);
-                    throwable.printStackTrace(printStream);
-                }
-                return throwable;
+            public WarmupStrategy with(Collection<Class<?>> types) {
+                Set<Class<?>> combined = new LinkedHashSet<Class<?>>(this.types);
+                combined.addAll(types);
+                return new Enabled(combined);
             }
 
             /**
              * {@inheritDoc}
              */
-            public void onReset(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
-                printStream.printf(PREFIX + " RESET %s on %s%n", classFileTransformer, instrumentation);
+            public WarmupStrategy with(Executor executor) {
+                return new Asynchronous(types, executor);
             }
         }
 
         /**
-         * A compound installation listener.
+         * A warm-up strategy that submits the transformation of the warm-up types to an executor such that the installation
+         * of a class file transformer is not delayed by its warm-up. The executing thread acquires the circularity lock for
+         * the warm-up of each type and skips a type if the lock cannot be acquired.
          */
         @HashCodeAndEqualsPlugin.Enhance
-        class Compound implements InstallationListener {
+        class Asynchronous implements WarmupStrategy {
 
             /**
-             * The installation listeners to notify.
+             * The types to transform for warming up the class file transformer.
              */
-            private final List<InstallationListener> installationListeners;
+            private final Set<Class<?>> types;
 
             /**
-             * Creates a new compound listener.
-             *
-             * @param installationListener The installation listeners to notify.
+             * The executor to submit the warm-up to.
              */
-            public Compound(InstallationListener... installationListener) {
-                this(Arrays.asList(installationListener));
-            }
+            private final Executor executor;
 
             /**
-             * Creates a new compound listener.
+             * Creates a new asynchronous warm-up strategy.
              *
-             * @param installationListeners The installation listeners to notify.
+             * @param types    The types to transform for warming up the class file transformer.
+             * @param executor The executor to submit the warm-up to.
              */
-            public Compound(List<? extends InstallationListener> installationListeners) {
-                this.installationListeners = new ArrayList<InstallationListener>();
-                for (InstallationListener installationListener : installationListeners) {
-                    if (installationListener instanceof Compound) {
-                        this.installationListeners.addAll(((Compound) installationListener).installationListeners);
-                    } else if (!(installationListener instanceof NoOp)) {
-                        this.installationListeners.add(installationListener);
-                    }
-                }
+            protected Asynchronous(Set<Class<?>> types, Executor executor) {
+                this.types = types;
+                this.executor = executor;
             }
 
             /**
              * {@inheritDoc}
              */
-            public void onBeforeInstall(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
-                for (InstallationListener installationListener : installationListeners) {
-                    installationListener.onBeforeInstall(instrumentation, classFileTransformer);
+            public void apply(ResettableClassFileTransformer classFileTransformer,
+                              Target target,
+                              CircularityLock circularityLock,
+                              InstallationListener installationListener) {
+                if (!types.isEmpty()) {
+                    executor.execute(new WarmUp(types, classFileTransformer, target, circularityLock, installationListener));
                 }
             }
 
             /**
              * {@inheritDoc}
              */
-            public void onInstall(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
-                for (InstallationListener installationListener : installationListeners) {
-                    installationListener.onInstall(instrumentation, classFileTransformer);
-                }
+            public WarmupStrategy with(Collection<Class<?>> types) {
+                Set<Class<?>> combined = new LinkedHashSet<Class<?>>(this.types);
+                combined.addAll(types);
+                return new Asynchronous(combined, executor);
             }
 
             /**
              * {@inheritDoc}
              */
-            public Throwable onError(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer, Throwable throwable) {
-                for (InstallationListener installationListener : installationListeners) {
-                    if (throwable == SUPPRESS_ERROR) {
-                        return SUPPRESS_ERROR;
-                    }
-                    throwable = installationListener.onError(instrumentation, classFileTransformer, throwable);
-                }
-                return throwable;
+            public WarmupStrategy with(Executor executor) {
+                return new Asynchronous(types, executor);
+            }
+        }
+
+        /**
+         * A warm-up of a class file transformer that transforms each warm-up type and discards the result.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class WarmUp implements Runnable {
+
+            /**
+             * The types to transform for warming up the class file transformer.
+             */
+            private final Set<Class<?>> types;
+
+            /**
+             * The class file transformer to warm up.
+             */
+            private final ResettableClassFileTransformer classFileTransformer;
+
+            /**
+             * The target that transforms a single type for warming up the class file transformer.
+             */
+            private final Target target;
+
+            /**
+             * The circularity lock to acquire for the warm-up of each type.
+             */
+            private final CircularityLock circularityLock;
+
+            /**
+             * The installation listener to notify.
+             */
+            private final InstallationListener installationListener;
+
+            /**
+             * Creates a new warm-up.
+             *
+             * @param types                The types to transform for warming up the class file transformer.
+             * @param classFileTransformer The class file transformer to warm up.
+             * @param target               The target that transforms a single type for warming up the class file transformer.
+             * @param circularityLock      The circularity lock to acquire for the warm-up of each type.
+             * @param installationListener The installation listener to notify.
+             */
+            protected WarmUp(Set<Class<?>> types,
+                             ResettableClassFileTransformer classFileTransformer,
+                             Target target,
+                             CircularityLock circularityLock,
+                             InstallationListener installationListener) {
+                this.types = types;
+                this.classFileTransformer = classFileTransformer;
+                this.target = target;
+                this.circularityLock = circularityLock;
+                this.installationListener = installationListener;
             }
 
             /**
              * {@inheritDoc}
              */
-            public void onReset(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
-                for (InstallationListener installationListener : installationListeners) {
-                    installationListener.onReset(instrumentation, classFileTransformer);
+            public void run() {
+                installationListener.onBeforeWarmUp(types, classFileTransformer);
+                boolean transformed = false;
+                for (Class<?> type : types) {
+                    if (circularityLock.acquire()) {
+                        try {
+                            transformed |= target.warmUp(type);
+                        } catch (Throwable throwable) {
+                            installationListener.onWarmUpError(type, classFileTransformer, throwable);
+                        } finally {
+                            circularityLock.release();
+                        }
+                    }
                 }
+                installationListener.onAfterWarmUp(types, classFileTransformer, transformed);
             }
         }
     }
@@ -5979,6 +7505,204 @@ public interface AgentBuilder {
             }
         }
 
+        /**
+         * A precomputation strategy computes the transformations of the types of a redefinition batch before this batch is redefined.
+         * Without precomputation, the JVM invokes the class file transformer for one type after another on the thread that triggers
+         * the redefinition.
+         */
+        public interface PrecomputationStrategy {
+
+            /**
+             * Precomputes the transformations of the supplied types.
+             *
+             * @param types            The types of a batch that is about to be redefined.
+             * @param retransformation {@code true} if the batch is retransformed and not redefined.
+             * @param target           The target that precomputes the transformation of a single type.
+             */
+            void apply(List<Class<?>> types, boolean retransformation, Target target);
+
+            /**
+             * A target that precomputes the transformation of a single type.
+             */
+            interface Target {
+
+                /**
+                 * Precomputes the transformation of the supplied type. A precomputation must not notify any listeners or register
+                 * the transformed type as those side effects are only applied when the precomputed transformation is used.
+                 *
+                 * @param type             The type for which to precompute a transformation.
+                 * @param retransformation {@code true} if the type is retransformed and not redefined.
+                 */
+                void precompute(Class<?> type, boolean retransformation);
+
+                /**
+                 * Discards any precomputed transformation that was not yet applied.
+                 */
+                void discard();
+            }
+
+            /**
+             * A precomputation strategy that does not precompute any transformation.
+             */
+            enum Disabled implements PrecomputationStrategy {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void apply(List<Class<?>> types, boolean retransformation, Target target) {
+                    /* do nothing */
+                }
+            }
+
+            /**
+             * A precomputation strategy that precomputes the transformations of a batch in parallel by submitting one task per type
+             * to an executor service. The strategy awaits the completion of all tasks before the batch is redefined. Note that no
+             * transformation is precomputed if the agent builder applies a {@link CircularityLock} that is shared among threads.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            class ForExecutorService implements PrecomputationStrategy {
+
+                /**
+                 * The executor service to use.
+                 */
+                private final ExecutorService executorService;
+
+                /**
+                 * Creates a new precomputation strategy for an executor service.
+                 *
+                 * @param executorService The executor service to use.
+                 */
+                public ForExecutorService(ExecutorService executorService) {
+                    this.executorService = executorService;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void apply(List<Class<?>> types, boolean retransformation, Target target) {
+                    List<Future<?>> futures = new ArrayList<Future<?>>(types.size());
+                    for (Class<?> type : types) {
+                        futures.add(executorService.submit(new Precomputation(target, type, retransformation)));
+                    }
+                    for (Future<?> future : futures) {
+                        try {
+                            future.get();
+                        } catch (InterruptedException ignored) {
+                            for (Future<?> pending : futures) {
+                                pending.cancel(true);
+                            }
+                            target.discard();
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (ExecutionException ignored) {
+                            /* do nothing, the transformation is computed regularly */
+                        }
+                    }
+                }
+
+                /**
+                 * A task that precomputes the transformation of a single type.
+                 */
+                @HashCodeAndEqualsPlugin.Enhance
+                protected static class Precomputation implements Runnable {
+
+                    /**
+                     * The target that precomputes the transformation.
+                     */
+                    private final Target target;
+
+                    /**
+                     * The type for which to precompute a transformation.
+                     */
+                    private final Class<?> type;
+
+                    /**
+                     * {@code true} if the type is retransformed and not redefined.
+                     */
+                    private final boolean retransformation;
+
+                    /**
+                     * Creates a new precomputation.
+                     *
+                     * @param target           The target that precomputes the transformation.
+                     * @param type             The type for which to precompute a transformation.
+                     * @param retransformation {@code true} if the type is retransformed and not redefined.
+                     */
+                    protected Precomputation(Target target, Class<?> type, boolean retransformation) {
+                        this.target = target;
+                        this.type = type;
+                        this.retransformation = retransformation;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public void run() {
+                        target.precompute(type, retransformation);
+                    }
+                }
+            }
+
+            /**
+             * A redefinition listener that applies a precomputation strategy prior to each batch and that discards unapplied
+             * precomputations after each batch, i.e. before the next batch is started or once the redefinition fails or completes.
+             * Additionally, the agent builder discards any unapplied precomputation once a redefinition is aborted.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            class BatchTrigger extends Listener.Adapter {
+
+                /**
+                 * The precomputation strategy to apply.
+                 */
+                private final PrecomputationStrategy precomputationStrategy;
+
+                /**
+                 * {@code true} if the batches are retransformed and not redefined.
+                 */
+                private final boolean retransformation;
+
+                /**
+                 * The target that precomputes the transformation of a single type.
+                 */
+                private final Target target;
+
+                /**
+                 * Creates a new batch trigger.
+                 *
+                 * @param precomputationStrategy The precomputation strategy to apply.
+                 * @param retransformation       {@code true} if the batches are retransformed and not redefined.
+                 * @param target                 The target that precomputes the transformation of a single type.
+                 */
+                public BatchTrigger(PrecomputationStrategy precomputationStrategy, boolean retransformation, Target target) {
+                    this.precomputationStrategy = precomputationStrategy;
+                    this.retransformation = retransformation;
+                    this.target = target;
+                }
+
+                @Override
+                public void onBatch(int index, List<Class<?>> batch, List<Class<?>> types) {
+                    target.discard();
+                    precomputationStrategy.apply(batch, retransformation, target);
+                }
+
+                @Override
+                public Iterable<? extends List<Class<?>>> onError(int index, List<Class<?>> batch, Throwable throwable, List<Class<?>> types) {
+                    target.discard();
+                    return super.onError(index, batch, throwable, types);
+                }
+
+                @Override
+                public void onComplete(int amount, List<Class<?>> types, Map<List<Class<?>>, Throwable> failures) {
+                    target.discard();
+                }
+            }
+        }
+
         /**
          * A resubmission scheduler is responsible for scheduling a job that is resubmitting unloaded types that failed during retransformation.
          */
@@ -8420,6 +10144,11 @@ public interface AgentBuilder {
          */
         protected final Listener listener;
 
+        /**
+         * The metrics to notify on the phases of a transformation.
+         */
+        protected final Metrics metrics;
+
         /**
          * The circularity lock to use.
          */
@@ -8480,6 +10209,11 @@ public interface AgentBuilder {
          */
         protected final RedefinitionStrategy.ResubmissionStrategy redefinitionResubmissionStrategy;
 
+        /**
+         * The precomputation strategy to apply for redefinition batches.
+         */
+        protected final RedefinitionStrategy.PrecomputationStrategy redefinitionPrecomputationStrategy;
+
         /**
          * The injection strategy for injecting classes into a class loader.
          */
@@ -8511,6 +10245,11 @@ public interface AgentBuilder {
          */
         protected final InstallationListener installationListener;
 
+        /**
+         * The warm-up strategy to apply.
+         */
+        protected final WarmupStrategy warmupStrategy;
+
         /**
          * Identifies types that should not be instrumented.
          */
@@ -8539,6 +10278,7 @@ public interface AgentBuilder {
         public Default(ByteBuddy byteBuddy) {
             this(byteBuddy,
                     Listener.NoOp.INSTANCE,
+                    Metrics.NoOp.INSTANCE,
                     DEFAULT_LOCK,
                     PoolStrategy.Default.FAST,
                     TypeStrategy.Default.REBASE,
@@ -8551,12 +10291,14 @@ public interface AgentBuilder {
                     RedefinitionStrategy.BatchAllocator.ForTotal.INSTANCE,
                     RedefinitionStrategy.Listener.NoOp.INSTANCE,
                     RedefinitionStrategy.ResubmissionStrategy.Disabled.INSTANCE,
+                    RedefinitionStrategy.PrecomputationStrategy.Disabled.INSTANCE,
                     InjectionStrategy.UsingReflection.INSTANCE,
                     LambdaInstrumentationStrategy.DISABLED,
                     DescriptionStrategy.Default.HYBRID,
                     FallbackStrategy.ByThrowableType.ofOptionalTypes(),
                     ClassFileBufferStrategy.Default.RETAINING,
                     InstallationListener.NoOp.INSTANCE,
+                    WarmupStrategy.NoOp.INSTANCE,
                     new RawMatcher.Disjunction(
                             new RawMatcher.ForElementMatchers(any(), isBootstrapClassLoader().or(isExtensionClassLoader())),
                             new RawMatcher.ForElementMatchers(nameStartsWith("net.bytebuddy.").or(nameStartsWith("sun.reflect.")).<TypeDescription>or(isSynthetic()))),
@@ -8566,32 +10308,36 @@ public interface AgentBuilder {
         /**
          * Creates a new default agent builder.
          *
-         * @param byteBuddy                        The Byte Buddy instance to be used.
-         * @param listener                         The listener to notify on transformations.
-         * @param circularityLock                  The circularity lock to use.
-         * @param poolStrategy                     The type locator to use.
-         * @param typeStrategy                     The definition handler to use.
-         * @param locationStrategy                 The location strategy to use.
-         * @param nativeMethodStrategy             The native method strategy to apply.
-         * @param transformerDecorator             A decorator to wrap the created class file transformer.
-         * @param initializationStrategy           The initialization strategy to use for transformed types.
-         * @param redefinitionStrategy             The redefinition strategy to apply.
-         * @param redefinitionDiscoveryStrategy    The discovery strategy for loaded types to be redefined.
-         * @param redefinitionBatchAllocator       The batch allocator for the redefinition strategy to apply.
-         * @param redefinitionListener             The redefinition listener for the redefinition strategy to apply.
-         * @param redefinitionResubmissionStrategy The resubmission strategy to apply.
-         * @param injectionStrategy                The injection strategy for injecting classes into a class loader.
-         * @param lambdaInstrumentationStrategy    A strategy to determine of the {@code LambdaMetafactory} should be instrumented to allow for the
-         *                                         instrumentation of classes that represent lambda expressions.
-         * @param descriptionStrategy              The description strategy for resolving type descriptions for types.
-         * @param fallbackStrategy                 The fallback strategy to apply.
-         * @param classFileBufferStrategy          The class file buffer strategy to use.
-         * @param installationListener             The installation listener to notify.
-         * @param ignoreMatcher                    Identifies types that should not be instrumented.
-         * @param transformations                  The transformations to apply for any non-ignored type.
+         * @param byteBuddy                          The Byte Buddy instance to be used.
+         * @param listener                           The listener to notify on transformations.
+         * @param metrics                            The metrics to notify on the phases of a transformation.
+         * @param circularityLock                    The circularity lock to use.
+         * @param poolStrategy                       The type locator to use.
+         * @param typeStrategy                       The definition handler to use.
+         * @param locationStrategy                   The location strategy to use.
+         * @param nativeMethodStrategy               The native method strategy to apply.
+         * @param transformerDecorator               A decorator to wrap the created class file transformer.
+         * @param initializationStrategy             The initialization strategy to use for transformed types.
+         * @param redefinitionStrategy               The redefinition strategy to apply.
+         * @param redefinitionDiscoveryStrategy      The discovery strategy for loaded types to be redefined.
+         * @param redefinitionBatchAllocator         The batch allocator for the redefinition strategy to apply.
+         * @param redefinitionListener               The redefinition listener for the redefinition strategy to apply.
+         * @param redefinitionResubmissionStrategy   The resubmission strategy to apply.
+         * @param redefinitionPrecomputationStrategy The precomputation strategy to apply for redefinition batches.
+         * @param injectionStrategy                  The injection strategy for injecting classes into a class loader.
+         * @param lambdaInstrumentationStrategy      A strategy to determine of the {@code LambdaMetafactory} should be instrumented to allow for the
+         *                                           instrumentation of classes that represent lambda expressions.
+         * @param descriptionStrategy                The description strategy for resolving type descriptions for types.
+         * @param fallbackStrategy                   The fallback strategy to apply.
+         * @param classFileBufferStrategy            The class file buffer strategy to use.
+         * @param installationListener               The installation listener to notify.
+         * @param warmupStrategy                     The warm-up strategy to apply.
+         * @param ignoreMatcher                      Identifies types that should not be instrumented.
+         * @param transformations                    The transformations to apply for any non-ignored type.
          */
         protected Default(ByteBuddy byteBuddy,
                           Listener listener,
+                          Metrics metrics,
                           CircularityLock circularityLock,
                           PoolStrategy poolStrategy,
                           TypeStrategy typeStrategy,
@@ -8604,16 +10350,19 @@ public interface AgentBuilder {
                           RedefinitionStrategy.BatchAllocator redefinitionBatchAllocator,
                           RedefinitionStrategy.Listener redefinitionListener,
                           RedefinitionStrategy.ResubmissionStrategy redefinitionResubmissionStrategy,
+                          RedefinitionStrategy.PrecomputationStrategy redefinitionPrecomputationStrategy,
                           InjectionStrategy injectionStrategy,
                           LambdaInstrumentationStrategy lambdaInstrumentationStrategy,
                           DescriptionStrategy descriptionStrategy,
                           FallbackStrategy fallbackStrategy,
                           ClassFileBufferStrategy classFileBufferStrategy,
                           InstallationListener installationListener,
+                          WarmupStrategy warmupStrategy,
                           RawMatcher ignoreMatcher,
                           List<Transformation> transformations) {
             this.byteBuddy = byteBuddy;
             this.listener = listener;
+            this.metrics = metrics;
             this.circularityLock = circularityLock;
             this.poolStrategy = poolStrategy;
             this.typeStrategy = typeStrategy;
@@ -8626,12 +10375,14 @@ public interface AgentBuilder {
             this.redefinitionBatchAllocator = redefinitionBatchAllocator;
             this.redefinitionListener = redefinitionListener;
             this.redefinitionResubmissionStrategy = redefinitionResubmissionStrategy;
+            this.redefinitionPrecomputationStrategy = redefinitionPrecomputationStrategy;
             this.injectionStrategy = injectionStrategy;
             this.lambdaInstrumentationStrategy = lambdaInstrumentationStrategy;
             this.descriptionStrategy = descriptionStrategy;
             this.fallbackStrategy = fallbackStrategy;
             this.classFileBufferStrategy = classFileBufferStrategy;
             this.installationListener = installationListener;
+            this.warmupStrategy = warmupStrategy;
             this.ignoreMatcher = ignoreMatcher;
             this.transformations = transformations;
         }
@@ -8731,9 +10482,41 @@ public interface AgentBuilder {
         /**
          * {@inheritDoc}
          */
-        public AgentBuilder with(ByteBuddy byteBuddy) {
+        public AgentBuilder with(ByteBuddy byteBuddy) {
+            return new Default(byteBuddy,
+                    listener,
+                    metrics,
+                    circularityLock,
+                    poolStrategy,
+                    typeStrategy,
+                    locationStrategy,
+                    nativeMethodStrategy,
+                    transformerDecorator,
+                    initializationStrategy,
+                    redefinitionStrategy,
+                    redefinitionDiscoveryStrategy,
+                    redefinitionBatchAllocator,
+                    redefinitionListener,
+                    redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
+                    injectionStrategy,
+                    lambdaInstrumentationStrategy,
+                    descriptionStrategy,
+                    fallbackStrategy,
+                    classFileBufferStrategy,
+                    installationListener,
+                    warmupStrategy,
+                    ignoreMatcher,
+                    transformations);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public AgentBuilder with(Listener listener) {
             return new Default(byteBuddy,
-                    listener,
+                    new Listener.Compound(this.listener, listener),
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -8746,12 +10529,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -8759,9 +10544,10 @@ public interface AgentBuilder {
         /**
          * {@inheritDoc}
          */
-        public AgentBuilder with(Listener listener) {
+        public AgentBuilder withMetrics(Metrics metrics) {
             return new Default(byteBuddy,
-                    new Listener.Compound(this.listener, listener),
+                    listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -8774,12 +10560,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -8790,6 +10578,7 @@ public interface AgentBuilder {
         public AgentBuilder with(CircularityLock circularityLock) {
             return new Default(byteBuddy,
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -8802,12 +10591,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -8818,6 +10609,7 @@ public interface AgentBuilder {
         public AgentBuilder with(TypeStrategy typeStrategy) {
             return new Default(byteBuddy,
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -8830,12 +10622,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -8846,6 +10640,7 @@ public interface AgentBuilder {
         public AgentBuilder with(PoolStrategy poolStrategy) {
             return new Default(byteBuddy,
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -8858,12 +10653,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -8874,6 +10671,7 @@ public interface AgentBuilder {
         public AgentBuilder with(LocationStrategy locationStrategy) {
             return new Default(byteBuddy,
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -8886,12 +10684,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -8902,6 +10702,7 @@ public interface AgentBuilder {
         public AgentBuilder enableNativeMethodPrefix(String prefix) {
             return new Default(byteBuddy,
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -8914,12 +10715,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -8930,6 +10733,7 @@ public interface AgentBuilder {
         public AgentBuilder disableNativeMethodPrefix() {
             return new Default(byteBuddy,
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -8942,12 +10746,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -8958,6 +10764,7 @@ public interface AgentBuilder {
         public AgentBuilder with(TransformerDecorator transformerDecorator) {
             return new Default(byteBuddy,
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -8970,12 +10777,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -8986,6 +10795,7 @@ public interface AgentBuilder {
         public RedefinitionListenable.WithoutBatchStrategy with(RedefinitionStrategy redefinitionStrategy) {
             return new Redefining(byteBuddy,
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -8998,12 +10808,14 @@ public interface AgentBuilder {
                     RedefinitionStrategy.BatchAllocator.ForTotal.INSTANCE,
                     RedefinitionStrategy.Listener.NoOp.INSTANCE,
                     RedefinitionStrategy.ResubmissionStrategy.Disabled.INSTANCE,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -9014,6 +10826,7 @@ public interface AgentBuilder {
         public AgentBuilder with(InitializationStrategy initializationStrategy) {
             return new Default(byteBuddy,
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -9026,12 +10839,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -9042,6 +10857,7 @@ public interface AgentBuilder {
         public AgentBuilder with(LambdaInstrumentationStrategy lambdaInstrumentationStrategy) {
             return new Default(byteBuddy,
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -9054,12 +10870,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -9070,6 +10888,7 @@ public interface AgentBuilder {
         public AgentBuilder with(DescriptionStrategy descriptionStrategy) {
             return new Default(byteBuddy,
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -9082,12 +10901,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -9098,6 +10919,7 @@ public interface AgentBuilder {
         public AgentBuilder with(FallbackStrategy fallbackStrategy) {
             return new Default(byteBuddy,
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -9110,12 +10932,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -9126,6 +10950,7 @@ public interface AgentBuilder {
         public AgentBuilder with(ClassFileBufferStrategy classFileBufferStrategy) {
             return new Default(byteBuddy,
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -9138,12 +10963,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -9154,6 +10981,7 @@ public interface AgentBuilder {
         public AgentBuilder with(InstallationListener installationListener) {
             return new Default(byteBuddy,
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -9166,12 +10994,83 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     new InstallationListener.Compound(this.installationListener, installationListener),
+                    warmupStrategy,
+                    ignoreMatcher,
+                    transformations);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public AgentBuilder warmUp(Class<?>... type) {
+            return warmUp(Arrays.asList(type));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public AgentBuilder warmUp(Collection<Class<?>> types) {
+            return new Default(byteBuddy,
+                    listener,
+                    metrics,
+                    circularityLock,
+                    poolStrategy,
+                    typeStrategy,
+                    locationStrategy,
+                    nativeMethodStrategy,
+                    transformerDecorator,
+                    initializationStrategy,
+                    redefinitionStrategy,
+                    redefinitionDiscoveryStrategy,
+                    redefinitionBatchAllocator,
+                    redefinitionListener,
+                    redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
+                    injectionStrategy,
+                    lambdaInstrumentationStrategy,
+                    descriptionStrategy,
+                    fallbackStrategy,
+                    classFileBufferStrategy,
+                    installationListener,
+                    warmupStrategy.with(types),
+                    ignoreMatcher,
+                    transformations);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public AgentBuilder warmUpAsynchronously(Executor executor) {
+            return new Default(byteBuddy,
+                    listener,
+                    metrics,
+                    circularityLock,
+                    poolStrategy,
+                    typeStrategy,
+                    locationStrategy,
+                    nativeMethodStrategy,
+                    transformerDecorator,
+                    initializationStrategy,
+                    redefinitionStrategy,
+                    redefinitionDiscoveryStrategy,
+                    redefinitionBatchAllocator,
+                    redefinitionListener,
+                    redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
+                    injectionStrategy,
+                    lambdaInstrumentationStrategy,
+                    descriptionStrategy,
+                    fallbackStrategy,
+                    classFileBufferStrategy,
+                    installationListener,
+                    warmupStrategy.with(executor),
                     ignoreMatcher,
                     transformations);
         }
@@ -9182,6 +11081,7 @@ public interface AgentBuilder {
         public AgentBuilder with(InjectionStrategy injectionStrategy) {
             return new Default(byteBuddy,
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy,
@@ -9194,12 +11094,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -9210,6 +11112,7 @@ public interface AgentBuilder {
         public AgentBuilder disableClassFormatChanges() {
             return new Default(byteBuddy.with(Implementation.Context.Disabled.Factory.INSTANCE),
                     listener,
+                    metrics,
                     circularityLock,
                     poolStrategy,
                     typeStrategy == TypeStrategy.Default.DECORATE
@@ -9224,12 +11127,14 @@ public interface AgentBuilder {
                     redefinitionBatchAllocator,
                     redefinitionListener,
                     redefinitionResubmissionStrategy,
+                    redefinitionPrecomputationStrategy,
                     injectionStrategy,
                     lambdaInstrumentationStrategy,
                     descriptionStrategy,
                     fallbackStrategy,
                     classFileBufferStrategy,
                     installationListener,
+                    warmupStrategy,
                     ignoreMatcher,
                     transformations);
         }
@@ -9340,6 +11245,20 @@ public interface AgentBuilder {
             return new Ignoring(rawMatcher);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        public Ignored ignoreNames(ElementMatcher<? super String> nameMatcher) {
+            return ignoreNames(nameMatcher, any());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Ignored ignoreNames(ElementMatcher<? super String> nameMatcher, ElementMatcher<? super ClassLoader> classLoaderMatcher) {
+            return ignore(new RawMatcher.ForTypeNames(nameMatcher, classLoaderMatcher));
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -9357,6 +11276,7 @@ public interface AgentBuilder {
         private ResettableClassFileTransformer makeRaw(Listener listener, InstallationListener installationListener) {
             return ExecutingTransformer.FACTORY.make(byteBuddy,
                     listener,
+                    metrics,
                     poolStrategy,
                     typeStrategy,
                     locationStrategy,
@@ -9453,25 +11373,42 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener);
-            ResettableClassFileTransformer classFileTransformer = transformerDecorator.decorate(makeRaw(installation.getListener(),
-                    installation.getInstallationListener()));
+            ResettableClassFileTransformer rawClassFileTransformer = makeRaw(installation.getListener(), installation.getInstallationListener());
+            ResettableClassFileTransformer classFileTransformer = transformerDecorator.decorate(rawClassFileTransformer);
+            RedefinitionStrategy.Listener redefinitionListener = rawClassFileTransformer instanceof RedefinitionStrategy.PrecomputationStrategy.Target
+                    ? new RedefinitionStrategy.Listener.Compound(this.redefinitionListener, new RedefinitionStrategy.PrecomputationStrategy.BatchTrigger(redefinitionPrecomputationStrategy,
+                    redefinitionStrategy.isRetransforming(),
+                    (RedefinitionStrategy.PrecomputationStrategy.Target) rawClassFileTransformer))
+                    : this.redefinitionListener;
             installation.getInstallationListener().onBeforeInstall(instrumentation, classFileTransformer);
             try {
+                if (rawClassFileTransformer instanceof WarmupStrategy.Target) {
+                    warmupStrategy.apply(classFileTransformer,
+                            (WarmupStrategy.Target) rawClassFileTransformer,
+                            circularityLock,
+                            installation.getInstallationListener());
+                }
                 DISPATCHER.addTransformer(instrumentation, classFileTransformer, redefinitionStrategy.isRetransforming());
                 nativeMethodStrategy.apply(instrumentation, classFileTransformer);
                 lambdaInstrumentationStrategy.apply(byteBuddy, instrumentation, classFileTransformer);
-                redefinitionStrategy.apply(instrumentation,
-                        installation.getListener(),
-                        circularityLock,
-                        poolStrategy,
-                        locationStrategy,
-                        redefinitionDiscoveryStrategy,
-                        redefinitionBatchAllocator,
-                        redefinitionListener,
-                        lambdaInstrumentationStrategy,
-                        descriptionStrategy,
-                        fallbackStrategy,
-                        matcher);
+                try {
+                    redefinitionStrategy.apply(instrumentation,
+                            installation.getListener(),
+                            circularityLock,
+                            poolStrategy,
+                            locationStrategy,
+                            redefinitionDiscoveryStrategy,
+                            redefinitionBatchAllocator,
+                            redefinitionListener,
+                            lambdaInstrumentationStrategy,
+                            descriptionStrategy,
+                            fallbackStrategy,
+                            matcher);
+                } finally {
+                    if (rawClassFileTransformer instanceof RedefinitionStrategy.PrecomputationStrategy.Target) {
+                        ((RedefinitionStrategy.PrecomputationStrategy.Target) rawClassFileTransformer).discard();
+                    }
+                }
             } catch (Throwable throwable) {
                 throwable = installation.getInstallationListener().onError(instrumentation, classFileTransformer, throwable);
                 if (throwable != null) {
@@ -10020,13 +11957,211 @@ public interface AgentBuilder {
                     throw new UnsupportedOperationException("remove");
                 }
             }
+
+            /**
+             * An index of transformations by the names of the types that they can possibly match. The index is computed from
+             * the {@link NameConstraint}s of the transformations' matchers such that a type only needs to be matched against
+             * the transformations that can possibly apply to its name. Transformations without a name constraint are always
+             * considered. The order of the transformations is retained.
+             */
+            protected static class NameIndex {
+
+                /**
+                 * The indexed transformations.
+                 */
+                private final List<Transformation> transformations;
+
+                /**
+                 * A mapping of exact type names to the indices of the transformations that can possibly match them.
+                 */
+                private final Map<String, BitSet> names;
+
+                /**
+                 * The root node of a trie of type name prefixes.
+                 */
+                private final Node prefixes;
+
+                /**
+                 * The indices of the transformations that can match any type name.
+                 */
+                private final BitSet unconstrained;
+
+                /**
+                 * {@code true} if none of the transformations is constrained by a type name.
+                 */
+                private final boolean trivial;
+
+                /**
+                 * The indices of all transformations.
+                 */
+                private final int[] all;
+
+                /**
+                 * Creates a new name index.
+                 *
+                 * @param transformations The transformations to index.
+                 */
+                protected NameIndex(List<Transformation> transformations) {
+                    this.transformations = transformations;
+                    names = new HashMap<String, BitSet>();
+                    prefixes = new Node();
+                    unconstrained = new BitSet(transformations.size());
+                    for (int index = 0; index < transformations.size(); index++) {
+                        NameConstraint nameConstraint = toNameConstraint(transformations.get(index).getMatcher());
+                        if (nameConstraint.isUnconstrained()) {
+                            unconstrained.set(index);
+                        } else {
+                            for (String name : nameConstraint.getNames()) {
+                                BitSet indices = names.get(name);
+                                if (indices == null) {
+                                    indices = new BitSet(transformations.size());
+                                    names.put(name, indices);
+                                }
+                                indices.set(index);
+                            }
+                            for (String prefix : nameConstraint.getPrefixes()) {
+                                prefixes.register(prefix, index);
+                            }
+                        }
+                    }
+                    trivial = unconstrained.cardinality() == transformations.size();
+                    all = new int[transformations.size()];
+                    for (int index = 0; index < all.length; index++) {
+                        all[index] = index;
+                    }
+                }
+
+                /**
+                 * Resolves the name constraint of a raw matcher. Only matchers that are based on element matchers and their
+                 * conjunctions and disjunctions are analyzed, any other matcher is considered to be unconstrained.
+                 *
+                 * @param matcher The matcher to analyze.
+                 * @return The name constraint of the supplied matcher.
+                 */
+                protected static NameConstraint toNameConstraint(RawMatcher matcher) {
+                    if (matcher instanceof RawMatcher.ForElementMatchers) {
+                        return NameConstraint.of(((RawMatcher.ForElementMatchers) matcher).typeMatcher);
+                    } else if (matcher instanceof RawMatcher.Conjunction) {
+                        return toNameConstraint(((RawMatcher.Conjunction) matcher).left).and(toNameConstraint(((RawMatcher.Conjunction) matcher).right));
+                    } else if (matcher instanceof RawMatcher.Disjunction) {
+                        return toNameConstraint(((RawMatcher.Disjunction) matcher).left).or(toNameConstraint(((RawMatcher.Disjunction) matcher).right));
+                    } else {
+                        return NameConstraint.UNCONSTRAINED;
+                    }
+                }
+
+                /**
+                 * Resolves the transformations that can possibly match a type of the given name.
+                 *
+                 * @param typeName The binary name of the type.
+                 * @return The transformations that can possibly match the type in their original order.
+                 */
+                protected List<Transformation> resolve(String typeName) {
+                    if (trivial) {
+                        return transformations;
+                    }
+                    int[] indices = resolveIndices(typeName);
+                    if (indices.length == 0) {
+                        return Collections.emptyList();
+                    }
+                    List<Transformation> transformations = new ArrayList<Transformation>(indices.length);
+                    for (int index : indices) {
+                        transformations.add(this.transformations.get(index));
+                    }
+                    return transformations;
+                }
+
+                /**
+                 * Resolves the indices of the transformations that can possibly match a type of the given name.
+                 *
+                 * @param typeName The binary name of the type.
+                 * @return The indices of the transformations that can possibly match the type in ascending order.
+                 */
+                protected int[] resolveIndices(String typeName) {
+                    if (trivial) {
+                        return all;
+                    }
+                    BitSet indices = (BitSet) unconstrained.clone();
+                    BitSet named = names.get(typeName);
+                    if (named != null) {
+                        indices.or(named);
+                    }
+                    prefixes.resolve(typeName, indices);
+                    int[] resolved = new int[indices.cardinality()];
+                    for (int index = indices.nextSetBit(0), position = 0; index >= 0; index = indices.nextSetBit(index + 1)) {
+                        resolved[position++] = index;
+                    }
+                    return resolved;
+                }
+
+                /**
+                 * A node of a trie of type name prefixes.
+                 */
+                protected static class Node {
+
+                    /**
+                     * The child nodes of this node by their next character.
+                     */
+                    private final Map<Character, Node> children;
+
+                    /**
+                     * The indices of the transformations for which this node's prefix is registered.
+                     */
+                    private final BitSet indices;
+
+                    /**
+                     * Creates a new node.
+                     */
+                    protected Node() {
+                        children = new HashMap<Character, Node>();
+                        indices = new BitSet();
+                    }
+
+                    /**
+                     * Registers a prefix for a transformation.
+                     *
+                     * @param prefix The prefix to register.
+                     * @param index  The index of the transformation.
+                     */
+                    protected void register(String prefix, int index) {
+                        Node node = this;
+                        for (int position = 0; position < prefix.length(); position++) {
+                            Node child = node.children.get(prefix.charAt(position));
+                            if (child == null) {
+                                child = new Node();
+                                node.children.put(prefix.charAt(position), child);
+                            }
+                            node = child;
+                        }
+                        node.indices.set(index);
+                    }
+
+                    /**
+                     * Adds the indices of all transformations with a prefix of the supplied name to the supplied set.
+                     *
+                     * @param name    The name to resolve.
+                     * @param indices The set to which indices are added.
+                     */
+                    protected void resolve(String name, BitSet indices) {
+                        Node node = this;
+                        for (int position = 0; position < name.length() && !node.children.isEmpty(); position++) {
+                            node = node.children.get(name.charAt(position));
+                            if (node == null) {
+                                return;
+                            }
+                            indices.or(node.indices);
+                        }
+                    }
+                }
+            }
         }
 
         /**
          * A {@link java.lang.instrument.ClassFileTransformer} that implements the enclosing agent builder's
          * configuration.
          */
-        protected static class ExecutingTransformer extends ResettableClassFileTransformer.AbstractBase {
+        protected static class ExecutingTransformer extends ResettableClassFileTransformer.AbstractBase implements RedefinitionStrategy.PrecomputationStrategy.Target,
+                WarmupStrategy.Target {
 
             /**
              * A factory for creating a {@link ClassFileTransformer} that supports the features of the current VM.
@@ -10053,6 +12188,11 @@ public interface AgentBuilder {
              */
             private final Listener listener;
 
+            /**
+             * The metrics to notify on the phases of a transformation.
+             */
+            private final Metrics metrics;
+
             /**
              * The native method strategy to apply.
              */
@@ -10118,11 +12258,27 @@ public interface AgentBuilder {
              */
             private final AccessControlContext accessControlContext;
 
+            /**
+             * A mapping of types being redefined to their precomputed transformations.
+             */
+            private final ConcurrentMap<Class<?>, PrecomputedTransformation> precomputedTransformations;
+
+            /**
+             * An index of the transformations by the names of the types they can possibly match.
+             */
+            private final Transformation.NameIndex nameIndex;
+
+            /**
+             * The parts of the ignore matcher that can be applied prior to resolving a type description.
+             */
+            private final List<RawMatcher.ForTypeNames> typeNameIgnoreMatchers;
+
             /**
              * Creates a new class file transformer.
              *
              * @param byteBuddy                     The Byte Buddy instance to be used.
              * @param listener                      The listener to notify on transformations.
+             * @param metrics                       The metrics to notify on the phases of a transformation.
              * @param poolStrategy                  The type locator to use.
              * @param typeStrategy                  The definition handler to use.
              * @param locationStrategy              The location strategy to use.
@@ -10140,6 +12296,7 @@ public interface AgentBuilder {
              */
             public ExecutingTransformer(ByteBuddy byteBuddy,
                                         Listener listener,
+                                        Metrics metrics,
                                         PoolStrategy poolStrategy,
                                         TypeStrategy typeStrategy,
                                         LocationStrategy locationStrategy,
@@ -10159,6 +12316,7 @@ public interface AgentBuilder {
                 this.poolStrategy = poolStrategy;
                 this.locationStrategy = locationStrategy;
                 this.listener = listener;
+                this.metrics = metrics;
                 this.nativeMethodStrategy = nativeMethodStrategy;
                 this.initializationStrategy = initializationStrategy;
                 this.injectionStrategy = injectionStrategy;
@@ -10171,6 +12329,9 @@ public interface AgentBuilder {
                 this.transformations = transformations;
                 this.circularityLock = circularityLock;
                 accessControlContext = AccessController.getContext();
+                precomputedTransformations = new ConcurrentHashMap<Class<?>, PrecomputedTransformation>();
+                nameIndex = new Transformation.NameIndex(transformations);
+                typeNameIgnoreMatchers = toTypeNameMatchers(ignoreMatcher);
             }
 
             /**
@@ -10250,9 +12411,31 @@ public interface AgentBuilder {
                 if (internalTypeName == null || !lambdaInstrumentationStrategy.isInstrumented(classBeingRedefined)) {
                     return NO_TRANSFORMATION;
                 }
+                for (RawMatcher.ForTypeNames typeNameIgnoreMatcher : typeNameIgnoreMatchers) {
+                    if (typeNameIgnoreMatcher.matchesInternalName(internalTypeName, classLoader, module)) {
+                        return NO_TRANSFORMATION;
+                    }
+                }
                 String typeName = internalTypeName.replace('/', '.');
+                PrecomputedTransformation precomputedTransformation = classBeingRedefined == null || precomputedTransformations.isEmpty()
+                        ? null
+                        : precomputedTransformations.remove(classBeingRedefined);
+                Metrics.Measurement measurement = metrics.begin(typeName);
                 try {
                     listener.onDiscovery(typeName, classLoader, module, classBeingRedefined != null);
+                    if (precomputedTransformation != null && precomputedTransformation.isApplicable(classFileBufferStrategy.resolve(typeName,
+                            binaryRepresentation,
+                            classLoader,
+                            module,
+                            protectionDomain), typeName, binaryRepresentation)) {
+                        return precomputedTransformation.getPreparation().complete(listener,
+                                injectionStrategy,
+                                classLoader,
+                                module,
+                                Listener.LOADED,
+                                protectionDomain,
+                                measurement);
+                    }
                     ClassFileLocator classFileLocator = new ClassFileLocator.Compound(classFileBufferStrategy.resolve(typeName,
                             binaryRepresentation,
                             classLoader,
@@ -10260,10 +12443,10 @@ public interface AgentBuilder {
                             protectionDomain), locationStrategy.classFileLocator(classLoader, module));
                     TypePool typePool = poolStrategy.typePool(classFileLocator, classLoader);
                     try {
-                        return doTransform(module, classLoader, typeName, classBeingRedefined, classBeingRedefined != null, protectionDomain, typePool, classFileLocator);
+                        return doTransform(module, classLoader, typeName, classBeingRedefined, classBeingRedefined != null, protectionDomain, typePool, classFileLocator, measurement);
                     } catch (Throwable throwable) {
                         if (classBeingRedefined != null && descriptionStrategy.isLoadedFirst() && fallbackStrategy.isFallback(classBeingRedefined, throwable)) {
-                            return doTransform(module, classLoader, typeName, NO_LOADED_TYPE, Listener.LOADED, protectionDomain, typePool, classFileLocator);
+                            return doTransform(module, classLoader, typeName, NO_LOADED_TYPE, Listener.LOADED, protectionDomain, typePool, classFileLocator, Metrics.NoOp.INSTANCE);
                         } else {
                             throw throwable;
                         }
@@ -10273,6 +12456,7 @@ public interface AgentBuilder {
                     return NO_TRANSFORMATION;
                 } finally {
                     listener.onComplete(typeName, classLoader, module, classBeingRedefined != null);
+                    measurement.onComplete();
                 }
             }
 
@@ -10287,6 +12471,7 @@ public interface AgentBuilder {
              * @param protectionDomain    The instrumented type's protection domain.
              * @param typePool            The type pool to use.
              * @param classFileLocator    The class file locator to use.
+             * @param measurement         The measurement to notify on the completion of each phase.
              * @return The transformed class file or an empty byte array if this transformer does not apply an instrumentation.
              */
             private byte[] doTransform(JavaModule module,
@@ -10296,12 +12481,56 @@ public interface AgentBuilder {
                                        boolean loaded,
                                        ProtectionDomain protectionDomain,
                                        TypePool typePool,
-                                       ClassFileLocator classFileLocator) {
+                                       ClassFileLocator classFileLocator,
+                                       Metrics.Measurement measurement) {
+                return doPrepare(module,
+                        classLoader,
+                        typeName,
+                        classBeingRedefined,
+                        protectionDomain,
+                        typePool,
+                        classFileLocator,
+                        measurement).complete(listener, injectionStrategy, classLoader, module, loaded, protectionDomain, measurement);
+            }
+
+            /**
+             * Prepares a transformation for a class without registering the transformed type with its initialization strategy and
+             * without notifying the listener. This way, a preparation is free of side effects other than those of the user code that
+             * is invoked for matching and transforming the type.
+             *
+             * @param module              The instrumented class's Java module in its wrapped form or {@code null} if the current VM does not support modules.
+             * @param classLoader         The instrumented class's class loader.
+             * @param typeName            The binary name of the instrumented class.
+             * @param classBeingRedefined The loaded {@link Class} being redefined or {@code null} if no such class exists.
+             * @param protectionDomain    The instrumented type's protection domain.
+             * @param typePool            The type pool to use.
+             * @param classFileLocator    The class file locator to use.
+             * @param measurement         The measurement to notify on the completion of each phase.
+             * @return A preparation of the transformation that is completed to apply it.
+             */
+            protected Preparation doPrepare(JavaModule module,
+                                            ClassLoader classLoader,
+                                            String typeName,
+                                            Class<?> classBeingRedefined,
+                                            ProtectionDomain protectionDomain,
+                                            TypePool typePool,
+                                            ClassFileLocator classFileLocator,
+                                            Metrics.Measurement measurement) {
+                int[] indices = nameIndex.resolveIndices(typeName);
+                if (indices.length == 0) {
+                    return new Preparation(new LazyTypeDescription(typeName, classBeingRedefined, typePool, classLoader, module));
+                }
                 TypeDescription typeDescription = descriptionStrategy.apply(typeName, classBeingRedefined, typePool, circularityLock, classLoader, module);
+                measurement.onPhase(Metrics.Phase.DESCRIPTION);
                 List<Transformer> transformers = new ArrayList<Transformer>();
-                if (!ignoreMatcher.matches(typeDescription, classLoader, module, classBeingRedefined, protectionDomain)) {
-                    for (Transformation transformation : transformations) {
-                        if (transformation.getMatcher().matches(typeDescription, classLoader, module, classBeingRedefined, protectionDomain)) {
+                boolean ignored = ignoreMatcher.matches(typeDescription, classLoader, module, classBeingRedefined, protectionDomain);
+                measurement.onPhase(Metrics.Phase.IGNORE_MATCHING);
+                if (!ignored) {
+                    for (int index : indices) {
+                        Transformation transformation = transformations.get(index);
+                        boolean matched = transformation.getMatcher().matches(typeDescription, classLoader, module, classBeingRedefined, protectionDomain);
+                        measurement.onMatcher(index, transformation.getMatcher());
+                        if (matched) {
                             transformers.addAll(transformation.getTransformers());
                             if (transformation.isTerminal()) {
                                 break;
@@ -10310,8 +12539,7 @@ public interface AgentBuilder {
                     }
                 }
                 if (transformers.isEmpty()) {
-                    listener.onIgnored(typeDescription, classLoader, module, loaded);
-                    return Transformation.NONE;
+                    return new Preparation(typeDescription);
                 }
                 DynamicType.Builder<?> builder = typeStrategy.builder(typeDescription,
                         byteBuddy,
@@ -10324,23 +12552,69 @@ public interface AgentBuilder {
                 for (Transformer transformer : transformers) {
                     builder = transformer.transform(builder, typeDescription, classLoader, module);
                 }
-                DynamicType.Unloaded<?> dynamicType = dispatcher.apply(builder).make(TypeResolutionStrategy.Disabled.INSTANCE, typePool);
-                dispatcher.register(dynamicType, classLoader, protectionDomain, injectionStrategy);
-                listener.onTransformation(typeDescription, classLoader, module, loaded, dynamicType);
-                return dynamicType.getBytes();
+                measurement.onPhase(Metrics.Phase.TRANSFORMATION);
+                DynamicType.Unloaded<?> dynamicType = dispatcher.apply(builder).make(TypeResolutionStrategy.Disabled.INSTANCE, typePool);
+                measurement.onPhase(Metrics.Phase.MAKE);
+                return new Preparation(typeDescription, dynamicType, dispatcher);
+            }
+
+            /**
+             * Resolves the parts of an ignore matcher that can be applied prior to resolving a type description. Only raw matchers
+             * for type names that are registered directly or as a disjunctive part of the ignore matcher are considered, as it is
+             * sufficient that any of those matchers matches a type for it to be ignored.
+             *
+             * @param ignoreMatcher The ignore matcher to analyze.
+             * @return The raw matchers for type names that are applicable prior to resolving a type description.
+             */
+            protected static List<RawMatcher.ForTypeNames> toTypeNameMatchers(RawMatcher ignoreMatcher) {
+                if (ignoreMatcher instanceof RawMatcher.ForTypeNames) {
+                    return Collections.singletonList((RawMatcher.ForTypeNames) ignoreMatcher);
+                } else if (ignoreMatcher instanceof RawMatcher.Disjunction) {
+                    return CompoundList.of(toTypeNameMatchers(((RawMatcher.Disjunction) ignoreMatcher).left),
+                            toTypeNameMatchers(((RawMatcher.Disjunction) ignoreMatcher).right));
+                } else {
+                    return Collections.emptyList();
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Iterator<Transformer> iterator(TypeDescription typeDescription,
+                                                  ClassLoader classLoader,
+                                                  JavaModule module,
+                                                  Class<?> classBeingRedefined,
+                                                  ProtectionDomain protectionDomain) {
+                return ignoreMatcher.matches(typeDescription, classLoader, module, classBeingRedefined, protectionDomain)
+                        ? Collections.<Transformer>emptySet().iterator()
+                        : new Transformation.TransformerIterator(typeDescription, classLoader, module, classBeingRedefined, protectionDomain, nameIndex.resolve(typeDescription.getName()));
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void precompute(Class<?> type, boolean retransformation) {
+                if (circularityLock.acquire()) {
+                    try {
+                        AccessController.doPrivileged(new PrecomputingDispatcher(type, retransformation), accessControlContext);
+                    } finally {
+                        circularityLock.release();
+                    }
+                }
             }
 
             /**
              * {@inheritDoc}
              */
-            public Iterator<Transformer> iterator(TypeDescription typeDescription,
-                                                  ClassLoader classLoader,
-                                                  JavaModule module,
-                                                  Class<?> classBeingRedefined,
-                                                  ProtectionDomain protectionDomain) {
-                return ignoreMatcher.matches(typeDescription, classLoader, module, classBeingRedefined, protectionDomain)
-                        ? Collections.<Transformer>emptySet().iterator()
-                        : new Transformation.TransformerIterator(typeDescription, classLoader, module, classBeingRedefined, protectionDomain, transformations);
+            public void discard() {
+                precomputedTransformations.clear();
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean warmUp(Class<?> type) {
+                return AccessController.doPrivileged(new WarmingDispatcher(type), accessControlContext);
             }
 
             /**
@@ -10384,6 +12658,7 @@ public interface AgentBuilder {
                  *
                  * @param byteBuddy                     The Byte Buddy instance to be used.
                  * @param listener                      The listener to notify on transformations.
+                 * @param metrics                       The metrics to notify on the phases of a transformation.
                  * @param poolStrategy                  The type locator to use.
                  * @param typeStrategy                  The definition handler to use.
                  * @param locationStrategy              The location strategy to use.
@@ -10402,6 +12677,7 @@ public interface AgentBuilder {
                  */
                 ResettableClassFileTransformer make(ByteBuddy byteBuddy,
                                                     Listener listener,
+                                                    Metrics metrics,
                                                     PoolStrategy poolStrategy,
                                                     TypeStrategy typeStrategy,
                                                     LocationStrategy locationStrategy,
@@ -10451,6 +12727,7 @@ public interface AgentBuilder {
                                     .getLoaded()
                                     .getDeclaredConstructor(ByteBuddy.class,
                                             Listener.class,
+                                            Metrics.class,
                                             PoolStrategy.class,
                                             TypeStrategy.class,
                                             LocationStrategy.class,
@@ -10499,6 +12776,7 @@ public interface AgentBuilder {
                      */
                     public ResettableClassFileTransformer make(ByteBuddy byteBuddy,
                                                                Listener listener,
+                                                               Metrics metrics,
                                                                PoolStrategy poolStrategy,
                                                                TypeStrategy typeStrategy,
                                                                LocationStrategy locationStrategy,
@@ -10516,6 +12794,7 @@ public interface AgentBuilder {
                         try {
                             return executingTransformer.newInstance(byteBuddy,
                                     listener,
+                                    metrics,
                                     poolStrategy,
                                     typeStrategy,
                                     locationStrategy,
@@ -10555,6 +12834,7 @@ public interface AgentBuilder {
                      */
                     public ResettableClassFileTransformer make(ByteBuddy byteBuddy,
                                                                Listener listener,
+                                                               Metrics metrics,
                                                                PoolStrategy poolStrategy,
                                                                TypeStrategy typeStrategy,
                                                                LocationStrategy locationStrategy,
@@ -10571,6 +12851,7 @@ public interface AgentBuilder {
                                                                CircularityLock circularityLock) {
                         return new ExecutingTransformer(byteBuddy,
                                 listener,
+                                metrics,
                                 poolStrategy,
                                 typeStrategy,
                                 locationStrategy,
@@ -10589,6 +12870,359 @@ public interface AgentBuilder {
                 }
             }
 
+            /**
+             * A privileged action for precomputing the transformation of a loaded type.
+             */
+            @HashCodeAndEqualsPlugin.Enhance(includeSyntheticFields = true)
+            protected class PrecomputingDispatcher implements PrivilegedAction<Void> {
+
+                /**
+                 * The type for which to precompute a transformation.
+                 */
+                private final Class<?> type;
+
+                /**
+                 * {@code true} if the type is retransformed and not redefined.
+                 */
+                private final boolean retransformation;
+
+                /**
+                 * Creates a new precomputing dispatcher.
+                 *
+                 * @param type             The type for which to precompute a transformation.
+                 * @param retransformation {@code true} if the type is retransformed and not redefined.
+                 */
+                protected PrecomputingDispatcher(Class<?> type, boolean retransformation) {
+                    this.type = type;
+                    this.retransformation = retransformation;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Void run() {
+                    JavaModule module = JavaModule.ofType(type);
+                    ClassLoader classLoader = type.getClassLoader();
+                    String typeName = TypeDescription.ForLoadedType.getName(type);
+                    if (!lambdaInstrumentationStrategy.isInstrumented(type)) {
+                        return null;
+                    }
+                    for (RawMatcher.ForTypeNames typeNameIgnoreMatcher : typeNameIgnoreMatchers) {
+                        if (typeNameIgnoreMatcher.matchesInternalName(typeName.replace('.', '/'), classLoader, module)) {
+                            return null;
+                        }
+                    }
+                    try {
+                        ClassFileLocator.Resolution resolution = locationStrategy.classFileLocator(classLoader, module).locate(typeName);
+                        if (!resolution.isResolved()) {
+                            return null;
+                        }
+                        byte[] binaryRepresentation = resolution.resolve();
+                        ClassFileLocator bufferedClassFileLocator = classFileBufferStrategy.resolve(typeName,
+                                binaryRepresentation,
+                                classLoader,
+                                module,
+                                type.getProtectionDomain());
+                        if (retransformation && bufferedClassFileLocator.locate(typeName).isResolved()) {
+                            return null; // The reconstituted class file does not typically equal the located class file.
+                        }
+                        ClassFileLocator classFileLocator = new ClassFileLocator.Compound(bufferedClassFileLocator, locationStrategy.classFileLocator(classLoader, module));
+                        TypePool typePool = poolStrategy.typePool(classFileLocator, classLoader);
+                        Preparation preparation;
+                        try {
+                            preparation = doPrepare(module, classLoader, typeName, type, type.getProtectionDomain(), typePool, classFileLocator, Metrics.NoOp.INSTANCE);
+                        } catch (Throwable throwable) {
+                            if (descriptionStrategy.isLoadedFirst() && fallbackStrategy.isFallback(type, throwable)) {
+                                preparation = doPrepare(module, classLoader, typeName, NO_LOADED_TYPE, type.getProtectionDomain(), typePool, classFileLocator, Metrics.NoOp.INSTANCE);
+                            } else {
+                                return null;
+                            }
+                        }
+                        precomputedTransformations.put(type, new PrecomputedTransformation(binaryRepresentation, preparation));
+                    } catch (Throwable ignored) {
+                        /* do nothing, the transformation is computed regularly */
+                    }
+                    return null;
+                }
+            }
+
+            /**
+             * A description of a type that no transformation can match by its name. The type is only resolved if any property other
+             * than its name is requested, for example by a listener that is notified of the ignored type.
+             */
+            protected class LazyTypeDescription extends TypeDescription.AbstractBase.OfSimpleType.WithDelegation {
+
+                /**
+                 * The binary name of the described type.
+                 */
+                private final String typeName;
+
+                /**
+                 * The loaded {@link Class} being redefined or {@code null} if no such class exists.
+                 */
+                private final Class<?> classBeingRedefined;
+
+                /**
+                 * The type pool to use.
+                 */
+                private final TypePool typePool;
+
+                /**
+                 * The type's class loader or {@code null} if the type is loaded by the bootstrap loader.
+                 */
+                private final ClassLoader classLoader;
+
+                /**
+                 * The type's module or {@code null} if the current VM does not support modules.
+                 */
+                private final JavaModule module;
+
+                /**
+                 * Creates a new lazy type description.
+                 *
+                 * @param typeName            The binary name of the described type.
+                 * @param classBeingRedefined The loaded {@link Class} being redefined or {@code null} if no such class exists.
+                 * @param typePool            The type pool to use.
+                 * @param classLoader         The type's class loader or {@code null} if the type is loaded by the bootstrap loader.
+                 * @param module              The type's module or {@code null} if the current VM does not support modules.
+                 */
+                protected LazyTypeDescription(String typeName,
+                                              Class<?> classBeingRedefined,
+                                              TypePool typePool,
+                                              ClassLoader classLoader,
+                                              JavaModule module) {
+                    this.typeName = typeName;
+                    this.classBeingRedefined = classBeingRedefined;
+                    this.typePool = typePool;
+                    this.classLoader = classLoader;
+                    this.module = module;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public String getName() {
+                    return typeName;
+                }
+
+                @Override
+                @CachedReturnPlugin.Enhance("delegate")
+                protected TypeDescription delegate() {
+                    return descriptionStrategy.apply(typeName, classBeingRedefined, typePool, circularityLock, classLoader, module);
+                }
+            }
+
+            /**
+             * A privileged action for transforming a type as if it was loaded for the first time in order to warm up this transformer.
+             */
+            @HashCodeAndEqualsPlugin.Enhance(includeSyntheticFields = true)
+            protected class WarmingDispatcher implements PrivilegedAction<Boolean> {
+
+                /**
+                 * The type to transform.
+                 */
+                private final Class<?> type;
+
+                /**
+                 * Creates a new warming dispatcher.
+                 *
+                 * @param type The type to transform.
+                 */
+                protected WarmingDispatcher(Class<?> type) {
+                    this.type = type;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Boolean run() {
+                    JavaModule module = JavaModule.ofType(type);
+                    ClassLoader classLoader = type.getClassLoader();
+                    String typeName = TypeDescription.ForLoadedType.getName(type);
+                    for (RawMatcher.ForTypeNames typeNameIgnoreMatcher : typeNameIgnoreMatchers) {
+                        if (typeNameIgnoreMatcher.matchesInternalName(typeName.replace('.', '/'), classLoader, module)) {
+                            return false;
+                        }
+                    }
+                    byte[] binaryRepresentation;
+                    try {
+                        binaryRepresentation = locationStrategy.classFileLocator(classLoader, module).locate(typeName).resolve();
+                    } catch (IOException exception) {
+                        throw new IllegalStateException("Could not locate class file of " + typeName, exception);
+                    }
+                    ClassFileLocator classFileLocator = new ClassFileLocator.Compound(classFileBufferStrategy.resolve(typeName,
+                            binaryRepresentation,
+                            classLoader,
+                            module,
+                            type.getProtectionDomain()), locationStrategy.classFileLocator(classLoader, module));
+                    TypePool typePool = poolStrategy.typePool(classFileLocator, classLoader);
+                    Preparation preparation = doPrepare(module,
+                            classLoader,
+                            typeName,
+                            NO_LOADED_TYPE,
+                            type.getProtectionDomain(),
+                            typePool,
+                            classFileLocator,
+                            Metrics.NoOp.INSTANCE);
+                    Set<String> described = new HashSet<String>();
+                    List<TypeDescription> pending = new ArrayList<TypeDescription>();
+                    pending.add(preparation.getTypeDescription());
+                    while (!pending.isEmpty()) {
+                        TypeDescription typeDescription = pending.remove(pending.size() - 1);
+                        if (described.add(typeDescription.getName())) {
+                            TypeDescription.Generic superClass = typeDescription.getSuperClass();
+                            if (superClass != null) {
+                                pending.add(superClass.asErasure());
+                            }
+                            pending.addAll(typeDescription.getInterfaces().asErasures());
+                        }
+                    }
+                    return preparation.getDynamicType() != null;
+                }
+            }
+
+            /**
+             * A transformation that was precomputed for a specific class file.
+             */
+            protected static class PrecomputedTransformation {
+
+                /**
+                 * The class file for which the transformation was computed.
+                 */
+                private final byte[] binaryRepresentation;
+
+                /**
+                 * The prepared transformation.
+                 */
+                private final Preparation preparation;
+
+                /**
+                 * Creates a new precomputed transformation.
+                 *
+                 * @param binaryRepresentation The class file for which the transformation was computed.
+                 * @param preparation          The prepared transformation.
+                 */
+                protected PrecomputedTransformation(byte[] binaryRepresentation, Preparation preparation) {
+                    this.binaryRepresentation = binaryRepresentation;
+                    this.preparation = preparation;
+                }
+
+                /**
+                 * Determines if this transformation can be applied to the supplied class file. This is the case if the supplied
+                 * class file is identical to the class file for which the transformation was computed or if the class file buffer
+                 * strategy does not consider the supplied class file such that the transformation does not depend on it.
+                 *
+                 * @param classFileLocator     The class file locator that the class file buffer strategy resolves for the supplied class file.
+                 * @param typeName             The binary name of the instrumented type.
+                 * @param binaryRepresentation The class file that is supplied for transformation.
+                 * @return {@code true} if this transformation can be applied to the supplied class file.
+                 * @throws IOException If the class file locator cannot be queried.
+                 */
+                protected boolean isApplicable(ClassFileLocator classFileLocator, String typeName, byte[] binaryRepresentation) throws IOException {
+                    return Arrays.equals(this.binaryRepresentation, binaryRepresentation) || !classFileLocator.locate(typeName).isResolved();
+                }
+
+                /**
+                 * Returns the prepared transformation.
+                 *
+                 * @return The prepared transformation.
+                 */
+                protected Preparation getPreparation() {
+                    return preparation;
+                }
+            }
+
+            /**
+             * A prepared transformation of a type that is completed by registering the transformed type with its initialization
+             * strategy and by notifying the listener.
+             */
+            protected static class Preparation {
+
+                /**
+                 * The description of the instrumented type.
+                 */
+                private final TypeDescription typeDescription;
+
+                /**
+                 * The transformed type or {@code null} if the type is not transformed.
+                 */
+                private final DynamicType.Unloaded<?> dynamicType;
+
+                /**
+                 * The initialization strategy's dispatcher or {@code null} if the type is not transformed.
+                 */
+                private final InitializationStrategy.Dispatcher dispatcher;
+
+                /**
+                 * Creates a preparation of a type that is not transformed.
+                 *
+                 * @param typeDescription The description of the instrumented type.
+                 */
+                protected Preparation(TypeDescription typeDescription) {
+                    this(typeDescription, null, null);
+                }
+
+                /**
+                 * Creates a new preparation.
+                 *
+                 * @param typeDescription The description of the instrumented type.
+                 * @param dynamicType     The transformed type or {@code null} if the type is not transformed.
+                 * @param dispatcher      The initialization strategy's dispatcher or {@code null} if the type is not transformed.
+                 */
+                protected Preparation(TypeDescription typeDescription, DynamicType.Unloaded<?> dynamicType, InitializationStrategy.Dispatcher dispatcher) {
+                    this.typeDescription = typeDescription;
+                    this.dynamicType = dynamicType;
+                    this.dispatcher = dispatcher;
+                }
+
+                /**
+                 * Returns the description of the instrumented type.
+                 *
+                 * @return The description of the instrumented type.
+                 */
+                protected TypeDescription getTypeDescription() {
+                    return typeDescription;
+                }
+
+                /**
+                 * Returns the transformed type.
+                 *
+                 * @return The transformed type or {@code null} if the type is not transformed.
+                 */
+                protected DynamicType.Unloaded<?> getDynamicType() {
+                    return dynamicType;
+                }
+
+                /**
+                 * Completes this transformation.
+                 *
+                 * @param listener          The listener to notify.
+                 * @param injectionStrategy The injection strategy to use.
+                 * @param classLoader       The instrumented class's class loader.
+                 * @param module            The instrumented class's Java module in its wrapped form or {@code null} if the current VM does not support modules.
+                 * @param loaded            {@code true} if the instrumented type is loaded.
+                 * @param protectionDomain  The instrumented type's protection domain.
+                 * @param measurement       The measurement to notify on the completion of each phase.
+                 * @return The transformed class file or {@code null} if the type is not transformed.
+                 */
+                protected byte[] complete(Listener listener,
+                                          InjectionStrategy injectionStrategy,
+                                          ClassLoader classLoader,
+                                          JavaModule module,
+                                          boolean loaded,
+                                          ProtectionDomain protectionDomain,
+                                          Metrics.Measurement measurement) {
+                    if (dynamicType == null || dispatcher == null) {
+                        listener.onIgnored(typeDescription, classLoader, module, loaded);
+                        return Transformation.NONE;
+                    }
+                    dispatcher.register(dynamicType, classLoader, protectionDomain, injectionStrategy);
+                    measurement.onPhase(Metrics.Phase.INJECTION);
+                    listener.onTransformation(typeDescription, classLoader, module, loaded, dynamicType);
+                    return dynamicType.getBytes();
+                }
+            }
+
             /**
              * A privileged action for transforming a class on a JVM prior to Java 9.
              */
@@ -10757,6 +13391,13 @@ public interface AgentBuilder {
                 return materialize().with(listener);
             }
 
+            /**
+             * {@inheritDoc}
+             */
+            public AgentBuilder withMetrics(Metrics metrics) {
+                return materialize().withMetrics(metrics);
+            }
+
             /**
              * {@inheritDoc}
              */
@@ -10834,6 +13475,27 @@ public interface AgentBuilder {
                 return materialize().with(installationListener);
             }
 
+            /**
+             * {@inheritDoc}
+             */
+            public AgentBuilder warmUp(Class<?>... type) {
+                return materialize().warmUp(type);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public AgentBuilder warmUp(Collection<Class<?>> types) {
+                return materialize().warmUp(types);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public AgentBuilder warmUpAsynchronously(Executor executor) {
+                return materialize().warmUpAsynchronously(executor);
+            }
+
             /**
              * {@inheritDoc}
              */
@@ -10972,6 +13634,20 @@ public interface AgentBuilder {
                 return materialize().ignore(rawMatcher);
             }
 
+            /**
+             * {@inheritDoc}
+             */
+            public Ignored ignoreNames(ElementMatcher<? super String> nameMatcher) {
+                return materialize().ignoreNames(nameMatcher);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Ignored ignoreNames(ElementMatcher<? super String> nameMatcher, ElementMatcher<? super ClassLoader> classLoaderMatcher) {
+                return materialize().ignoreNames(nameMatcher, classLoaderMatcher);
+            }
+
             /**
              * {@inheritDoc}
              */
@@ -11032,6 +13708,7 @@ public interface AgentBuilder {
             protected AgentBuilder materialize() {
                 return new Default(byteBuddy,
                         listener,
+                        metrics,
                         circularityLock,
                         poolStrategy,
                         typeStrategy,
@@ -11044,12 +13721,14 @@ public interface AgentBuilder {
                         redefinitionBatchAllocator,
                         redefinitionListener,
                         redefinitionResubmissionStrategy,
+                        redefinitionPrecomputationStrategy,
                         injectionStrategy,
                         lambdaInstrumentationStrategy,
                         descriptionStrategy,
                         fallbackStrategy,
                         classFileBufferStrategy,
                         installationListener,
+                        warmupStrategy,
                         rawMatcher,
                         transformations);
             }
@@ -11077,32 +13756,36 @@ public interface AgentBuilder {
             /**
              * Creates a new default agent builder that allows for refinement of the redefinition strategy.
              *
-             * @param byteBuddy                        The Byte Buddy instance to be used.
-             * @param listener                         The listener to notify on transformations.
-             * @param circularityLock                  The circularity lock to use.
-             * @param poolStrategy                     The type locator to use.
-             * @param typeStrategy                     The definition handler to use.
-             * @param locationStrategy                 The location strategy to use.
-             * @param nativeMethodStrategy             The native method strategy to apply.
-             * @param transformerDecorator             A decorator to wrap the created class file transformer.
-             * @param initializationStrategy           The initialization strategy to use for transformed types.
-             * @param redefinitionStrategy             The redefinition strategy to apply.
-             * @param redefinitionDiscoveryStrategy    The discovery strategy for loaded types to be redefined.
-             * @param redefinitionBatchAllocator       The batch allocator for the redefinition strategy to apply.
-             * @param redefinitionListener             The redefinition listener for the redefinition strategy to apply.
-             * @param redefinitionResubmissionStrategy The resubmission strategy to apply.
-             * @param injectionStrategy                The injection strategy to use.
-             * @param lambdaInstrumentationStrategy    A strategy to determine of the {@code LambdaMetafactory} should be instrumented to allow for the
-             *                                         instrumentation of classes that represent lambda expressions.
-             * @param descriptionStrategy              The description strategy for resolving type descriptions for types.
-             * @param fallbackStrategy                 The fallback strategy to apply.
-             * @param classFileBufferStrategy          The class file buffer strategy to use.
-             * @param installationListener             The installation listener to notify.
-             * @param ignoreMatcher                    Identifies types that should not be instrumented.
-             * @param transformations                  The transformations to apply on non-ignored types.
+             * @param byteBuddy                          The Byte Buddy instance to be used.
+             * @param listener                           The listener to notify on transformations.
+             * @param metrics                            The metrics to notify on the phases of a transformation.
+             * @param circularityLock                    The circularity lock to use.
+             * @param poolStrategy                       The type locator to use.
+             * @param typeStrategy                       The definition handler to use.
+             * @param locationStrategy                   The location strategy to use.
+             * @param nativeMethodStrategy               The native method strategy to apply.
+             * @param transformerDecorator               A decorator to wrap the created class file transformer.
+             * @param initializationStrategy             The initialization strategy to use for transformed types.
+             * @param redefinitionStrategy               The redefinition strategy to apply.
+             * @param redefinitionDiscoveryStrategy      The discovery strategy for loaded types to be redefined.
+             * @param redefinitionBatchAllocator         The batch allocator for the redefinition strategy to apply.
+             * @param redefinitionListener               The redefinition listener for the redefinition strategy to apply.
+             * @param redefinitionResubmissionStrategy   The resubmission strategy to apply.
+             * @param redefinitionPrecomputationStrategy The precomputation strategy to apply for redefinition batches.
+             * @param injectionStrategy                  The injection strategy to use.
+             * @param lambdaInstrumentationStrategy      A strategy to determine of the {@code LambdaMetafactory} should be instrumented to allow for the
+             *                                           instrumentation of classes that represent lambda expressions.
+             * @param descriptionStrategy                The description strategy for resolving type descriptions for types.
+             * @param fallbackStrategy                   The fallback strategy to apply.
+             * @param classFileBufferStrategy            The class file buffer strategy to use.
+             * @param installationListener               The installation listener to notify.
+             * @param warmupStrategy                     The warm-up strategy to apply.
+             * @param ignoreMatcher                      Identifies types that should not be instrumented.
+             * @param transformations                    The transformations to apply on non-ignored types.
              */
             protected Redefining(ByteBuddy byteBuddy,
                                  Listener listener,
+                                 Metrics metrics,
                                  CircularityLock circularityLock,
                                  PoolStrategy poolStrategy,
                                  TypeStrategy typeStrategy,
@@ -11115,16 +13798,19 @@ public interface AgentBuilder {
                                  RedefinitionStrategy.BatchAllocator redefinitionBatchAllocator,
                                  RedefinitionStrategy.Listener redefinitionListener,
                                  RedefinitionStrategy.ResubmissionStrategy redefinitionResubmissionStrategy,
+                                 RedefinitionStrategy.PrecomputationStrategy redefinitionPrecomputationStrategy,
                                  InjectionStrategy injectionStrategy,
                                  LambdaInstrumentationStrategy lambdaInstrumentationStrategy,
                                  DescriptionStrategy descriptionStrategy,
                                  FallbackStrategy fallbackStrategy,
                                  ClassFileBufferStrategy classFileBufferStrategy,
                                  InstallationListener installationListener,
+                                 WarmupStrategy warmupStrategy,
                                  RawMatcher ignoreMatcher,
                                  List<Transformation> transformations) {
                 super(byteBuddy,
                         listener,
+                        metrics,
                         circularityLock,
                         poolStrategy,
                         typeStrategy,
@@ -11137,12 +13823,14 @@ public interface AgentBuilder {
                         redefinitionBatchAllocator,
                         redefinitionListener,
                         redefinitionResubmissionStrategy,
+                        redefinitionPrecomputationStrategy,
                         injectionStrategy,
                         lambdaInstrumentationStrategy,
                         descriptionStrategy,
                         fallbackStrategy,
                         classFileBufferStrategy,
                         installationListener,
+                        warmupStrategy,
                         ignoreMatcher,
                         transformations);
             }
@@ -11156,6 +13844,7 @@ public interface AgentBuilder {
                 }
                 return new Redefining(byteBuddy,
                         listener,
+                        metrics,
                         circularityLock,
                         poolStrategy,
                         typeStrategy,
@@ -11168,12 +13857,14 @@ public interface AgentBuilder {
                         redefinitionBatchAllocator,
                         redefinitionListener,
                         redefinitionResubmissionStrategy,
+                        redefinitionPrecomputationStrategy,
                         injectionStrategy,
                         lambdaInstrumentationStrategy,
                         descriptionStrategy,
                         fallbackStrategy,
                         classFileBufferStrategy,
                         installationListener,
+                        warmupStrategy,
                         ignoreMatcher,
                         transformations);
             }
@@ -11194,6 +13885,7 @@ public interface AgentBuilder {
                 }
                 return new Redefining(byteBuddy,
                         listener,
+                        metrics,
                         circularityLock,
                         poolStrategy,
                         typeStrategy,
@@ -11206,12 +13898,14 @@ public interface AgentBuilder {
                         redefinitionBatchAllocator,
                         redefinitionListener,
                         redefinitionResubmissionStrategy,
+                        redefinitionPrecomputationStrategy,
                         injectionStrategy,
                         lambdaInstrumentationStrategy,
                         descriptionStrategy,
                         fallbackStrategy,
                         classFileBufferStrategy,
                         installationListener,
+                        warmupStrategy,
                         ignoreMatcher,
                         transformations);
             }
@@ -11225,6 +13919,7 @@ public interface AgentBuilder {
                 }
                 return new Redefining(byteBuddy,
                         listener,
+                        metrics,
                         circularityLock,
                         poolStrategy,
                         typeStrategy,
@@ -11237,12 +13932,48 @@ public interface AgentBuilder {
                         redefinitionBatchAllocator,
                         new RedefinitionStrategy.Listener.Compound(this.redefinitionListener, redefinitionListener),
                         redefinitionResubmissionStrategy,
+                        redefinitionPrecomputationStrategy,
+                        injectionStrategy,
+                        lambdaInstrumentationStrategy,
+                        descriptionStrategy,
+                        fallbackStrategy,
+                        classFileBufferStrategy,
+                        installationListener,
+                        warmupStrategy,
+                        ignoreMatcher,
+                        transformations);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public RedefinitionListenable with(RedefinitionStrategy.PrecomputationStrategy redefinitionPrecomputationStrategy) {
+                if (!redefinitionStrategy.isEnabled()) {
+                    throw new IllegalStateException("Cannot set redefinition precomputation strategy when redefinition is disabled");
+                }
+                return new Redefining(byteBuddy,
+                        listener,
+                        metrics,
+                        circularityLock,
+                        poolStrategy,
+                        typeStrategy,
+                        locationStrategy,
+                        nativeMethodStrategy,
+                        transformerDecorator,
+                        initializationStrategy,
+                        redefinitionStrategy,
+                        redefinitionDiscoveryStrategy,
+                        redefinitionBatchAllocator,
+                        redefinitionListener,
+                        redefinitionResubmissionStrategy,
+                        redefinitionPrecomputationStrategy,
                         injectionStrategy,
                         lambdaInstrumentationStrategy,
                         descriptionStrategy,
                         fallbackStrategy,
                         classFileBufferStrategy,
                         installationListener,
+                        warmupStrategy,
                         ignoreMatcher,
                         transformations);
             }
@@ -11263,6 +13994,7 @@ public interface AgentBuilder {
                 }
                 return new Redefining(byteBuddy,
                         listener,
+                        metrics,
                         circularityLock,
                         poolStrategy,
                         typeStrategy,
@@ -11275,12 +14007,14 @@ public interface AgentBuilder {
                         redefinitionBatchAllocator,
                         redefinitionListener,
                         new RedefinitionStrategy.ResubmissionStrategy.Enabled(resubmissionScheduler, matcher),
+                        redefinitionPrecomputationStrategy,
                         injectionStrategy,
                         lambdaInstrumentationStrategy,
                         descriptionStrategy,
                         fallbackStrategy,
                         classFileBufferStrategy,
                         installationListener,
+                        warmupStrategy,
                         ignoreMatcher,
                         transformations);
             }
@@ -11326,6 +14060,7 @@ public interface AgentBuilder {
             protected AgentBuilder materialize() {
                 return new Default(byteBuddy,
                         listener,
+                        metrics,
                         circularityLock,
                         poolStrategy,
                         typeStrategy,
@@ -11338,12 +14073,14 @@ public interface AgentBuilder {
                         redefinitionBatchAllocator,
                         redefinitionListener,
                         redefinitionResubmissionStrategy,
+                        redefinitionPrecomputationStrategy,
                         injectionStrategy,
                         lambdaInstrumentationStrategy,
                         descriptionStrategy,
                         fallbackStrategy,
                         classFileBufferStrategy,
                         installationListener,
+                        warmupStrategy,
                         ignoreMatcher,
                         CompoundList.of(transformations, new Transformation(rawMatcher, transformers, terminal)));
             }
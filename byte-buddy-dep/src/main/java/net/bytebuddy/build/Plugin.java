@@ -27,11 +27,14 @@ import net.bytebuddy.implementation.LoadedTypeInitializer;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.utility.CompoundList;
+import net.bytebuddy.utility.StreamDrainer;
 
 import java.io.*;
 import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.security.AccessController;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivilegedAction;
 import java.util.*;
 import java.util.concurrent.*;
@@ -734,6 +737,14 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
          */
         Engine with(Dispatcher.Factory dispatcherFactory);
 
+        /**
+         * Replaces the incremental strategy of this plugin engine with the supplied incremental strategy.
+         *
+         * @param incrementalStrategy The incremental strategy to use.
+         * @return A new plugin engine that is equal to this engine but with the supplied incremental strategy being used.
+         */
+        Engine withIncrementalStrategy(IncrementalStrategy incrementalStrategy);
+
         /**
          * Ignores all types that are matched by this matcher or any previously registered ignore matcher.
          *
@@ -3859,179 +3870,1223 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                     }
                 }
             }
-        }
-
-        /**
-         * A summary of the application of a {@link Engine} to a source and target.
-         */
-        class Summary {
 
             /**
-             * A list of all types that were transformed.
+             * <p>
+             * A dispatcher that applies transformations within one or more threads in parallel while bounding the memory that is
+             * required for retaining the results of the transformation. Work is grouped into batches that are submitted to an executor
+             * such that any idle thread picks up the next batch. The results of a batch are written to the target sink, in the order in
+             * which the work was accepted, as soon as they are available. If more than a maximum number of batches is pending, accepting
+             * new work blocks until the oldest pending batch is written. This way, the heap that is required for an application does not
+             * scale with the size of the source.
+             * </p>
+             * <p>
+             * <b>Important</b>: If work needs to be deferred until all preprocessing is complete, the preprocessing results of all types are
+             * retained until the preprocessing is completed. Only the subsequent transformation is bounded.
+             * </p>
              */
-            private final List<TypeDescription> transformed;
+            class ForBoundedParallelTransformation implements Dispatcher {
 
-            /**
-             * A mapping of all types that failed during transformation to the exceptions that explain the failure.
-             */
-            private final Map<TypeDescription, List<Throwable>> failed;
+                /**
+                 * The executor to delegate any work to.
+                 */
+                private final Executor executor;
 
-            /**
-             * A list of type names that could not be resolved.
-             */
-            private final List<String> unresolved;
+                /**
+                 * The target sink.
+                 */
+                private final Target.Sink sink;
 
-            /**
-             * Creates a new summary.
-             *
-             * @param transformed A list of all types that were transformed.
-             * @param failed      A mapping of all types that failed during transformation to the exceptions that explain the failure.
-             * @param unresolved  A list of type names that could not be resolved.
-             */
-            public Summary(List<TypeDescription> transformed, Map<TypeDescription, List<Throwable>> failed, List<String> unresolved) {
-                this.transformed = transformed;
-                this.failed = failed;
-                this.unresolved = unresolved;
-            }
+                /**
+                 * A list of all types that are transformed.
+                 */
+                private final List<TypeDescription> transformed;
 
-            /**
-             * Returns a list of all types that were transformed.
-             *
-             * @return A list of all types that were transformed.
-             */
-            public List<TypeDescription> getTransformed() {
-                return transformed;
-            }
+                /**
+                 * A mapping of all types that failed during transformation to the exceptions that explain the failure.
+                 */
+                private final Map<TypeDescription, List<Throwable>> failed;
 
-            /**
-             * Returns a mapping of all types that failed during transformation to the exceptions that explain the failure.
-             *
-             * @return A mapping of all types that failed during transformation to the exceptions that explain the failure.
-             */
-            public Map<TypeDescription, List<Throwable>> getFailed() {
-                return failed;
-            }
+                /**
+                 * A list of type names that could not be resolved.
+                 */
+                private final List<String> unresolved;
 
-            /**
-             * Returns a list of type names that could not be resolved.
-             *
-             * @return A list of type names that could not be resolved.
-             */
-            public List<String> getUnresolved() {
-                return unresolved;
-            }
+                /**
+                 * The maximum number of work assignments per batch.
+                 */
+                private final int batchSize;
 
-            @Override
-            public int hashCode() {
-                int result = transformed.hashCode();
-                result = 31 * result + failed.hashCode();
-                result = 31 * result + unresolved.hashCode();
-                return result;
-            }
+                /**
+                 * The maximum number of batches whose results are not yet written to the sink.
+                 */
+                private final int maximumPending;
 
-            @Override
-            public boolean equals(Object other) {
-                if (this == other) {
-                    return true;
-                } else if (other == null || getClass() != other.getClass()) {
-                    return false;
-                }
-                Summary summary = (Summary) other;
-                return transformed.equals(summary.transformed)
-                        && failed.equals(summary.failed)
-                        && unresolved.equals(summary.unresolved);
-            }
-        }
+                /**
+                 * The work assignments of the current batch of eager work.
+                 */
+                private List<Callable<? extends Materializable>> eager;
 
-        /**
-         * An abstract base implementation of a plugin engine.
-         */
-        abstract class AbstractBase implements Engine {
+                /**
+                 * The work assignments of the current batch of deferred work.
+                 */
+                private List<Callable<? extends Callable<? extends Materializable>>> deferred;
 
-            /**
-             * {@inheritDoc}
-             */
-            public Engine withErrorHandlers(ErrorHandler... errorHandler) {
-                return withErrorHandlers(Arrays.asList(errorHandler));
-            }
+                /**
+                 * The batches that are not yet written to the sink in the order of their submission.
+                 */
+                private final LinkedList<Future<List<Materializable>>> pending;
 
-            /**
-             * {@inheritDoc}
-             */
-            public Engine withParallelTransformation(int threads) {
-                if (threads < 1) {
-                    throw new IllegalArgumentException("Number of threads must be positive: " + threads);
-                }
-                return with(new Dispatcher.ForParallelTransformation.WithThrowawayExecutorService.Factory(threads));
-            }
+                /**
+                 * The batches of preprocessings of deferred work in the order of their submission.
+                 */
+                private final List<Future<List<Callable<? extends Materializable>>>> preprocessings;
 
-            /**
-             * {@inheritDoc}
-             */
-            public Summary apply(File source, File target, Factory... factory) throws IOException {
-                return apply(source, target, Arrays.asList(factory));
-            }
+                /**
+                 * Creates a new dispatcher that applies transformations in parallel with bounded memory.
+                 *
+                 * @param executor       The executor to delegate any work to.
+                 * @param sink           The target sink.
+                 * @param transformed    A list of all types that are transformed.
+                 * @param failed         A mapping of all types that failed during transformation to the exceptions that explain the failure.
+                 * @param unresolved     A list of type names that could not be resolved.
+                 * @param batchSize      The maximum number of work assignments per batch.
+                 * @param maximumPending The maximum number of batches whose results are not yet written to the sink.
+                 */
+                protected ForBoundedParallelTransformation(Executor executor,
+                                                           Target.Sink sink,
+                                                           List<TypeDescription> transformed,
+                                                           Map<TypeDescription, List<Throwable>> failed,
+                                                           List<String> unresolved,
+                                                           int batchSize,
+                                                           int maximumPending) {
+                    this.executor = executor;
+                    this.sink = sink;
+                    this.transformed = transformed;
+                    this.failed = failed;
+                    this.unresolved = unresolved;
+                    this.batchSize = batchSize;
+                    this.maximumPending = maximumPending;
+                    eager = new ArrayList<Callable<? extends Materializable>>(batchSize);
+                    deferred = new ArrayList<Callable<? extends Callable<? extends Materializable>>>(batchSize);
+                    pending = new LinkedList<Future<List<Materializable>>>();
+                    preprocessings = new ArrayList<Future<List<Callable<? extends Materializable>>>>();
+                }
 
-            /**
-             * {@inheritDoc}
-             */
-            public Summary apply(File source, File target, List<? extends Factory> factories) throws IOException {
-                return apply(source.isDirectory()
-                        ? new Source.ForFolder(source)
-                        : new Source.ForJarFile(source), target.isDirectory()
-                        ? new Target.ForFolder(target)
-                        : new Target.ForJarFile(target), factories);
-            }
+                /**
+                 * {@inheritDoc}
+                 */
+                public void accept(Callable<? extends Callable<? extends Materializable>> work, boolean eager) throws IOException {
+                    if (eager) {
+                        this.eager.add(new ForParallelTransformation.EagerWork(work));
+                        if (this.eager.size() == batchSize) {
+                            submit(this.eager);
+                            this.eager = new ArrayList<Callable<? extends Materializable>>(batchSize);
+                        }
+                    } else {
+                        deferred.add(work);
+                        if (deferred.size() == batchSize) {
+                            preprocess(deferred);
+                            deferred = new ArrayList<Callable<? extends Callable<? extends Materializable>>>(batchSize);
+                        }
+                    }
+                }
 
-            /**
-             * {@inheritDoc}
-             */
-            public Summary apply(Source source, Target target, Factory... factory) throws IOException {
-                return apply(source, target, Arrays.asList(factory));
-            }
-        }
+                /**
+                 * Submits a batch of preprocessings.
+                 *
+                 * @param works The work assignments to preprocess.
+                 */
+                private void preprocess(List<Callable<? extends Callable<? extends Materializable>>> works) {
+                    FutureTask<List<Callable<? extends Materializable>>> future = new FutureTask<List<Callable<? extends Materializable>>>(new PreprocessingBatch(works));
+                    preprocessings.add(future);
+                    executor.execute(future);
+                }
 
-        /**
-         * A default implementation of a plugin engine.
-         */
-        @HashCodeAndEqualsPlugin.Enhance
-        class Default extends AbstractBase {
+                /**
+                 * Submits a batch of work and writes the results of any completed batch to the sink. If the number of pending
+                 * batches exceeds the maximum, this method blocks until the number is back within the bound.
+                 *
+                 * @param works The work assignments to submit.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private void submit(List<Callable<? extends Materializable>> works) throws IOException {
+                    FutureTask<List<Materializable>> future = new FutureTask<List<Materializable>>(new Batch(works));
+                    pending.addLast(future);
+                    executor.execute(future);
+                    drain(false);
+                }
 
-            /**
-             * The Byte Buddy instance to use.
-             */
-            private final ByteBuddy byteBuddy;
+                /**
+                 * Writes the results of pending batches to the sink in the order of their submission.
+                 *
+                 * @param all {@code true} if all pending batches should be written, {@code false} if only completed batches and batches
+                 *            beyond the maximum number of pending batches should be written.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private void drain(boolean all) throws IOException {
+                    while (!pending.isEmpty() && (all || pending.size() > maximumPending || pending.getFirst().isDone())) {
+                        for (Materializable materializable : resolve(pending.removeFirst())) {
+                            materializable.materialize(sink, transformed, failed, unresolved);
+                        }
+                    }
+                }
 
-            /**
-             * The type strategy to use.
-             */
-            private final TypeStrategy typeStrategy;
+                /**
+                 * Resolves the result of a future.
+                 *
+                 * @param future The future to resolve.
+                 * @param <T>    The type of the future's result.
+                 * @return The future's result.
+                 * @throws IOException If the future's computation yielded an I/O exception.
+                 */
+                private static <T> T resolve(Future<T> future) throws IOException {
+                    try {
+                        return future.get();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException(exception);
+                    } catch (ExecutionException exception) {
+                        Throwable cause = exception.getCause();
+                        if (cause instanceof IOException) {
+                            throw (IOException) cause;
+                        } else if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        } else if (cause instanceof Error) {
+                            throw (Error) cause;
+                        } else {
+                            throw new IllegalStateException(cause);
+                        }
+                    }
+                }
 
-            /**
-             * The pool strategy to use.
-             */
-            private final PoolStrategy poolStrategy;
+                /**
+                 * {@inheritDoc}
+                 */
+                public void complete() throws IOException {
+                    if (!eager.isEmpty()) {
+                        submit(eager);
+                        eager = new ArrayList<Callable<? extends Materializable>>(batchSize);
+                    }
+                    if (!deferred.isEmpty()) {
+                        preprocess(deferred);
+                        deferred = new ArrayList<Callable<? extends Callable<? extends Materializable>>>(batchSize);
+                    }
+                    List<Callable<? extends Materializable>> works = new ArrayList<Callable<? extends Materializable>>(batchSize);
+                    for (Future<List<Callable<? extends Materializable>>> preprocessing : preprocessings) {
+                        works.addAll(resolve(preprocessing));
+                    }
+                    preprocessings.clear();
+                    for (int index = 0; index < works.size(); index += batchSize) {
+                        submit(new ArrayList<Callable<? extends Materializable>>(works.subList(index, Math.min(index + batchSize, works.size()))));
+                        for (int cleared = index; cleared < Math.min(index + batchSize, works.size()); cleared++) {
+                            works.set(cleared, null);
+                        }
+                    }
+                    drain(true);
+                }
 
-            /**
-             * The class file locator to use.
-             */
-            private final ClassFileLocator classFileLocator;
+                /**
+                 * {@inheritDoc}
+                 */
+                public void close() {
+                    for (Future<?> future : pending) {
+                        future.cancel(true);
+                    }
+                    for (Future<?> future : preprocessings) {
+                        future.cancel(true);
+                    }
+                }
 
-            /**
-             * The listener to use.
-             */
-            private final Listener listener;
+                /**
+                 * A batch of work that is applied by a single thread.
+                 */
+                @HashCodeAndEqualsPlugin.Enhance
+                protected static class Batch implements Callable<List<Materializable>> {
 
-            /**
-             * The error handler to use.
-             */
-            private final ErrorHandler errorHandler;
+                    /**
+                     * The work assignments of this batch.
+                     */
+                    private final List<Callable<? extends Materializable>> works;
 
-            /**
-             * The dispatcher factory to use.
+                    /**
+                     * Creates a new batch.
+                     *
+                     * @param works The work assignments of this batch.
+                     */
+                    protected Batch(List<Callable<? extends Materializable>> works) {
+                        this.works = works;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public List<Materializable> call() throws Exception {
+                        List<Materializable> materializables = new ArrayList<Materializable>(works.size());
+                        for (Callable<? extends Materializable> work : works) {
+                            materializables.add(work.call());
+                        }
+                        return materializables;
+                    }
+                }
+
+                /**
+                 * A batch of preprocessings that is applied by a single thread.
+                 */
+                @HashCodeAndEqualsPlugin.Enhance
+                protected static class PreprocessingBatch implements Callable<List<Callable<? extends Materializable>>> {
+
+                    /**
+                     * The work assignments of this batch.
+                     */
+                    private final List<Callable<? extends Callable<? extends Materializable>>> works;
+
+                    /**
+                     * Creates a new preprocessing batch.
+                     *
+                     * @param works The work assignments of this batch.
+                     */
+                    protected PreprocessingBatch(List<Callable<? extends Callable<? extends Materializable>>> works) {
+                        this.works = works;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public List<Callable<? extends Materializable>> call() throws Exception {
+                        List<Callable<? extends Materializable>> preprocessed = new ArrayList<Callable<? extends Materializable>>(works.size());
+                        for (Callable<? extends Callable<? extends Materializable>> work : works) {
+                            preprocessed.add(work.call());
+                        }
+                        return preprocessed;
+                    }
+                }
+
+                /**
+                 * A bounded parallel dispatcher that shuts down its executor service upon completion of a plugin engine's application.
+                 */
+                @HashCodeAndEqualsPlugin.Enhance
+                public static class WithThrowawayExecutorService extends ForBoundedParallelTransformation {
+
+                    /**
+                     * The executor service to delegate any work to.
+                     */
+                    private final ExecutorService executorService;
+
+                    /**
+                     * Creates a new dispatcher that applies transformations in parallel with bounded memory and that closes the supplied
+                     * executor service.
+                     *
+                     * @param executorService The executor service to delegate any work to.
+                     * @param sink            The target sink.
+                     * @param transformed     A list of all types that are transformed.
+                     * @param failed          A mapping of all types that failed during transformation to the exceptions that explain the failure.
+                     * @param unresolved      A list of type names that could not be resolved.
+                     * @param batchSize       The maximum number of work assignments per batch.
+                     * @param maximumPending  The maximum number of batches whose results are not yet written to the sink.
+                     */
+                    protected WithThrowawayExecutorService(ExecutorService executorService,
+                                                           Target.Sink sink,
+                                                           List<TypeDescription> transformed,
+                                                           Map<TypeDescription, List<Throwable>> failed,
+                                                           List<String> unresolved,
+                                                           int batchSize,
+                                                           int maximumPending) {
+                        super(executorService, sink, transformed, failed, unresolved, batchSize, maximumPending);
+                        this.executorService = executorService;
+                    }
+
+                    @Override
+                    public void close() {
+                        try {
+                            super.close();
+                        } finally {
+                            executorService.shutdown();
+                        }
+                    }
+
+                    /**
+                     * A factory for a bounded parallel dispatcher that creates a new executor service on each plugin engine application.
+                     */
+                    @HashCodeAndEqualsPlugin.Enhance
+                    public static class Factory implements Dispatcher.Factory {
+
+                        /**
+                         * The amount of threads to create in the throw-away executor service.
+                         */
+                        private final int threads;
+
+                        /**
+                         * The maximum number of work assignments per batch.
+                         */
+                        private final int batchSize;
+
+                        /**
+                         * The maximum number of batches whose results are not yet written to the sink.
+                         */
+                        private final int maximumPending;
+
+                        /**
+                         * Creates a new factory.
+                         *
+                         * @param threads        The amount of threads to create in the throw-away executor service.
+                         * @param batchSize      The maximum number of work assignments per batch.
+                         * @param maximumPending The maximum number of batches whose results are not yet written to the sink.
+                         */
+                        public Factory(int threads, int batchSize, int maximumPending) {
+                            if (threads < 1) {
+                                throw new IllegalArgumentException("Number of threads must be positive: " + threads);
+                            } else if (batchSize < 1) {
+                                throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+                            } else if (maximumPending < 1) {
+                                throw new IllegalArgumentException("Maximum number of pending batches must be positive: " + maximumPending);
+                            }
+                            this.threads = threads;
+                            this.batchSize = batchSize;
+                            this.maximumPending = maximumPending;
+                        }
+
+                        /**
+                         * {@inheritDoc}
+                         */
+                        public Dispatcher make(Target.Sink sink,
+                                               List<TypeDescription> transformed,
+                                               Map<TypeDescription, List<Throwable>> failed,
+                                               List<String> unresolved) {
+                            return new WithThrowawayExecutorService(Executors.newFixedThreadPool(threads),
+                                    sink,
+                                    transformed,
+                                    failed,
+                                    unresolved,
+                                    batchSize,
+                                    maximumPending);
+                        }
+                    }
+                }
+
+                /**
+                 * A factory for a dispatcher that uses a given executor for bounded parallel dispatching.
+                 */
+                @HashCodeAndEqualsPlugin.Enhance
+                public static class Factory implements Dispatcher.Factory {
+
+                    /**
+                     * The executor to use.
+                     */
+                    private final Executor executor;
+
+                    /**
+                     * The maximum number of work assignments per batch.
+                     */
+                    private final int batchSize;
+
+                    /**
+                     * The maximum number of batches whose results are not yet written to the sink.
+                     */
+                    private final int maximumPending;
+
+                    /**
+                     * Creates a new dispatcher factory for bounded parallel dispatching using the supplied executor.
+                     *
+                     * @param executor       The executor to use.
+                     * @param batchSize      The maximum number of work assignments per batch.
+                     * @param maximumPending The maximum number of batches whose results are not yet written to the sink.
+                     */
+                    public Factory(Executor executor, int batchSize, int maximumPending) {
+                        if (batchSize < 1) {
+                            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+                        } else if (maximumPending < 1) {
+                            throw new IllegalArgumentException("Maximum number of pending batches must be positive: " + maximumPending);
+                        }
+                        this.executor = executor;
+                        this.batchSize = batchSize;
+                        this.maximumPending = maximumPending;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public Dispatcher make(Target.Sink sink,
+                                           List<TypeDescription> transformed,
+                                           Map<TypeDescription, List<Throwable>> failed,
+                                           List<String> unresolved) {
+                        return new ForBoundedParallelTransformation(executor, sink, transformed, failed, unresolved, batchSize, maximumPending);
+                    }
+                }
+            }
+        }
+
+        /**
+         * An incremental strategy determines if a type's class file is transformed anew or if it is retained as the result of a previous
+         * application of a plugin engine. A plugin engine only applies its plugins to types that cannot be retained.
+         */
+        interface IncrementalStrategy {
+
+            /**
+             * Begins an application of a plugin engine.
+             *
+             * @param plugins The plugins that are applied by the plugin engine.
+             * @return A session that represents this application of the plugin engine.
+             * @throws IOException If an I/O error occurs.
+             */
+            Session begin(List<? extends Plugin> plugins) throws IOException;
+
+            /**
+             * A session of an incremental strategy that represents a single application of a plugin engine.
+             */
+            interface Session {
+
+                /**
+                 * Returns {@code true} if this session requires to register the class files of a source prior to an application.
+                 *
+                 * @return {@code true} if this session requires to register the class files of a source prior to an application.
+                 */
+                boolean isTracking();
+
+                /**
+                 * Registers the class file of a type that is contained by the source of an application.
+                 *
+                 * @param typeName             The name of the type.
+                 * @param binaryRepresentation The type's class file.
+                 */
+                void register(String typeName, byte[] binaryRepresentation);
+
+                /**
+                 * Resolves the names of all types that can be retained without an application of the plugin engine's plugins.
+                 * This method must only be invoked after all class files of the source were registered.
+                 *
+                 * @return The names of all types that can be retained without an application of the plugin engine's plugins.
+                 */
+                Set<String> resolve();
+
+                /**
+                 * Wraps a sink to record any class file that is written during an application.
+                 *
+                 * @param sink The sink to wrap.
+                 * @return A sink that records any class file that is written to it.
+                 */
+                Target.Sink wrap(Target.Sink sink);
+
+                /**
+                 * Completes this session after a successful application.
+                 *
+                 * @param typePool The type pool that was used for describing the source's types.
+                 * @param excluded The names of all types that failed to transform or that could not be resolved.
+                 * @throws IOException If an I/O error occurs.
+                 */
+                void complete(TypePool typePool, Set<String> excluded) throws IOException;
+            }
+
+            /**
+             * An incremental strategy that transforms all types of a source upon every application.
+             */
+            enum Disabled implements IncrementalStrategy, Session {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Session begin(List<? extends Plugin> plugins) {
+                    return this;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public boolean isTracking() {
+                    return false;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void register(String typeName, byte[] binaryRepresentation) {
+                    /* do nothing */
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Set<String> resolve() {
+                    return Collections.emptySet();
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Target.Sink wrap(Target.Sink sink) {
+                    return sink;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void complete(TypePool typePool, Set<String> excluded) {
+                    /* do nothing */
+                }
+            }
+
+            /**
+             * <p>
+             * An incremental strategy that stores a manifest of a previous application in a file. The manifest contains a checksum of
+             * the applied plugins, of a user configuration and of a class path and a checksum of every type's class file in the source and
+             * in the target together with the names of the type's super class and interfaces.
+             * </p>
+             * <p>
+             * A type is retained without applying any plugin if its class file is unchanged, if neither the plugins, the configuration nor
+             * the class path changed and if none of its super types within the source changed. The class path should contain the class path
+             * of the plugins, including their dependencies, and the class path of the transformed source, excluding the source itself. For
+             * each class path element, the size and the time of the last modification of every contained file is considered. Since a target cannot be read, a class file can only be
+             * retained if it equals the class file that was previously written to the target. This is the case if a type was not transformed
+             * previously or if the source and the target are the same location, as for a typical build tool integration. Otherwise, a type
+             * is transformed anew. Changes of types that are not contained by the source are not tracked. If such a change might alter the
+             * result of a transformation, it should be represented by the configuration.
+             * </p>
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            class ForFile implements IncrementalStrategy {
+
+                /**
+                 * The magic number that introduces a manifest.
+                 */
+                private static final int MAGIC = 0xB7B0D1D6;
+
+                /**
+                 * The version of the format of a manifest.
+                 */
+                private static final int VERSION = 1;
+
+                /**
+                 * The algorithm that is used for computing checksums.
+                 */
+                private static final String ALGORITHM = "SHA-256";
+
+                /**
+                 * The file that contains the manifest.
+                 */
+                private final File file;
+
+                /**
+                 * A user configuration that is considered when determining if a previous application is still valid.
+                 */
+                private final String configuration;
+
+                /**
+                 * The class path elements that are considered when determining if a previous application is still valid.
+                 */
+                private final List<File> classPath;
+
+                /**
+                 * Creates a new incremental strategy that stores a manifest in a file.
+                 *
+                 * @param file The file that contains the manifest.
+                 */
+                public ForFile(File file) {
+                    this(file, "");
+                }
+
+                /**
+                 * Creates a new incremental strategy that stores a manifest in a file.
+                 *
+                 * @param file          The file that contains the manifest.
+                 * @param configuration A user configuration that is considered when determining if a previous application is still valid.
+                 */
+                public ForFile(File file, String configuration) {
+                    this(file, configuration, Collections.<File>emptyList());
+                }
+
+                /**
+                 * Creates a new incremental strategy that stores a manifest in a file.
+                 *
+                 * @param file          The file that contains the manifest.
+                 * @param configuration A user configuration that is considered when determining if a previous application is still valid.
+                 * @param classPath     The class path elements that are considered when determining if a previous application is still valid.
+                 */
+                public ForFile(File file, String configuration, List<? extends File> classPath) {
+                    this.file = file;
+                    this.configuration = configuration;
+                    this.classPath = new ArrayList<File>(classPath);
+                }
+
+                /**
+                 * Computes a checksum for a binary representation.
+                 *
+                 * @param binaryRepresentation The binary representation.
+                 * @return The checksum of the binary representation.
+                 */
+                protected static byte[] checksum(byte[] binaryRepresentation) {
+                    try {
+                        return MessageDigest.getInstance(ALGORITHM).digest(binaryRepresentation);
+                    } catch (NoSuchAlgorithmException exception) {
+                        throw new IllegalStateException("Cannot compute checksum using " + ALGORITHM, exception);
+                    }
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Session begin(List<? extends Plugin> plugins) throws IOException {
+                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                    DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+                    dataOutputStream.writeUTF(configuration);
+                    for (File element : classPath) {
+                        dataOutputStream.writeUTF(element.getAbsolutePath());
+                        fingerprint(dataOutputStream, element);
+                    }
+                    for (Plugin plugin : plugins) {
+                        Class<?> type = plugin.getClass();
+                        dataOutputStream.writeUTF(type.getName());
+                        ClassFileLocator.Resolution resolution = ClassFileLocator.ForClassLoader.of(type.getClassLoader()).locate(type.getName());
+                        if (resolution.isResolved()) {
+                            dataOutputStream.write(resolution.resolve());
+                        } else {
+                            dataOutputStream.writeLong(System.nanoTime());
+                        }
+                    }
+                    dataOutputStream.close();
+                    byte[] fingerprint = checksum(outputStream.toByteArray());
+                    return new TrackingSession(file, fingerprint, read(file, fingerprint));
+                }
+
+                /**
+                 * Writes the fingerprint of a class path element, consisting of the size and the time of the last modification of
+                 * every file that is contained by the element.
+                 *
+                 * @param outputStream The output stream to write to.
+                 * @param file         The class path element or a file contained by it.
+                 * @throws IOException If an I/O error occurs.
+                 */
+                private static void fingerprint(DataOutputStream outputStream, File file) throws IOException {
+                    if (file.isDirectory()) {
+                        String[] names = file.list();
+                        if (names == null) {
+                            throw new IOException("Cannot list files of " + file);
+                        }
+                        Arrays.sort(names);
+                        outputStream.writeInt(names.length);
+                        for (String name : names) {
+                            outputStream.writeUTF(name);
+                            fingerprint(outputStream, new File(file, name));
+                        }
+                    } else if (file.isFile()) {
+                        outputStream.writeInt(-1);
+                        outputStream.writeLong(file.length());
+                        outputStream.writeLong(file.lastModified());
+                    } else {
+                        outputStream.writeInt(-2);
+                    }
+                }
+
+                /**
+                 * Reads a manifest. If the manifest cannot be read or if it was written for another fingerprint, an empty manifest is returned.
+                 *
+                 * @param file        The file that contains the manifest.
+                 * @param fingerprint The fingerprint of the current application.
+                 * @return The entries of the manifest by their type names.
+                 */
+                private static Map<String, Entry> read(File file, byte[] fingerprint) {
+                    Map<String, Entry> entries = new HashMap<String, Entry>();
+                    if (!file.isFile()) {
+                        return entries;
+                    }
+                    try {
+                        DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+                        try {
+                            if (inputStream.readInt() != MAGIC
+                                    || inputStream.readInt() != VERSION
+                                    || !Arrays.equals(readChecksum(inputStream), fingerprint)) {
+                                return entries;
+                            }
+                            int count = inputStream.readInt();
+                            for (int index = 0; index < count; index++) {
+                                String name = inputStream.readUTF();
+                                byte[] input = readChecksum(inputStream), output = readChecksum(inputStream);
+                                int superTypes = inputStream.readInt();
+                                List<String> superTypeNames = new ArrayList<String>(superTypes);
+                                for (int superType = 0; superType < superTypes; superType++) {
+                                    superTypeNames.add(inputStream.readUTF());
+                                }
+                                entries.put(name, new Entry(input, output, superTypeNames));
+                            }
+                        } finally {
+                            inputStream.close();
+                        }
+                    } catch (IOException ignored) {
+                        entries.clear();
+                    }
+                    return entries;
+                }
+
+                /**
+                 * Reads a checksum from a data input stream.
+                 *
+                 * @param inputStream The input stream to read from.
+                 * @return The checksum that was read.
+                 * @throws IOException If an I/O error occurs.
+                 */
+                private static byte[] readChecksum(DataInputStream inputStream) throws IOException {
+                    byte[] checksum = new byte[inputStream.readUnsignedShort()];
+                    inputStream.readFully(checksum);
+                    return checksum;
+                }
+
+                /**
+                 * Writes a checksum to a data output stream.
+                 *
+                 * @param outputStream The output stream to write to.
+                 * @param checksum     The checksum to write.
+                 * @throws IOException If an I/O error occurs.
+                 */
+                private static void writeChecksum(DataOutputStream outputStream, byte[] checksum) throws IOException {
+                    outputStream.writeShort(checksum.length);
+                    outputStream.write(checksum);
+                }
+
+                /**
+                 * An entry of a manifest that describes the class file of a type.
+                 */
+                protected static class Entry {
+
+                    /**
+                     * The checksum of the type's class file in the source.
+                     */
+                    private final byte[] input;
+
+                    /**
+                     * The checksum of the type's class file in the target.
+                     */
+                    private final byte[] output;
+
+                    /**
+                     * The names of the type's super class and interfaces.
+                     */
+                    private final List<String> superTypeNames;
+
+                    /**
+                     * Creates a new entry.
+                     *
+                     * @param input          The checksum of the type's class file in the source.
+                     * @param output         The checksum of the type's class file in the target.
+                     * @param superTypeNames The names of the type's super class and interfaces.
+                     */
+                    protected Entry(byte[] input, byte[] output, List<String> superTypeNames) {
+                        this.input = input;
+                        this.output = output;
+                        this.superTypeNames = superTypeNames;
+                    }
+                }
+
+                /**
+                 * A session of an incremental strategy that stores its manifest in a file.
+                 */
+                protected static class TrackingSession implements Session {
+
+                    /**
+                     * The file that contains the manifest.
+                     */
+                    private final File file;
+
+                    /**
+                     * The fingerprint of the applied plugins and configuration.
+                     */
+                    private final byte[] fingerprint;
+
+                    /**
+                     * The entries of the previous manifest by their type names.
+                     */
+                    private final Map<String, Entry> previous;
+
+                    /**
+                     * The checksums of the source's class files by their type names.
+                     */
+                    private final Map<String, byte[]> inputs;
+
+                    /**
+                     * The checksums of the class files that were written to the target by their type names.
+                     */
+                    private final ConcurrentMap<String, byte[]> outputs;
+
+                    /**
+                     * The names of all types that are retained without an application of the plugin engine's plugins.
+                     */
+                    private final Set<String> retained;
+
+                    /**
+                     * Creates a new session.
+                     *
+                     * @param file        The file that contains the manifest.
+                     * @param fingerprint The fingerprint of the applied plugins and configuration.
+                     * @param previous    The entries of the previous manifest by their type names.
+                     */
+                    protected TrackingSession(File file, byte[] fingerprint, Map<String, Entry> previous) {
+                        this.file = file;
+                        this.fingerprint = fingerprint;
+                        this.previous = previous;
+                        inputs = new HashMap<String, byte[]>();
+                        outputs = new ConcurrentHashMap<String, byte[]>();
+                        retained = new HashSet<String>();
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public boolean isTracking() {
+                        return true;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public void register(String typeName, byte[] binaryRepresentation) {
+                        inputs.put(typeName, checksum(binaryRepresentation));
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public Set<String> resolve() {
+                        Set<String> changed = new HashSet<String>();
+                        for (String name : inputs.keySet()) {
+                            if (!previous.containsKey(name)) {
+                                changed.add(name);
+                            }
+                        }
+                        Map<String, List<String>> subTypeNames = new HashMap<String, List<String>>();
+                        for (Map.Entry<String, Entry> entry : previous.entrySet()) {
+                            byte[] input = inputs.get(entry.getKey());
+                            if (input == null || !Arrays.equals(input, entry.getValue().input) && !Arrays.equals(input, entry.getValue().output)) {
+                                changed.add(entry.getKey());
+                            }
+                            for (String superTypeName : entry.getValue().superTypeNames) {
+                                List<String> names = subTypeNames.get(superTypeName);
+                                if (names == null) {
+                                    names = new ArrayList<String>();
+                                    subTypeNames.put(superTypeName, names);
+                                }
+                                names.add(entry.getKey());
+                            }
+                        }
+                        LinkedList<String> queue = new LinkedList<String>(changed);
+                        while (!queue.isEmpty()) {
+                            List<String> names = subTypeNames.get(queue.removeFirst());
+                            if (names != null) {
+                                for (String name : names) {
+                                    if (changed.add(name)) {
+                                        queue.add(name);
+                                    }
+                                }
+                            }
+                        }
+                        for (Map.Entry<String, byte[]> entry : inputs.entrySet()) {
+                            Entry recorded = previous.get(entry.getKey());
+                            if (recorded != null && !changed.contains(entry.getKey()) && Arrays.equals(entry.getValue(), recorded.output)) {
+                                retained.add(entry.getKey());
+                            }
+                        }
+                        return retained;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public Target.Sink wrap(Target.Sink sink) {
+                        return new RecordingSink(sink);
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public void complete(TypePool typePool, Set<String> excluded) throws IOException {
+                        Map<String, Entry> entries = new HashMap<String, Entry>();
+                        for (String name : retained) {
+                            entries.put(name, previous.get(name));
+                        }
+                        for (Map.Entry<String, byte[]> entry : outputs.entrySet()) {
+                            if (excluded.contains(entry.getKey())) {
+                                continue;
+                            }
+                            byte[] input = inputs.get(entry.getKey());
+                            List<String> superTypeNames = new ArrayList<String>();
+                            if (input == null) {
+                                input = entry.getValue();
+                            } else {
+                                TypePool.Resolution resolution = typePool.describe(entry.getKey());
+                                if (!resolution.isResolved()) {
+                                    continue;
+                                }
+                                TypeDescription typeDescription = resolution.resolve();
+                                TypeDescription.Generic superClass = typeDescription.getSuperClass();
+                                if (superClass != null) {
+                                    superTypeNames.add(superClass.asErasure().getName());
+                                }
+                                for (TypeDescription interfaceType : typeDescription.getInterfaces().asErasures()) {
+                                    superTypeNames.add(interfaceType.getName());
+                                }
+                            }
+                            entries.put(entry.getKey(), new Entry(input, entry.getValue(), superTypeNames));
+                        }
+                        File temporary = new File(file.getPath() + ".tmp");
+                        DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)));
+                        try {
+                            outputStream.writeInt(MAGIC);
+                            outputStream.writeInt(VERSION);
+                            writeChecksum(outputStream, fingerprint);
+                            outputStream.writeInt(entries.size());
+                            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                                outputStream.writeUTF(entry.getKey());
+                                writeChecksum(outputStream, entry.getValue().input);
+                                writeChecksum(outputStream, entry.getValue().output);
+                                outputStream.writeInt(entry.getValue().superTypeNames.size());
+                                for (String superTypeName : entry.getValue().superTypeNames) {
+                                    outputStream.writeUTF(superTypeName);
+                                }
+                            }
+                        } finally {
+                            outputStream.close();
+                        }
+                        if (file.exists() && !file.delete() || !temporary.renameTo(file)) {
+                            throw new IOException("Cannot replace manifest file: " + file);
+                        }
+                    }
+
+                    /**
+                     * A sink that records the checksums of all class files that are written to it.
+                     */
+                    protected class RecordingSink implements Target.Sink {
+
+                        /**
+                         * The actual sink.
+                         */
+                        private final Target.Sink sink;
+
+                        /**
+                         * Creates a new recording sink.
+                         *
+                         * @param sink The actual sink.
+                         */
+                        protected RecordingSink(Target.Sink sink) {
+                            this.sink = sink;
+                        }
+
+                        /**
+                         * {@inheritDoc}
+                         */
+                        public void store(Map<TypeDescription, byte[]> binaryRepresentations) throws IOException {
+                            sink.store(binaryRepresentations);
+                            for (Map.Entry<TypeDescription, byte[]> entry : binaryRepresentations.entrySet()) {
+                                outputs.put(entry.getKey().getName(), checksum(entry.getValue()));
+                            }
+                        }
+
+                        /**
+                         * {@inheritDoc}
+                         */
+                        public void retain(Source.Element element) throws IOException {
+                            sink.retain(element);
+                            String name = element.getName();
+                            while (name.startsWith("/")) {
+                                name = name.substring(1);
+                            }
+                            if (name.endsWith(CLASS_FILE_EXTENSION)) {
+                                String typeName = name.substring(0, name.length() - CLASS_FILE_EXTENSION.length()).replace('/', '.');
+                                byte[] input = inputs.get(typeName);
+                                if (input != null) {
+                                    outputs.put(typeName, input);
+                                }
+                            }
+                        }
+
+                        /**
+                         * {@inheritDoc}
+                         */
+                        public void close() throws IOException {
+                            sink.close();
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * A summary of the application of a {@link Engine} to a source and target.
+         */
+        class Summary {
+
+            /**
+             * A list of all types that were transformed.
+             */
+            private final List<TypeDescription> transformed;
+
+            /**
+             * A mapping of all types that failed during transformation to the exceptions that explain the failure.
+             */
+            private final Map<TypeDescription, List<Throwable>> failed;
+
+            /**
+             * A list of type names that could not be resolved.
+             */
+            private final List<String> unresolved;
+
+            /**
+             * Creates a new summary.
+             *
+             * @param transformed A list of all types that were transformed.
+             * @param failed      A mapping of all types that failed during transformation to the exceptions that explain the failure.
+             * @param unresolved  A list of type names that could not be resolved.
+             */
+            public Summary(List<TypeDescription> transformed, Map<TypeDescription, List<Throwable>> failed, List<String> unresolved) {
+                this.transformed = transformed;
+                this.failed = failed;
+                this.unresolved = unresolved;
+            }
+
+            /**
+             * Returns a list of all types that were transformed.
+             *
+             * @return A list of all types that were transformed.
+             */
+            public List<TypeDescription> getTransformed() {
+                return transformed;
+            }
+
+            /**
+             * Returns a mapping of all types that failed during transformation to the exceptions that explain the failure.
+             *
+             * @return A mapping of all types that failed during transformation to the exceptions that explain the failure.
+             */
+            public Map<TypeDescription, List<Throwable>> getFailed() {
+                return failed;
+            }
+
+            /**
+             * Returns a list of type names that could not be resolved.
+             *
+             * @return A list of type names that could not be resolved.
+             */
+            public List<String> getUnresolved() {
+                return unresolved;
+            }
+
+            @Override
+            public int hashCode() {
+                int result = transformed.hashCode();
+                result = 31 * result + failed.hashCode();
+                result = 31 * result + unresolved.hashCode();
+                return result;
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) {
+                    return true;
+                } else if (other == null || getClass() != other.getClass()) {
+                    return false;
+                }
+                Summary summary = (Summary) other;
+                return transformed.equals(summary.transformed)
+                        && failed.equals(summary.failed)
+                        && unresolved.equals(summary.unresolved);
+            }
+        }
+
+        /**
+         * An abstract base implementation of a plugin engine.
+         */
+        abstract class AbstractBase implements Engine {
+
+            /**
+             * {@inheritDoc}
+             */
+            public Engine withErrorHandlers(ErrorHandler... errorHandler) {
+                return withErrorHandlers(Arrays.asList(errorHandler));
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Engine withParallelTransformation(int threads) {
+                if (threads < 1) {
+                    throw new IllegalArgumentException("Number of threads must be positive: " + threads);
+                }
+                return with(new Dispatcher.ForParallelTransformation.WithThrowawayExecutorService.Factory(threads));
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Summary apply(File source, File target, Factory... factory) throws IOException {
+                return apply(source, target, Arrays.asList(factory));
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Summary apply(File source, File target, List<? extends Factory> factories) throws IOException {
+                return apply(source.isDirectory()
+                        ? new Source.ForFolder(source)
+                        : new Source.ForJarFile(source), target.isDirectory()
+                        ? new Target.ForFolder(target)
+                        : new Target.ForJarFile(target), factories);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Summary apply(Source source, Target target, Factory... factory) throws IOException {
+                return apply(source, target, Arrays.asList(factory));
+            }
+        }
+
+        /**
+         * A default implementation of a plugin engine.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class Default extends AbstractBase {
+
+            /**
+             * The Byte Buddy instance to use.
+             */
+            private final ByteBuddy byteBuddy;
+
+            /**
+             * The type strategy to use.
+             */
+            private final TypeStrategy typeStrategy;
+
+            /**
+             * The pool strategy to use.
+             */
+            private final PoolStrategy poolStrategy;
+
+            /**
+             * The class file locator to use.
+             */
+            private final ClassFileLocator classFileLocator;
+
+            /**
+             * The listener to use.
+             */
+            private final Listener listener;
+
+            /**
+             * The error handler to use.
+             */
+            private final ErrorHandler errorHandler;
+
+            /**
+             * The dispatcher factory to use.
              */
             private final Dispatcher.Factory dispatcherFactory;
 
+            /**
+             * The incremental strategy to use.
+             */
+            private final IncrementalStrategy incrementalStrategy;
+
             /**
              * A matcher for types to exclude from transformation.
              */
@@ -4069,20 +5124,22 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                                 ErrorHandler.Enforcing.ALL_TYPES_RESOLVED,
                                 ErrorHandler.Enforcing.NO_LIVE_INITIALIZERS),
                         Dispatcher.ForSerialTransformation.Factory.INSTANCE,
+                        IncrementalStrategy.Disabled.INSTANCE,
                         none());
             }
 
             /**
              * Creates a new default plugin engine.
              *
-             * @param byteBuddy          The Byte Buddy instance to use.
-             * @param typeStrategy       The type strategy to use.
-             * @param poolStrategy       The pool strategy to use.
-             * @param classFileLocator   The class file locator to use.
-             * @param listener           The listener to use.
-             * @param errorHandler       The error handler to use.
-             * @param dispatcherFactory  The dispatcher factory to use.
-             * @param ignoredTypeMatcher A matcher for types to exclude from transformation.
+             * @param byteBuddy           The Byte Buddy instance to use.
+             * @param typeStrategy        The type strategy to use.
+             * @param poolStrategy        The pool strategy to use.
+             * @param classFileLocator    The class file locator to use.
+             * @param listener            The listener to use.
+             * @param errorHandler        The error handler to use.
+             * @param dispatcherFactory   The dispatcher factory to use.
+             * @param incrementalStrategy The incremental strategy to use.
+             * @param ignoredTypeMatcher  A matcher for types to exclude from transformation.
              */
             protected Default(ByteBuddy byteBuddy,
                               TypeStrategy typeStrategy,
@@ -4091,6 +5148,7 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                               Listener listener,
                               ErrorHandler errorHandler,
                               Dispatcher.Factory dispatcherFactory,
+                              IncrementalStrategy incrementalStrategy,
                               ElementMatcher.Junction<? super TypeDescription> ignoredTypeMatcher) {
                 this.byteBuddy = byteBuddy;
                 this.typeStrategy = typeStrategy;
@@ -4099,6 +5157,7 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                 this.listener = listener;
                 this.errorHandler = errorHandler;
                 this.dispatcherFactory = dispatcherFactory;
+                this.incrementalStrategy = incrementalStrategy;
                 this.ignoredTypeMatcher = ignoredTypeMatcher;
             }
 
@@ -4145,6 +5204,7 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                         listener,
                         errorHandler,
                         dispatcherFactory,
+                        incrementalStrategy,
                         ignoredTypeMatcher);
             }
 
@@ -4159,6 +5219,7 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                         listener,
                         errorHandler,
                         dispatcherFactory,
+                        incrementalStrategy,
                         ignoredTypeMatcher);
             }
 
@@ -4173,6 +5234,7 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                         listener,
                         errorHandler,
                         dispatcherFactory,
+                        incrementalStrategy,
                         ignoredTypeMatcher);
             }
 
@@ -4187,6 +5249,7 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                         listener,
                         errorHandler,
                         dispatcherFactory,
+                        incrementalStrategy,
                         ignoredTypeMatcher);
             }
 
@@ -4201,6 +5264,7 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                         new Listener.Compound(this.listener, listener),
                         errorHandler,
                         dispatcherFactory,
+                        incrementalStrategy,
                         ignoredTypeMatcher);
             }
 
@@ -4215,6 +5279,7 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                         listener,
                         Listener.NoOp.INSTANCE,
                         dispatcherFactory,
+                        incrementalStrategy,
                         ignoredTypeMatcher);
             }
 
@@ -4229,6 +5294,7 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                         listener,
                         new ErrorHandler.Compound(errorHandlers),
                         dispatcherFactory,
+                        incrementalStrategy,
                         ignoredTypeMatcher);
             }
 
@@ -4243,6 +5309,22 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                         listener,
                         errorHandler,
                         dispatcherFactory,
+                        incrementalStrategy,
+                        ignoredTypeMatcher);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Engine withIncrementalStrategy(IncrementalStrategy incrementalStrategy) {
+                return new Default(byteBuddy,
+                        typeStrategy,
+                        poolStrategy,
+                        classFileLocator,
+                        listener,
+                        errorHandler,
+                        dispatcherFactory,
+                        incrementalStrategy,
                         ignoredTypeMatcher);
             }
 
@@ -4257,6 +5339,7 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                         listener,
                         errorHandler,
                         dispatcherFactory,
+                        incrementalStrategy,
                         ignoredTypeMatcher.<TypeDescription>or(matcher));
             }
 
@@ -4279,15 +5362,37 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                             preprocessors.add((WithPreprocessor) plugin);
                         }
                     }
+                    IncrementalStrategy.Session session = incrementalStrategy.begin(plugins);
                     Source.Origin origin = source.read();
                     try {
                         ClassFileLocator classFileLocator = new ClassFileLocator.Compound(origin.getClassFileLocator(), this.classFileLocator);
                         TypePool typePool = poolStrategy.typePool(classFileLocator);
+                        Set<String> retained;
+                        if (session.isTracking()) {
+                            for (Source.Element element : origin) {
+                                String name = element.getName();
+                                while (name.startsWith("/")) {
+                                    name = name.substring(1);
+                                }
+                                if (name.endsWith(CLASS_FILE_EXTENSION)) {
+                                    InputStream inputStream = element.getInputStream();
+                                    try {
+                                        session.register(name.substring(0, name.length() - CLASS_FILE_EXTENSION.length()).replace('/', '.'),
+                                                StreamDrainer.DEFAULT.drain(inputStream));
+                                    } finally {
+                                        inputStream.close();
+                                    }
+                                }
+                            }
+                            retained = session.resolve();
+                        } else {
+                            retained = Collections.emptySet();
+                        }
                         Manifest manifest = origin.getManifest();
                         listener.onManifest(manifest);
                         Target.Sink sink = target.write(manifest);
                         try {
-                            Dispatcher dispatcher = dispatcherFactory.make(sink, transformed, failed, unresolved);
+                            Dispatcher dispatcher = dispatcherFactory.make(session.wrap(sink), transformed, failed, unresolved);
                             try {
                                 for (Source.Element element : origin) {
                                     if (Thread.interrupted()) {
@@ -4299,13 +5404,18 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                                         name = name.substring(1);
                                     }
                                     if (name.endsWith(CLASS_FILE_EXTENSION)) {
-                                        dispatcher.accept(new Preprocessor(element,
-                                                name.substring(0, name.length() - CLASS_FILE_EXTENSION.length()).replace('/', '.'),
-                                                classFileLocator,
-                                                typePool,
-                                                listener,
-                                                plugins,
-                                                preprocessors), preprocessors.isEmpty());
+                                        String typeName = name.substring(0, name.length() - CLASS_FILE_EXTENSION.length()).replace('/', '.');
+                                        if (retained.contains(typeName)) {
+                                            sink.retain(element);
+                                        } else {
+                                            dispatcher.accept(new Preprocessor(element,
+                                                    typeName,
+                                                    classFileLocator,
+                                                    typePool,
+                                                    listener,
+                                                    plugins,
+                                                    preprocessors), preprocessors.isEmpty());
+                                        }
                                     } else if (!name.equals(JarFile.MANIFEST_NAME)) {
                                         listener.onResource(name);
                                         sink.retain(element);
@@ -4321,6 +5431,13 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                         } finally {
                             sink.close();
                         }
+                        if (session.isTracking()) {
+                            Set<String> excluded = new HashSet<String>(unresolved);
+                            for (TypeDescription typeDescription : failed.keySet()) {
+                                excluded.add(typeDescription.getName());
+                            }
+                            session.complete(typePool, excluded);
+                        }
                     } finally {
                         origin.close();
                     }
@@ -34,12 +34,19 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.ProtectionDomain;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -157,6 +164,40 @@ public interface ClassFileLocator extends Closeable {
         }
     }
 
+    /**
+     * <p>
+     * A class file locator that is able to compute a fingerprint of a class file from metadata, without reading the class file.
+     * A fingerprint changes whenever the class file changes, for example if a jar file entry's checksum or if a file's size or
+     * modification time changes. Fingerprints of different class file locators are not comparable.
+     * </p>
+     * <p>
+     * <b>Note</b>: A fingerprint is non-negative. If a class file is located by a fingerprinting class file locator, it must
+     * also be located when calling {@link ClassFileLocator#locate(String)}.
+     * </p>
+     */
+    interface Fingerprinting extends ClassFileLocator {
+
+        /**
+         * Indicates that a class file is not located by a class file locator.
+         */
+        long ABSENT = -1L;
+
+        /**
+         * Indicates that a class file's fingerprint cannot be computed without reading the class file.
+         */
+        long UNKNOWN = -2L;
+
+        /**
+         * Computes the fingerprint of the class file of a given type.
+         *
+         * @param name The name of the type for which to compute a fingerprint.
+         * @return The class file's non-negative fingerprint, {@link Fingerprinting#ABSENT} if the class file is not located or
+         * {@link Fingerprinting#UNKNOWN} if the fingerprint cannot be computed without reading the class file.
+         * @throws IOException If an I/O exception occurs.
+         */
+        long fingerprint(String name) throws IOException;
+    }
+
     /**
      * A class file locator that cannot locate any class files.
      */
@@ -732,10 +773,11 @@ public interface ClassFileLocator extends Closeable {
     }
 
     /**
-     * A class file locator that locates classes within a Java <i>jar</i> file.
+     * A class file locator that locates classes within a Java <i>jar</i> file. A class file's fingerprint is computed from its
+     * entry's checksum and size as it is recorded in the jar file's central directory.
      */
     @HashCodeAndEqualsPlugin.Enhance
-    class ForJarFile implements ClassFileLocator {
+    class ForJarFile implements Fingerprinting {
 
         /**
          * A list of potential locations of the runtime jar for different platforms.
@@ -842,6 +884,20 @@ public interface ClassFileLocator extends Closeable {
             }
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        public long fingerprint(String name) {
+            ZipEntry zipEntry = jarFile.getEntry(name.replace('.', '/') + CLASS_FILE_EXTENSION);
+            if (zipEntry == null) {
+                return ABSENT;
+            } else if (zipEntry.getCrc() == -1L || zipEntry.getSize() < 0L || zipEntry.getSize() > Integer.MAX_VALUE) {
+                return UNKNOWN;
+            } else {
+                return zipEntry.getCrc() | zipEntry.getSize() << 32;
+            }
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -850,6 +906,406 @@ public interface ClassFileLocator extends Closeable {
         }
     }
 
+    /**
+     * <p>
+     * A class file locator that memory-maps a jar file and reads class files directly from the mapped region. The jar file's
+     * central directory is indexed once upon creation. Stored entries are read as slices of the mapped file and deflated
+     * entries are inflated using a pool of {@link Inflater}s.
+     * </p>
+     * <p>
+     * <b>Note</b>: This locator does not support jar files that are larger than {@link Integer#MAX_VALUE} bytes or that require
+     * the <i>ZIP64</i> format. Mapped regions are only released once they are garbage collected, even after the locator is closed.
+     * Entry names are decoded as <i>UTF-8</i> if an entry sets the language encoding flag and using a given charset otherwise,
+     * what is <i>UTF-8</i> by default, similarly to a {@link ZipFile}. A class file's fingerprint is computed from its entry's
+     * checksum and size, similarly to {@link ForJarFile}.
+     * </p>
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    class ForMappedJarFile implements Fingerprinting {
+
+        /**
+         * The signature of the end of central directory record.
+         */
+        private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+
+        /**
+         * The signature of a central directory file header.
+         */
+        private static final int CENTRAL_DIRECTORY_HEADER = 0x02014b50;
+
+        /**
+         * The minimal size of the end of central directory record.
+         */
+        private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+        /**
+         * The fixed size of a central directory file header.
+         */
+        private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+
+        /**
+         * The fixed size of a local file header.
+         */
+        private static final int LOCAL_HEADER_SIZE = 30;
+
+        /**
+         * The maximum length of a zip file comment.
+         */
+        private static final int MAXIMUM_COMMENT_LENGTH = 0xFFFF;
+
+        /**
+         * The general purpose flag that indicates that an entry's name is encoded as <i>UTF-8</i>.
+         */
+        private static final int LANGUAGE_ENCODING_FLAG = 1 << 11;
+
+        /**
+         * The default charset for decoding entry names that do not set the language encoding flag.
+         */
+        private static final String DEFAULT_CHARSET = "UTF-8";
+
+        /**
+         * The compression method of a stored entry.
+         */
+        private static final int STORED = 0;
+
+        /**
+         * The compression method of a deflated entry.
+         */
+        private static final int DEFLATED = 8;
+
+        /**
+         * The maximum number of inflaters that are retained for reuse.
+         */
+        private static final int MAXIMUM_POOLED_INFLATERS = 8;
+
+        /**
+         * The jar file that is mapped.
+         */
+        private final File file;
+
+        /**
+         * The mapped jar file.
+         */
+        @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+        private final ByteBuffer buffer;
+
+        /**
+         * An index of all class file entries of the jar file by their binary name.
+         */
+        @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+        private final Map<String, Entry> entries;
+
+        /**
+         * A pool of inflaters that are available for reuse.
+         */
+        @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+        private final Queue<Inflater> inflaters;
+
+        /**
+         * The number of inflaters that are currently retained for reuse.
+         */
+        @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+        private final AtomicInteger pooled;
+
+        /**
+         * Creates a new class file locator for a mapped jar file.
+         *
+         * @param file    The jar file that is mapped.
+         * @param buffer  The mapped jar file.
+         * @param entries An index of all class file entries of the jar file by their binary name.
+         */
+        protected ForMappedJarFile(File file, ByteBuffer buffer, Map<String, Entry> entries) {
+            this.file = file;
+            this.buffer = buffer;
+            this.entries = entries;
+            inflaters = new ConcurrentLinkedQueue<Inflater>();
+            pooled = new AtomicInteger();
+        }
+
+        /**
+         * Creates a new class file locator that maps the supplied jar file.
+         *
+         * @param file The jar file to map.
+         * @return A class file locator for the mapped jar file.
+         * @throws IOException If an I/O exception is thrown or if the jar file cannot be mapped.
+         */
+        public static ForMappedJarFile of(File file) throws IOException {
+            return of(file, DEFAULT_CHARSET);
+        }
+
+        /**
+         * Creates a new class file locator that maps the supplied jar file.
+         *
+         * @param file    The jar file to map.
+         * @param charset The name of the charset for decoding entry names that do not set the language encoding flag.
+         * @return A class file locator for the mapped jar file.
+         * @throws IOException If an I/O exception is thrown or if the jar file cannot be mapped.
+         */
+        public static ForMappedJarFile of(File file, String charset) throws IOException {
+            RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+            try {
+                FileChannel fileChannel = randomAccessFile.getChannel();
+                if (fileChannel.size() > Integer.MAX_VALUE) {
+                    throw new IOException("Cannot map jar file that exceeds " + Integer.MAX_VALUE + " bytes: " + file);
+                }
+                ByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()).order(ByteOrder.LITTLE_ENDIAN);
+                return new ForMappedJarFile(file, buffer, index(buffer, charset));
+            } finally {
+                randomAccessFile.close();
+            }
+        }
+
+        /**
+         * Indexes all class file entries of a mapped jar file by reading its central directory.
+         *
+         * @param buffer  The mapped jar file.
+         * @param charset The name of the charset for decoding entry names that do not set the language encoding flag.
+         * @return An index of all class file entries of the jar file by their binary name.
+         * @throws IOException If the jar file's central directory cannot be read or if it is corrupt.
+         */
+        private static Map<String, Entry> index(ByteBuffer buffer, String charset) throws IOException {
+            int end = buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE;
+            while (end >= 0 && buffer.getInt(end) != END_OF_CENTRAL_DIRECTORY) {
+                if (buffer.limit() - end > END_OF_CENTRAL_DIRECTORY_SIZE + MAXIMUM_COMMENT_LENGTH) {
+                    end = -1;
+                } else {
+                    end--;
+                }
+            }
+            if (end < 0) {
+                throw new IOException("Cannot locate end of central directory");
+            }
+            int count = buffer.getShort(end + 10) & 0xFFFF, offset = buffer.getInt(end + 16);
+            if (count == 0xFFFF || offset == -1) {
+                throw new IOException("ZIP64 jar files are not supported");
+            }
+            Map<String, Entry> entries = new HashMap<String, Entry>();
+            for (int index = 0; index < count; index++) {
+                if (offset < 0 || offset > end - CENTRAL_DIRECTORY_HEADER_SIZE) {
+                    throw new IOException("Corrupt jar file");
+                } else if (buffer.getInt(offset) != CENTRAL_DIRECTORY_HEADER) {
+                    throw new IOException("Illegal central directory header at " + offset);
+                }
+                int nameLength = buffer.getShort(offset + 28) & 0xFFFF;
+                if (nameLength > end - offset - CENTRAL_DIRECTORY_HEADER_SIZE) {
+                    throw new IOException("Corrupt jar file");
+                }
+                byte[] name = new byte[nameLength];
+                for (int position = 0; position < nameLength; position++) {
+                    name[position] = buffer.get(offset + CENTRAL_DIRECTORY_HEADER_SIZE + position);
+                }
+                String entryName = new String(name, (buffer.getShort(offset + 8) & LANGUAGE_ENCODING_FLAG) == 0 ? charset : "UTF-8");
+                if (entryName.endsWith(CLASS_FILE_EXTENSION)) {
+                    int compressedSize = buffer.getInt(offset + 20), size = buffer.getInt(offset + 24), localOffset = buffer.getInt(offset + 42);
+                    if (compressedSize < 0 || size < 0 || localOffset < 0 || localOffset > buffer.limit() - LOCAL_HEADER_SIZE) {
+                        throw new IOException("Corrupt jar file");
+                    }
+                    entries.put(entryName.substring(0, entryName.length() - CLASS_FILE_EXTENSION.length()).replace('/', '.'), new Entry(buffer.getShort(offset + 10) & 0xFFFF,
+                            buffer.getInt(offset + 16) & 0xFFFFFFFFL,
+                            compressedSize,
+                            size,
+                            localOffset));
+                }
+                offset += CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + (buffer.getShort(offset + 30) & 0xFFFF) + (buffer.getShort(offset + 32) & 0xFFFF);
+            }
+            return entries;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Resolution locate(String name) throws IOException {
+            ByteBuffer buffer = locateBuffer(name);
+            if (buffer == null) {
+                return new Resolution.Illegal(name);
+            } else if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.remaining() == buffer.array().length) {
+                return new Resolution.Explicit(buffer.array());
+            } else {
+                byte[] binaryRepresentation = new byte[buffer.remaining()];
+                buffer.get(binaryRepresentation);
+                return new Resolution.Explicit(binaryRepresentation);
+            }
+        }
+
+        /**
+         * Locates the class file of a given type as a byte buffer. For stored entries, the returned buffer is a read-only view of
+         * the mapped jar file such that no data is copied. For deflated entries, the returned buffer wraps the inflated class file.
+         *
+         * @param name The name of the type to locate a class file representation for.
+         * @return A byte buffer representing the class file or {@code null} if the jar file does not contain such a class file.
+         * @throws IOException If the class file cannot be read or if the jar file is corrupt.
+         */
+        public ByteBuffer locateBuffer(String name) throws IOException {
+            Entry entry = entries.get(name);
+            if (entry == null) {
+                return null;
+            }
+            ByteBuffer buffer = this.buffer.duplicate();
+            long position = (long) entry.getOffset()
+                    + LOCAL_HEADER_SIZE
+                    + (this.buffer.getShort(entry.getOffset() + 26) & 0xFFFF)
+                    + (this.buffer.getShort(entry.getOffset() + 28) & 0xFFFF);
+            if (position + entry.getCompressedSize() > this.buffer.limit()) {
+                throw new IOException("Corrupt jar file");
+            }
+            buffer.position((int) position);
+            buffer.limit((int) position + entry.getCompressedSize());
+            switch (entry.getMethod()) {
+                case STORED:
+                    return buffer.slice().asReadOnlyBuffer();
+                case DEFLATED:
+                    byte[] compressed = new byte[entry.getCompressedSize() + 1];
+                    buffer.get(compressed, 0, entry.getCompressedSize());
+                    Inflater inflater = inflaters.poll();
+                    if (inflater == null) {
+                        inflater = new Inflater(true);
+                    } else {
+                        pooled.decrementAndGet();
+                    }
+                    try {
+                        inflater.setInput(compressed);
+                        byte[] binaryRepresentation = new byte[entry.getSize()];
+                        int length = 0;
+                        while (length < binaryRepresentation.length) {
+                            int inflated = inflater.inflate(binaryRepresentation, length, binaryRepresentation.length - length);
+                            if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                                throw new IOException("Unexpected end of deflated entry for " + name);
+                            }
+                            length += inflated;
+                        }
+                        return ByteBuffer.wrap(binaryRepresentation);
+                    } catch (DataFormatException exception) {
+                        throw new IOException("Cannot inflate entry for " + name + ": " + exception.getMessage());
+                    } finally {
+                        inflater.reset();
+                        if (pooled.incrementAndGet() <= MAXIMUM_POOLED_INFLATERS) {
+                            inflaters.offer(inflater);
+                        } else {
+                            pooled.decrementAndGet();
+                            inflater.end();
+                        }
+                    }
+                default:
+                    throw new IOException("Unsupported compression method " + entry.getMethod() + " for " + name);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public long fingerprint(String name) {
+            Entry entry = entries.get(name);
+            return entry == null
+                    ? ABSENT
+                    : entry.getChecksum() | (long) entry.getSize() << 32;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public void close() {
+            Inflater inflater;
+            while ((inflater = inflaters.poll()) != null) {
+                pooled.decrementAndGet();
+                inflater.end();
+            }
+        }
+
+        /**
+         * An indexed entry of a mapped jar file.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        protected static class Entry {
+
+            /**
+             * The entry's compression method.
+             */
+            private final int method;
+
+            /**
+             * The CRC-32 checksum of the entry's uncompressed data.
+             */
+            private final long checksum;
+
+            /**
+             * The entry's compressed size.
+             */
+            private final int compressedSize;
+
+            /**
+             * The entry's uncompressed size.
+             */
+            private final int size;
+
+            /**
+             * The offset of the entry's local file header.
+             */
+            private final int offset;
+
+            /**
+             * Creates a new entry.
+             *
+             * @param method         The entry's compression method.
+             * @param checksum       The CRC-32 checksum of the entry's uncompressed data.
+             * @param compressedSize The entry's compressed size.
+             * @param size           The entry's uncompressed size.
+             * @param offset         The offset of the entry's local file header.
+             */
+            protected Entry(int method, long checksum, int compressedSize, int size, int offset) {
+                this.method = method;
+                this.checksum = checksum;
+                this.compressedSize = compressedSize;
+                this.size = size;
+                this.offset = offset;
+            }
+
+            /**
+             * Returns the entry's compression method.
+             *
+             * @return The entry's compression method.
+             */
+            protected int getMethod() {
+                return method;
+            }
+
+            /**
+             * Returns the CRC-32 checksum of the entry's uncompressed data.
+             *
+             * @return The CRC-32 checksum of the entry's uncompressed data.
+             */
+            protected long getChecksum() {
+                return checksum;
+            }
+
+            /**
+             * Returns the entry's compressed size.
+             *
+             * @return The entry's compressed size.
+             */
+            protected int getCompressedSize() {
+                return compressedSize;
+            }
+
+            /**
+             * Returns the entry's uncompressed size.
+             *
+             * @return The entry's uncompressed size.
+             */
+            protected int getSize() {
+                return size;
+            }
+
+            /**
+             * Returns the offset of the entry's local file header.
+             *
+             * @return The offset of the entry's local file header.
+             */
+            protected int getOffset() {
+                return offset;
+            }
+        }
+    }
+
     /**
      * A class file locator that locates classes within a Java <i>jmod</i> file. This class file locator should not be used
      * for reading modular jar files for which {@link ForJarFile} is appropriate.
@@ -1039,10 +1495,11 @@ public interface ClassFileLocator extends Closeable {
     /**
      * A class file locator that finds files from a standardized Java folder structure with
      * folders donating packages and class files being saved as {@code <classname>.class} files
-     * within their package folder.
+     * within their package folder. A class file's fingerprint is computed from its file's size
+     * and modification time.
      */
     @HashCodeAndEqualsPlugin.Enhance
-    class ForFolder implements ClassFileLocator {
+    class ForFolder implements Fingerprinting {
 
         /**
          * The base folder of the package structure.
@@ -1075,6 +1532,20 @@ public interface ClassFileLocator extends Closeable {
             }
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        public long fingerprint(String name) {
+            File file = new File(folder, name.replace('.', File.separatorChar) + CLASS_FILE_EXTENSION);
+            if (!file.exists()) {
+                return ABSENT;
+            }
+            long modified = file.lastModified();
+            return modified == 0L
+                    ? UNKNOWN
+                    : (modified & 0xFFFFFFFFFFL) << 23 | file.length() & 0x7FFFFFL;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1890,10 +2361,11 @@ public interface ClassFileLocator extends Closeable {
     /**
      * A compound {@link ClassFileLocator} that chains several locators.
      * Any class file locator is queried in the supplied order until one locator is able to provide an input
-     * stream of the class file.
+     * stream of the class file. A class file's fingerprint is only known if all locators that are queried
+     * prior to the locator that locates the class file are {@link Fingerprinting}.
      */
     @HashCodeAndEqualsPlugin.Enhance
-    class Compound implements ClassFileLocator, Closeable {
+    class Compound implements Fingerprinting, Closeable {
 
         /**
          * The {@link ClassFileLocator}s which are represented by this compound
@@ -1941,6 +2413,22 @@ public interface ClassFileLocator extends Closeable {
             return new Resolution.Illegal(name);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        public long fingerprint(String name) throws IOException {
+            for (ClassFileLocator classFileLocator : classFileLocators) {
+                if (!(classFileLocator instanceof Fingerprinting)) {
+                    return UNKNOWN;
+                }
+                long fingerprint = ((Fingerprinting) classFileLocator).fingerprint(name);
+                if (fingerprint != ABSENT) {
+                    return fingerprint;
+                }
+            }
+            return ABSENT;
+        }
+
         /**
          * {@inheritDoc}
          */
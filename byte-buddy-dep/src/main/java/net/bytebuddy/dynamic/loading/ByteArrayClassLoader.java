@@ -42,7 +42,9 @@ import java.util.concurrent.ConcurrentMap;
  * <p>
  * A {@link java.lang.ClassLoader} that is capable of loading explicitly defined classes. The class loader will free
  * any binary resources once a class that is defined by its binary data is loaded. This class loader is thread safe since
- * the class loading mechanics are only called from synchronized context.
+ * the class loading mechanics are only called from synchronized context. If the current VM supports parallel-capable class
+ * loaders, this class loader is registered as such and only synchronizes the loading of a class on a lock that is specific
+ * to the class's name. Subclasses must register themselves to become parallel capable.
  * </p>
  * <p>
  * <b>Note</b>: Instances of this class loader return URLs for their represented class loaders with the <i>bytebuddy</i> schema.
@@ -55,6 +57,13 @@ import java.util.concurrent.ConcurrentMap;
  */
 public class ByteArrayClassLoader extends InjectionClassLoader {
 
+    /*
+     * Registers this class loader as parallel capable if the current VM supports it.
+     */
+    static {
+        doRegisterAsParallelCapable();
+    }
+
     /**
      * The schema for URLs that represent a class file of byte array class loaders.
      */
@@ -241,6 +250,20 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
         accessControlContext = AccessController.getContext();
     }
 
+    /**
+     * Registers this class loader as parallel capable if the current VM supports it.
+     */
+    @SuppressFBWarnings(value = "DP_DO_INSIDE_DO_PRIVILEGED", justification = "Must be invoked from the registered class loader type")
+    private static void doRegisterAsParallelCapable() {
+        try {
+            Method method = ClassLoader.class.getDeclaredMethod("registerAsParallelCapable");
+            method.setAccessible(true);
+            method.invoke(null);
+        } catch (Throwable ignored) {
+            /* do nothing */
+        }
+    }
+
     /**
      * Resolves a method handle in the scope of the {@link ByteArrayClassLoader} class.
      *
@@ -618,14 +641,24 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
                 if (definition.isDefined()) {
                     Package definedPackage = PACKAGE_LOOKUP_STRATEGY.apply(ByteArrayClassLoader.this, packageName);
                     if (definedPackage == null) {
-                        definePackage(packageName,
-                                definition.getSpecificationTitle(),
-                                definition.getSpecificationVersion(),
-                                definition.getSpecificationVendor(),
-                                definition.getImplementationTitle(),
-                                definition.getImplementationVersion(),
-                                definition.getImplementationVendor(),
-                                definition.getSealBase());
+                        try {
+                            definePackage(packageName,
+                                    definition.getSpecificationTitle(),
+                                    definition.getSpecificationVersion(),
+                                    definition.getSpecificationVendor(),
+                                    definition.getImplementationTitle(),
+                                    definition.getImplementationVersion(),
+                                    definition.getImplementationVendor(),
+                                    definition.getSealBase());
+                        } catch (IllegalArgumentException exception) {
+                            // The package might have been defined concurrently by another thread if this class loader is parallel capable.
+                            definedPackage = PACKAGE_LOOKUP_STRATEGY.apply(ByteArrayClassLoader.this, packageName);
+                            if (definedPackage == null) {
+                                throw exception;
+                            } else if (!definition.isCompatibleTo(definedPackage)) {
+                                throw new SecurityException("Sealing violation for package " + packageName);
+                            }
+                        }
                     } else if (!definition.isCompatibleTo(definedPackage)) {
                         throw new SecurityException("Sealing violation for package " + packageName);
                     }
@@ -117,7 +117,9 @@ public interface ClassInjector {
     }
 
     /**
-     * A class injector that uses reflective method calls.
+     * A class injector that uses reflective method calls. All injected types that share a class loading lock are injected while
+     * holding this lock only once, what is the case for all types if a class loader is not parallel capable. Any package is
+     * resolved and defined only once per injection.
      */
     @HashCodeAndEqualsPlugin.Enhance
     class UsingReflection extends AbstractBase {
@@ -205,37 +207,50 @@ public interface ClassInjector {
          */
         public Map<String, Class<?>> injectRaw(Map<? extends String, byte[]> types) {
             Dispatcher dispatcher = DISPATCHER.initialize();
-            Map<String, Class<?>> result = new HashMap<String, Class<?>>();
+            List<Batch> batches = new ArrayList<Batch>();
+            Batch batch = null;
             for (Map.Entry<? extends String, byte[]> entry : types.entrySet()) {
-                synchronized (dispatcher.getClassLoadingLock(classLoader, entry.getKey())) {
-                    Class<?> type = dispatcher.findClass(classLoader, entry.getKey());
-                    if (type == null) {
-                        int packageIndex = entry.getKey().lastIndexOf('.');
-                        if (packageIndex != -1) {
-                            String packageName = entry.getKey().substring(0, packageIndex);
-                            PackageDefinitionStrategy.Definition definition = packageDefinitionStrategy.define(classLoader, packageName, entry.getKey());
-                            if (definition.isDefined()) {
-                                Package definedPackage = dispatcher.getPackage(classLoader, packageName);
-                                if (definedPackage == null) {
-                                    dispatcher.definePackage(classLoader,
-                                            packageName,
-                                            definition.getSpecificationTitle(),
-                                            definition.getSpecificationVersion(),
-                                            definition.getSpecificationVendor(),
-                                            definition.getImplementationTitle(),
-                                            definition.getImplementationVersion(),
-                                            definition.getImplementationVendor(),
-                                            definition.getSealBase());
-                                } else if (!definition.isCompatibleTo(definedPackage)) {
-                                    throw new SecurityException("Sealing violation for package " + packageName);
+                Object lock = dispatcher.getClassLoadingLock(classLoader, entry.getKey());
+                if (batch == null || batch.lock != lock) {
+                    batch = new Batch(lock);
+                    batches.add(batch);
+                }
+                batch.types.put(entry.getKey(), entry.getValue());
+            }
+            Map<String, Class<?>> result = new HashMap<String, Class<?>>();
+            Set<String> packages = new HashSet<String>();
+            for (Batch current : batches) {
+                synchronized (current.lock) {
+                    for (Map.Entry<String, byte[]> entry : current.types.entrySet()) {
+                        Class<?> type = dispatcher.findClass(classLoader, entry.getKey());
+                        if (type == null) {
+                            int packageIndex = entry.getKey().lastIndexOf('.');
+                            if (packageIndex != -1 && packages.add(entry.getKey().substring(0, packageIndex))) {
+                                String packageName = entry.getKey().substring(0, packageIndex);
+                                PackageDefinitionStrategy.Definition definition = packageDefinitionStrategy.define(classLoader, packageName, entry.getKey());
+                                if (definition.isDefined()) {
+                                    Package definedPackage = dispatcher.getPackage(classLoader, packageName);
+                                    if (definedPackage == null) {
+                                        dispatcher.definePackage(classLoader,
+                                                packageName,
+                                                definition.getSpecificationTitle(),
+                                                definition.getSpecificationVersion(),
+                                                definition.getSpecificationVendor(),
+                                                definition.getImplementationTitle(),
+                                                definition.getImplementationVersion(),
+                                                definition.getImplementationVendor(),
+                                                definition.getSealBase());
+                                    } else if (!definition.isCompatibleTo(definedPackage)) {
+                                        throw new SecurityException("Sealing violation for package " + packageName);
+                                    }
                                 }
                             }
+                            type = dispatcher.defineClass(classLoader, entry.getKey(), entry.getValue(), protectionDomain);
+                        } else if (forbidExisting) {
+                            throw new IllegalStateException("Cannot inject already loaded type: " + type);
                         }
-                        type = dispatcher.defineClass(classLoader, entry.getKey(), entry.getValue(), protectionDomain);
-                    } else if (forbidExisting) {
-                        throw new IllegalStateException("Cannot inject already loaded type: " + type);
+                        result.put(entry.getKey(), type);
                     }
-                    result.put(entry.getKey(), type);
                 }
             }
             return result;
@@ -259,6 +274,32 @@ public interface ClassInjector {
             return new UsingReflection(ClassLoader.getSystemClassLoader());
         }
 
+        /**
+         * A batch of types that share a class loading lock and that are therefore injected while holding this lock only once.
+         */
+        protected static class Batch {
+
+            /**
+             * The class loading lock that is shared by all types of this batch.
+             */
+            private final Object lock;
+
+            /**
+             * The binary representations of the types of this batch by their names.
+             */
+            private final Map<String, byte[]> types;
+
+            /**
+             * Creates a new batch.
+             *
+             * @param lock The class loading lock that is shared by all types of this batch.
+             */
+            protected Batch(Object lock) {
+                this.lock = lock;
+                types = new LinkedHashMap<String, byte[]>();
+            }
+        }
+
         /**
          * A dispatcher for accessing a {@link ClassLoader} reflectively.
          */
@@ -1654,6 +1695,392 @@ public interface ClassInjector {
         }
     }
 
+    /**
+     * <p>
+     * A class injector that uses a {@code java.lang.invoke.MethodHandles$Lookup} object for defining hidden classes. A hidden class
+     * is defined in the lookup type's class loader and package but is not registered with this class loader. As this injector does not
+     * define hidden classes with the {@code STRONG} class option, a hidden class can be unloaded once it is no longer referenced,
+     * independently of its class loader, without requiring a dedicated class loader per type. Defining a hidden class as a nest mate
+     * of the lookup type only grants access to the lookup type's private members and does not affect its unloading. The used lookup
+     * must have full privilege access, i.e. private and module access.
+     * </p>
+     * <p>
+     * <b>Important</b>: This functionality is only available starting from Java 15. A hidden class cannot be referenced by its name
+     * from any other class and the name of the defined class is amended by a suffix. This injector is therefore only suitable for types
+     * that are not referenced by name from other injected types, such as proxy classes without auxiliary types. The returned
+     * map references the defined classes by the names of the supplied class files.
+     * </p>
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    class UsingHiddenClasses extends AbstractBase {
+
+        /**
+         * The dispatcher to interacting with method handles.
+         */
+        private static final Dispatcher DISPATCHER = AccessController.doPrivileged(Dispatcher.Creator.INSTANCE);
+
+        /**
+         * Indicates a lookup instance's private and module lookup modes which constitute the full privilege access that is
+         * required for defining hidden classes.
+         */
+        private static final int FULL_PRIVILEGE_LOOKUP = 0x2 | 0x10;
+
+        /**
+         * The {@code java.lang.invoke.MethodHandles$Lookup} to use.
+         */
+        private final Object lookup;
+
+        /**
+         * {@code true} if the hidden classes are defined as nest mates of the lookup type.
+         */
+        private final boolean nestMate;
+
+        /**
+         * Creates a new class injector for hidden classes.
+         *
+         * @param lookup   The {@code java.lang.invoke.MethodHandles$Lookup} instance to use.
+         * @param nestMate {@code true} if the hidden classes are defined as nest mates of the lookup type.
+         */
+        protected UsingHiddenClasses(Object lookup, boolean nestMate) {
+            this.lookup = lookup;
+            this.nestMate = nestMate;
+        }
+
+        /**
+         * Creates a class injector that defines hidden classes using a method handle lookup.
+         *
+         * @param lookup The {@code java.lang.invoke.MethodHandles$Lookup} instance to use.
+         * @return An appropriate class injector.
+         */
+        public static UsingHiddenClasses of(Object lookup) {
+            return of(lookup, false);
+        }
+
+        /**
+         * Creates a class injector that defines hidden classes using a method handle lookup.
+         *
+         * @param lookup   The {@code java.lang.invoke.MethodHandles$Lookup} instance to use.
+         * @param nestMate {@code true} if the hidden classes are defined as nest mates of the lookup type.
+         * @return An appropriate class injector.
+         */
+        public static UsingHiddenClasses of(Object lookup, boolean nestMate) {
+            if (!DISPATCHER.isAlive()) {
+                throw new IllegalStateException("The current VM does not support hidden class definition via method handle lookups");
+            } else if (!JavaType.METHOD_HANDLES_LOOKUP.isInstance(lookup)) {
+                throw new IllegalArgumentException("Not a method handle lookup: " + lookup);
+            } else if ((DISPATCHER.lookupModes(lookup) & FULL_PRIVILEGE_LOOKUP) != FULL_PRIVILEGE_LOOKUP) {
+                throw new IllegalArgumentException("Lookup does not imply full privilege access: " + lookup);
+            }
+            return new UsingHiddenClasses(lookup, nestMate);
+        }
+
+        /**
+         * Returns the lookup type this injector is based upon.
+         *
+         * @return The lookup type.
+         */
+        public Class<?> lookupType() {
+            return DISPATCHER.lookupType(lookup);
+        }
+
+        /**
+         * Resolves this injector to use the supplied type's scope. The resolved lookup must retain full privilege access which
+         * is not the case if the supplied type is declared in another module than the lookup type.
+         *
+         * @param type The type to resolve the access scope for.
+         * @return An new injector with the specified scope.
+         */
+        public UsingHiddenClasses in(Class<?> type) {
+            return of(DISPATCHER.resolve(lookup, type), nestMate);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean isAlive() {
+            return isAvailable();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Map<String, Class<?>> injectRaw(Map<? extends String, byte[]> types) {
+            String expectedPackage = TypeDescription.ForLoadedType.of(lookupType()).getPackage().getName();
+            Map<String, Class<?>> result = new HashMap<String, Class<?>>();
+            for (Map.Entry<? extends String, byte[]> entry : types.entrySet()) {
+                int index = entry.getKey().lastIndexOf('.');
+                if (!expectedPackage.equals(index == -1 ? "" : entry.getKey().substring(0, index))) {
+                    throw new IllegalArgumentException(entry.getKey() + " must be defined in the same package as " + lookup);
+                }
+                result.put(entry.getKey(), DISPATCHER.defineHiddenClass(lookup, entry.getValue(), nestMate));
+            }
+            return result;
+        }
+
+        /**
+         * Checks if the current VM is capable of defining hidden classes using a method handle lookup.
+         *
+         * @return {@code true} if the current VM is capable of defining hidden classes using a lookup.
+         */
+        public static boolean isAvailable() {
+            return DISPATCHER.isAlive();
+        }
+
+        /**
+         * A dispatcher for interacting with a method handle lookup.
+         */
+        protected interface Dispatcher {
+
+            /**
+             * Indicates if this dispatcher is available on the current VM.
+             *
+             * @return {@code true} if this dispatcher is alive.
+             */
+            boolean isAlive();
+
+            /**
+             * Returns the lookup type for a given method handle lookup.
+             *
+             * @param lookup The lookup instance.
+             * @return The lookup type.
+             */
+            Class<?> lookupType(Object lookup);
+
+            /**
+             * Returns a lookup objects lookup types.
+             *
+             * @param lookup The lookup instance.
+             * @return The modifiers indicating the instance's lookup modes.
+             */
+            int lookupModes(Object lookup);
+
+            /**
+             * Resolves the supplied lookup instance's access scope for the supplied type.
+             *
+             * @param lookup The lookup to use.
+             * @param type   The type to resolve the scope for.
+             * @return An appropriate lookup instance.
+             */
+            Object resolve(Object lookup, Class<?> type);
+
+            /**
+             * Defines a hidden class without initializing it.
+             *
+             * @param lookup               The {@code java.lang.invoke.MethodHandles$Lookup} instance to use.
+             * @param binaryRepresentation The defined class's binary representation.
+             * @param nestMate             {@code true} if the hidden class is defined as a nest mate of the lookup type.
+             * @return The defined class.
+             */
+            Class<?> defineHiddenClass(Object lookup, byte[] binaryRepresentation, boolean nestMate);
+
+            /**
+             * An action for defining a dispatcher.
+             */
+            enum Creator implements PrivilegedAction<Dispatcher> {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @SuppressFBWarnings(value = "REC_CATCH_EXCEPTION", justification = "Exception should not be rethrown but trigger a fallback")
+                @SuppressWarnings({"unchecked", "rawtypes"})
+                public Dispatcher run() {
+                    try {
+                        Class<?> lookup = JavaType.METHOD_HANDLES_LOOKUP.load();
+                        Class classOption = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+                        Object noOptions = Array.newInstance(classOption, 0), nestMateOptions = Array.newInstance(classOption, 1);
+                        Array.set(nestMateOptions, 0, Enum.valueOf(classOption, "NESTMATE"));
+                        return new Dispatcher.ForJava15CapableVm(JavaType.METHOD_HANDLES.load().getMethod("privateLookupIn", Class.class, lookup),
+                                lookup.getMethod("lookupClass"),
+                                lookup.getMethod("lookupModes"),
+                                lookup.getMethod("defineHiddenClass", byte[].class, boolean.class, noOptions.getClass()),
+                                noOptions,
+                                nestMateOptions);
+                    } catch (Exception ignored) {
+                        return Dispatcher.ForLegacyVm.INSTANCE;
+                    }
+                }
+            }
+
+            /**
+             * A dispatcher for a legacy VM that does not support hidden class definition via method handles.
+             */
+            enum ForLegacyVm implements Dispatcher {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public boolean isAlive() {
+                    return false;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Class<?> lookupType(Object lookup) {
+                    throw new IllegalStateException("Cannot dispatch method for java.lang.invoke.MethodHandles$Lookup");
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public int lookupModes(Object lookup) {
+                    throw new IllegalStateException("Cannot dispatch method for java.lang.invoke.MethodHandles$Lookup");
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Object resolve(Object lookup, Class<?> type) {
+                    throw new IllegalStateException("Cannot dispatch method for java.lang.invoke.MethodHandles");
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Class<?> defineHiddenClass(Object lookup, byte[] binaryRepresentation, boolean nestMate) {
+                    throw new IllegalStateException("Cannot dispatch method for java.lang.invoke.MethodHandles$Lookup");
+                }
+            }
+
+            /**
+             * A dispatcher for a Java 15 capable VM that supports hidden class definition via method handles.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            class ForJava15CapableVm implements Dispatcher {
+
+                /**
+                 * An empty array that can be used to indicate no arguments to avoid an allocation on a reflective call.
+                 */
+                private static final Object[] NO_ARGUMENTS = new Object[0];
+
+                /**
+                 * The {@code java.lang.invoke.MethodHandles$#privateLookupIn} method.
+                 */
+                private final Method privateLookupIn;
+
+                /**
+                 * The {@code java.lang.invoke.MethodHandles$Lookup#lookupClass} method.
+                 */
+                private final Method lookupClass;
+
+                /**
+                 * The {@code java.lang.invoke.MethodHandles$Lookup#lookupModes} method.
+                 */
+                private final Method lookupModes;
+
+                /**
+                 * The {@code java.lang.invoke.MethodHandles$Lookup#defineHiddenClass} method.
+                 */
+                private final Method defineHiddenClass;
+
+                /**
+                 * An empty array of {@code java.lang.invoke.MethodHandles$Lookup$ClassOption} values.
+                 */
+                private final Object noOptions;
+
+                /**
+                 * An array that only contains the {@code java.lang.invoke.MethodHandles$Lookup$ClassOption#NESTMATE} value.
+                 */
+                private final Object nestMateOptions;
+
+                /**
+                 * Creates a new dispatcher for a Java 15 capable VM.
+                 *
+                 * @param privateLookupIn   The {@code java.lang.invoke.MethodHandles$#privateLookupIn} method.
+                 * @param lookupClass       The {@code java.lang.invoke.MethodHandles$Lookup#lookupClass} method.
+                 * @param lookupModes       The {@code java.lang.invoke.MethodHandles$Lookup#lookupModes} method.
+                 * @param defineHiddenClass The {@code java.lang.invoke.MethodHandles$Lookup#defineHiddenClass} method.
+                 * @param noOptions         An empty array of {@code java.lang.invoke.MethodHandles$Lookup$ClassOption} values.
+                 * @param nestMateOptions   An array that only contains the {@code java.lang.invoke.MethodHandles$Lookup$ClassOption#NESTMATE} value.
+                 */
+                protected ForJava15CapableVm(Method privateLookupIn,
+                                             Method lookupClass,
+                                             Method lookupModes,
+                                             Method defineHiddenClass,
+                                             Object noOptions,
+                                             Object nestMateOptions) {
+                    this.privateLookupIn = privateLookupIn;
+                    this.lookupClass = lookupClass;
+                    this.lookupModes = lookupModes;
+                    this.defineHiddenClass = defineHiddenClass;
+                    this.noOptions = noOptions;
+                    this.nestMateOptions = nestMateOptions;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public boolean isAlive() {
+                    return true;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Class<?> lookupType(Object lookup) {
+                    try {
+                        return (Class<?>) lookupClass.invoke(lookup, NO_ARGUMENTS);
+                    } catch (IllegalAccessException exception) {
+                        throw new IllegalStateException("Cannot access java.lang.invoke.MethodHandles$Lookup#lookupClass", exception);
+                    } catch (InvocationTargetException exception) {
+                        throw new IllegalStateException("Error invoking java.lang.invoke.MethodHandles$Lookup#lookupClass", exception.getCause());
+                    }
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public int lookupModes(Object lookup) {
+                    try {
+                        return (Integer) lookupModes.invoke(lookup, NO_ARGUMENTS);
+                    } catch (IllegalAccessException exception) {
+                        throw new IllegalStateException("Cannot access java.lang.invoke.MethodHandles$Lookup#lookupModes", exception);
+                    } catch (InvocationTargetException exception) {
+                        throw new IllegalStateException("Error invoking java.lang.invoke.MethodHandles$Lookup#lookupModes", exception.getCause());
+                    }
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Object resolve(Object lookup, Class<?> type) {
+                    try {
+                        return privateLookupIn.invoke(null, type, lookup);
+                    } catch (IllegalAccessException exception) {
+                        throw new IllegalStateException("Cannot access java.lang.invoke.MethodHandles#privateLookupIn", exception);
+                    } catch (InvocationTargetException exception) {
+                        throw new IllegalStateException("Error invoking java.lang.invoke.MethodHandles#privateLookupIn", exception.getCause());
+                    }
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Class<?> defineHiddenClass(Object lookup, byte[] binaryRepresentation, boolean nestMate) {
+                    Object hiddenLookup;
+                    try {
+                        hiddenLookup = defineHiddenClass.invoke(lookup, binaryRepresentation, false, nestMate ? nestMateOptions : noOptions);
+                    } catch (IllegalAccessException exception) {
+                        throw new IllegalStateException("Cannot access java.lang.invoke.MethodHandles$Lookup#defineHiddenClass", exception);
+                    } catch (InvocationTargetException exception) {
+                        throw new IllegalStateException("Error invoking java.lang.invoke.MethodHandles$Lookup#defineHiddenClass", exception.getCause());
+                    }
+                    return lookupType(hiddenLookup);
+                }
+            }
+        }
+    }
+
     /**
      * A class injector that uses {@code sun.misc.Unsafe} to inject classes.
      */
@@ -493,6 +493,66 @@ public interface ClassLoadingStrategy<T extends ClassLoader> {
         }
     }
 
+    /**
+     * <p>
+     * A class loading strategy that uses a {@code java.lang.invoke.MethodHandles$Lookup} instance for defining types as hidden classes.
+     * A lookup instance can define hidden classes only in the same class loader and in the same package as the type within which it was
+     * created. The supplied lookup must have full privilege access, i.e. private and module access. As the hidden classes are not defined
+     * with the {@code STRONG} class option, they are not strongly tied to their class loader and can be unloaded without requiring a
+     * dedicated class loader. Defining them as nest mates of the lookup type only grants access to the lookup type's private members and
+     * does not affect their unloading.
+     * </p>
+     * <p>
+     * <b>Important</b>: A hidden class cannot be referenced by name from other classes. This strategy is therefore not suitable for types
+     * that require auxiliary types or that are referenced by other loaded types. See {@link ClassInjector.UsingHiddenClasses}.
+     * </p>
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    class UsingHiddenClasses implements ClassLoadingStrategy<ClassLoader> {
+
+        /**
+         * The class injector to use.
+         */
+        private final ClassInjector classInjector;
+
+        /**
+         * Creates a new class loading strategy that defines hidden classes.
+         *
+         * @param classInjector The class injector to use.
+         */
+        protected UsingHiddenClasses(ClassInjector classInjector) {
+            this.classInjector = classInjector;
+        }
+
+        /**
+         * Creates a new class loading strategy that defines hidden classes using a {@code java.lang.invoke.MethodHandles$Lookup} instance.
+         *
+         * @param lookup The lookup instance to use for defining new types.
+         * @return A suitable class loading strategy.
+         */
+        public static ClassLoadingStrategy<ClassLoader> of(Object lookup) {
+            return new UsingHiddenClasses(ClassInjector.UsingHiddenClasses.of(lookup));
+        }
+
+        /**
+         * Creates a new class loading strategy that defines hidden classes using a {@code java.lang.invoke.MethodHandles$Lookup} instance.
+         *
+         * @param lookup   The lookup instance to use for defining new types.
+         * @param nestMate {@code true} if the hidden classes are defined as nest mates of the lookup type.
+         * @return A suitable class loading strategy.
+         */
+        public static ClassLoadingStrategy<ClassLoader> of(Object lookup, boolean nestMate) {
+            return new UsingHiddenClasses(ClassInjector.UsingHiddenClasses.of(lookup, nestMate));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Map<TypeDescription, Class<?>> load(ClassLoader classLoader, Map<TypeDescription, byte[]> types) {
+            return classInjector.inject(types);
+        }
+    }
+
     /**
      * A class loading strategy which allows class injection into the bootstrap class loader if
      * appropriate.
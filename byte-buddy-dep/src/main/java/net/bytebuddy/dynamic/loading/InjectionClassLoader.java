@@ -15,8 +15,10 @@
  */
 package net.bytebuddy.dynamic.loading;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import net.bytebuddy.description.type.TypeDescription;
 
+import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -32,6 +34,13 @@ import java.util.Map;
  */
 public abstract class InjectionClassLoader extends ClassLoader {
 
+    /*
+     * Registers this class loader as parallel capable if the current VM supports it, what is a precondition for any subclass to be parallel capable.
+     */
+    static {
+        doRegisterAsParallelCapable();
+    }
+
     /**
      * Indicates if this class loader is sealed, i.e. forbids runtime injection.
      */
@@ -48,6 +57,20 @@ public abstract class InjectionClassLoader extends ClassLoader {
         this.sealed = sealed;
     }
 
+    /**
+     * Registers this class loader as parallel capable if the current VM supports it.
+     */
+    @SuppressFBWarnings(value = "DP_DO_INSIDE_DO_PRIVILEGED", justification = "Must be invoked from the registered class loader type")
+    private static void doRegisterAsParallelCapable() {
+        try {
+            Method method = ClassLoader.class.getDeclaredMethod("registerAsParallelCapable");
+            method.setAccessible(true);
+            method.invoke(null);
+        } catch (Throwable ignored) {
+            /* do nothing */
+        }
+    }
+
     /**
      * Returns {@code true} if this class loader is sealed.
      *
@@ -15,11 +15,17 @@
  */
 package net.bytebuddy.dynamic.scaffold;
 
+import net.bytebuddy.build.HashCodeAndEqualsPlugin;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.pool.TypePool;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * A class writer strategy is responsible for the creation of a {@link ClassWriter} when creating a type.
  */
@@ -77,17 +83,115 @@ public interface ClassWriterStrategy {
         }
     }
 
+    /**
+     * <p>
+     * A class writer strategy that shares the common super classes that were computed for stack map frames among all class writers
+     * that are resolved for type pools that share a {@link TypePool.CacheProvider}. Type pools that share a cache provider are
+     * expected to describe the same types, as it is the case for a type pool cache of a Java agent that creates a new type pool
+     * for every transformation but that reuses a cache provider per class loader. Type pools without a cache, or with a
+     * {@link TypePool.CacheProvider.NoOp} cache, only share results with class writers that are resolved for the same type pool.
+     * This avoids repeatedly resolving the same types when writing many classes. Shared results are referenced weakly by their
+     * cache provider or type pool.
+     * </p>
+     * <p>
+     * <b>Important</b>: This strategy does not alter which methods' stack map frames are computed. If frames are computed, this
+     * strategy only avoids resolving the same pair of types repeatedly.
+     * </p>
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    class WithSuperClassCache implements ClassWriterStrategy {
+
+        /**
+         * The default class writer strategy that determines if the original class's constant pool is retained.
+         */
+        private final Default classWriterStrategy;
+
+        /**
+         * A mapping of cache providers or type pools to the common super classes that were computed for them.
+         */
+        @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+        private final Map<Object, Map<String, String>> caches;
+
+        /**
+         * Creates a new class writer strategy with a super class cache that retains the original class's constant pool.
+         */
+        public WithSuperClassCache() {
+            this(Default.CONSTANT_POOL_RETAINING);
+        }
+
+        /**
+         * Creates a new class writer strategy with a super class cache.
+         *
+         * @param classWriterStrategy The default class writer strategy that determines if the original class's constant pool is retained.
+         */
+        public WithSuperClassCache(Default classWriterStrategy) {
+            this.classWriterStrategy = classWriterStrategy;
+            caches = new WeakHashMap<Object, Map<String, String>>();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public ClassWriter resolve(int flags, TypePool typePool) {
+            return new FrameComputingClassWriter(flags, typePool, locate(typePool));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public ClassWriter resolve(int flags, TypePool typePool, ClassReader classReader) {
+            return classWriterStrategy == Default.CONSTANT_POOL_RETAINING
+                    ? new FrameComputingClassWriter(classReader, flags, typePool, locate(typePool))
+                    : resolve(flags, typePool);
+        }
+
+        /**
+         * Locates the common super classes that were computed for a type pool's cache provider or for the type pool itself.
+         *
+         * @param typePool The type pool for which to locate the computed common super classes.
+         * @return A map of computed common super classes for the supplied type pool.
+         */
+        private Map<String, String> locate(TypePool typePool) {
+            Object key = typePool;
+            if (typePool instanceof TypePool.AbstractBase) {
+                TypePool.CacheProvider cacheProvider = ((TypePool.AbstractBase) typePool).getCacheProvider();
+                if (cacheProvider != TypePool.CacheProvider.NoOp.INSTANCE) {
+                    key = cacheProvider;
+                }
+            }
+            synchronized (caches) {
+                Map<String, String> commonSuperClasses = caches.get(key);
+                if (commonSuperClasses == null) {
+                    commonSuperClasses = new ConcurrentHashMap<String, String>();
+                    caches.put(key, commonSuperClasses);
+                }
+                return commonSuperClasses;
+            }
+        }
+    }
+
     /**
      * A class writer that piggy-backs on Byte Buddy's {@link TypePool} to avoid class loading or look-up errors when redefining a class.
-     * This is not available when creating a new class where automatic frame computation is however not normally a requirement.
+     * This is not available when creating a new class where automatic frame computation is however not normally a requirement. Any
+     * computed common super class is memorized such that each pair of types is only resolved once.
      */
     class FrameComputingClassWriter extends ClassWriter {
 
+        /**
+         * The separator between two internal names of a pair of types which cannot be contained in a binary name.
+         */
+        private static final char SEPARATOR = ';';
+
         /**
          * The type pool to use for computing stack map frames, if required.
          */
         private final TypePool typePool;
 
+        /**
+         * A mapping of pairs of internal type names to the internal name of their common super class.
+         */
+        private final Map<String, String> commonSuperClasses;
+
         /**
          * Creates a new frame computing class writer.
          *
@@ -95,8 +199,20 @@ public interface ClassWriterStrategy {
          * @param typePool The type pool to use for computing stack map frames, if required.
          */
         public FrameComputingClassWriter(int flags, TypePool typePool) {
+            this(flags, typePool, new HashMap<String, String>());
+        }
+
+        /**
+         * Creates a new frame computing class writer.
+         *
+         * @param flags              The flags to be handed to the writer.
+         * @param typePool           The type pool to use for computing stack map frames, if required.
+         * @param commonSuperClasses A mapping of pairs of internal type names to the internal name of their common super class.
+         */
+        public FrameComputingClassWriter(int flags, TypePool typePool, Map<String, String> commonSuperClasses) {
             super(flags);
             this.typePool = typePool;
+            this.commonSuperClasses = commonSuperClasses;
         }
 
         /**
@@ -107,14 +223,43 @@ public interface ClassWriterStrategy {
          * @param typePool    The type pool to use for computing stack map frames, if required.
          */
         public FrameComputingClassWriter(ClassReader classReader, int flags, TypePool typePool) {
+            this(classReader, flags, typePool, new HashMap<String, String>());
+        }
+
+        /**
+         * Creates a new frame computing class writer.
+         *
+         * @param classReader        The class reader from which the original class is read.
+         * @param flags              The flags to be handed to the writer.
+         * @param typePool           The type pool to use for computing stack map frames, if required.
+         * @param commonSuperClasses A mapping of pairs of internal type names to the internal name of their common super class.
+         */
+        public FrameComputingClassWriter(ClassReader classReader, int flags, TypePool typePool, Map<String, String> commonSuperClasses) {
             super(classReader, flags);
             this.typePool = typePool;
+            this.commonSuperClasses = commonSuperClasses;
         }
 
         /**
          * {@inheritDoc}
          */
         protected String getCommonSuperClass(String leftTypeName, String rightTypeName) {
+            String key = leftTypeName + SEPARATOR + rightTypeName, commonSuperClass = commonSuperClasses.get(key);
+            if (commonSuperClass == null) {
+                commonSuperClass = doGetCommonSuperClass(leftTypeName, rightTypeName);
+                commonSuperClasses.put(key, commonSuperClass);
+            }
+            return commonSuperClass;
+        }
+
+        /**
+         * Resolves the common super class of two types without considering previously computed results.
+         *
+         * @param leftTypeName  The internal name of the first type.
+         * @param rightTypeName The internal name of the second type.
+         * @return The internal name of the common super class of both types.
+         */
+        protected String doGetCommonSuperClass(String leftTypeName, String rightTypeName) {
             TypeDescription leftType = typePool.describe(leftTypeName.replace('/', '.')).resolve();
             TypeDescription rightType = typePool.describe(rightTypeName.replace('/', '.')).resolve();
             if (leftType.isAssignableFrom(rightType)) {
@@ -20,6 +20,7 @@ import net.bytebuddy.build.HashCodeAndEqualsPlugin;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.PackageDescription;
 import net.bytebuddy.description.type.TypeDefinition;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
@@ -563,7 +564,18 @@ public interface MethodGraph {
              * {@inheritDoc}
              */
             public MethodGraph.Linked compile(TypeDefinition typeDefinition, TypeDescription viewPoint) {
-                Map<TypeDefinition, Key.Store<T>> snapshots = new HashMap<TypeDefinition, Key.Store<T>>();
+                return compile(typeDefinition, viewPoint, new HashMap<TypeDefinition, Key.Store<T>>());
+            }
+
+            /**
+             * Compiles the given type into a method graph.
+             *
+             * @param typeDefinition The type to be compiled.
+             * @param viewPoint      The view point that determines the method's visibility.
+             * @param snapshots      A map containing snapshots of key stores for previously analyzed types.
+             * @return A linked method graph representing the given type.
+             */
+            protected MethodGraph.Linked compile(TypeDefinition typeDefinition, TypeDescription viewPoint, Map<TypeDefinition, Key.Store<T>> snapshots) {
                 Key.Store<?> rootStore = doAnalyze(typeDefinition, snapshots, isVirtual().and(isVisibleTo(viewPoint)));
                 TypeDescription.Generic superClass = typeDefinition.getSuperClass();
                 List<TypeDescription.Generic> interfaceTypes = typeDefinition.getInterfaces();
@@ -634,6 +646,254 @@ public interface MethodGraph {
                 return store.inject(interfaceStore).registerTopLevel(typeDefinition.getDeclaredMethods().filter(relevanceMatcher), harmonizer);
             }
 
+            /**
+             * <p>
+             * A default method graph compiler that shares the analysis of super types among compilations. When a type is compiled
+             * from its own view point, the methods of its super types that are relevant to the method graph only depend on the package
+             * of the compiled type. Therefore, the analysis of a super type is cached for a given package and reused when another type
+             * of the same package inherits from the same super type. This avoids repeatedly walking deep type hierarchies that are shared
+             * by many types.
+             * </p>
+             * <p>
+             * A super type is identified by the identity of its erasure. A cached analysis is therefore only reused if a type description
+             * is represented by the same instance, for example when it is resolved from a {@link net.bytebuddy.pool.TypePool} with a cache.
+             * Only non-generic types and types that are parameterized with non-generic types are cached. The cache retains at most the
+             * specified number of analyses and evicts the least recently used analysis first. The cache is safe for concurrent use.
+             * </p>
+             *
+             * @param <T> The type of the harmonizer token to be used for linking methods of different types.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            public static class WithSuperTypeCache<T> extends Default<T> {
+
+                /**
+                 * The maximum number of analyses to retain.
+                 */
+                private final int maximumSize;
+
+                /**
+                 * The cached analyses of super types in the order of their last use.
+                 */
+                @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+                private final LinkedHashMap<CacheKey, Key.Store<T>> cache;
+
+                /**
+                 * Creates a new default method graph compiler with a super type cache.
+                 *
+                 * @param harmonizer  The harmonizer to be used.
+                 * @param merger      The merger to be used.
+                 * @param visitor     A visitor to apply to all type descriptions before analyzing their methods or resolving super types.
+                 * @param maximumSize The maximum number of analyses to retain.
+                 */
+                public WithSuperTypeCache(Harmonizer<T> harmonizer,
+                                          Merger merger,
+                                          TypeDescription.Generic.Visitor<? extends TypeDescription.Generic> visitor,
+                                          int maximumSize) {
+                    super(harmonizer, merger, visitor);
+                    if (maximumSize < 1) {
+                        throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+                    }
+                    this.maximumSize = maximumSize;
+                    cache = new LinkedHashMap<CacheKey, Key.Store<T>>(16, 0.75f, true);
+                }
+
+                /**
+                 * Creates a caching compiler for a method hierarchy following the rules of the Java programming language.
+                 *
+                 * @param maximumSize The maximum number of analyses to retain.
+                 * @return A caching compiler for resolving a method hierarchy following the rules of the Java programming language.
+                 */
+                public static Compiler forJavaHierarchy(int maximumSize) {
+                    return new WithSuperTypeCache<Harmonizer.ForJavaMethod.Token>(Harmonizer.ForJavaMethod.INSTANCE,
+                            Merger.Directional.LEFT,
+                            TypeDescription.Generic.Visitor.Reifying.INITIATING,
+                            maximumSize);
+                }
+
+                /**
+                 * Creates a caching compiler for a method hierarchy following the rules of the Java virtual machine.
+                 *
+                 * @param maximumSize The maximum number of analyses to retain.
+                 * @return A caching compiler for resolving a method hierarchy following the rules of the Java virtual machine.
+                 */
+                public static Compiler forJVMHierarchy(int maximumSize) {
+                    return new WithSuperTypeCache<Harmonizer.ForJVMMethod.Token>(Harmonizer.ForJVMMethod.INSTANCE,
+                            Merger.Directional.LEFT,
+                            TypeDescription.Generic.Visitor.Reifying.INITIATING,
+                            maximumSize);
+                }
+
+                /**
+                 * Determines if the analysis of a type can be cached. This is only the case for non-generic types and for types that are
+                 * parameterized with such types as any other type might reference type variables of the compiled type.
+                 *
+                 * @param typeDefinition The type to check.
+                 * @return {@code true} if the analysis of the supplied type can be cached.
+                 */
+                private static boolean isCacheable(TypeDefinition typeDefinition) {
+                    if (typeDefinition.getSort().isNonGeneric()) {
+                        return true;
+                    } else if (!typeDefinition.getSort().isParameterized()) {
+                        return false;
+                    }
+                    TypeDescription.Generic ownerType = typeDefinition.asGenericType().getOwnerType();
+                    if (ownerType != null && !isCacheable(ownerType)) {
+                        return false;
+                    }
+                    for (TypeDescription.Generic typeArgument : typeDefinition.asGenericType().getTypeArguments()) {
+                        if (!isCacheable(typeArgument)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+
+                @Override
+                public MethodGraph.Linked compile(TypeDefinition typeDefinition, TypeDescription viewPoint) {
+                    return compile(typeDefinition, viewPoint, typeDefinition.asErasure().equals(viewPoint)
+                            ? new CachingSnapshots(viewPoint.getPackage())
+                            : new HashMap<TypeDefinition, Key.Store<T>>());
+                }
+
+                /**
+                 * Returns the number of currently cached analyses.
+                 *
+                 * @return The number of currently cached analyses.
+                 */
+                public int getSize() {
+                    synchronized (cache) {
+                        return cache.size();
+                    }
+                }
+
+                /**
+                 * Removes all cached analyses.
+                 */
+                public void clear() {
+                    synchronized (cache) {
+                        cache.clear();
+                    }
+                }
+
+                /**
+                 * A key for a cached analysis.
+                 */
+                protected static class CacheKey {
+
+                    /**
+                     * The erasure of the analyzed type which is compared by identity.
+                     */
+                    private final TypeDescription typeDescription;
+
+                    /**
+                     * The analyzed type.
+                     */
+                    private final TypeDefinition typeDefinition;
+
+                    /**
+                     * The package of the view point or {@code null} if the view point does not define a package.
+                     */
+                    private final PackageDescription packageDescription;
+
+                    /**
+                     * The hash code of this key which is precomputed to improve performance.
+                     */
+                    private final int hashCode;
+
+                    /**
+                     * Creates a new cache key.
+                     *
+                     * @param typeDefinition     The analyzed type.
+                     * @param packageDescription The package of the view point or {@code null} if the view point does not define a package.
+                     */
+                    protected CacheKey(TypeDefinition typeDefinition, PackageDescription packageDescription) {
+                        this.typeDefinition = typeDefinition;
+                        this.packageDescription = packageDescription;
+                        typeDescription = typeDefinition.asErasure();
+                        hashCode = 31 * (31 * System.identityHashCode(typeDescription) + typeDefinition.hashCode())
+                                + (packageDescription == null ? 0 : packageDescription.hashCode());
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return hashCode;
+                    }
+
+                    @Override
+                    public boolean equals(Object other) {
+                        if (this == other) {
+                            return true;
+                        } else if (!(other instanceof CacheKey)) {
+                            return false;
+                        }
+                        CacheKey cacheKey = (CacheKey) other;
+                        return typeDescription == cacheKey.typeDescription
+                                && typeDefinition.equals(cacheKey.typeDefinition)
+                                && (packageDescription == null ? cacheKey.packageDescription == null : packageDescription.equals(cacheKey.packageDescription));
+                    }
+                }
+
+                /**
+                 * A map of snapshots that reads and writes the analyses of cacheable types from and to the compiler's cache.
+                 */
+                protected class CachingSnapshots extends AbstractMap<TypeDefinition, Key.Store<T>> {
+
+                    /**
+                     * The package of the view point or {@code null} if the view point does not define a package.
+                     */
+                    private final PackageDescription packageDescription;
+
+                    /**
+                     * The snapshots of the current compilation.
+                     */
+                    private final Map<TypeDefinition, Key.Store<T>> snapshots;
+
+                    /**
+                     * Creates a new caching map of snapshots.
+                     *
+                     * @param packageDescription The package of the view point or {@code null} if the view point does not define a package.
+                     */
+                    protected CachingSnapshots(PackageDescription packageDescription) {
+                        this.packageDescription = packageDescription;
+                        snapshots = new HashMap<TypeDefinition, Key.Store<T>>();
+                    }
+
+                    @Override
+                    public Key.Store<T> get(Object key) {
+                        Key.Store<T> store = snapshots.get(key);
+                        if (store == null && key instanceof TypeDefinition && isCacheable((TypeDefinition) key)) {
+                            synchronized (cache) {
+                                store = cache.get(new CacheKey((TypeDefinition) key, packageDescription));
+                            }
+                            if (store != null) {
+                                snapshots.put((TypeDefinition) key, store);
+                            }
+                        }
+                        return store;
+                    }
+
+                    @Override
+                    public Key.Store<T> put(TypeDefinition key, Key.Store<T> store) {
+                        if (isCacheable(key)) {
+                            synchronized (cache) {
+                                cache.put(new CacheKey(key, packageDescription), store);
+                                if (cache.size() > maximumSize) {
+                                    Iterator<CacheKey> iterator = cache.keySet().iterator();
+                                    iterator.next();
+                                    iterator.remove();
+                                }
+                            }
+                        }
+                        return snapshots.put(key, store);
+                    }
+
+                    @Override
+                    public Set<Map.Entry<TypeDefinition, Key.Store<T>>> entrySet() {
+                        return snapshots.entrySet();
+                    }
+                }
+            }
+
             /**
              * A harmonizer is responsible for creating a token that identifies a method's relevant attributes for considering
              * two methods of being equal or not.
@@ -2285,6 +2285,21 @@ public interface TypeWriter<T> {
                         : classVisitor;
             }
 
+            /**
+             * Resolves the method visitor of a method that is retained from an original class file without any alteration. If the
+             * supplied method visitor is a validating method visitor that is not wrapped by any other visitor, the validation is
+             * skipped as the retained method is already valid within its class file. This allows ASM to copy the original method's
+             * byte representation without visiting its code, given that the class writer shares the original class's constant pool.
+             *
+             * @param methodVisitor The method visitor that was resolved for the retained method or {@code null} if it is ignored.
+             * @return The method visitor to which the retained method is written.
+             */
+            protected static MethodVisitor ofRetained(MethodVisitor methodVisitor) {
+                return methodVisitor instanceof ValidatingMethodVisitor
+                        ? ((ValidatingMethodVisitor) methodVisitor).getMethodVisitor()
+                        : methodVisitor;
+            }
+
             @Override
             public void visit(int version, int modifiers, String name, String signature, String superName, String[] interfaces) {
                 ClassFileVersion classFileVersion = ClassFileVersion.ofMinorMajor(version);
@@ -3641,6 +3656,15 @@ public interface TypeWriter<T> {
                     this.name = name;
                 }
 
+                /**
+                 * Returns the method visitor to which this validating method visitor delegates.
+                 *
+                 * @return The method visitor to which this validating method visitor delegates.
+                 */
+                protected MethodVisitor getMethodVisitor() {
+                    return mv;
+                }
+
                 @Override
                 public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
                     constraint.assertAnnotation();
@@ -4925,7 +4949,7 @@ public interface TypeWriter<T> {
                         } else {
                             MethodDescription methodDescription = declarableMethods.remove(internalName + descriptor);
                             return methodDescription == null
-                                    ? cv.visitMethod(modifiers, internalName, descriptor, genericSignature, exceptionName)
+                                    ? ValidatingClassVisitor.ofRetained(cv.visitMethod(modifiers, internalName, descriptor, genericSignature, exceptionName))
                                     : redefine(methodDescription, (modifiers & Opcodes.ACC_ABSTRACT) != 0, modifiers, genericSignature);
                         }
                     }
@@ -4943,13 +4967,13 @@ public interface TypeWriter<T> {
                     protected MethodVisitor redefine(MethodDescription methodDescription, boolean abstractOrigin, int modifiers, String genericSignature) {
                         MethodPool.Record record = methodPool.target(methodDescription);
                         if (!record.getSort().isDefined()) {
-                            return cv.visitMethod(methodDescription.getActualModifiers() | resolveDeprecationModifiers(modifiers),
+                            return ValidatingClassVisitor.ofRetained(cv.visitMethod(methodDescription.getActualModifiers() | resolveDeprecationModifiers(modifiers),
                                     methodDescription.getInternalName(),
                                     methodDescription.getDescriptor(),
                                     TypeDescription.AbstractBase.RAW_TYPES
                                             ? genericSignature
                                             : methodDescription.getGenericSignature(),
-                                    methodDescription.getExceptionTypes().asErasures().toInternalNames());
+                                    methodDescription.getExceptionTypes().asErasures().toInternalNames()));
                         }
                         MethodDescription implementedMethod = record.getMethod();
                         MethodVisitor methodVisitor = cv.visitMethod(ModifierContributor.Resolver
@@ -5515,6 +5539,11 @@ public interface TypeWriter<T> {
                         typeAttributeAppender.apply(cv, instrumentedType, annotationValueFilterFactory.on(instrumentedType));
                     }
 
+                    @Override
+                    protected MethodVisitor onVisitMethod(int modifiers, String internalName, String descriptor, String genericSignature, String[] exceptionName) {
+                        return ValidatingClassVisitor.ofRetained(cv.visitMethod(modifiers, internalName, descriptor, genericSignature, exceptionName));
+                    }
+
                     @Override
                     protected void onVisitEnd() {
                         implementationContext.drain(this, cv, annotationValueFilterFactory);
@@ -51,11 +51,18 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
-import static net.bytebuddy.matcher.ElementMatchers.isVirtual;
-import static net.bytebuddy.matcher.ElementMatchers.not;
+import static net.bytebuddy.matcher.ElementMatchers.*;
 
 /**
+ * <p>
  * A type builder that decorates a type by allowing for the application of attribute changes and ASM visitor wrappers.
+ * </p>
+ * <p>
+ * If all registered ASM visitor wrappers are {@link AsmVisitorWrapper.ForDeclaredMethods}, as for example when applying an
+ * {@link net.bytebuddy.asm.Advice}, only the methods that are declared by the instrumented type are supplied to the wrappers
+ * since no other method is visited. In this case, the instrumented type's method graph is never compiled such that the
+ * class file is streamed through the wrappers without resolving the instrumented type's hierarchy.
+ * </p>
  *
  * @param <T> A loaded type that the built type is guaranteed to be a subclass of.
  */
@@ -77,6 +84,11 @@ public class DecoratingDynamicTypeBuilder<T> extends DynamicType.Builder.Abstrac
      */
     private final AsmVisitorWrapper asmVisitorWrapper;
 
+    /**
+     * {@code true} if all registered ASM visitor wrappers only consider the methods that are declared by the instrumented type.
+     */
+    private final boolean declaredMethodsOnly;
+
     /**
      * The class file version to define auxiliary types in.
      */
@@ -163,6 +175,7 @@ public class DecoratingDynamicTypeBuilder<T> extends DynamicType.Builder.Abstrac
                         ? new TypeAttributeAppender.ForInstrumentedType.Differentiating(instrumentedType)
                         : TypeAttributeAppender.ForInstrumentedType.INSTANCE,
                 AsmVisitorWrapper.NoOp.INSTANCE,
+                true,
                 classFileVersion,
                 auxiliaryTypeNamingStrategy,
                 annotationValueFilterFactory,
@@ -182,6 +195,7 @@ public class DecoratingDynamicTypeBuilder<T> extends DynamicType.Builder.Abstrac
      * @param instrumentedType             The instrumented type to decorate.
      * @param typeAttributeAppender        The type attribute appender to apply onto the instrumented type.
      * @param asmVisitorWrapper            The ASM visitor wrapper to apply onto the class writer.
+     * @param declaredMethodsOnly          {@code true} if all registered ASM visitor wrappers only consider the methods that are declared by the instrumented type.
      * @param classFileVersion             The class file version to define auxiliary types in.
      * @param auxiliaryTypeNamingStrategy  The naming strategy for auxiliary types to apply.
      * @param annotationValueFilterFactory The annotation value filter factory to apply.
@@ -197,6 +211,7 @@ public class DecoratingDynamicTypeBuilder<T> extends DynamicType.Builder.Abstrac
     protected DecoratingDynamicTypeBuilder(TypeDescription instrumentedType,
                                            TypeAttributeAppender typeAttributeAppender,
                                            AsmVisitorWrapper asmVisitorWrapper,
+                                           boolean declaredMethodsOnly,
                                            ClassFileVersion classFileVersion,
                                            AuxiliaryType.NamingStrategy auxiliaryTypeNamingStrategy,
                                            AnnotationValueFilter.Factory annotationValueFilterFactory,
@@ -211,6 +226,7 @@ public class DecoratingDynamicTypeBuilder<T> extends DynamicType.Builder.Abstrac
         this.instrumentedType = instrumentedType;
         this.typeAttributeAppender = typeAttributeAppender;
         this.asmVisitorWrapper = asmVisitorWrapper;
+        this.declaredMethodsOnly = declaredMethodsOnly;
         this.classFileVersion = classFileVersion;
         this.auxiliaryTypeNamingStrategy = auxiliaryTypeNamingStrategy;
         this.annotationValueFilterFactory = annotationValueFilterFactory;
@@ -231,6 +247,7 @@ public class DecoratingDynamicTypeBuilder<T> extends DynamicType.Builder.Abstrac
         return new DecoratingDynamicTypeBuilder<T>(instrumentedType,
                 typeAttributeAppender,
                 new AsmVisitorWrapper.Compound(this.asmVisitorWrapper, asmVisitorWrapper),
+                declaredMethodsOnly && asmVisitorWrapper instanceof AsmVisitorWrapper.ForDeclaredMethods,
                 classFileVersion,
                 auxiliaryTypeNamingStrategy,
                 annotationValueFilterFactory,
@@ -321,6 +338,7 @@ public class DecoratingDynamicTypeBuilder<T> extends DynamicType.Builder.Abstrac
         return new DecoratingDynamicTypeBuilder<T>(instrumentedType,
                 new TypeAttributeAppender.Compound(this.typeAttributeAppender, typeAttributeAppender),
                 asmVisitorWrapper,
+                declaredMethodsOnly,
                 classFileVersion,
                 auxiliaryTypeNamingStrategy,
                 annotationValueFilterFactory,
@@ -398,6 +416,7 @@ public class DecoratingDynamicTypeBuilder<T> extends DynamicType.Builder.Abstrac
         return new DecoratingDynamicTypeBuilder<T>(instrumentedType,
                 typeAttributeAppender,
                 asmVisitorWrapper,
+                declaredMethodsOnly,
                 classFileVersion,
                 auxiliaryTypeNamingStrategy,
                 annotationValueFilterFactory,
@@ -451,6 +470,7 @@ public class DecoratingDynamicTypeBuilder<T> extends DynamicType.Builder.Abstrac
         return new DecoratingDynamicTypeBuilder<T>(instrumentedType,
                 typeAttributeAppender,
                 asmVisitorWrapper,
+                declaredMethodsOnly,
                 classFileVersion,
                 auxiliaryTypeNamingStrategy,
                 annotationValueFilterFactory,
@@ -475,13 +495,19 @@ public class DecoratingDynamicTypeBuilder<T> extends DynamicType.Builder.Abstrac
      * {@inheritDoc}
      */
     public DynamicType.Unloaded<T> make(TypeResolutionStrategy typeResolutionStrategy, TypePool typePool) {
+        List<? extends MethodDescription> methods;
+        if (declaredMethodsOnly) {
+            methods = instrumentedType.getDeclaredMethods().filter(not(isVirtual()).or(not(isBridge()).and(not(ignoredMethods.resolve(instrumentedType)))));
+        } else {
+            methods = CompoundList.of(methodGraphCompiler.compile(instrumentedType)
+                    .listNodes()
+                    .asMethodList()
+                    .filter(not(ignoredMethods.resolve(instrumentedType))), instrumentedType.getDeclaredMethods().filter(not(isVirtual())));
+        }
         return TypeWriter.Default.<T>forDecoration(instrumentedType,
                 classFileVersion,
                 auxiliaryTypes,
-                CompoundList.of(methodGraphCompiler.compile(instrumentedType)
-                        .listNodes()
-                        .asMethodList()
-                        .filter(not(ignoredMethods.resolve(instrumentedType))), instrumentedType.getDeclaredMethods().filter(not(isVirtual()))),
+                methods,
                 typeAttributeAppender,
                 asmVisitorWrapper,
                 annotationValueFilterFactory,
@@ -23,7 +23,7 @@ import net.bytebuddy.build.HashCodeAndEqualsPlugin;
  * @param <T> The actual matched type of this matcher.
  */
 @HashCodeAndEqualsPlugin.Enhance
-public class BooleanMatcher<T> extends ElementMatcher.Junction.AbstractBase<T> {
+public class BooleanMatcher<T> extends ElementMatcher.Junction.AbstractBase<T> implements CompiledMatcher.Compilable, InternalNameMatcher.Translatable {
 
     /**
      * The predefined result.
@@ -46,6 +46,20 @@ public class BooleanMatcher<T> extends ElementMatcher.Junction.AbstractBase<T> {
         return matches;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public CompiledMatcher.Evaluation toEvaluation() {
+        return CompiledMatcher.Evaluation.ForConstant.of(matches);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public ElementMatcher<String> toInternalNameMatcher() {
+        return new BooleanMatcher<String>(matches);
+    }
+
     @Override
     public String toString() {
         return Boolean.toString(matches);
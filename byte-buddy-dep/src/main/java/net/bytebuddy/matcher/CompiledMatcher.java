@@ -0,0 +1,612 @@
+/*
+ * Copyright 2014 - 2020 Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.matcher;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.build.HashCodeAndEqualsPlugin;
+import net.bytebuddy.description.ModifierReviewable;
+import net.bytebuddy.description.NamedElement;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+/**
+ * <p>
+ * A matcher that evaluates another matcher by a generated class. When compiling a matcher, any conjunction, disjunction
+ * and negation is flattened into a single method that short-circuits by jumping instructions, and comparisons of names
+ * or modifiers against constant values are inlined without allocating any intermediate matcher invocation. Any matcher
+ * that cannot be compiled remains represented as a delegate that is invoked from the generated code.
+ * </p>
+ * <p>
+ * <b>Important</b>: Compiling a matcher defines a new class. Compilation should therefore only be applied to matchers that
+ * are evaluated frequently and that are retained for the life-time of an application, such as the matchers of a Java agent.
+ * </p>
+ *
+ * @param <T> The type of the matched element.
+ */
+@HashCodeAndEqualsPlugin.Enhance(permitSubclassEquality = true)
+public abstract class CompiledMatcher<T> extends ElementMatcher.Junction.AbstractBase<T> implements NameConstraint.Provider {
+
+    /**
+     * The original matcher that is represented by this compiled matcher.
+     */
+    protected final ElementMatcher<? super T> matcher;
+
+    /**
+     * The matchers that are invoked by the compiled code for matchers that cannot be inlined.
+     */
+    @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+    protected final ElementMatcher<?>[] delegates;
+
+    /**
+     * Creates a new compiled matcher.
+     *
+     * @param matcher   The original matcher that is represented by this compiled matcher.
+     * @param delegates The matchers that are invoked by the compiled code for matchers that cannot be inlined.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The array is never modified and only exposed to generated code")
+    protected CompiledMatcher(ElementMatcher<? super T> matcher, ElementMatcher<?>[] delegates) {
+        this.matcher = matcher;
+        this.delegates = delegates;
+    }
+
+    /**
+     * Compiles the supplied matcher into a generated class.
+     *
+     * @param matcher The matcher to compile.
+     * @param <S>     The type of the matched element.
+     * @return A compiled representation of the supplied matcher.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S> CompiledMatcher<S> of(ElementMatcher<? super S> matcher) {
+        if (matcher instanceof CompiledMatcher) {
+            return (CompiledMatcher<S>) matcher;
+        }
+        Context context = new Context();
+        Evaluation evaluation = toEvaluation(matcher);
+        Class<?> type = new ByteBuddy()
+                .with(TypeValidation.DISABLED)
+                .subclass(CompiledMatcher.class, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING)
+                .method(named("matches").and(takesArguments(1)))
+                .intercept(new Appender(evaluation, context))
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods().writerFlags(ClassWriter.COMPUTE_FRAMES))
+                .make()
+                .load(CompiledMatcher.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        try {
+            return (CompiledMatcher<S>) type.getDeclaredConstructor(ElementMatcher.class, ElementMatcher[].class).newInstance(matcher, context.getDelegates());
+        } catch (InstantiationException exception) {
+            throw new IllegalStateException("Cannot instantiate compiled matcher for " + matcher, exception);
+        } catch (IllegalAccessException exception) {
+            throw new IllegalStateException("Cannot access compiled matcher for " + matcher, exception);
+        } catch (NoSuchMethodException exception) {
+            throw new IllegalStateException("Cannot find constructor of compiled matcher for " + matcher, exception);
+        } catch (InvocationTargetException exception) {
+            throw new IllegalStateException("Cannot create compiled matcher for " + matcher, exception.getCause());
+        }
+    }
+
+    /**
+     * Resolves an evaluation for the supplied matcher.
+     *
+     * @param matcher The matcher to resolve an evaluation for.
+     * @return An evaluation of the supplied matcher.
+     */
+    protected static Evaluation toEvaluation(ElementMatcher<?> matcher) {
+        return matcher instanceof Compilable
+                ? ((Compilable) matcher).toEvaluation()
+                : new Evaluation.ForDelegation(matcher);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public NameConstraint getNameConstraint() {
+        return NameConstraint.of(matcher);
+    }
+
+    @Override
+    public String toString() {
+        return "compiled(" + matcher + ")";
+    }
+
+    /**
+     * A matcher that can be represented by an evaluation within a compiled matcher.
+     */
+    public interface Compilable {
+
+        /**
+         * Returns an evaluation that represents this matcher.
+         *
+         * @return An evaluation that represents this matcher.
+         */
+        Evaluation toEvaluation();
+    }
+
+    /**
+     * A context for the compilation of a matcher that collects any delegate matchers and that allocates local variables.
+     */
+    public static class Context {
+
+        /**
+         * The offset of the first local variable that is not occupied by the matching method's parameter.
+         */
+        private static final int FIRST_FREE_OFFSET = 2;
+
+        /**
+         * The matchers that are invoked by the compiled code.
+         */
+        private final List<ElementMatcher<?>> delegates;
+
+        /**
+         * The next offset of a local variable that is not yet allocated.
+         */
+        private int offset;
+
+        /**
+         * Creates a new context.
+         */
+        protected Context() {
+            delegates = new ArrayList<ElementMatcher<?>>();
+            offset = FIRST_FREE_OFFSET;
+        }
+
+        /**
+         * Registers a delegate matcher that is invoked by the compiled code.
+         *
+         * @param matcher The matcher to register.
+         * @return The index of the registered matcher within the compiled matcher's delegates.
+         */
+        public int register(ElementMatcher<?> matcher) {
+            delegates.add(matcher);
+            return delegates.size() - 1;
+        }
+
+        /**
+         * Allocates a local variable of a single slot.
+         *
+         * @return The offset of the allocated local variable.
+         */
+        public int allocate() {
+            return offset++;
+        }
+
+        /**
+         * Returns the size of the local variable array that is required by the compiled code.
+         *
+         * @return The size of the local variable array that is required by the compiled code.
+         */
+        protected int getLocalVariableLength() {
+            return offset;
+        }
+
+        /**
+         * Returns the matchers that are invoked by the compiled code.
+         *
+         * @return The matchers that are invoked by the compiled code.
+         */
+        protected ElementMatcher<?>[] getDelegates() {
+            return delegates.toArray(new ElementMatcher<?>[0]);
+        }
+    }
+
+    /**
+     * An evaluation of a matcher within the compiled matching method. Any evaluation expects an empty operand stack and leaves
+     * the operand stack empty. If the evaluated element is matched, the control flow falls through the emitted code; otherwise,
+     * it jumps to the supplied label.
+     */
+    public interface Evaluation {
+
+        /**
+         * The maximum size of the operand stack that is required by any evaluation.
+         */
+        int STACK_SIZE = 4;
+
+        /**
+         * Applies this evaluation.
+         *
+         * @param methodVisitor The method visitor to write to.
+         * @param context       The context of the current compilation.
+         * @param offset        The offset of the local variable that holds the evaluated element.
+         * @param mismatch      The label to jump to if the evaluated element is not matched.
+         */
+        void apply(MethodVisitor methodVisitor, Context context, int offset, Label mismatch);
+
+        /**
+         * An evaluation of a constant result.
+         */
+        enum ForConstant implements Evaluation {
+
+            /**
+             * An evaluation that always matches.
+             */
+            MATCHING(true),
+
+            /**
+             * An evaluation that never matches.
+             */
+            NON_MATCHING(false);
+
+            /**
+             * {@code true} if this evaluation always matches.
+             */
+            private final boolean matches;
+
+            /**
+             * Creates a new constant evaluation.
+             *
+             * @param matches {@code true} if this evaluation always matches.
+             */
+            ForConstant(boolean matches) {
+                this.matches = matches;
+            }
+
+            /**
+             * Resolves a constant evaluation.
+             *
+             * @param matches {@code true} if the evaluation should always match.
+             * @return An appropriate constant evaluation.
+             */
+            public static Evaluation of(boolean matches) {
+                return matches
+                        ? MATCHING
+                        : NON_MATCHING;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void apply(MethodVisitor methodVisitor, Context context, int offset, Label mismatch) {
+                if (!matches) {
+                    methodVisitor.visitJumpInsn(Opcodes.GOTO, mismatch);
+                }
+            }
+        }
+
+        /**
+         * An evaluation of a conjunction that only evaluates its right evaluation if the left evaluation matched.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class ForConjunction implements Evaluation {
+
+            /**
+             * The evaluations of the conjunction.
+             */
+            private final Evaluation left, right;
+
+            /**
+             * Creates a new evaluation of a conjunction.
+             *
+             * @param left  The left evaluation of the conjunction.
+             * @param right The right evaluation of the conjunction.
+             */
+            public ForConjunction(Evaluation left, Evaluation right) {
+                this.left = left;
+                this.right = right;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void apply(MethodVisitor methodVisitor, Context context, int offset, Label mismatch) {
+                left.apply(methodVisitor, context, offset, mismatch);
+                right.apply(methodVisitor, context, offset, mismatch);
+            }
+        }
+
+        /**
+         * An evaluation of a disjunction that only evaluates its right evaluation if the left evaluation did not match.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class ForDisjunction implements Evaluation {
+
+            /**
+             * The evaluations of the disjunction.
+             */
+            private final Evaluation left, right;
+
+            /**
+             * Creates a new evaluation of a disjunction.
+             *
+             * @param left  The left evaluation of the disjunction.
+             * @param right The right evaluation of the disjunction.
+             */
+            public ForDisjunction(Evaluation left, Evaluation right) {
+                this.left = left;
+                this.right = right;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void apply(MethodVisitor methodVisitor, Context context, int offset, Label mismatch) {
+                Label next = new Label(), matched = new Label();
+                left.apply(methodVisitor, context, offset, next);
+                methodVisitor.visitJumpInsn(Opcodes.GOTO, matched);
+                methodVisitor.visitLabel(next);
+                right.apply(methodVisitor, context, offset, mismatch);
+                methodVisitor.visitLabel(matched);
+            }
+        }
+
+        /**
+         * An evaluation that negates another evaluation.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class ForNegation implements Evaluation {
+
+            /**
+             * The negated evaluation.
+             */
+            private final Evaluation evaluation;
+
+            /**
+             * Creates a new negating evaluation.
+             *
+             * @param evaluation The negated evaluation.
+             */
+            public ForNegation(Evaluation evaluation) {
+                this.evaluation = evaluation;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void apply(MethodVisitor methodVisitor, Context context, int offset, Label mismatch) {
+                Label matched = new Label();
+                evaluation.apply(methodVisitor, context, offset, matched);
+                methodVisitor.visitJumpInsn(Opcodes.GOTO, mismatch);
+                methodVisitor.visitLabel(matched);
+            }
+        }
+
+        /**
+         * An evaluation that resolves the actual name of a {@link NamedElement} and applies another evaluation to this name.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class ForName implements Evaluation {
+
+            /**
+             * The evaluation to apply to the element's name.
+             */
+            private final Evaluation evaluation;
+
+            /**
+             * Creates a new evaluation of an element's name.
+             *
+             * @param evaluation The evaluation to apply to the element's name.
+             */
+            public ForName(Evaluation evaluation) {
+                this.evaluation = evaluation;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void apply(MethodVisitor methodVisitor, Context context, int offset, Label mismatch) {
+                int name = context.allocate();
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, offset);
+                methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(NamedElement.class));
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE,
+                        Type.getInternalName(NamedElement.class),
+                        "getActualName",
+                        Type.getMethodDescriptor(Type.getType(String.class)),
+                        true);
+                methodVisitor.visitVarInsn(Opcodes.ASTORE, name);
+                evaluation.apply(methodVisitor, context, name, mismatch);
+            }
+        }
+
+        /**
+         * An evaluation that compares a {@link String} to a constant value.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class ForString implements Evaluation {
+
+            /**
+             * The constant value to compare to.
+             */
+            private final String value;
+
+            /**
+             * The name of the {@link String} method that compares the evaluated string to the constant value.
+             */
+            private final String name;
+
+            /**
+             * The descriptor of the {@link String} method that compares the evaluated string to the constant value.
+             */
+            private final String descriptor;
+
+            /**
+             * Creates a new evaluation of a {@link String}.
+             *
+             * @param value      The constant value to compare to.
+             * @param name       The name of the {@link String} method that compares the evaluated string to the constant value.
+             * @param descriptor The descriptor of the {@link String} method that compares the evaluated string to the constant value.
+             */
+            public ForString(String value, String name, String descriptor) {
+                this.value = value;
+                this.name = name;
+                this.descriptor = descriptor;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void apply(MethodVisitor methodVisitor, Context context, int offset, Label mismatch) {
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, offset);
+                methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(String.class));
+                methodVisitor.visitLdcInsn(value);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(String.class), name, descriptor, false);
+                methodVisitor.visitJumpInsn(Opcodes.IFEQ, mismatch);
+            }
+        }
+
+        /**
+         * An evaluation that checks if a {@link ModifierReviewable} declares any modifier of a constant mask.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class ForModifiers implements Evaluation {
+
+            /**
+             * The mask of modifiers of which at least one must be declared.
+             */
+            private final int modifiers;
+
+            /**
+             * Creates a new evaluation of modifiers.
+             *
+             * @param modifiers The mask of modifiers of which at least one must be declared.
+             */
+            public ForModifiers(int modifiers) {
+                this.modifiers = modifiers;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void apply(MethodVisitor methodVisitor, Context context, int offset, Label mismatch) {
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, offset);
+                methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(ModifierReviewable.class));
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE,
+                        Type.getInternalName(ModifierReviewable.class),
+                        "getModifiers",
+                        Type.getMethodDescriptor(Type.INT_TYPE),
+                        true);
+                methodVisitor.visitLdcInsn(modifiers);
+                methodVisitor.visitInsn(Opcodes.IAND);
+                methodVisitor.visitJumpInsn(Opcodes.IFEQ, mismatch);
+            }
+        }
+
+        /**
+         * An evaluation that invokes a matcher that cannot be compiled.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class ForDelegation implements Evaluation {
+
+            /**
+             * The matcher to invoke.
+             */
+            private final ElementMatcher<?> matcher;
+
+            /**
+             * Creates a new delegating evaluation.
+             *
+             * @param matcher The matcher to invoke.
+             */
+            public ForDelegation(ElementMatcher<?> matcher) {
+                this.matcher = matcher;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void apply(MethodVisitor methodVisitor, Context context, int offset, Label mismatch) {
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+                methodVisitor.visitFieldInsn(Opcodes.GETFIELD,
+                        Type.getInternalName(CompiledMatcher.class),
+                        "delegates",
+                        Type.getDescriptor(ElementMatcher[].class));
+                methodVisitor.visitLdcInsn(context.register(matcher));
+                methodVisitor.visitInsn(Opcodes.AALOAD);
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, offset);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE,
+                        Type.getInternalName(ElementMatcher.class),
+                        "matches",
+                        Type.getMethodDescriptor(Type.BOOLEAN_TYPE, Type.getType(Object.class)),
+                        true);
+                methodVisitor.visitJumpInsn(Opcodes.IFEQ, mismatch);
+            }
+        }
+    }
+
+    /**
+     * An implementation of the compiled matching method.
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    protected static class Appender implements Implementation, ByteCodeAppender {
+
+        /**
+         * The evaluation to apply.
+         */
+        private final Evaluation evaluation;
+
+        /**
+         * The context of the current compilation.
+         */
+        @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+        private final CompiledMatcher.Context context;
+
+        /**
+         * Creates a new appender.
+         *
+         * @param evaluation The evaluation to apply.
+         * @param context    The context of the current compilation.
+         */
+        protected Appender(Evaluation evaluation, CompiledMatcher.Context context) {
+            this.evaluation = evaluation;
+            this.context = context;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public ByteCodeAppender appender(Target implementationTarget) {
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext, MethodDescription instrumentedMethod) {
+            Label mismatch = new Label();
+            evaluation.apply(methodVisitor, context, 1, mismatch);
+            methodVisitor.visitInsn(Opcodes.ICONST_1);
+            methodVisitor.visitInsn(Opcodes.IRETURN);
+            methodVisitor.visitLabel(mismatch);
+            methodVisitor.visitInsn(Opcodes.ICONST_0);
+            methodVisitor.visitInsn(Opcodes.IRETURN);
+            return new Size(Evaluation.STACK_SIZE, context.getLocalVariableLength());
+        }
+    }
+}
@@ -96,7 +96,9 @@ public interface ElementMatcher<T> {
          * @param <W> The type of the object that is being matched.
          */
         @HashCodeAndEqualsPlugin.Enhance
-        class Conjunction<W> extends AbstractBase<W> {
+        class Conjunction<W> extends AbstractBase<W> implements NameConstraint.Provider,
+                CompiledMatcher.Compilable,
+                InternalNameMatcher.Translatable {
 
             /**
              * The element matchers that constitute this conjunction.
@@ -122,6 +124,29 @@ public interface ElementMatcher<T> {
                 return left.matches(target) && right.matches(target);
             }
 
+            /**
+             * {@inheritDoc}
+             */
+            public NameConstraint getNameConstraint() {
+                return NameConstraint.of(left).and(NameConstraint.of(right));
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public CompiledMatcher.Evaluation toEvaluation() {
+                return new CompiledMatcher.Evaluation.ForConjunction(CompiledMatcher.toEvaluation(left), CompiledMatcher.toEvaluation(right));
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @SuppressWarnings("unchecked")
+            public ElementMatcher<String> toInternalNameMatcher() {
+                return new Conjunction<String>(InternalNameMatcher.of((ElementMatcher<? super String>) (ElementMatcher<?>) left),
+                        InternalNameMatcher.of((ElementMatcher<? super String>) (ElementMatcher<?>) right));
+            }
+
             @Override
             public String toString() {
                 return "(" + left + " and " + right + ')';
@@ -134,7 +159,9 @@ public interface ElementMatcher<T> {
          * @param <W> The type of the object that is being matched.
          */
         @HashCodeAndEqualsPlugin.Enhance
-        class Disjunction<W> extends AbstractBase<W> {
+        class Disjunction<W> extends AbstractBase<W> implements NameConstraint.Provider,
+                CompiledMatcher.Compilable,
+                InternalNameMatcher.Translatable {
 
             /**
              * The element matchers that constitute this disjunction.
@@ -160,6 +187,29 @@ public interface ElementMatcher<T> {
                 return left.matches(target) || right.matches(target);
             }
 
+            /**
+             * {@inheritDoc}
+             */
+            public NameConstraint getNameConstraint() {
+                return NameConstraint.of(left).or(NameConstraint.of(right));
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public CompiledMatcher.Evaluation toEvaluation() {
+                return new CompiledMatcher.Evaluation.ForDisjunction(CompiledMatcher.toEvaluation(left), CompiledMatcher.toEvaluation(right));
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @SuppressWarnings("unchecked")
+            public ElementMatcher<String> toInternalNameMatcher() {
+                return new Disjunction<String>(InternalNameMatcher.of((ElementMatcher<? super String>) (ElementMatcher<?>) left),
+                        InternalNameMatcher.of((ElementMatcher<? super String>) (ElementMatcher<?>) right));
+            }
+
             @Override
             public String toString() {
                 return "(" + left + " or " + right + ')';
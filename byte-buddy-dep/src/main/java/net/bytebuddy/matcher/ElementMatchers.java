@@ -116,6 +116,25 @@ public final class ElementMatchers {
         return new CachingMatcher.WithInlineEviction<T>(matcher, new ConcurrentHashMap<T, Boolean>(), evictionSize);
     }
 
+    /**
+     * <p>
+     * Compiles a matcher into a generated class where conjunctions, disjunctions and negations are flattened into a single
+     * method and where name and modifier comparisons are inlined. Any matcher that cannot be compiled is invoked from the
+     * generated code.
+     * </p>
+     * <p>
+     * <b>Warning</b>: Compiling a matcher defines a new class. It should only be applied to matchers that are evaluated
+     * frequently and retained for a long time.
+     * </p>
+     *
+     * @param matcher The matcher to compile.
+     * @param <T>     The type of the matched object.
+     * @return A compiled version of the supplied matcher.
+     */
+    public static <T> ElementMatcher.Junction<T> compiled(ElementMatcher<? super T> matcher) {
+        return CompiledMatcher.of(matcher);
+    }
+
     /**
      * Matches the given value which can also be {@code null} by the {@link java.lang.Object#equals(Object)} method or
      * by a null-check.
@@ -679,6 +698,18 @@ public final class ElementMatchers {
         return new NameMatcher<T>(new StringMatcher(prefix, StringMatcher.Mode.STARTS_WITH));
     }
 
+    /**
+     * Matches a {@link NamedElement} for its name starting with any of the supplied prefixes. The prefixes are arranged
+     * in a trie such that the matcher's cost does not grow with the number of prefixes.
+     *
+     * @param prefix The expected name's prefixes.
+     * @param <T>    The type of the matched object.
+     * @return An element matcher for a named element's name's prefixes.
+     */
+    public static <T extends NamedElement> ElementMatcher.Junction<T> nameStartsWithAny(String... prefix) {
+        return new NameMatcher<T>(new PrefixMatcher(prefix));
+    }
+
     /**
      * Matches a {@link NamedElement} for its name's prefix. The name's
      * capitalization is ignored.
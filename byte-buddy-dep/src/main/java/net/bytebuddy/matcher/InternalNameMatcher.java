@@ -0,0 +1,85 @@
+/*
+ * Copyright 2014 - 2020 Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.build.HashCodeAndEqualsPlugin;
+
+/**
+ * <p>
+ * A matcher for internal names of types, such as {@code java/lang/Object}, that applies a matcher for binary names,
+ * such as {@code java.lang.Object}, by translating the internal name into its binary form.
+ * </p>
+ * <p>
+ * Matchers that implement {@link Translatable} can supply an equivalent matcher that is applied to the internal name
+ * directly. Such matchers should be resolved via {@link InternalNameMatcher#of(ElementMatcher)} which avoids copying the
+ * matched name when possible.
+ * </p>
+ */
+@HashCodeAndEqualsPlugin.Enhance
+public class InternalNameMatcher extends ElementMatcher.Junction.AbstractBase<String> {
+
+    /**
+     * The matcher to apply to the binary name of a type.
+     */
+    private final ElementMatcher<? super String> matcher;
+
+    /**
+     * Creates a new matcher for internal names.
+     *
+     * @param matcher The matcher to apply to the binary name of a type.
+     */
+    public InternalNameMatcher(ElementMatcher<? super String> matcher) {
+        this.matcher = matcher;
+    }
+
+    /**
+     * Resolves a matcher for internal names from a matcher for binary names.
+     *
+     * @param matcher The matcher for binary names.
+     * @return An equivalent matcher for internal names.
+     */
+    public static ElementMatcher<String> of(ElementMatcher<? super String> matcher) {
+        return matcher instanceof Translatable
+                ? ((Translatable) matcher).toInternalNameMatcher()
+                : new InternalNameMatcher(matcher);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean matches(String target) {
+        return matcher.matches(target.replace('/', '.'));
+    }
+
+    @Override
+    public String toString() {
+        return "internalName(" + matcher + ")";
+    }
+
+    /**
+     * A matcher for binary names that can be translated into an equivalent matcher for internal names.
+     */
+    public interface Translatable {
+
+        /**
+         * Returns a matcher that is applied to internal names and that matches any internal name of which the binary
+         * representation is matched by this matcher.
+         *
+         * @return An equivalent matcher for internal names.
+         */
+        ElementMatcher<String> toInternalNameMatcher();
+    }
+}
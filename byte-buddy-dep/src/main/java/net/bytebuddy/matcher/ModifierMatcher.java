@@ -25,7 +25,7 @@ import org.objectweb.asm.Opcodes;
  * @param <T> The type of the matched entity.
  */
 @HashCodeAndEqualsPlugin.Enhance
-public class ModifierMatcher<T extends ModifierReviewable> extends ElementMatcher.Junction.AbstractBase<T> {
+public class ModifierMatcher<T extends ModifierReviewable> extends ElementMatcher.Junction.AbstractBase<T> implements CompiledMatcher.Compilable {
 
     /**
      * The matching mode to apply by this modifier matcher.
@@ -48,6 +48,13 @@ public class ModifierMatcher<T extends ModifierReviewable> extends ElementMatche
         return (mode.getModifiers() & target.getModifiers()) != 0;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public CompiledMatcher.Evaluation toEvaluation() {
+        return new CompiledMatcher.Evaluation.ForModifiers(mode.getModifiers());
+    }
+
     @Override
     public String toString() {
         return mode.getDescription();
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2014 - 2020 Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.build.HashCodeAndEqualsPlugin;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * <p>
+ * A name constraint describes the names of all elements that an {@link ElementMatcher} can possibly match. A constraint
+ * is a necessary but not a sufficient condition for a match: any element that is matched by a matcher has a name that
+ * is matched by the matcher's constraint, but an element with a matching name is not necessarily matched by the matcher.
+ * </p>
+ * <p>
+ * A constraint can be used to preselect the matchers that must be evaluated for a named element without resolving any
+ * property of the element other than its name. For matchers of {@link String}s, the matched value is considered to be
+ * the name.
+ * </p>
+ */
+@HashCodeAndEqualsPlugin.Enhance
+public class NameConstraint {
+
+    /**
+     * A constraint that matches any name.
+     */
+    public static final NameConstraint UNCONSTRAINED = new NameConstraint(Collections.<String>emptySet(), Collections.singleton(""));
+
+    /**
+     * The names that are matched exactly.
+     */
+    private final Set<String> names;
+
+    /**
+     * The prefixes of names that are matched.
+     */
+    private final Set<String> prefixes;
+
+    /**
+     * Creates a new name constraint.
+     *
+     * @param names    The names that are matched exactly.
+     * @param prefixes The prefixes of names that are matched.
+     */
+    public NameConstraint(Set<String> names, Set<String> prefixes) {
+        this.names = names;
+        this.prefixes = prefixes;
+    }
+
+    /**
+     * Resolves a name constraint for an element matcher.
+     *
+     * @param matcher The matcher for which to resolve a name constraint.
+     * @return The name constraint of the supplied matcher or {@link NameConstraint#UNCONSTRAINED} if no constraint is known.
+     */
+    public static NameConstraint of(ElementMatcher<?> matcher) {
+        return matcher instanceof Provider
+                ? ((Provider) matcher).getNameConstraint()
+                : UNCONSTRAINED;
+    }
+
+    /**
+     * Creates a name constraint that only matches the supplied name.
+     *
+     * @param name The name to match.
+     * @return A name constraint that only matches the supplied name.
+     */
+    public static NameConstraint named(String name) {
+        return new NameConstraint(Collections.singleton(name), Collections.<String>emptySet());
+    }
+
+    /**
+     * Creates a name constraint that matches any name that starts with the supplied prefix.
+     *
+     * @param prefix The prefix to match.
+     * @return A name constraint that matches any name that starts with the supplied prefix.
+     */
+    public static NameConstraint nameStartsWith(String prefix) {
+        return new NameConstraint(Collections.<String>emptySet(), Collections.singleton(prefix));
+    }
+
+    /**
+     * Returns the names that are matched exactly.
+     *
+     * @return The names that are matched exactly.
+     */
+    public Set<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Returns the prefixes of names that are matched.
+     *
+     * @return The prefixes of names that are matched.
+     */
+    public Set<String> getPrefixes() {
+        return prefixes;
+    }
+
+    /**
+     * Returns {@code true} if this constraint matches any name.
+     *
+     * @return {@code true} if this constraint matches any name.
+     */
+    public boolean isUnconstrained() {
+        return prefixes.contains("");
+    }
+
+    /**
+     * Determines if a name is matched by this constraint.
+     *
+     * @param name The name to match.
+     * @return {@code true} if the supplied name is matched by this constraint.
+     */
+    public boolean matches(String name) {
+        if (names.contains(name)) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates a constraint for a conjunction of two matchers. As a constraint does not need to be sufficient, the resulting
+     * constraint retains this constraint's names and prefixes, unless this constraint is unconstrained, while dropping any
+     * exact name that is not matched by the other constraint.
+     *
+     * @param other The constraint of the other matcher of the conjunction.
+     * @return A constraint for a conjunction of both matchers.
+     */
+    public NameConstraint and(NameConstraint other) {
+        if (isUnconstrained()) {
+            return other;
+        } else if (other.isUnconstrained()) {
+            return this;
+        }
+        Set<String> names = new HashSet<String>();
+        for (String name : this.names) {
+            if (other.matches(name)) {
+                names.add(name);
+            }
+        }
+        return new NameConstraint(names, prefixes);
+    }
+
+    /**
+     * Creates a constraint for a disjunction of two matchers.
+     *
+     * @param other The constraint of the other matcher of the disjunction.
+     * @return A constraint for a disjunction of both matchers.
+     */
+    public NameConstraint or(NameConstraint other) {
+        if (isUnconstrained()) {
+            return this;
+        } else if (other.isUnconstrained()) {
+            return other;
+        }
+        Set<String> names = new HashSet<String>(this.names), prefixes = new HashSet<String>(this.prefixes);
+        names.addAll(other.names);
+        prefixes.addAll(other.prefixes);
+        return new NameConstraint(names, prefixes);
+    }
+
+    @Override
+    public String toString() {
+        return "nameConstraint(names=" + names + ", prefixes=" + prefixes + ')';
+    }
+
+    /**
+     * An element matcher that is able to describe a constraint on the names of the elements it matches.
+     */
+    public interface Provider {
+
+        /**
+         * Returns the name constraint of this matcher.
+         *
+         * @return The name constraint of this matcher.
+         */
+        NameConstraint getNameConstraint();
+    }
+}
@@ -31,7 +31,7 @@ import net.bytebuddy.description.NamedElement;
  * @param <T> The type of the matched entity.
  */
 @HashCodeAndEqualsPlugin.Enhance
-public class NameMatcher<T extends NamedElement> extends ElementMatcher.Junction.AbstractBase<T> {
+public class NameMatcher<T extends NamedElement> extends ElementMatcher.Junction.AbstractBase<T> implements NameConstraint.Provider, CompiledMatcher.Compilable {
 
     /**
      * The matcher that is applied to a byte code element's source code name.
@@ -54,6 +54,20 @@ public class NameMatcher<T extends NamedElement> extends ElementMatcher.Junction
         return matcher.matches(target.getActualName());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public NameConstraint getNameConstraint() {
+        return NameConstraint.of(matcher);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public CompiledMatcher.Evaluation toEvaluation() {
+        return new CompiledMatcher.Evaluation.ForName(CompiledMatcher.toEvaluation(matcher));
+    }
+
     @Override
     public String toString() {
         return "name(" + matcher + ")";
@@ -23,7 +23,7 @@ import net.bytebuddy.build.HashCodeAndEqualsPlugin;
  * @param <T> The type of the matched entity.
  */
 @HashCodeAndEqualsPlugin.Enhance
-public class NegatingMatcher<T> extends ElementMatcher.Junction.AbstractBase<T> {
+public class NegatingMatcher<T> extends ElementMatcher.Junction.AbstractBase<T> implements CompiledMatcher.Compilable, InternalNameMatcher.Translatable {
 
     /**
      * The element matcher to be negated.
@@ -46,6 +46,21 @@ public class NegatingMatcher<T> extends ElementMatcher.Junction.AbstractBase<T>
         return !matcher.matches(target);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public CompiledMatcher.Evaluation toEvaluation() {
+        return new CompiledMatcher.Evaluation.ForNegation(CompiledMatcher.toEvaluation(matcher));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public ElementMatcher<String> toInternalNameMatcher() {
+        return new NegatingMatcher<String>(InternalNameMatcher.of((ElementMatcher<? super String>) (ElementMatcher<?>) matcher));
+    }
+
     @Override
     public String toString() {
         return "not(" + matcher + ')';
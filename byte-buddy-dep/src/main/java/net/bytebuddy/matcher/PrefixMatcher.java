@@ -0,0 +1,199 @@
+/*
+ * Copyright 2014 - 2020 Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.build.HashCodeAndEqualsPlugin;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A matcher that matches any string that starts with any of a set of prefixes. The prefixes are arranged in a trie
+ * such that a string is matched by inspecting each of its characters at most once, independently of the number of
+ * prefixes.
+ */
+@HashCodeAndEqualsPlugin.Enhance
+public class PrefixMatcher extends ElementMatcher.Junction.AbstractBase<String> implements NameConstraint.Provider, InternalNameMatcher.Translatable {
+
+    /**
+     * The prefixes to match.
+     */
+    private final Set<String> prefixes;
+
+    /**
+     * The root node of the trie that represents the prefixes.
+     */
+    @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+    private final Node root;
+
+    /**
+     * Creates a new prefix matcher.
+     *
+     * @param prefix The prefixes to match.
+     */
+    public PrefixMatcher(String... prefix) {
+        this(Arrays.asList(prefix));
+    }
+
+    /**
+     * Creates a new prefix matcher.
+     *
+     * @param prefixes The prefixes to match.
+     */
+    public PrefixMatcher(Collection<String> prefixes) {
+        this.prefixes = new LinkedHashSet<String>(prefixes);
+        root = Node.of(this.prefixes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean matches(String target) {
+        Node node = root;
+        for (int index = 0; !node.terminal; index++) {
+            if (index == target.length()) {
+                return false;
+            }
+            node = node.next(target.charAt(index));
+            if (node == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public NameConstraint getNameConstraint() {
+        return new NameConstraint(Collections.<String>emptySet(), prefixes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public ElementMatcher<String> toInternalNameMatcher() {
+        Set<String> prefixes = new LinkedHashSet<String>();
+        for (String prefix : this.prefixes) {
+            prefixes.add(prefix.replace('.', '/'));
+        }
+        return new PrefixMatcher(prefixes);
+    }
+
+    @Override
+    public String toString() {
+        return "startsWithAny(" + prefixes + ")";
+    }
+
+    /**
+     * A node of a trie of prefixes.
+     */
+    protected static class Node {
+
+        /**
+         * A node that does not match any string.
+         */
+        private static final Node EMPTY = new Node(false, new char[0], new Node[0]);
+
+        /**
+         * {@code true} if any prefix ends at this node.
+         */
+        private final boolean terminal;
+
+        /**
+         * The characters that lead to a child node in ascending order.
+         */
+        private final char[] keys;
+
+        /**
+         * The child nodes in the order of their keys.
+         */
+        private final Node[] children;
+
+        /**
+         * Creates a new node.
+         *
+         * @param terminal {@code true} if any prefix ends at this node.
+         * @param keys     The characters that lead to a child node in ascending order.
+         * @param children The child nodes in the order of their keys.
+         */
+        protected Node(boolean terminal, char[] keys, Node[] children) {
+            this.terminal = terminal;
+            this.keys = keys;
+            this.children = children;
+        }
+
+        /**
+         * Creates a trie for the supplied prefixes.
+         *
+         * @param prefixes The prefixes to represent.
+         * @return The root node of a trie that represents the supplied prefixes.
+         */
+        protected static Node of(Collection<String> prefixes) {
+            return prefixes.isEmpty()
+                    ? EMPTY
+                    : of(prefixes, 0);
+        }
+
+        /**
+         * Creates a node for the supplied prefixes where all prefixes share all characters before the supplied index.
+         *
+         * @param prefixes The prefixes to represent.
+         * @param index    The index of the character that is represented by the created node's children.
+         * @return A node that represents the supplied prefixes.
+         */
+        private static Node of(Collection<String> prefixes, int index) {
+            TreeMap<Character, Set<String>> grouped = new TreeMap<Character, Set<String>>();
+            for (String prefix : prefixes) {
+                if (prefix.length() == index) {
+                    return new Node(true, new char[0], new Node[0]);
+                }
+                Set<String> group = grouped.get(prefix.charAt(index));
+                if (group == null) {
+                    group = new LinkedHashSet<String>();
+                    grouped.put(prefix.charAt(index), group);
+                }
+                group.add(prefix);
+            }
+            char[] keys = new char[grouped.size()];
+            Node[] children = new Node[grouped.size()];
+            int position = 0;
+            for (Map.Entry<Character, Set<String>> entry : grouped.entrySet()) {
+                keys[position] = entry.getKey();
+                children[position++] = of(entry.getValue(), index + 1);
+            }
+            return new Node(false, keys, children);
+        }
+
+        /**
+         * Resolves the child node for the supplied character.
+         *
+         * @param key The character to resolve.
+         * @return The child node for the supplied character or {@code null} if no such child exists.
+         */
+        protected Node next(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index < 0
+                    ? null
+                    : children[index];
+        }
+    }
+}
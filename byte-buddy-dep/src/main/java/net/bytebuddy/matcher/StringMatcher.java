@@ -18,12 +18,16 @@ package net.bytebuddy.matcher;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import net.bytebuddy.build.HashCodeAndEqualsPlugin;
 
+import java.util.regex.Pattern;
+
 /**
  * An element matcher that compares two strings by a given pattern which is characterized by a
  * {@link net.bytebuddy.matcher.StringMatcher.Mode}.
  */
 @HashCodeAndEqualsPlugin.Enhance
-public class StringMatcher extends ElementMatcher.Junction.AbstractBase<String> {
+public class StringMatcher extends ElementMatcher.Junction.AbstractBase<String> implements NameConstraint.Provider,
+        CompiledMatcher.Compilable,
+        InternalNameMatcher.Translatable {
 
     /**
      * The text value to match against.
@@ -36,7 +40,15 @@ public class StringMatcher extends ElementMatcher.Junction.AbstractBase<String>
     private final Mode mode;
 
     /**
-     * Creates a new string matcher.
+     * The compiled regular expression if this matcher applies {@link Mode#MATCHES} and was already applied or {@code null}.
+     */
+    @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+    private volatile Pattern pattern;
+
+    /**
+     * Creates a new string matcher. If the mode is {@link Mode#MATCHES}, the value is compiled as a regular expression
+     * when the matcher is first applied and is then reused such that it is not compiled for every matched string. As
+     * before, an invalid regular expression is therefore only reported when the matcher is applied.
      *
      * @param value The value that is the base of the matching.
      * @param mode  The mode to apply for matching the given value against the matcher's input
@@ -50,7 +62,56 @@ public class StringMatcher extends ElementMatcher.Junction.AbstractBase<String>
      * {@inheritDoc}
      */
     public boolean matches(String target) {
-        return mode.matches(value, target);
+        if (mode != Mode.MATCHES) {
+            return mode.matches(value, target);
+        }
+        Pattern pattern = this.pattern;
+        if (pattern == null) {
+            pattern = Pattern.compile(value);
+            this.pattern = pattern;
+        }
+        return pattern.matcher(target).matches();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public NameConstraint getNameConstraint() {
+        if (mode == Mode.EQUALS_FULLY) {
+            return NameConstraint.named(value);
+        } else if (mode == Mode.STARTS_WITH) {
+            return NameConstraint.nameStartsWith(value);
+        } else {
+            return NameConstraint.UNCONSTRAINED;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public CompiledMatcher.Evaluation toEvaluation() {
+        if (mode == Mode.EQUALS_FULLY) {
+            return new CompiledMatcher.Evaluation.ForString(value, "equals", "(Ljava/lang/Object;)Z");
+        } else if (mode == Mode.EQUALS_FULLY_IGNORE_CASE) {
+            return new CompiledMatcher.Evaluation.ForString(value, "equalsIgnoreCase", "(Ljava/lang/String;)Z");
+        } else if (mode == Mode.STARTS_WITH) {
+            return new CompiledMatcher.Evaluation.ForString(value, "startsWith", "(Ljava/lang/String;)Z");
+        } else if (mode == Mode.ENDS_WITH) {
+            return new CompiledMatcher.Evaluation.ForString(value, "endsWith", "(Ljava/lang/String;)Z");
+        } else if (mode == Mode.CONTAINS) {
+            return new CompiledMatcher.Evaluation.ForString(value, "contains", "(Ljava/lang/CharSequence;)Z");
+        } else {
+            return new CompiledMatcher.Evaluation.ForDelegation(this);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public ElementMatcher<String> toInternalNameMatcher() {
+        return mode == Mode.MATCHES
+                ? new InternalNameMatcher(this)
+                : new StringMatcher(value.replace('.', '/'), mode);
     }
 
     @Override
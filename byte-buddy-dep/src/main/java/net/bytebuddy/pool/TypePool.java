@@ -38,12 +38,16 @@ import org.objectweb.asm.*;
 import org.objectweb.asm.signature.SignatureReader;
 import org.objectweb.asm.signature.SignatureVisitor;
 
-import java.io.IOException;
+import java.io.*;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
 import java.lang.reflect.GenericSignatureFormatError;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
 
@@ -193,6 +197,39 @@ public interface TypePool {
          */
         void clear();
 
+        /**
+         * A cache provider that resolves types that are not yet cached on behalf of a type pool. This allows a cache to
+         * coalesce concurrent resolutions of the same type. A {@link Default} type pool resolves a type via such a cache
+         * provider if it implements this interface.
+         */
+        interface Coalescing extends CacheProvider {
+
+            /**
+             * Attempts to find a resolution in this cache or resolves the type by the supplied resolver if no such resolution
+             * is cached. A cache might register the resolved type what is however not required as a type pool registers any
+             * resolution that it describes.
+             *
+             * @param name     The name of the type to describe.
+             * @param resolver The resolver to use if the type is not yet cached.
+             * @return A resolution of the type.
+             */
+            Resolution find(String name, Resolver resolver);
+
+            /**
+             * A resolver for a type that is not yet cached.
+             */
+            interface Resolver {
+
+                /**
+                 * Resolves a type.
+                 *
+                 * @param name The name of the type to resolve.
+                 * @return A resolution of the type.
+                 */
+                Resolution resolve(String name);
+            }
+        }
+
         /**
          * A non-operational cache that does not store any type descriptions.
          */
@@ -295,6 +332,460 @@ public interface TypePool {
                 return storage;
             }
         }
+
+        /**
+         * <p>
+         * A thread-safe cache provider that retains a bounded number of resolutions. Once this bound is exceeded, resolutions
+         * that were not recently used are evicted from the cache by approximating a least recently used policy with a
+         * <i>CLOCK</i> sweep: resolutions are queued in the order of their registration and every lookup marks a resolution
+         * as referenced. When evicting, the queue is swept from its head where referenced resolutions are given a second
+         * chance by clearing their mark and requeuing them while the first resolution without a mark is evicted. This way,
+         * the cost of an eviction does not depend on the cache's size. Additionally, this cache records the number of cache
+         * hits, misses and evictions what allows to tune the cache's size.
+         * </p>
+         * <p>
+         * Lookups do not acquire a lock such that concurrent lookups of cached resolutions do not contend on a monitor; only
+         * the eviction of resolutions is synchronized. The bound is expressed as a number of resolutions; a budget of bytes
+         * is not supported as the memory that a lazily resolved type description retains cannot be determined reliably.
+         * </p>
+         */
+        class Bounded implements CacheProvider {
+
+            /**
+             * The maximum number of resolutions that are retained by this cache.
+             */
+            private final int maximumSize;
+
+            /**
+             * A map containing all cached resolutions by their names.
+             */
+            private final ConcurrentMap<String, Entry> storage;
+
+            /**
+             * The cached resolutions in the order in which they are swept when evicting resolutions.
+             */
+            private final Queue<Entry> queue;
+
+            /**
+             * The number of lookups that were answered by this cache.
+             */
+            private final AtomicLong hitCount;
+
+            /**
+             * The number of lookups that could not be answered by this cache.
+             */
+            private final AtomicLong missCount;
+
+            /**
+             * The number of resolutions that were evicted from this cache.
+             */
+            private final AtomicLong evictionCount;
+
+            /**
+             * Creates a new bounded cache.
+             *
+             * @param maximumSize The maximum number of resolutions that are retained by this cache.
+             */
+            public Bounded(int maximumSize) {
+                if (maximumSize < 1) {
+                    throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+                }
+                this.maximumSize = maximumSize;
+                storage = new ConcurrentHashMap<String, Entry>();
+                queue = new ConcurrentLinkedQueue<Entry>();
+                hitCount = new AtomicLong();
+                missCount = new AtomicLong();
+                evictionCount = new AtomicLong();
+            }
+
+            /**
+             * Returns a bounded cache provider that is prepopulated with the {@link Object} type.
+             *
+             * @param maximumSize The maximum number of resolutions that are retained by this cache.
+             * @return A bounded cache provider that is prepopulated with the {@link Object} type.
+             */
+            public static CacheProvider withObjectType(int maximumSize) {
+                CacheProvider cacheProvider = new Bounded(maximumSize);
+                cacheProvider.register(Object.class.getName(), new Resolution.Simple(TypeDescription.OBJECT));
+                return cacheProvider;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Resolution find(String name) {
+                Entry entry = storage.get(name);
+                if (entry == null) {
+                    missCount.incrementAndGet();
+                    return null;
+                } else {
+                    hitCount.incrementAndGet();
+                    if (!entry.referenced) {
+                        entry.referenced = true;
+                    }
+                    return entry.resolution;
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Resolution register(String name, Resolution resolution) {
+                Entry entry = new Entry(name, resolution), previous = storage.putIfAbsent(name, entry);
+                if (previous != null) {
+                    if (!previous.referenced) {
+                        previous.referenced = true;
+                    }
+                    return previous.resolution;
+                }
+                if (storage.size() > maximumSize) {
+                    evict();
+                }
+                queue.offer(entry);
+                return resolution;
+            }
+
+            /**
+             * Evicts resolutions that were not recently used until this cache does no longer exceed its maximum size. A newly
+             * registered resolution is only queued after this eviction such that it is never evicted by its own registration.
+             * Every resolution is given at most one second chance per eviction such that concurrent lookups cannot delay an
+             * eviction indefinitely.
+             */
+            private synchronized void evict() {
+                int size = storage.size(), chances = size;
+                while (size > maximumSize) {
+                    Entry entry = queue.poll();
+                    if (entry == null) {
+                        return;
+                    } else if (entry.referenced && chances-- > 0) {
+                        entry.referenced = false;
+                        queue.offer(entry);
+                    } else if (storage.remove(entry.name, entry)) {
+                        evictionCount.incrementAndGet();
+                        size = storage.size();
+                    }
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void clear() {
+                storage.clear();
+                queue.clear();
+            }
+
+            /**
+             * Returns the maximum number of resolutions that are retained by this cache.
+             *
+             * @return The maximum number of resolutions that are retained by this cache.
+             */
+            public int getMaximumSize() {
+                return maximumSize;
+            }
+
+            /**
+             * Returns the number of resolutions that are currently retained by this cache.
+             *
+             * @return The number of resolutions that are currently retained by this cache.
+             */
+            public int getSize() {
+                return storage.size();
+            }
+
+            /**
+             * Returns the number of lookups that were answered by this cache.
+             *
+             * @return The number of lookups that were answered by this cache.
+             */
+            public long getHitCount() {
+                return hitCount.get();
+            }
+
+            /**
+             * Returns the number of lookups that could not be answered by this cache.
+             *
+             * @return The number of lookups that could not be answered by this cache.
+             */
+            public long getMissCount() {
+                return missCount.get();
+            }
+
+            /**
+             * Returns the number of resolutions that were evicted from this cache.
+             *
+             * @return The number of resolutions that were evicted from this cache.
+             */
+            public long getEvictionCount() {
+                return evictionCount.get();
+            }
+
+            /**
+             * A cached resolution that is marked as referenced when it is looked up.
+             */
+            protected static class Entry {
+
+                /**
+                 * The name of the cached resolution.
+                 */
+                private final String name;
+
+                /**
+                 * The cached resolution.
+                 */
+                private final Resolution resolution;
+
+                /**
+                 * {@code true} if the cached resolution was looked up since it was last swept.
+                 */
+                private volatile boolean referenced;
+
+                /**
+                 * Creates a new entry.
+                 *
+                 * @param name       The name of the cached resolution.
+                 * @param resolution The cached resolution.
+                 */
+                protected Entry(String name, Resolution resolution) {
+                    this.name = name;
+                    this.resolution = resolution;
+                }
+            }
+        }
+
+        /**
+         * <p>
+         * A thread-safe cache provider that coalesces concurrent resolutions of the same type. If a type is not yet cached
+         * and is resolved by several threads at the same time, only one thread resolves the type while all other threads
+         * wait for this resolution to complete instead of resolving the type themselves. To reduce contention, the cache's
+         * state is striped over several segments where each segment is guarded by its own lock.
+         * </p>
+         * <p>
+         * <b>Important</b>: Resolutions are only coalesced if a type pool resolves a type via
+         * {@link Coalescing#find(String, Coalescing.Resolver)}, what {@link Default} does when it parses a class file. If a
+         * resolution fails exceptionally, any waiting thread attempts the resolution anew. If a thread requests a resolution
+         * while it is already resolving a type of any single flight cache, it resolves the requested type without coalescing
+         * and without waiting for another thread. This way, a waiting thread never conducts a resolution itself such that
+         * nested resolutions of different types cannot dead lock.
+         * </p>
+         */
+        class SingleFlight implements Coalescing {
+
+            /**
+             * Indicates if the current thread is conducting a resolution of any single flight cache.
+             */
+            private static final ThreadLocal<Boolean> IN_FLIGHT = new ThreadLocal<Boolean>();
+
+            /**
+             * The default number of segments.
+             */
+            private static final int DEFAULT_SEGMENTS = 16;
+
+            /**
+             * The segments of this cache.
+             */
+            private final Segment[] segments;
+
+            /**
+             * Creates a new single flight cache with a default number of segments.
+             */
+            public SingleFlight() {
+                this(DEFAULT_SEGMENTS);
+            }
+
+            /**
+             * Creates a new single flight cache.
+             *
+             * @param segments The number of segments to stripe this cache's state over.
+             */
+            public SingleFlight(int segments) {
+                if (segments < 1) {
+                    throw new IllegalArgumentException("Number of segments must be positive: " + segments);
+                }
+                this.segments = new Segment[segments];
+                for (int index = 0; index < segments; index++) {
+                    this.segments[index] = new Segment();
+                }
+            }
+
+            /**
+             * Returns a single flight cache provider that is prepopulated with the {@link Object} type.
+             *
+             * @return A single flight cache provider that is prepopulated with the {@link Object} type.
+             */
+            public static CacheProvider withObjectType() {
+                CacheProvider cacheProvider = new SingleFlight();
+                cacheProvider.register(Object.class.getName(), new Resolution.Simple(TypeDescription.OBJECT));
+                return cacheProvider;
+            }
+
+            /**
+             * Locates the segment that is responsible for the supplied type name.
+             *
+             * @param name The name of the type.
+             * @return The segment that is responsible for the supplied type name.
+             */
+            private Segment segment(String name) {
+                int hashCode = name.hashCode();
+                return segments[((hashCode ^ (hashCode >>> 16)) & Integer.MAX_VALUE) % segments.length];
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Resolution find(String name) {
+                return segment(name).storage.get(name);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Resolution find(String name, Resolver resolver) {
+                Segment segment = segment(name);
+                Resolution resolution;
+                if (IN_FLIGHT.get() != null) {
+                    resolution = segment.storage.get(name);
+                    return resolution == null
+                            ? register(name, resolver.resolve(name))
+                            : resolution;
+                }
+                do {
+                    resolution = segment.storage.get(name);
+                    if (resolution != null) {
+                        return resolution;
+                    }
+                    Flight flight;
+                    boolean owner;
+                    synchronized (segment) {
+                        resolution = segment.storage.get(name);
+                        if (resolution != null) {
+                            return resolution;
+                        }
+                        flight = segment.flights.get(name);
+                        owner = flight == null;
+                        if (owner) {
+                            flight = new Flight();
+                            segment.flights.put(name, flight);
+                        }
+                    }
+                    if (owner) {
+                        IN_FLIGHT.set(true);
+                        try {
+                            resolution = register(name, resolver.resolve(name));
+                        } finally {
+                            IN_FLIGHT.remove();
+                            synchronized (segment) {
+                                segment.flights.remove(name);
+                            }
+                            flight.complete(resolution);
+                        }
+                    } else {
+                        resolution = flight.await();
+                    }
+                } while (resolution == null);
+                return resolution;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Resolution register(String name, Resolution resolution) {
+                Resolution cached = segment(name).storage.putIfAbsent(name, resolution);
+                return cached == null
+                        ? resolution
+                        : cached;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void clear() {
+                for (Segment segment : segments) {
+                    segment.storage.clear();
+                }
+            }
+
+            /**
+             * Returns the number of resolutions that are currently retained by this cache.
+             *
+             * @return The number of resolutions that are currently retained by this cache.
+             */
+            public int getSize() {
+                int size = 0;
+                for (Segment segment : segments) {
+                    size += segment.storage.size();
+                }
+                return size;
+            }
+
+            /**
+             * A segment of a single flight cache.
+             */
+            protected static class Segment {
+
+                /**
+                 * A map containing all cached resolutions of this segment by their names.
+                 */
+                private final ConcurrentMap<String, Resolution> storage = new ConcurrentHashMap<String, Resolution>();
+
+                /**
+                 * A map of all resolutions that are currently in flight by their names. This map must only be accessed
+                 * while holding this segment's monitor.
+                 */
+                private final Map<String, Flight> flights = new HashMap<String, Flight>();
+            }
+
+            /**
+             * A resolution that is currently conducted by a thread.
+             */
+            protected static class Flight {
+
+                /**
+                 * The resolution or {@code null} if the resolution is not yet complete or failed.
+                 */
+                private Resolution resolution;
+
+                /**
+                 * {@code true} if the resolution is complete.
+                 */
+                private boolean complete;
+
+                /**
+                 * Completes this flight and releases all waiting threads.
+                 *
+                 * @param resolution The resolution or {@code null} if the resolution failed.
+                 */
+                protected synchronized void complete(Resolution resolution) {
+                    this.resolution = resolution;
+                    complete = true;
+                    notifyAll();
+                }
+
+                /**
+                 * Waits for this flight to complete. Interruption does not abort the waiting but the thread's interruption
+                 * flag is restored before this method returns.
+                 *
+                 * @return The resolution or {@code null} if the resolution failed.
+                 */
+                protected synchronized Resolution await() {
+                    boolean interrupted = false;
+                    try {
+                        while (!complete) {
+                            try {
+                                wait();
+                            } catch (InterruptedException ignored) {
+                                interrupted = true;
+                            }
+                        }
+                    } finally {
+                        if (interrupted) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    return resolution;
+                }
+            }
+        }
     }
 
     /**
@@ -380,6 +871,15 @@ public interface TypePool {
             this.cacheProvider = cacheProvider;
         }
 
+        /**
+         * Returns the cache provider of this type pool.
+         *
+         * @return The cache provider of this type pool.
+         */
+        public CacheProvider getCacheProvider() {
+            return cacheProvider;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -570,6 +1070,16 @@ public interface TypePool {
          */
         private static final MethodVisitor IGNORE_METHOD = null;
 
+        /**
+         * Indicates that a visited field should be ignored.
+         */
+        private static final FieldVisitor IGNORE_FIELD = null;
+
+        /**
+         * Indicates that a visited record component should be ignored.
+         */
+        private static final RecordComponentVisitor IGNORE_RECORD_COMPONENT = null;
+
         /**
          * The locator to query for finding binary data of a type.
          */
@@ -580,6 +1090,11 @@ public interface TypePool {
          */
         protected final ReaderMode readerMode;
 
+        /**
+         * The symbol table to use for deduplicating names and descriptors of parsed types.
+         */
+        protected final SymbolTable symbolTable;
+
         /**
          * Creates a new default type pool without a parent pool.
          *
@@ -600,9 +1115,23 @@ public interface TypePool {
          * @param parentPool       The parent type pool.
          */
         public Default(CacheProvider cacheProvider, ClassFileLocator classFileLocator, ReaderMode readerMode, TypePool parentPool) {
+            this(cacheProvider, classFileLocator, readerMode, parentPool, SymbolTable.NoOp.INSTANCE);
+        }
+
+        /**
+         * Creates a new default type pool.
+         *
+         * @param cacheProvider    The cache provider to be used.
+         * @param classFileLocator The class file locator to be used.
+         * @param readerMode       The reader mode to apply by this default type pool.
+         * @param parentPool       The parent type pool.
+         * @param symbolTable      The symbol table to use for deduplicating names and descriptors of parsed types.
+         */
+        public Default(CacheProvider cacheProvider, ClassFileLocator classFileLocator, ReaderMode readerMode, TypePool parentPool, SymbolTable symbolTable) {
             super(cacheProvider, parentPool);
             this.classFileLocator = classFileLocator;
             this.readerMode = readerMode;
+            this.symbolTable = symbolTable;
         }
 
         /**
@@ -659,6 +1188,18 @@ public interface TypePool {
 
         @Override
         protected Resolution doDescribe(String name) {
+            return cacheProvider instanceof CacheProvider.Coalescing
+                    ? ((CacheProvider.Coalescing) cacheProvider).find(name, new ParsingResolver())
+                    : doParse(name);
+        }
+
+        /**
+         * Locates and parses the class file of a type.
+         *
+         * @param name The name of the type to describe.
+         * @return A resolution to the type to describe.
+         */
+        protected Resolution doParse(String name) {
             try {
                 ClassFileLocator.Resolution resolution = classFileLocator.locate(name);
                 return resolution.isResolved()
@@ -669,19 +1210,78 @@ public interface TypePool {
             }
         }
 
+        @Override
+        public void clear() {
+            try {
+                super.clear();
+            } finally {
+                symbolTable.clear();
+            }
+        }
+
+        /**
+         * Returns a compact representation of a map of parsed tokens. Empty maps are replaced by a shared instance.
+         *
+         * @param map The map to compact.
+         * @param <K> The type of the map's keys.
+         * @param <V> The type of the map's values.
+         * @return A compact representation of the supplied map.
+         */
+        protected static <K, V> Map<K, V> compact(Map<K, V> map) {
+            return map.isEmpty()
+                    ? Collections.<K, V>emptyMap()
+                    : map;
+        }
+
+        /**
+         * Returns a compact representation of a list of parsed tokens. Empty lists are replaced by a shared instance and
+         * the capacity of any other list is trimmed to its size.
+         *
+         * @param list The list to compact.
+         * @param <T>  The type of the list's elements.
+         * @return A compact representation of the supplied list.
+         */
+        protected static <T> List<T> compact(List<T> list) {
+            if (list.isEmpty()) {
+                return Collections.emptyList();
+            } else if (list instanceof ArrayList<?>) {
+                ((ArrayList<T>) list).trimToSize();
+            }
+            return list;
+        }
+
         /**
          * Parses a binary representation and transforms it into a type description.
          *
          * @param binaryRepresentation The binary data to be parsed.
          * @return A type description of the binary data.
          */
-        private TypeDescription parse(byte[] binaryRepresentation) {
+        protected TypeDescription parse(byte[] binaryRepresentation) {
             ClassReader classReader = OpenedClassReader.of(binaryRepresentation);
+            if (readerMode.isTiered()) {
+                TypeExtractor typeExtractor = new HeaderExtractor();
+                classReader.accept(typeExtractor, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+                return new TieredTypeDescription(typeExtractor.toTypeDescription(), classReader);
+            }
             TypeExtractor typeExtractor = new TypeExtractor();
             classReader.accept(typeExtractor, readerMode.getFlags());
             return typeExtractor.toTypeDescription();
         }
 
+        /**
+         * A resolver that parses a type's class file on behalf of a {@link CacheProvider.Coalescing} cache provider.
+         */
+        @HashCodeAndEqualsPlugin.Enhance(includeSyntheticFields = true)
+        protected class ParsingResolver implements CacheProvider.Coalescing.Resolver {
+
+            /**
+             * {@inheritDoc}
+             */
+            public Resolution resolve(String name) {
+                return doParse(name);
+            }
+        }
+
         /**
          * Determines the granularity of the class file parsing that is conducted by a {@link net.bytebuddy.pool.TypePool.Default}.
          */
@@ -698,7 +1298,15 @@ public interface TypePool {
              * only contained within the debugging information. This mode still detects explicitly included method
              * parameter names.
              */
-            FAST(ClassReader.SKIP_CODE);
+            FAST(ClassReader.SKIP_CODE),
+
+            /**
+             * The tiered reader mode initially only parses a class file's header, including the type's name, modifiers, super types,
+             * declaration context and annotations. The class file is retained and its fields, methods and record components are only
+             * parsed when any of them is first requested. Members are parsed similarly to the {@link ReaderMode#FAST} mode. This mode
+             * is beneficial when most described types are only matched by properties of their header.
+             */
+            TIERED(ClassReader.SKIP_CODE);
 
             /**
              * The flags to provide to a {@link ClassReader} for parsing a file.
@@ -731,6 +1339,200 @@ public interface TypePool {
             public boolean isExtended() {
                 return this == EXTENDED;
             }
+
+            /**
+             * Determines if this reader mode represents tiered reading.
+             *
+             * @return {@code true} if this reader mode represents tiered reading.
+             */
+            public boolean isTiered() {
+                return this == TIERED;
+            }
+        }
+
+        /**
+         * A symbol table allows a {@link TypePool.Default} to share equal names and descriptors between all types that it parses.
+         * When many types are retained, for example by a long-living cache, this avoids that the same string is held once per
+         * class file that references it.
+         */
+        public interface SymbolTable {
+
+            /**
+             * Returns a canonical representation of the supplied symbol.
+             *
+             * @param symbol The symbol to intern or {@code null}.
+             * @return A canonical instance that is equal to the supplied symbol or {@code null} if the symbol is {@code null}.
+             */
+            String intern(String symbol);
+
+            /**
+             * Removes all symbols from this symbol table.
+             */
+            void clear();
+
+            /**
+             * A symbol table that does not deduplicate any symbols.
+             */
+            enum NoOp implements SymbolTable {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public String intern(String symbol) {
+                    return symbol;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void clear() {
+                    /* do nothing */
+                }
+            }
+
+            /**
+             * A symbol table that retains a canonical instance of any symbol that it interns.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            class Interning implements SymbolTable {
+
+                /**
+                 * A map of all interned symbols to their canonical instance.
+                 */
+                @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+                private final ConcurrentMap<String, String> symbols;
+
+                /**
+                 * Creates a new interning symbol table.
+                 */
+                public Interning() {
+                    symbols = new ConcurrentHashMap<String, String>();
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public String intern(String symbol) {
+                    if (symbol == null) {
+                        return null;
+                    }
+                    String interned = symbols.putIfAbsent(symbol, symbol);
+                    return interned == null
+                            ? symbol
+                            : interned;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void clear() {
+                    symbols.clear();
+                }
+            }
+        }
+
+        /**
+         * A type extractor that only extracts the information of a class file's header and that skips all fields, methods
+         * and record components.
+         */
+        protected class HeaderExtractor extends TypeExtractor {
+
+            @Override
+            public FieldVisitor visitField(int modifiers, String internalName, String descriptor, String genericSignature, Object defaultValue) {
+                return IGNORE_FIELD;
+            }
+
+            @Override
+            public MethodVisitor visitMethod(int modifiers, String internalName, String descriptor, String genericSignature, String[] exceptionName) {
+                return IGNORE_METHOD;
+            }
+
+            @Override
+            public RecordComponentVisitor visitRecordComponent(String name, String descriptor, String signature) {
+                return IGNORE_RECORD_COMPONENT;
+            }
+        }
+
+        /**
+         * A type description that is represented by a class file's header until any of its fields, methods or record components
+         * is requested. Upon such a request, the retained class file is parsed completely and the header representation is replaced
+         * by the complete representation, such that the class file is no longer retained.
+         */
+        protected class TieredTypeDescription extends TypeDescription.AbstractBase.OfSimpleType.WithDelegation {
+
+            /**
+             * The current representation of the type, either the representation of the class file's header or
+             * of the complete class file.
+             */
+            private volatile TypeDescription delegate;
+
+            /**
+             * The reader for the represented class file or {@code null} if the class file was parsed completely.
+             */
+            private volatile ClassReader classReader;
+
+            /**
+             * Creates a new tiered type description.
+             *
+             * @param delegate    The representation of the class file's header.
+             * @param classReader The reader for the represented class file.
+             */
+            protected TieredTypeDescription(TypeDescription delegate, ClassReader classReader) {
+                this.delegate = delegate;
+                this.classReader = classReader;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public String getName() {
+                return delegate.getName();
+            }
+
+            @Override
+            public FieldList<FieldDescription.InDefinedShape> getDeclaredFields() {
+                return resolve().getDeclaredFields();
+            }
+
+            @Override
+            public MethodList<MethodDescription.InDefinedShape> getDeclaredMethods() {
+                return resolve().getDeclaredMethods();
+            }
+
+            @Override
+            public RecordComponentList<RecordComponentDescription.InDefinedShape> getRecordComponents() {
+                return resolve().getRecordComponents();
+            }
+
+            @Override
+            protected TypeDescription delegate() {
+                return delegate;
+            }
+
+            /**
+             * Parses the represented class file completely if this has not yet happened.
+             *
+             * @return A complete representation of the class file.
+             */
+            protected TypeDescription resolve() {
+                if (classReader != null) {
+                    synchronized (this) {
+                        ClassReader classReader = this.classReader;
+                        if (classReader != null) {
+                            TypeExtractor typeExtractor = new TypeExtractor();
+                            classReader.accept(typeExtractor, readerMode.getFlags());
+                            delegate = typeExtractor.toTypeDescription();
+                            this.classReader = null;
+                        }
+                    }
+                }
+                return delegate;
+            }
         }
 
         /**
@@ -764,139 +1566,1380 @@ public interface TypePool {
              * @param parentPool       The parent type pool.
              */
             public WithLazyResolution(CacheProvider cacheProvider, ClassFileLocator classFileLocator, ReaderMode readerMode, TypePool parentPool) {
-                super(cacheProvider, classFileLocator, readerMode, parentPool);
+                this(cacheProvider, classFileLocator, readerMode, parentPool, SymbolTable.NoOp.INSTANCE);
+            }
+
+            /**
+             * Creates a new default type pool with lazy resolution.
+             *
+             * @param cacheProvider    The cache provider to be used.
+             * @param classFileLocator The class file locator to be used.
+             * @param readerMode       The reader mode to apply by this default type pool.
+             * @param parentPool       The parent type pool.
+             * @param symbolTable      The symbol table to use for deduplicating names and descriptors of parsed types.
+             */
+            public WithLazyResolution(CacheProvider cacheProvider,
+                                      ClassFileLocator classFileLocator,
+                                      ReaderMode readerMode,
+                                      TypePool parentPool,
+                                      SymbolTable symbolTable) {
+                super(cacheProvider, classFileLocator, readerMode, parentPool, symbolTable);
+            }
+
+            /**
+             * Creates a default {@link net.bytebuddy.pool.TypePool} with lazy resolution that looks up data by querying the system class
+             * loader. The returned instance is configured to use a fast reading mode and a simple cache.
+             *
+             * @return A type pool that reads its data from the system class loader.
+             */
+            public static TypePool ofSystemLoader() {
+                return of(ClassFileLocator.ForClassLoader.ofSystemLoader());
+            }
+
+            /**
+             * Creates a default {@link net.bytebuddy.pool.TypePool} with lazy resolution that looks up data by querying the platform class
+             * loader. The returned instance is configured to use a fast reading mode and a simple cache. If the current VM is Java 8 or older,
+             * the type pool represents the extension class loader.
+             *
+             * @return A type pool that reads its data from the boot class loader.
+             */
+            public static TypePool ofPlatformLoader() {
+                return of(ClassFileLocator.ForClassLoader.ofPlatformLoader());
+            }
+
+            /**
+             * Creates a default {@link net.bytebuddy.pool.TypePool} with lazy resolution that looks up data by querying the boot class
+             * loader. The returned instance is configured to use a fast reading mode and a simple cache.
+             *
+             * @return A type pool that reads its data from the boot class loader.
+             */
+            public static TypePool ofBootLoader() {
+                return of(ClassFileLocator.ForClassLoader.ofBootLoader());
+            }
+
+            /**
+             * Returns a default {@link TypePool} with lazy resolution for the provided class loader.
+             *
+             * @param classLoader The class loader for which this class pool is representing types.
+             * @return An appropriate type pool.
+             */
+            public static TypePool of(ClassLoader classLoader) {
+                return of(ClassFileLocator.ForClassLoader.of(classLoader));
+            }
+
+            /**
+             * Creates a default {@link net.bytebuddy.pool.TypePool} with lazy resolution that looks up data by querying the supplied class
+             * file locator. The returned instance is configured to use a fast reading mode and a simple cache.
+             *
+             * @param classFileLocator The class file locator to use.
+             * @return A type pool that reads its data from the system class path.
+             */
+            public static TypePool of(ClassFileLocator classFileLocator) {
+                return new WithLazyResolution(new CacheProvider.Simple(), classFileLocator, ReaderMode.FAST);
+            }
+
+            @Override
+            protected Resolution doDescribe(String name) {
+                return new LazyResolution(name);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            protected Resolution doCache(String name, Resolution resolution) {
+                return resolution;
             }
 
-            /**
-             * Creates a default {@link net.bytebuddy.pool.TypePool} with lazy resolution that looks up data by querying the system class
-             * loader. The returned instance is configured to use a fast reading mode and a simple cache.
-             *
-             * @return A type pool that reads its data from the system class loader.
-             */
-            public static TypePool ofSystemLoader() {
-                return of(ClassFileLocator.ForClassLoader.ofSystemLoader());
-            }
+            /**
+             * Non-lazily resolves a type name.
+             *
+             * @param name The name of the type to resolve.
+             * @return The resolution for the type of this name.
+             */
+            protected Resolution doResolve(String name) {
+                Resolution resolution = cacheProvider.find(name);
+                if (resolution == null) {
+                    resolution = cacheProvider.register(name, WithLazyResolution.super.doDescribe(name));
+                }
+                return resolution;
+            }
+
+            /**
+             * A lazy resolution of a type that the enclosing type pool attempts to resolve.
+             */
+            @HashCodeAndEqualsPlugin.Enhance(includeSyntheticFields = true)
+            protected class LazyResolution implements Resolution {
+
+                /**
+                 * The type's name.
+                 */
+                private final String name;
+
+                /**
+                 * Creates a new lazy resolution.
+                 *
+                 * @param name The type's name.
+                 */
+                protected LazyResolution(String name) {
+                    this.name = name;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public boolean isResolved() {
+                    return doResolve(name).isResolved();
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public TypeDescription resolve() {
+                    return new LazyTypeDescription(name);
+                }
+            }
+
+            /**
+             * A lazy type description that resolves any property that is not the name only when requested.
+             */
+            protected class LazyTypeDescription extends TypeDescription.AbstractBase.OfSimpleType.WithDelegation {
+
+                /**
+                 * The type's name.
+                 */
+                private final String name;
+
+                /**
+                 * Creates a new lazy type description.
+                 *
+                 * @param name The type's name.
+                 */
+                protected LazyTypeDescription(String name) {
+                    this.name = name;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public String getName() {
+                    return name;
+                }
+
+                @Override
+                @CachedReturnPlugin.Enhance("delegate")
+                protected TypeDescription delegate() {
+                    return doResolve(name).resolve();
+                }
+            }
+        }
+
+        /**
+         * <p>
+         * A variant of {@link TypePool.Default} with lazy resolution that retains parsed types in a persistent index. An indexed type
+         * is described without parsing its class file, including its annotations and its fields, methods and record components
+         * with their signatures and annotations. If the type pool's {@link ClassFileLocator} is {@link ClassFileLocator.Fingerprinting},
+         * an indexed type is validated by the class file's fingerprint, such as a jar file entry's checksum, without reading the class
+         * file. Otherwise, the class file is located and validated by its checksum. Index entries of changed class files are replaced
+         * automatically.
+         * </p>
+         * <p>
+         * If this type pool applies {@link ReaderMode#TIERED}, only a type's header is indexed and its fields, methods and record
+         * components are parsed from its class file once they are requested, similarly to a type pool without an index.
+         * </p>
+         * <p>
+         * <b>Note</b>: The index is read when this type pool is created and is only written when calling {@link WithPersistentIndex#persist()}.
+         * The index is written to a temporary file that then replaces the index file such that an interrupted write does not leave a truncated
+         * index. An index that cannot be read, that was written by an incompatible version, for another {@link ReaderMode} or with a different
+         * setting for {@link TypeDescription.AbstractBase#RAW_TYPES} is discarded. Different to its superclass, this type pool validates a type's
+         * index entry when a type is described, as an indexed type is cheap to resolve.
+         * </p>
+         */
+        public static class WithPersistentIndex extends WithLazyResolution {
+
+            /**
+             * The magic number that introduces a persisted index.
+             */
+            private static final int MAGIC = 0xB7B0D1D5;
+
+            /**
+             * The version of the format of a persisted index.
+             */
+            private static final int VERSION = 2;
+
+            /**
+             * The file that contains the persisted index.
+             */
+            private final File file;
+
+            /**
+             * The indexed types by their names.
+             */
+            private final ConcurrentMap<String, Entry> entries;
+
+            /**
+             * {@code true} if this index was altered since it was read.
+             */
+            private volatile boolean modified;
+
+            /**
+             * Creates a new default type pool with a persistent index and without a parent pool.
+             *
+             * @param cacheProvider    The cache provider to be used.
+             * @param classFileLocator The class file locator to be used.
+             * @param readerMode       The reader mode to apply by this default type pool.
+             * @param file             The file that contains the persisted index.
+             */
+            public WithPersistentIndex(CacheProvider cacheProvider, ClassFileLocator classFileLocator, ReaderMode readerMode, File file) {
+                this(cacheProvider, classFileLocator, readerMode, Empty.INSTANCE, file);
+            }
+
+            /**
+             * Creates a new default type pool with a persistent index.
+             *
+             * @param cacheProvider    The cache provider to be used.
+             * @param classFileLocator The class file locator to be used.
+             * @param readerMode       The reader mode to apply by this default type pool.
+             * @param parentPool       The parent type pool.
+             * @param file             The file that contains the persisted index.
+             */
+            public WithPersistentIndex(CacheProvider cacheProvider, ClassFileLocator classFileLocator, ReaderMode readerMode, TypePool parentPool, File file) {
+                super(cacheProvider, classFileLocator, readerMode, parentPool);
+                this.file = file;
+                entries = read(file, readerMode);
+            }
+
+            /**
+             * Creates a default {@link net.bytebuddy.pool.TypePool} with a persistent index that looks up data by querying the supplied class
+             * file locator. The returned instance is configured to use a fast reading mode and a simple cache.
+             *
+             * @param classFileLocator The class file locator to use.
+             * @param file             The file that contains the persisted index.
+             * @return A type pool that reads its data from the supplied class file locator.
+             */
+            public static WithPersistentIndex of(ClassFileLocator classFileLocator, File file) {
+                return new WithPersistentIndex(new CacheProvider.Simple(), classFileLocator, ReaderMode.FAST, file);
+            }
+
+            /**
+             * Reads a persisted index. If the index cannot be read or if it was written for another reader mode or
+             * type representation, an empty index is returned.
+             *
+             * @param file       The file that contains the persisted index.
+             * @param readerMode The reader mode of the type pool that reads the index.
+             * @return The indexed types by their names.
+             */
+            private static ConcurrentMap<String, Entry> read(File file, ReaderMode readerMode) {
+                ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+                if (!file.isFile()) {
+                    return entries;
+                }
+                try {
+                    DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+                    try {
+                        if (inputStream.readInt() != MAGIC
+                                || inputStream.readInt() != VERSION
+                                || inputStream.readBoolean() != TypeDescription.AbstractBase.RAW_TYPES
+                                || !inputStream.readUTF().equals(readerMode.name())) {
+                            return entries;
+                        }
+                        int count = inputStream.readInt();
+                        for (int index = 0; index < count; index++) {
+                            String name = inputStream.readUTF();
+                            entries.put(name, Entry.read(inputStream));
+                        }
+                    } finally {
+                        inputStream.close();
+                    }
+                } catch (IOException ignored) {
+                    entries.clear();
+                }
+                return entries;
+            }
+
+            /**
+             * Writes this type pool's index to its file if the index was altered.
+             *
+             * @throws IOException If the index cannot be written.
+             */
+            public void persist() throws IOException {
+                if (!modified) {
+                    return;
+                }
+                modified = false;
+                boolean persisted = false;
+                try {
+                    Map<String, Entry> entries = new HashMap<String, Entry>(this.entries);
+                    File folder = file.getAbsoluteFile().getParentFile(), temporary = File.createTempFile(file.getName(), ".tmp", folder);
+                    try {
+                        FileOutputStream fileOutputStream = new FileOutputStream(temporary);
+                        try {
+                            DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(fileOutputStream));
+                            outputStream.writeInt(MAGIC);
+                            outputStream.writeInt(VERSION);
+                            outputStream.writeBoolean(TypeDescription.AbstractBase.RAW_TYPES);
+                            outputStream.writeUTF(readerMode.name());
+                            outputStream.writeInt(entries.size());
+                            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                                outputStream.writeUTF(entry.getKey());
+                                entry.getValue().write(outputStream);
+                            }
+                            outputStream.flush();
+                            fileOutputStream.getFD().sync();
+                        } finally {
+                            fileOutputStream.close();
+                        }
+                        if (!temporary.renameTo(file) && (!file.delete() || !temporary.renameTo(file))) {
+                            throw new IOException("Cannot replace index file: " + file);
+                        }
+                        persisted = true;
+                    } finally {
+                        if (!persisted && temporary.exists() && !temporary.delete()) {
+                            temporary.deleteOnExit();
+                        }
+                    }
+                } finally {
+                    if (!persisted) {
+                        modified = true;
+                    }
+                }
+            }
+
+            @Override
+            protected Resolution doDescribe(String name) {
+                return doResolve(name);
+            }
+
+            @Override
+            protected Resolution doParse(String name) {
+                return doIndex(name);
+            }
+
+            /**
+             * Resolves a type from this type pool's index if its class file is unchanged or parses the class file otherwise.
+             *
+             * @param name The name of the type to resolve.
+             * @return The resolution for the type of this name.
+             */
+            protected Resolution doIndex(String name) {
+                try {
+                    long fingerprint = classFileLocator instanceof ClassFileLocator.Fingerprinting
+                            ? ((ClassFileLocator.Fingerprinting) classFileLocator).fingerprint(name)
+                            : ClassFileLocator.Fingerprinting.UNKNOWN;
+                    if (fingerprint == ClassFileLocator.Fingerprinting.ABSENT) {
+                        return new Resolution.Illegal(name);
+                    }
+                    Entry entry = entries.get(name);
+                    TypeDescription typeDescription = entry == null || entry.getFingerprint() != fingerprint
+                            ? Entry.UNRESOLVED
+                            : entry.toTypeDescription(this, name);
+                    if (typeDescription != Entry.UNRESOLVED) {
+                        return new Resolution.Simple(typeDescription);
+                    }
+                    ClassFileLocator.Resolution resolution = classFileLocator.locate(name);
+                    if (!resolution.isResolved()) {
+                        return new Resolution.Illegal(name);
+                    }
+                    byte[] binaryRepresentation = resolution.resolve();
+                    if (fingerprint == ClassFileLocator.Fingerprinting.UNKNOWN) {
+                        CRC32 crc32 = new CRC32();
+                        crc32.update(binaryRepresentation);
+                        fingerprint = crc32.getValue() | ((long) binaryRepresentation.length << 32);
+                        typeDescription = entry == null || entry.getFingerprint() != fingerprint
+                                ? Entry.UNRESOLVED
+                                : entry.toTypeDescription(this, name);
+                        if (typeDescription != Entry.UNRESOLVED) {
+                            return new Resolution.Simple(typeDescription);
+                        }
+                    }
+                    typeDescription = parse(binaryRepresentation);
+                    entry = Entry.of(fingerprint, typeDescription);
+                    if (entry != null) {
+                        entries.put(name, entry);
+                        modified = true;
+                    }
+                    return new Resolution.Simple(typeDescription);
+                } catch (IOException exception) {
+                    throw new IllegalStateException("Error while reading class file", exception);
+                }
+            }
+
+            /**
+             * Returns the number of types that are currently indexed.
+             *
+             * @return The number of types that are currently indexed.
+             */
+            public int getIndexSize() {
+                return entries.size();
+            }
+
+            /**
+             * An entry of a persistent index that retains a serialized type description.
+             */
+            protected static class Entry {
+
+                /**
+                 * Indicates that an entry cannot be resolved.
+                 */
+                protected static final TypeDescription UNRESOLVED = null;
+
+                /**
+                 * Indicates that a value is not defined.
+                 */
+                private static final byte NULL = 0;
+
+                /**
+                 * Indicates a {@code boolean} value.
+                 */
+                private static final byte BOOLEAN = 'Z';
+
+                /**
+                 * Indicates a {@code byte} value.
+                 */
+                private static final byte BYTE = 'B';
+
+                /**
+                 * Indicates a {@code short} value.
+                 */
+                private static final byte SHORT = 'S';
+
+                /**
+                 * Indicates a {@code char} value.
+                 */
+                private static final byte CHARACTER = 'C';
+
+                /**
+                 * Indicates an {@code int} value.
+                 */
+                private static final byte INTEGER = 'I';
+
+                /**
+                 * Indicates a {@code long} value.
+                 */
+                private static final byte LONG = 'J';
+
+                /**
+                 * Indicates a {@code float} value.
+                 */
+                private static final byte FLOAT = 'F';
+
+                /**
+                 * Indicates a {@code double} value.
+                 */
+                private static final byte DOUBLE = 'D';
+
+                /**
+                 * Indicates a {@link String} value.
+                 */
+                private static final byte STRING = 's';
+
+                /**
+                 * Indicates an array of constant values.
+                 */
+                private static final byte CONSTANT_ARRAY = '[';
+
+                /**
+                 * Indicates a type value.
+                 */
+                private static final byte TYPE = 'c';
+
+                /**
+                 * Indicates an enumeration value.
+                 */
+                private static final byte ENUMERATION = 'e';
+
+                /**
+                 * Indicates an annotation value.
+                 */
+                private static final byte ANNOTATION = '@';
+
+                /**
+                 * Indicates an array of non-primitive values.
+                 */
+                private static final byte ARRAY = 'a';
+
+                /**
+                 * Indicates a component type that is resolved from an annotation property.
+                 */
+                private static final byte PROPERTY_COMPONENT_TYPE = 'p';
+
+                /**
+                 * Indicates a component type that is known explicitly.
+                 */
+                private static final byte EXPLICIT_COMPONENT_TYPE = 'x';
+
+                /**
+                 * Indicates a self-contained type.
+                 */
+                private static final byte SELF_CONTAINED = 0;
+
+                /**
+                 * Indicates a type that is contained within a type.
+                 */
+                private static final byte WITHIN_TYPE = 1;
+
+                /**
+                 * Indicates a type that is contained within a method.
+                 */
+                private static final byte WITHIN_METHOD = 2;
+
+                /**
+                 * The fingerprint of the indexed class file.
+                 */
+                private final long fingerprint;
+
+                /**
+                 * {@code true} if the serialized type description contains the type's fields, methods and record components.
+                 */
+                private final boolean complete;
+
+                /**
+                 * The serialized type description.
+                 */
+                private final byte[] binaryRepresentation;
+
+                /**
+                 * Creates a new index entry.
+                 *
+                 * @param fingerprint          The fingerprint of the indexed class file.
+                 * @param complete             {@code true} if the serialized type description contains the type's fields, methods and record components.
+                 * @param binaryRepresentation The serialized type description.
+                 */
+                protected Entry(long fingerprint, boolean complete, byte[] binaryRepresentation) {
+                    this.fingerprint = fingerprint;
+                    this.complete = complete;
+                    this.binaryRepresentation = binaryRepresentation;
+                }
+
+                /**
+                 * Creates an index entry for a parsed type.
+                 *
+                 * @param fingerprint     The fingerprint of the indexed class file.
+                 * @param typeDescription The parsed type.
+                 * @return An appropriate index entry or {@code null} if the type cannot be indexed.
+                 */
+                protected static Entry of(long fingerprint, TypeDescription typeDescription) {
+                    boolean complete;
+                    if (typeDescription instanceof Default.TieredTypeDescription) {
+                        complete = ((Default.TieredTypeDescription) typeDescription).classReader == null;
+                        typeDescription = ((Default.TieredTypeDescription) typeDescription).delegate;
+                    } else {
+                        complete = true;
+                    }
+                    if (!(typeDescription instanceof Default.LazyTypeDescription)) {
+                        return null;
+                    }
+                    try {
+                        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                        write(new DataOutputStream(outputStream), (Default.LazyTypeDescription) typeDescription);
+                        return new Entry(fingerprint, complete, outputStream.toByteArray());
+                    } catch (IOException ignored) {
+                        return null;
+                    }
+                }
+
+                /**
+                 * Reads an index entry.
+                 *
+                 * @param inputStream The input stream to read from.
+                 * @return The index entry that was read.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                protected static Entry read(DataInputStream inputStream) throws IOException {
+                    long fingerprint = inputStream.readLong();
+                    boolean complete = inputStream.readBoolean();
+                    byte[] binaryRepresentation = new byte[inputStream.readInt()];
+                    inputStream.readFully(binaryRepresentation);
+                    return new Entry(fingerprint, complete, binaryRepresentation);
+                }
+
+                /**
+                 * Writes this index entry.
+                 *
+                 * @param outputStream The output stream to write to.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                protected void write(DataOutputStream outputStream) throws IOException {
+                    outputStream.writeLong(fingerprint);
+                    outputStream.writeBoolean(complete);
+                    outputStream.writeInt(binaryRepresentation.length);
+                    outputStream.write(binaryRepresentation);
+                }
+
+                /**
+                 * Returns the fingerprint of the indexed class file.
+                 *
+                 * @return The fingerprint of the indexed class file.
+                 */
+                protected long getFingerprint() {
+                    return fingerprint;
+                }
+
+                /**
+                 * Resolves the type description of this entry.
+                 *
+                 * @param typePool The type pool that resolves the type description.
+                 * @param name     The name of the indexed type.
+                 * @return The indexed type description or {@code null} if the serialized type description cannot be read.
+                 */
+                protected TypeDescription toTypeDescription(WithPersistentIndex typePool, String name) {
+                    TypeDescription typeDescription;
+                    try {
+                        typeDescription = readType(new DataInputStream(new ByteArrayInputStream(binaryRepresentation)), typePool);
+                    } catch (IOException ignored) {
+                        return UNRESOLVED;
+                    } catch (RuntimeException ignored) {
+                        return UNRESOLVED;
+                    }
+                    return complete
+                            ? typeDescription
+                            : typePool.new IndexedTypeDescription(name, typeDescription);
+                }
+
+                /**
+                 * Writes a lazy type description.
+                 *
+                 * @param outputStream    The output stream to write to.
+                 * @param typeDescription The type description to write.
+                 * @throws IOException If an I/O exception occurs or if the type description cannot be serialized.
+                 */
+                private static void write(DataOutputStream outputStream, Default.LazyTypeDescription typeDescription) throws IOException {
+                    outputStream.writeInt(typeDescription.actualModifiers);
+                    outputStream.writeInt(typeDescription.modifiers);
+                    outputStream.writeUTF(typeDescription.name.replace('.', '/'));
+                    writeString(outputStream, typeDescription.superClassDescriptor == null
+                            ? null
+                            : typeDescription.superClassDescriptor.substring(1, typeDescription.superClassDescriptor.length() - 1));
+                    outputStream.writeShort(typeDescription.interfaceTypeDescriptors.size());
+                    for (String interfaceTypeDescriptor : typeDescription.interfaceTypeDescriptors) {
+                        outputStream.writeUTF(interfaceTypeDescriptor.substring(1, interfaceTypeDescriptor.length() - 1));
+                    }
+                    writeString(outputStream, typeDescription.genericSignature);
+                    if (typeDescription.typeContainment instanceof Default.LazyTypeDescription.TypeContainment.WithinType) {
+                        outputStream.writeByte(WITHIN_TYPE);
+                        outputStream.writeUTF(((Default.LazyTypeDescription.TypeContainment.WithinType) typeDescription.typeContainment).name.replace('.', '/'));
+                        outputStream.writeBoolean(((Default.LazyTypeDescription.TypeContainment.WithinType) typeDescription.typeContainment).localType);
+                    } else if (typeDescription.typeContainment instanceof Default.LazyTypeDescription.TypeContainment.WithinMethod) {
+                        outputStream.writeByte(WITHIN_METHOD);
+                        outputStream.writeUTF(((Default.LazyTypeDescription.TypeContainment.WithinMethod) typeDescription.typeContainment).name.replace('.', '/'));
+                        outputStream.writeUTF(((Default.LazyTypeDescription.TypeContainment.WithinMethod) typeDescription.typeContainment).methodName);
+                        outputStream.writeUTF(((Default.LazyTypeDescription.TypeContainment.WithinMethod) typeDescription.typeContainment).methodDescriptor);
+                    } else if (typeDescription.typeContainment == Default.LazyTypeDescription.TypeContainment.SelfContained.INSTANCE) {
+                        outputStream.writeByte(SELF_CONTAINED);
+                    } else {
+                        throw new IOException("Cannot index type containment: " + typeDescription.typeContainment);
+                    }
+                    writeString(outputStream, typeDescription.declaringTypeName == null
+                            ? null
+                            : typeDescription.declaringTypeName.replace('.', '/'));
+                    writeStrings(outputStream, typeDescription.declaredTypes);
+                    outputStream.writeBoolean(typeDescription.anonymousType);
+                    writeString(outputStream, typeDescription.nestHost == null
+                            ? null
+                            : typeDescription.nestHost.replace('.', '/'));
+                    outputStream.writeShort(typeDescription.nestMembers.size());
+                    for (String nestMember : typeDescription.nestMembers) {
+                        outputStream.writeUTF(nestMember.replace('.', '/'));
+                    }
+                    writeIndexedTypeAnnotations(outputStream, typeDescription.superTypeAnnotationTokens);
+                    writeIndexedTypeAnnotations(outputStream, typeDescription.typeVariableAnnotationTokens);
+                    writeDoubleIndexedTypeAnnotations(outputStream, typeDescription.typeVariableBoundsAnnotationTokens);
+                    writeAnnotations(outputStream, typeDescription.annotationTokens);
+                    outputStream.writeShort(typeDescription.fieldTokens.size());
+                    for (Default.LazyTypeDescription.FieldToken fieldToken : typeDescription.fieldTokens) {
+                        outputStream.writeUTF(fieldToken.name);
+                        outputStream.writeInt(fieldToken.modifiers);
+                        outputStream.writeUTF(fieldToken.descriptor);
+                        writeString(outputStream, fieldToken.genericSignature);
+                        writeTypeAnnotations(outputStream, fieldToken.typeAnnotationTokens);
+                        writeAnnotations(outputStream, fieldToken.annotationTokens);
+                    }
+                    outputStream.writeShort(typeDescription.methodTokens.size());
+                    for (Default.LazyTypeDescription.MethodToken methodToken : typeDescription.methodTokens) {
+                        outputStream.writeUTF(methodToken.name);
+                        outputStream.writeInt(methodToken.modifiers);
+                        outputStream.writeUTF(methodToken.descriptor);
+                        writeString(outputStream, methodToken.genericSignature);
+                        if (methodToken.exceptionName == null) {
+                            outputStream.writeShort(-1);
+                        } else {
+                            outputStream.writeShort(methodToken.exceptionName.length);
+                            for (String exceptionName : methodToken.exceptionName) {
+                                outputStream.writeUTF(exceptionName);
+                            }
+                        }
+                        writeIndexedTypeAnnotations(outputStream, methodToken.typeVariableAnnotationTokens);
+                        writeDoubleIndexedTypeAnnotations(outputStream, methodToken.typeVariableBoundAnnotationTokens);
+                        writeTypeAnnotations(outputStream, methodToken.returnTypeAnnotationTokens);
+                        writeIndexedTypeAnnotations(outputStream, methodToken.parameterTypeAnnotationTokens);
+                        writeIndexedTypeAnnotations(outputStream, methodToken.exceptionTypeAnnotationTokens);
+                        writeTypeAnnotations(outputStream, methodToken.receiverTypeAnnotationTokens);
+                        writeAnnotations(outputStream, methodToken.annotationTokens);
+                        outputStream.writeShort(methodToken.parameterAnnotationTokens.size());
+                        for (Map.Entry<Integer, List<Default.LazyTypeDescription.AnnotationToken>> entry : methodToken.parameterAnnotationTokens.entrySet()) {
+                            outputStream.writeInt(entry.getKey());
+                            writeAnnotations(outputStream, entry.getValue());
+                        }
+                        outputStream.writeShort(methodToken.parameterTokens.size());
+                        for (Default.LazyTypeDescription.MethodToken.ParameterToken parameterToken : methodToken.parameterTokens) {
+                            writeString(outputStream, parameterToken.getName());
+                            if (parameterToken.getModifiers() == null) {
+                                outputStream.writeBoolean(false);
+                            } else {
+                                outputStream.writeBoolean(true);
+                                outputStream.writeInt(parameterToken.getModifiers());
+                            }
+                        }
+                        if (methodToken.defaultValue == null) {
+                            outputStream.writeByte(NULL);
+                        } else {
+                            writeValue(outputStream, methodToken.defaultValue);
+                        }
+                    }
+                    outputStream.writeShort(typeDescription.recordComponentTokens.size());
+                    for (Default.LazyTypeDescription.RecordComponentToken recordComponentToken : typeDescription.recordComponentTokens) {
+                        outputStream.writeUTF(recordComponentToken.name);
+                        outputStream.writeUTF(recordComponentToken.descriptor);
+                        writeString(outputStream, recordComponentToken.genericSignature);
+                        writeTypeAnnotations(outputStream, recordComponentToken.typeAnnotationTokens);
+                        writeAnnotations(outputStream, recordComponentToken.annotationTokens);
+                    }
+                }
+
+                /**
+                 * Reads a lazy type description.
+                 *
+                 * @param inputStream The input stream to read from.
+                 * @param typePool    The type pool that resolves the type description.
+                 * @return The type description that was read.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private static Default.LazyTypeDescription readType(DataInputStream inputStream, WithPersistentIndex typePool) throws IOException {
+                    int actualModifiers = inputStream.readInt(), modifiers = inputStream.readInt();
+                    String internalName = inputStream.readUTF(), superClassInternalName = readString(inputStream);
+                    String[] interfaceInternalName = new String[inputStream.readUnsignedShort()];
+                    for (int index = 0; index < interfaceInternalName.length; index++) {
+                        interfaceInternalName[index] = inputStream.readUTF();
+                    }
+                    String genericSignature = readString(inputStream);
+                    Default.LazyTypeDescription.TypeContainment typeContainment;
+                    switch (inputStream.readByte()) {
+                        case SELF_CONTAINED:
+                            typeContainment = Default.LazyTypeDescription.TypeContainment.SelfContained.INSTANCE;
+                            break;
+                        case WITHIN_TYPE:
+                            typeContainment = new Default.LazyTypeDescription.TypeContainment.WithinType(inputStream.readUTF(), inputStream.readBoolean());
+                            break;
+                        case WITHIN_METHOD:
+                            typeContainment = new Default.LazyTypeDescription.TypeContainment.WithinMethod(inputStream.readUTF(), inputStream.readUTF(), inputStream.readUTF());
+                            break;
+                        default:
+                            throw new IOException("Unknown type containment");
+                    }
+                    String declaringTypeInternalName = readString(inputStream);
+                    List<String> declaredTypes = readStrings(inputStream);
+                    boolean anonymousType = inputStream.readBoolean();
+                    String nestHostInternalName = readString(inputStream);
+                    List<String> nestMemberInternalNames = readStrings(inputStream);
+                    Map<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>> superTypeAnnotationTokens = readIndexedTypeAnnotations(inputStream, typePool);
+                    Map<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>> typeVariableAnnotationTokens = readIndexedTypeAnnotations(inputStream, typePool);
+                    Map<Integer, Map<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>>> typeVariableBoundsAnnotationTokens = readDoubleIndexedTypeAnnotations(inputStream, typePool);
+                    List<Default.LazyTypeDescription.AnnotationToken> annotationTokens = readAnnotations(inputStream, typePool);
+                    int count = inputStream.readUnsignedShort();
+                    List<Default.LazyTypeDescription.FieldToken> fieldTokens = new ArrayList<Default.LazyTypeDescription.FieldToken>(count);
+                    for (int index = 0; index < count; index++) {
+                        fieldTokens.add(new Default.LazyTypeDescription.FieldToken(inputStream.readUTF(),
+                                inputStream.readInt(),
+                                inputStream.readUTF(),
+                                readString(inputStream),
+                                readTypeAnnotations(inputStream, typePool),
+                                readAnnotations(inputStream, typePool)));
+                    }
+                    count = inputStream.readUnsignedShort();
+                    List<Default.LazyTypeDescription.MethodToken> methodTokens = new ArrayList<Default.LazyTypeDescription.MethodToken>(count);
+                    for (int index = 0; index < count; index++) {
+                        String name = inputStream.readUTF();
+                        int methodModifiers = inputStream.readInt();
+                        String descriptor = inputStream.readUTF(), methodGenericSignature = readString(inputStream);
+                        int exceptions = inputStream.readShort();
+                        String[] exceptionName;
+                        if (exceptions < 0) {
+                            exceptionName = null;
+                        } else {
+                            exceptionName = new String[exceptions];
+                            for (int exception = 0; exception < exceptions; exception++) {
+                                exceptionName[exception] = inputStream.readUTF();
+                            }
+                        }
+                        Map<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>> methodTypeVariableAnnotationTokens = readIndexedTypeAnnotations(inputStream, typePool);
+                        Map<Integer, Map<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>>> typeVariableBoundAnnotationTokens = readDoubleIndexedTypeAnnotations(inputStream, typePool);
+                        Map<String, List<Default.LazyTypeDescription.AnnotationToken>> returnTypeAnnotationTokens = readTypeAnnotations(inputStream, typePool);
+                        Map<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>> parameterTypeAnnotationTokens = readIndexedTypeAnnotations(inputStream, typePool);
+                        Map<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>> exceptionTypeAnnotationTokens = readIndexedTypeAnnotations(inputStream, typePool);
+                        Map<String, List<Default.LazyTypeDescription.AnnotationToken>> receiverTypeAnnotationTokens = readTypeAnnotations(inputStream, typePool);
+                        List<Default.LazyTypeDescription.AnnotationToken> methodAnnotationTokens = readAnnotations(inputStream, typePool);
+                        int parameters = inputStream.readUnsignedShort();
+                        Map<Integer, List<Default.LazyTypeDescription.AnnotationToken>> parameterAnnotationTokens = new HashMap<Integer, List<Default.LazyTypeDescription.AnnotationToken>>();
+                        for (int parameter = 0; parameter < parameters; parameter++) {
+                            parameterAnnotationTokens.put(inputStream.readInt(), readAnnotations(inputStream, typePool));
+                        }
+                        parameters = inputStream.readUnsignedShort();
+                        List<Default.LazyTypeDescription.MethodToken.ParameterToken> parameterTokens = new ArrayList<Default.LazyTypeDescription.MethodToken.ParameterToken>(parameters);
+                        for (int parameter = 0; parameter < parameters; parameter++) {
+                            String parameterName = readString(inputStream);
+                            parameterTokens.add(new Default.LazyTypeDescription.MethodToken.ParameterToken(parameterName, inputStream.readBoolean()
+                                    ? Integer.valueOf(inputStream.readInt())
+                                    : Default.LazyTypeDescription.MethodToken.ParameterToken.NO_MODIFIERS));
+                        }
+                        methodTokens.add(new Default.LazyTypeDescription.MethodToken(name,
+                                methodModifiers,
+                                descriptor,
+                                methodGenericSignature,
+                                exceptionName,
+                                methodTypeVariableAnnotationTokens,
+                                typeVariableBoundAnnotationTokens,
+                                returnTypeAnnotationTokens,
+                                parameterTypeAnnotationTokens,
+                                exceptionTypeAnnotationTokens,
+                                receiverTypeAnnotationTokens,
+                                methodAnnotationTokens,
+                                parameterAnnotationTokens,
+                                parameterTokens,
+                                readValue(inputStream, typePool)));
+                    }
+                    count = inputStream.readUnsignedShort();
+                    List<Default.LazyTypeDescription.RecordComponentToken> recordComponentTokens = new ArrayList<Default.LazyTypeDescription.RecordComponentToken>(count);
+                    for (int index = 0; index < count; index++) {
+                        recordComponentTokens.add(new Default.LazyTypeDescription.RecordComponentToken(inputStream.readUTF(),
+                                inputStream.readUTF(),
+                                readString(inputStream),
+                                readTypeAnnotations(inputStream, typePool),
+                                readAnnotations(inputStream, typePool)));
+                    }
+                    return new Default.LazyTypeDescription(typePool,
+                            typePool.symbolTable,
+                            actualModifiers,
+                            modifiers,
+                            internalName,
+                            superClassInternalName,
+                            interfaceInternalName,
+                            genericSignature,
+                            typeContainment,
+                            declaringTypeInternalName,
+                            declaredTypes,
+                            anonymousType,
+                            nestHostInternalName,
+                            nestMemberInternalNames,
+                            superTypeAnnotationTokens,
+                            typeVariableAnnotationTokens,
+                            typeVariableBoundsAnnotationTokens,
+                            annotationTokens,
+                            fieldTokens,
+                            methodTokens,
+                            recordComponentTokens);
+                }
+
+                /**
+                 * Writes a string that might be {@code null}.
+                 *
+                 * @param outputStream The output stream to write to.
+                 * @param value        The string to write or {@code null}.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private static void writeString(DataOutputStream outputStream, String value) throws IOException {
+                    if (value == null) {
+                        outputStream.writeBoolean(false);
+                    } else {
+                        outputStream.writeBoolean(true);
+                        outputStream.writeUTF(value);
+                    }
+                }
+
+                /**
+                 * Reads a string that might be {@code null}.
+                 *
+                 * @param inputStream The input stream to read from.
+                 * @return The string that was read or {@code null}.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private static String readString(DataInputStream inputStream) throws IOException {
+                    return inputStream.readBoolean()
+                            ? inputStream.readUTF()
+                            : null;
+                }
 
-            /**
-             * Creates a default {@link net.bytebuddy.pool.TypePool} with lazy resolution that looks up data by querying the platform class
-             * loader. The returned instance is configured to use a fast reading mode and a simple cache. If the current VM is Java 8 or older,
-             * the type pool represents the extension class loader.
-             *
-             * @return A type pool that reads its data from the boot class loader.
-             */
-            public static TypePool ofPlatformLoader() {
-                return of(ClassFileLocator.ForClassLoader.ofPlatformLoader());
-            }
+                /**
+                 * Writes a list of strings.
+                 *
+                 * @param outputStream The output stream to write to.
+                 * @param values       The strings to write.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private static void writeStrings(DataOutputStream outputStream, List<String> values) throws IOException {
+                    outputStream.writeShort(values.size());
+                    for (String value : values) {
+                        outputStream.writeUTF(value);
+                    }
+                }
 
-            /**
-             * Creates a default {@link net.bytebuddy.pool.TypePool} with lazy resolution that looks up data by querying the boot class
-             * loader. The returned instance is configured to use a fast reading mode and a simple cache.
-             *
-             * @return A type pool that reads its data from the boot class loader.
-             */
-            public static TypePool ofBootLoader() {
-                return of(ClassFileLocator.ForClassLoader.ofBootLoader());
-            }
+                /**
+                 * Reads a list of strings.
+                 *
+                 * @param inputStream The input stream to read from.
+                 * @return The strings that were read.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private static List<String> readStrings(DataInputStream inputStream) throws IOException {
+                    int count = inputStream.readUnsignedShort();
+                    if (count == 0) {
+                        return Collections.emptyList();
+                    }
+                    List<String> values = new ArrayList<String>(count);
+                    for (int index = 0; index < count; index++) {
+                        values.add(inputStream.readUTF());
+                    }
+                    return values;
+                }
 
-            /**
-             * Returns a default {@link TypePool} with lazy resolution for the provided class loader.
-             *
-             * @param classLoader The class loader for which this class pool is representing types.
-             * @return An appropriate type pool.
-             */
-            public static TypePool of(ClassLoader classLoader) {
-                return of(ClassFileLocator.ForClassLoader.of(classLoader));
-            }
+                /**
+                 * Writes a list of annotation tokens.
+                 *
+                 * @param outputStream     The output stream to write to.
+                 * @param annotationTokens The annotation tokens to write.
+                 * @throws IOException If an I/O exception occurs or if an annotation value cannot be serialized.
+                 */
+                private static void writeAnnotations(DataOutputStream outputStream, List<Default.LazyTypeDescription.AnnotationToken> annotationTokens) throws IOException {
+                    outputStream.writeShort(annotationTokens.size());
+                    for (Default.LazyTypeDescription.AnnotationToken annotationToken : annotationTokens) {
+                        writeAnnotation(outputStream, annotationToken);
+                    }
+                }
 
-            /**
-             * Creates a default {@link net.bytebuddy.pool.TypePool} with lazy resolution that looks up data by querying the supplied class
-             * file locator. The returned instance is configured to use a fast reading mode and a simple cache.
-             *
-             * @param classFileLocator The class file locator to use.
-             * @return A type pool that reads its data from the system class path.
-             */
-            public static TypePool of(ClassFileLocator classFileLocator) {
-                return new WithLazyResolution(new CacheProvider.Simple(), classFileLocator, ReaderMode.FAST);
-            }
+                /**
+                 * Reads a list of annotation tokens.
+                 *
+                 * @param inputStream The input stream to read from.
+                 * @param typePool    The type pool that resolves the annotations.
+                 * @return The annotation tokens that were read.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private static List<Default.LazyTypeDescription.AnnotationToken> readAnnotations(DataInputStream inputStream, TypePool typePool) throws IOException {
+                    int count = inputStream.readUnsignedShort();
+                    if (count == 0) {
+                        return Collections.emptyList();
+                    }
+                    List<Default.LazyTypeDescription.AnnotationToken> annotationTokens = new ArrayList<Default.LazyTypeDescription.AnnotationToken>(count);
+                    for (int index = 0; index < count; index++) {
+                        annotationTokens.add(readAnnotation(inputStream, typePool));
+                    }
+                    return annotationTokens;
+                }
 
-            @Override
-            protected Resolution doDescribe(String name) {
-                return new LazyResolution(name);
-            }
+                /**
+                 * Writes annotation tokens of a type by their type paths.
+                 *
+                 * @param outputStream     The output stream to write to.
+                 * @param annotationTokens The annotation tokens to write by their type paths.
+                 * @throws IOException If an I/O exception occurs or if an annotation value cannot be serialized.
+                 */
+                private static void writeTypeAnnotations(DataOutputStream outputStream, Map<String, List<Default.LazyTypeDescription.AnnotationToken>> annotationTokens) throws IOException {
+                    outputStream.writeShort(annotationTokens.size());
+                    for (Map.Entry<String, List<Default.LazyTypeDescription.AnnotationToken>> entry : annotationTokens.entrySet()) {
+                        outputStream.writeUTF(entry.getKey());
+                        writeAnnotations(outputStream, entry.getValue());
+                    }
+                }
 
-            /**
-             * {@inheritDoc}
-             */
-            protected Resolution doCache(String name, Resolution resolution) {
-                return resolution;
-            }
+                /**
+                 * Reads annotation tokens of a type by their type paths.
+                 *
+                 * @param inputStream The input stream to read from.
+                 * @param typePool    The type pool that resolves the annotations.
+                 * @return The annotation tokens that were read by their type paths.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private static Map<String, List<Default.LazyTypeDescription.AnnotationToken>> readTypeAnnotations(DataInputStream inputStream, TypePool typePool) throws IOException {
+                    int count = inputStream.readUnsignedShort();
+                    if (count == 0) {
+                        return Collections.emptyMap();
+                    }
+                    Map<String, List<Default.LazyTypeDescription.AnnotationToken>> annotationTokens = new HashMap<String, List<Default.LazyTypeDescription.AnnotationToken>>();
+                    for (int index = 0; index < count; index++) {
+                        annotationTokens.put(inputStream.readUTF(), readAnnotations(inputStream, typePool));
+                    }
+                    return annotationTokens;
+                }
 
-            /**
-             * Non-lazily resolves a type name.
-             *
-             * @param name The name of the type to resolve.
-             * @return The resolution for the type of this name.
-             */
-            protected Resolution doResolve(String name) {
-                Resolution resolution = cacheProvider.find(name);
-                if (resolution == null) {
-                    resolution = cacheProvider.register(name, WithLazyResolution.super.doDescribe(name));
+                /**
+                 * Writes annotation tokens of indexed types by their type paths.
+                 *
+                 * @param outputStream     The output stream to write to.
+                 * @param annotationTokens The annotation tokens to write by their index and type paths.
+                 * @throws IOException If an I/O exception occurs or if an annotation value cannot be serialized.
+                 */
+                private static void writeIndexedTypeAnnotations(DataOutputStream outputStream, Map<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>> annotationTokens) throws IOException {
+                    outputStream.writeShort(annotationTokens.size());
+                    for (Map.Entry<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>> entry : annotationTokens.entrySet()) {
+                        outputStream.writeInt(entry.getKey());
+                        writeTypeAnnotations(outputStream, entry.getValue());
+                    }
                 }
-                return resolution;
-            }
 
-            /**
-             * A lazy resolution of a type that the enclosing type pool attempts to resolve.
-             */
-            @HashCodeAndEqualsPlugin.Enhance(includeSyntheticFields = true)
-            protected class LazyResolution implements Resolution {
+                /**
+                 * Reads annotation tokens of indexed types by their type paths.
+                 *
+                 * @param inputStream The input stream to read from.
+                 * @param typePool    The type pool that resolves the annotations.
+                 * @return The annotation tokens that were read by their index and type paths.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private static Map<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>> readIndexedTypeAnnotations(DataInputStream inputStream, TypePool typePool) throws IOException {
+                    int count = inputStream.readUnsignedShort();
+                    if (count == 0) {
+                        return Collections.emptyMap();
+                    }
+                    Map<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>> annotationTokens = new HashMap<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>>();
+                    for (int index = 0; index < count; index++) {
+                        annotationTokens.put(inputStream.readInt(), readTypeAnnotations(inputStream, typePool));
+                    }
+                    return annotationTokens;
+                }
 
                 /**
-                 * The type's name.
+                 * Writes annotation tokens of double-indexed types by their type paths.
+                 *
+                 * @param outputStream     The output stream to write to.
+                 * @param annotationTokens The annotation tokens to write by their indices and type paths.
+                 * @throws IOException If an I/O exception occurs or if an annotation value cannot be serialized.
                  */
-                private final String name;
+                private static void writeDoubleIndexedTypeAnnotations(DataOutputStream outputStream, Map<Integer, Map<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>>> annotationTokens) throws IOException {
+                    outputStream.writeShort(annotationTokens.size());
+                    for (Map.Entry<Integer, Map<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>>> entry : annotationTokens.entrySet()) {
+                        outputStream.writeInt(entry.getKey());
+                        writeIndexedTypeAnnotations(outputStream, entry.getValue());
+                    }
+                }
 
                 /**
-                 * Creates a new lazy resolution.
+                 * Reads annotation tokens of double-indexed types by their type paths.
                  *
-                 * @param name The type's name.
+                 * @param inputStream The input stream to read from.
+                 * @param typePool    The type pool that resolves the annotations.
+                 * @return The annotation tokens that were read by their indices and type paths.
+                 * @throws IOException If an I/O exception occurs.
                  */
-                protected LazyResolution(String name) {
-                    this.name = name;
+                private static Map<Integer, Map<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>>> readDoubleIndexedTypeAnnotations(DataInputStream inputStream, TypePool typePool) throws IOException {
+                    int count = inputStream.readUnsignedShort();
+                    if (count == 0) {
+                        return Collections.emptyMap();
+                    }
+                    Map<Integer, Map<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>>> annotationTokens = new HashMap<Integer, Map<Integer, Map<String, List<Default.LazyTypeDescription.AnnotationToken>>>>();
+                    for (int index = 0; index < count; index++) {
+                        annotationTokens.put(inputStream.readInt(), readIndexedTypeAnnotations(inputStream, typePool));
+                    }
+                    return annotationTokens;
                 }
 
                 /**
-                 * {@inheritDoc}
+                 * Writes an annotation token.
+                 *
+                 * @param outputStream    The output stream to write to.
+                 * @param annotationToken The annotation token to write.
+                 * @throws IOException If an I/O exception occurs or if an annotation value cannot be serialized.
                  */
-                public boolean isResolved() {
-                    return doResolve(name).isResolved();
+                private static void writeAnnotation(DataOutputStream outputStream, Default.LazyTypeDescription.AnnotationToken annotationToken) throws IOException {
+                    outputStream.writeUTF(annotationToken.descriptor);
+                    outputStream.writeShort(annotationToken.getValues().size());
+                    for (Map.Entry<String, AnnotationValue<?, ?>> entry : annotationToken.getValues().entrySet()) {
+                        outputStream.writeUTF(entry.getKey());
+                        writeValue(outputStream, entry.getValue());
+                    }
                 }
 
                 /**
-                 * {@inheritDoc}
+                 * Reads an annotation token.
+                 *
+                 * @param inputStream The input stream to read from.
+                 * @param typePool    The type pool that resolves the annotation.
+                 * @return The annotation token that was read.
+                 * @throws IOException If an I/O exception occurs.
                  */
-                public TypeDescription resolve() {
-                    return new LazyTypeDescription(name);
+                private static Default.LazyTypeDescription.AnnotationToken readAnnotation(DataInputStream inputStream, TypePool typePool) throws IOException {
+                    String descriptor = inputStream.readUTF();
+                    int count = inputStream.readUnsignedShort();
+                    Map<String, AnnotationValue<?, ?>> values = new HashMap<String, AnnotationValue<?, ?>>();
+                    for (int index = 0; index < count; index++) {
+                        values.put(inputStream.readUTF(), readValue(inputStream, typePool));
+                    }
+                    return new Default.LazyTypeDescription.AnnotationToken(descriptor, values);
+                }
+
+                /**
+                 * Writes an annotation value.
+                 *
+                 * @param outputStream    The output stream to write to.
+                 * @param annotationValue The annotation value to write.
+                 * @throws IOException If an I/O exception occurs or if the annotation value cannot be serialized.
+                 */
+                private static void writeValue(DataOutputStream outputStream, AnnotationValue<?, ?> annotationValue) throws IOException {
+                    if (annotationValue instanceof AnnotationValue.ForConstant<?>) {
+                        Object value = annotationValue.resolve();
+                        if (value.getClass().isArray()) {
+                            outputStream.writeByte(CONSTANT_ARRAY);
+                            int length = Array.getLength(value);
+                            outputStream.writeByte(toSort(value.getClass().getComponentType()));
+                            outputStream.writeInt(length);
+                            for (int index = 0; index < length; index++) {
+                                writeConstant(outputStream, Array.get(value, index));
+                            }
+                        } else {
+                            outputStream.writeByte(toSort(value.getClass()));
+                            writeConstant(outputStream, value);
+                        }
+                    } else if (annotationValue instanceof Default.LazyTypeDescription.LazyAnnotationValue.ForTypeValue) {
+                        outputStream.writeByte(TYPE);
+                        outputStream.writeUTF(((Default.LazyTypeDescription.LazyAnnotationValue.ForTypeValue) annotationValue).typeName);
+                    } else if (annotationValue instanceof Default.LazyTypeDescription.LazyAnnotationValue.ForEnumerationValue) {
+                        outputStream.writeByte(ENUMERATION);
+                        outputStream.writeUTF(((Default.LazyTypeDescription.LazyAnnotationValue.ForEnumerationValue) annotationValue).typeName);
+                        outputStream.writeUTF(((Default.LazyTypeDescription.LazyAnnotationValue.ForEnumerationValue) annotationValue).value);
+                    } else if (annotationValue instanceof Default.LazyTypeDescription.LazyAnnotationValue.ForAnnotationValue) {
+                        outputStream.writeByte(ANNOTATION);
+                        writeAnnotation(outputStream, ((Default.LazyTypeDescription.LazyAnnotationValue.ForAnnotationValue) annotationValue).annotationToken);
+                    } else if (annotationValue instanceof Default.LazyTypeDescription.LazyAnnotationValue.ForNonPrimitiveArray) {
+                        outputStream.writeByte(ARRAY);
+                        ComponentTypeReference componentTypeReference = ((Default.LazyTypeDescription.LazyAnnotationValue.ForNonPrimitiveArray) annotationValue).componentTypeReference;
+                        if (componentTypeReference instanceof ComponentTypeLocator.ForAnnotationProperty.Bound) {
+                            outputStream.writeByte(PROPERTY_COMPONENT_TYPE);
+                            outputStream.writeUTF(((ComponentTypeLocator.ForAnnotationProperty.Bound) componentTypeReference).getAnnotationName().replace('.', '/'));
+                            outputStream.writeUTF(((ComponentTypeLocator.ForAnnotationProperty.Bound) componentTypeReference).name);
+                        } else if (componentTypeReference instanceof ComponentTypeLocator.ForArrayType) {
+                            // Arrays of primitive values are represented as constants such that the component type is always a reference type.
+                            outputStream.writeByte(EXPLICIT_COMPONENT_TYPE);
+                            outputStream.writeUTF(componentTypeReference.lookup());
+                        } else {
+                            throw new IOException("Cannot index component type reference: " + componentTypeReference);
+                        }
+                        List<AnnotationValue<?, ?>> values = ((Default.LazyTypeDescription.LazyAnnotationValue.ForNonPrimitiveArray) annotationValue).values;
+                        outputStream.writeInt(values.size());
+                        for (AnnotationValue<?, ?> value : values) {
+                            writeValue(outputStream, value);
+                        }
+                    } else {
+                        throw new IOException("Cannot index annotation value: " + annotationValue);
+                    }
+                }
+
+                /**
+                 * Reads an annotation value.
+                 *
+                 * @param inputStream The input stream to read from.
+                 * @param typePool    The type pool that resolves the annotation value.
+                 * @return The annotation value that was read or {@code null} if no value was written.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private static AnnotationValue<?, ?> readValue(DataInputStream inputStream, TypePool typePool) throws IOException {
+                    byte sort = inputStream.readByte();
+                    switch (sort) {
+                        case NULL:
+                            return null;
+                        case CONSTANT_ARRAY:
+                            return readConstantArray(inputStream);
+                        case TYPE:
+                            return new Default.LazyTypeDescription.LazyAnnotationValue.ForTypeValue(typePool, inputStream.readUTF());
+                        case ENUMERATION:
+                            return new Default.LazyTypeDescription.LazyAnnotationValue.ForEnumerationValue(typePool, inputStream.readUTF(), inputStream.readUTF());
+                        case ANNOTATION:
+                            return new Default.LazyTypeDescription.LazyAnnotationValue.ForAnnotationValue(typePool, readAnnotation(inputStream, typePool));
+                        case ARRAY:
+                            ComponentTypeReference componentTypeReference;
+                            switch (inputStream.readByte()) {
+                                case PROPERTY_COMPONENT_TYPE:
+                                    componentTypeReference = new ComponentTypeLocator.ForAnnotationProperty(typePool, "L" + inputStream.readUTF() + ";").bind(inputStream.readUTF());
+                                    break;
+                                case EXPLICIT_COMPONENT_TYPE:
+                                    componentTypeReference = new ComponentTypeLocator.ForArrayType("()[L" + inputStream.readUTF().replace('.', '/') + ";");
+                                    break;
+                                default:
+                                    throw new IOException("Unknown component type reference");
+                            }
+                            int count = inputStream.readInt();
+                            List<AnnotationValue<?, ?>> values = new ArrayList<AnnotationValue<?, ?>>(count);
+                            for (int index = 0; index < count; index++) {
+                                values.add(readValue(inputStream, typePool));
+                            }
+                            return new Default.LazyTypeDescription.LazyAnnotationValue.ForNonPrimitiveArray(typePool, componentTypeReference, values);
+                        default:
+                            return AnnotationValue.ForConstant.of(readConstant(inputStream, sort));
+                    }
+                }
+
+                /**
+                 * Resolves the sort of a constant annotation value's type.
+                 *
+                 * @param type The type of the constant annotation value.
+                 * @return The sort of the constant annotation value.
+                 * @throws IOException If the type does not represent a constant annotation value.
+                 */
+                private static byte toSort(Class<?> type) throws IOException {
+                    if (type == Boolean.class || type == boolean.class) {
+                        return BOOLEAN;
+                    } else if (type == Byte.class || type == byte.class) {
+                        return BYTE;
+                    } else if (type == Short.class || type == short.class) {
+                        return SHORT;
+                    } else if (type == Character.class || type == char.class) {
+                        return CHARACTER;
+                    } else if (type == Integer.class || type == int.class) {
+                        return INTEGER;
+                    } else if (type == Long.class || type == long.class) {
+                        return LONG;
+                    } else if (type == Float.class || type == float.class) {
+                        return FLOAT;
+                    } else if (type == Double.class || type == double.class) {
+                        return DOUBLE;
+                    } else if (type == String.class) {
+                        return STRING;
+                    } else {
+                        throw new IOException("Cannot index constant of type " + type);
+                    }
+                }
+
+                /**
+                 * Writes a constant annotation value.
+                 *
+                 * @param outputStream The output stream to write to.
+                 * @param value        The constant to write.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private static void writeConstant(DataOutputStream outputStream, Object value) throws IOException {
+                    if (value instanceof Boolean) {
+                        outputStream.writeBoolean((Boolean) value);
+                    } else if (value instanceof Byte) {
+                        outputStream.writeByte((Byte) value);
+                    } else if (value instanceof Short) {
+                        outputStream.writeShort((Short) value);
+                    } else if (value instanceof Character) {
+                        outputStream.writeChar((Character) value);
+                    } else if (value instanceof Integer) {
+                        outputStream.writeInt((Integer) value);
+                    } else if (value instanceof Long) {
+                        outputStream.writeLong((Long) value);
+                    } else if (value instanceof Float) {
+                        outputStream.writeFloat((Float) value);
+                    } else if (value instanceof Double) {
+                        outputStream.writeDouble((Double) value);
+                    } else {
+                        outputStream.writeUTF((String) value);
+                    }
+                }
+
+                /**
+                 * Reads a constant annotation value.
+                 *
+                 * @param inputStream The input stream to read from.
+                 * @param sort        The sort of the constant.
+                 * @return The constant that was read.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private static Object readConstant(DataInputStream inputStream, byte sort) throws IOException {
+                    switch (sort) {
+                        case BOOLEAN:
+                            return inputStream.readBoolean();
+                        case BYTE:
+                            return inputStream.readByte();
+                        case SHORT:
+                            return inputStream.readShort();
+                        case CHARACTER:
+                            return inputStream.readChar();
+                        case INTEGER:
+                            return inputStream.readInt();
+                        case LONG:
+                            return inputStream.readLong();
+                        case FLOAT:
+                            return inputStream.readFloat();
+                        case DOUBLE:
+                            return inputStream.readDouble();
+                        case STRING:
+                            return inputStream.readUTF();
+                        default:
+                            throw new IOException("Unknown constant sort: " + sort);
+                    }
+                }
+
+                /**
+                 * Reads an array of constant annotation values.
+                 *
+                 * @param inputStream The input stream to read from.
+                 * @return The annotation value that was read.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private static AnnotationValue<?, ?> readConstantArray(DataInputStream inputStream) throws IOException {
+                    byte sort = inputStream.readByte();
+                    int length = inputStream.readInt();
+                    Class<?> componentType;
+                    switch (sort) {
+                        case BOOLEAN:
+                            componentType = boolean.class;
+                            break;
+                        case BYTE:
+                            componentType = byte.class;
+                            break;
+                        case SHORT:
+                            componentType = short.class;
+                            break;
+                        case CHARACTER:
+                            componentType = char.class;
+                            break;
+                        case INTEGER:
+                            componentType = int.class;
+                            break;
+                        case LONG:
+                            componentType = long.class;
+                            break;
+                        case FLOAT:
+                            componentType = float.class;
+                            break;
+                        case DOUBLE:
+                            componentType = double.class;
+                            break;
+                        case STRING:
+                            componentType = String.class;
+                            break;
+                        default:
+                            throw new IOException("Unknown constant sort: " + sort);
+                    }
+                    Object value = Array.newInstance(componentType, length);
+                    for (int index = 0; index < length; index++) {
+                        Array.set(value, index, readConstant(inputStream, sort));
+                    }
+                    return AnnotationValue.ForConstant.of(value);
                 }
             }
 
             /**
-             * A lazy type description that resolves any property that is not the name only when requested.
+             * A type description of an indexed class file header which parses the class file for resolving its members.
              */
-            protected class LazyTypeDescription extends TypeDescription.AbstractBase.OfSimpleType.WithDelegation {
+            protected class IndexedTypeDescription extends TypeDescription.AbstractBase.OfSimpleType.WithDelegation {
 
                 /**
-                 * The type's name.
+                 * The name of the indexed type.
                  */
                 private final String name;
 
                 /**
-                 * Creates a new lazy type description.
+                 * The indexed representation of the class file's header.
+                 */
+                private final TypeDescription header;
+
+                /**
+                 * Creates a new indexed type description.
                  *
-                 * @param name The type's name.
+                 * @param name   The name of the indexed type.
+                 * @param header The indexed representation of the class file's header.
                  */
-                protected LazyTypeDescription(String name) {
+                protected IndexedTypeDescription(String name, TypeDescription header) {
                     this.name = name;
+                    this.header = header;
                 }
 
                 /**
@@ -907,9 +2950,43 @@ public interface TypePool {
                 }
 
                 @Override
-                @CachedReturnPlugin.Enhance("delegate")
+                public FieldList<FieldDescription.InDefinedShape> getDeclaredFields() {
+                    return resolve().getDeclaredFields();
+                }
+
+                @Override
+                public MethodList<MethodDescription.InDefinedShape> getDeclaredMethods() {
+                    return resolve().getDeclaredMethods();
+                }
+
+                @Override
+                public RecordComponentList<RecordComponentDescription.InDefinedShape> getRecordComponents() {
+                    return resolve().getRecordComponents();
+                }
+
+                @Override
                 protected TypeDescription delegate() {
-                    return doResolve(name).resolve();
+                    return header;
+                }
+
+                /**
+                 * Parses the represented class file completely.
+                 *
+                 * @return A complete representation of the class file.
+                 */
+                @CachedReturnPlugin.Enhance("resolved")
+                protected TypeDescription resolve() {
+                    try {
+                        ClassFileLocator.Resolution resolution = classFileLocator.locate(name);
+                        if (!resolution.isResolved()) {
+                            throw new IllegalStateException("Cannot locate class file for " + name);
+                        }
+                        TypeExtractor typeExtractor = new TypeExtractor();
+                        OpenedClassReader.of(resolution.resolve()).accept(typeExtractor, readerMode.getFlags());
+                        return typeExtractor.toTypeDescription();
+                    } catch (IOException exception) {
+                        throw new IllegalStateException("Error while reading class file", exception);
+                    }
                 }
             }
         }
@@ -1353,6 +3430,15 @@ public interface TypePool {
                         this.name = name;
                     }
 
+                    /**
+                     * Returns the binary name of the annotation that declares the bound property.
+                     *
+                     * @return The binary name of the annotation that declares the bound property.
+                     */
+                    protected String getAnnotationName() {
+                        return annotationName;
+                    }
+
                     /**
                      * {@inheritDoc}
                      */
@@ -2468,6 +4554,7 @@ public interface TypePool {
              * Creates a new lazy type description.
              *
              * @param typePool                           The type pool to be used for looking up linked types.
+             * @param symbolTable                        The symbol table to use for deduplicating names and descriptors.
              * @param actualModifiers                    The actual modifiers of this type.
              * @param modifiers                          The modifiers of this type.
              * @param name                               The binary name of this type.
@@ -2490,6 +4577,7 @@ public interface TypePool {
              * @param recordComponentTokens              A list of record component tokens describing the record components of this type.
              */
             protected LazyTypeDescription(TypePool typePool,
+                                          SymbolTable symbolTable,
                                           int actualModifiers,
                                           int modifiers,
                                           String name,
@@ -2512,42 +4600,53 @@ public interface TypePool {
                 this.typePool = typePool;
                 this.actualModifiers = actualModifiers & ~Opcodes.ACC_SUPER;
                 this.modifiers = modifiers & ~(Opcodes.ACC_SUPER | Opcodes.ACC_DEPRECATED);
-                this.name = Type.getObjectType(name).getClassName();
+                this.name = symbolTable.intern(Type.getObjectType(name).getClassName());
                 this.superClassDescriptor = superClassInternalName == null
                         ? NO_TYPE
-                        : Type.getObjectType(superClassInternalName).getDescriptor();
-                this.genericSignature = genericSignature;
+                        : symbolTable.intern(Type.getObjectType(superClassInternalName).getDescriptor());
+                this.genericSignature = symbolTable.intern(genericSignature);
                 signatureResolution = RAW_TYPES
                         ? GenericTypeToken.Resolution.Raw.INSTANCE
                         : GenericTypeExtractor.ForSignature.OfType.extract(genericSignature);
-                if (interfaceInternalName == null) {
+                if (interfaceInternalName == null || interfaceInternalName.length == 0) {
                     interfaceTypeDescriptors = Collections.emptyList();
                 } else {
                     interfaceTypeDescriptors = new ArrayList<String>(interfaceInternalName.length);
                     for (String internalName : interfaceInternalName) {
-                        interfaceTypeDescriptors.add(Type.getObjectType(internalName).getDescriptor());
+                        interfaceTypeDescriptors.add(symbolTable.intern(Type.getObjectType(internalName).getDescriptor()));
                     }
                 }
                 this.typeContainment = typeContainment;
                 declaringTypeName = declaringTypeInternalName == null
                         ? NO_TYPE
-                        : declaringTypeInternalName.replace('/', '.');
-                this.declaredTypes = declaredTypes;
+                        : symbolTable.intern(declaringTypeInternalName.replace('/', '.'));
+                if (declaredTypes.isEmpty()) {
+                    this.declaredTypes = Collections.emptyList();
+                } else {
+                    this.declaredTypes = new ArrayList<String>(declaredTypes.size());
+                    for (String declaredType : declaredTypes) {
+                        this.declaredTypes.add(symbolTable.intern(declaredType));
+                    }
+                }
                 this.anonymousType = anonymousType;
                 nestHost = nestHostInternalName == null
                         ? NO_TYPE
-                        : Type.getObjectType(nestHostInternalName).getClassName();
-                nestMembers = new ArrayList<String>(nestMemberInternalNames.size());
-                for (String nestMemberInternalName : nestMemberInternalNames) {
-                    nestMembers.add(Type.getObjectType(nestMemberInternalName).getClassName());
+                        : symbolTable.intern(Type.getObjectType(nestHostInternalName).getClassName());
+                if (nestMemberInternalNames.isEmpty()) {
+                    nestMembers = Collections.emptyList();
+                } else {
+                    nestMembers = new ArrayList<String>(nestMemberInternalNames.size());
+                    for (String nestMemberInternalName : nestMemberInternalNames) {
+                        nestMembers.add(symbolTable.intern(Type.getObjectType(nestMemberInternalName).getClassName()));
+                    }
                 }
-                this.superTypeAnnotationTokens = superTypeAnnotationTokens;
-                this.typeVariableAnnotationTokens = typeVariableAnnotationTokens;
-                this.typeVariableBoundsAnnotationTokens = typeVariableBoundsAnnotationTokens;
-                this.annotationTokens = annotationTokens;
-                this.fieldTokens = fieldTokens;
-                this.methodTokens = methodTokens;
-                this.recordComponentTokens = recordComponentTokens;
+                this.superTypeAnnotationTokens = compact(superTypeAnnotationTokens);
+                this.typeVariableAnnotationTokens = compact(typeVariableAnnotationTokens);
+                this.typeVariableBoundsAnnotationTokens = compact(typeVariableBoundsAnnotationTokens);
+                this.annotationTokens = compact(annotationTokens);
+                this.fieldTokens = compact(fieldTokens);
+                this.methodTokens = compact(methodTokens);
+                this.recordComponentTokens = compact(recordComponentTokens);
             }
 
             /**
@@ -7763,14 +9862,26 @@ public interface TypePool {
 
             @Override
             public FieldVisitor visitField(int modifiers, String internalName, String descriptor, String genericSignature, Object defaultValue) {
-                return new FieldExtractor(modifiers & REAL_MODIFIER_MASK, internalName, descriptor, genericSignature);
+                return new FieldExtractor(modifiers & REAL_MODIFIER_MASK,
+                        symbolTable.intern(internalName),
+                        symbolTable.intern(descriptor),
+                        symbolTable.intern(genericSignature));
             }
 
             @Override
             public MethodVisitor visitMethod(int modifiers, String internalName, String descriptor, String genericSignature, String[] exceptionName) {
-                return internalName.equals(MethodDescription.TYPE_INITIALIZER_INTERNAL_NAME)
-                        ? IGNORE_METHOD
-                        : new MethodExtractor(modifiers & REAL_MODIFIER_MASK, internalName, descriptor, genericSignature, exceptionName);
+                if (internalName.equals(MethodDescription.TYPE_INITIALIZER_INTERNAL_NAME)) {
+                    return IGNORE_METHOD;
+                } else if (exceptionName != null) {
+                    for (int index = 0; index < exceptionName.length; index++) {
+                        exceptionName[index] = symbolTable.intern(exceptionName[index]);
+                    }
+                }
+                return new MethodExtractor(modifiers & REAL_MODIFIER_MASK,
+                        symbolTable.intern(internalName),
+                        symbolTable.intern(descriptor),
+                        symbolTable.intern(genericSignature),
+                        exceptionName);
             }
 
             @Override
@@ -7785,7 +9896,7 @@ public interface TypePool {
 
             @Override
             public RecordComponentVisitor visitRecordComponent(String name, String descriptor, String signature) {
-                return new RecordComponentExtractor(name, descriptor, signature);
+                return new RecordComponentExtractor(symbolTable.intern(name), symbolTable.intern(descriptor), symbolTable.intern(signature));
             }
 
             /**
@@ -7796,6 +9907,7 @@ public interface TypePool {
              */
             protected TypeDescription toTypeDescription() {
                 return new LazyTypeDescription(Default.this,
+                        symbolTable,
                         actualModifiers,
                         modifiers,
                         internalName,
@@ -8083,8 +10195,8 @@ public interface TypePool {
                             modifiers,
                             descriptor,
                             genericSignature,
-                            typeAnnotationTokens,
-                            annotationTokens));
+                            compact(typeAnnotationTokens),
+                            compact(annotationTokens)));
                 }
             }
 
@@ -8306,13 +10418,13 @@ public interface TypePool {
                 @Override
                 public void visitLocalVariable(String name, String descriptor, String signature, Label start, Label end, int index) {
                     if (readerMode.isExtended() && start == firstLabel) {
-                        legacyParameterBag.register(index, name);
+                        legacyParameterBag.register(index, symbolTable.intern(name));
                     }
                 }
 
                 @Override
                 public void visitParameter(String name, int modifiers) {
-                    parameterTokens.add(new LazyTypeDescription.MethodToken.ParameterToken(name, modifiers));
+                    parameterTokens.add(new LazyTypeDescription.MethodToken.ParameterToken(symbolTable.intern(name), modifiers));
                 }
 
                 @Override
@@ -8341,17 +10453,17 @@ public interface TypePool {
                             descriptor,
                             genericSignature,
                             exceptionName,
-                            typeVariableAnnotationTokens,
-                            typeVariableBoundAnnotationTokens,
-                            returnTypeAnnotationTokens,
-                            parameterTypeAnnotationTokens,
-                            exceptionTypeAnnotationTokens,
-                            receiverTypeAnnotationTokens,
-                            annotationTokens,
-                            parameterAnnotationTokens,
-                            parameterTokens.isEmpty()
+                            compact(typeVariableAnnotationTokens),
+                            compact(typeVariableBoundAnnotationTokens),
+                            compact(returnTypeAnnotationTokens),
+                            compact(parameterTypeAnnotationTokens),
+                            compact(exceptionTypeAnnotationTokens),
+                            compact(receiverTypeAnnotationTokens),
+                            compact(annotationTokens),
+                            compact(parameterAnnotationTokens),
+                            compact(parameterTokens.isEmpty()
                                     ? legacyParameterBag.resolve((modifiers & Opcodes.ACC_STATIC) != 0)
-                                    : parameterTokens,
+                                    : parameterTokens),
                             defaultValue));
                 }
             }
@@ -8426,8 +10538,8 @@ public interface TypePool {
                     recordComponentTokens.add(new LazyTypeDescription.RecordComponentToken(name,
                             descriptor,
                             genericSignature,
-                            typeAnnotationTokens,
-                            annotationTokens));
+                            compact(typeAnnotationTokens),
+                            compact(annotationTokens)));
                 }
             }
         }
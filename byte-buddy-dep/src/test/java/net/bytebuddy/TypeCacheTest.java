@@ -6,11 +6,16 @@ import org.junit.Test;
 import java.lang.ref.Reference;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
-import java.util.concurrent.Callable;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.*;
 
 public class TypeCacheTest {
@@ -68,6 +73,79 @@ public class TypeCacheTest {
         assertThat(typeCache.cache.isEmpty(), is(true));
     }
 
+    @Test
+    public void testCacheBackgroundExpunction() throws Exception {
+        TypeCache.Reaper reaper = new TypeCache.Reaper();
+        TypeCache<Object> typeCache = new TypeCache.WithBackgroundExpunction<Object>(TypeCache.Sort.WEAK, reaper);
+        Object key = new Object();
+        ClassLoader classLoader = mock(ClassLoader.class);
+        assertThat(typeCache.find(classLoader, key), nullValue(Class.class));
+        assertThat(typeCache.insert(classLoader, key, Void.class), is((Object) Void.class));
+        assertThat(typeCache.find(classLoader, key), is((Object) Void.class));
+        classLoader = null; // Make eligible for GC
+        for (int index = 0; index < 2; index++) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+        assertThat(reaper.drain(), is(1));
+        assertThat(typeCache.cache.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testCacheBackgroundExpunctionSharedReaper() throws Exception {
+        TypeCache<Object> typeCache = new TypeCache.WithBackgroundExpunction<Object>(TypeCache.Sort.WEAK);
+        Object key = new Object();
+        ClassLoader classLoader = mock(ClassLoader.class);
+        assertThat(typeCache.insert(classLoader, key, Void.class), is((Object) Void.class));
+        assertThat(typeCache.find(classLoader, key), is((Object) Void.class));
+        classLoader = null; // Make eligible for GC
+        for (int index = 0; index < 50 && !typeCache.cache.isEmpty(); index++) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+        assertThat(typeCache.cache.isEmpty(), is(true));
+        assertThat(TypeCache.Reaper.shared(), sameInstance(TypeCache.Reaper.shared()));
+    }
+
+    @Test
+    public void testSharedReaperThread() throws Exception {
+        final ClassLoader classLoader = new URLClassLoader(new URL[0]);
+        final AtomicReference<TypeCache.Reaper> reaper = new AtomicReference<TypeCache.Reaper>();
+        Thread requester = new Thread(new ThreadGroup("byte-buddy-test"), new Runnable() {
+            public void run() {
+                TypeCache.Reaper.stopShared();
+                reaper.set(TypeCache.Reaper.shared());
+            }
+        });
+        requester.setContextClassLoader(classLoader);
+        requester.start();
+        requester.join();
+        Thread thread = null;
+        for (Thread candidate : Thread.getAllStackTraces().keySet()) {
+            if (candidate.getName().equals("byte-buddy-type-cache-reaper")) {
+                thread = candidate;
+            }
+        }
+        assertThat(thread, notNullValue(Thread.class));
+        assertThat(thread.isDaemon(), is(true));
+        assertThat(thread.getContextClassLoader(), nullValue(ClassLoader.class));
+        assertThat(thread.getThreadGroup().getParent(), nullValue(ThreadGroup.class));
+        assertThat(TypeCache.Reaper.stopShared(), is(true));
+        assertThat(TypeCache.Reaper.stopShared(), is(false));
+        thread.join(1000L);
+        assertThat(thread.isAlive(), is(false));
+        assertThat(TypeCache.Reaper.shared(), not(sameInstance(reaper.get())));
+    }
+
+    @Test
+    public void testReaperStopsOnInterruption() throws Exception {
+        Thread thread = new Thread(new TypeCache.Reaper());
+        thread.start();
+        thread.interrupt();
+        thread.join(1000L);
+        assertThat(thread.isAlive(), is(false));
+    }
+
     @Test
     public void testCacheTypeCollection() throws Exception {
         TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.WEAK);
@@ -139,6 +217,117 @@ public class TypeCacheTest {
         typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), new Object(), callable, new Object());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFindOrInsertSingleFlight() throws Exception {
+        TypeCache.WithSingleFlight<Object> typeCache = new TypeCache.WithSingleFlight<Object>(TypeCache.Sort.WEAK);
+        Object key = new Object();
+        Callable<Class<?>> callable = mock(Callable.class);
+        when(callable.call()).thenReturn((Class) Void.class);
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable), is((Object) Void.class));
+        verify(callable).call();
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable), is((Object) Void.class));
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable, new Object()), is((Object) Void.class));
+        verifyNoMoreInteractions(callable);
+        assertThat(typeCache.getCreationCount(), is(1L));
+        assertThat(typeCache.getContentionCount(), is(0L));
+    }
+
+    @Test
+    public void testFindOrInsertSingleFlightConcurrent() throws Exception {
+        final TypeCache.WithSingleFlight<Object> typeCache = new TypeCache.WithSingleFlight<Object>(TypeCache.Sort.WEAK);
+        final Object key = new Object();
+        final CountDownLatch started = new CountDownLatch(1), release = new CountDownLatch(1);
+        final AtomicInteger creations = new AtomicInteger();
+        final Callable<Class<?>> callable = new Callable<Class<?>>() {
+            public Class<?> call() throws Exception {
+                creations.incrementAndGet();
+                started.countDown();
+                release.await();
+                return Void.class;
+            }
+        };
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Class<?>> first = executorService.submit(new Callable<Class<?>>() {
+                public Class<?> call() {
+                    return typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable);
+                }
+            });
+            started.await();
+            Future<Class<?>> second = executorService.submit(new Callable<Class<?>>() {
+                public Class<?> call() {
+                    return typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable);
+                }
+            });
+            while (typeCache.getContentionCount() == 0L) {
+                Thread.sleep(10L);
+            }
+            assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), new Object(), new Callable<Class<?>>() {
+                public Class<?> call() {
+                    return Object.class;
+                }
+            }), is((Object) Object.class));
+            release.countDown();
+            assertThat(first.get(), is((Object) Void.class));
+            assertThat(second.get(), is((Object) Void.class));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(creations.get(), is(1));
+        assertThat(typeCache.getCreationCount(), is(2L));
+        assertThat(typeCache.getContentionCount(), is(1L));
+    }
+
+    @Test
+    public void testFindOrInsertSingleFlightReentrant() throws Exception {
+        final TypeCache.WithSingleFlight<Object> typeCache = new TypeCache.WithSingleFlight<Object>(TypeCache.Sort.WEAK);
+        final Object key = new Object();
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, new Callable<Class<?>>() {
+            public Class<?> call() {
+                return typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, new Callable<Class<?>>() {
+                    public Class<?> call() {
+                        return Void.class;
+                    }
+                });
+            }
+        }), is((Object) Void.class));
+    }
+
+    @Test
+    public void testFindOrInsertSingleFlightNestedCrossKey() throws Exception {
+        final TypeCache.WithSingleFlight<Object> typeCache = new TypeCache.WithSingleFlight<Object>(TypeCache.Sort.WEAK);
+        final Object first = new Object(), second = new Object();
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Class<?>> left = executorService.submit(new NestedCreation(typeCache, barrier, first, second, Void.class));
+            Future<Class<?>> right = executorService.submit(new NestedCreation(typeCache, barrier, second, first, Object.class));
+            assertThat(left.get(10, TimeUnit.SECONDS), notNullValue(Class.class));
+            assertThat(right.get(10, TimeUnit.SECONDS), notNullValue(Class.class));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(typeCache.getContentionCount(), is(0L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFindOrInsertSingleFlightRetryAfterException() throws Exception {
+        TypeCache.WithSingleFlight<Object> typeCache = new TypeCache.WithSingleFlight<Object>(TypeCache.Sort.WEAK);
+        Object key = new Object();
+        Callable<Class<?>> callable = mock(Callable.class);
+        when(callable.call()).thenThrow(RuntimeException.class).thenReturn((Class) Void.class);
+        try {
+            typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+            /* expected */
+        }
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable), is((Object) Void.class));
+        assertThat(typeCache.getCreationCount(), is(2L));
+    }
+
     @Test
     public void testSimpleKeyProperties() {
         assertThat(new TypeCache.SimpleKey(Object.class).hashCode(), is(new TypeCache.SimpleKey(Object.class).hashCode()));
@@ -146,4 +335,36 @@ public class TypeCacheTest {
         assertThat(new TypeCache.SimpleKey(Object.class).hashCode(), not(new TypeCache.SimpleKey(Void.class).hashCode()));
         assertThat(new TypeCache.SimpleKey(Object.class), not(new TypeCache.SimpleKey(Void.class)));
     }
+
+    private static class NestedCreation implements Callable<Class<?>> {
+
+        private final TypeCache<Object> typeCache;
+
+        private final CyclicBarrier barrier;
+
+        private final Object outer, inner;
+
+        private final Class<?> type;
+
+        private NestedCreation(TypeCache<Object> typeCache, CyclicBarrier barrier, Object outer, Object inner, Class<?> type) {
+            this.typeCache = typeCache;
+            this.barrier = barrier;
+            this.outer = outer;
+            this.inner = inner;
+            this.type = type;
+        }
+
+        public Class<?> call() {
+            return typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), outer, new Callable<Class<?>>() {
+                public Class<?> call() throws Exception {
+                    barrier.await(10, TimeUnit.SECONDS);
+                    return typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), inner, new Callable<Class<?>>() {
+                        public Class<?> call() {
+                            return type;
+                        }
+                    });
+                }
+            });
+        }
+    }
 }
@@ -29,12 +29,19 @@ import java.lang.instrument.Instrumentation;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.none;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 @RunWith(Parameterized.class)
 public class AgentBuilderDefaultApplicationRedefineTest {
@@ -205,6 +212,42 @@ public class AgentBuilderDefaultApplicationRedefineTest {
         }
     }
 
+    @Test
+    @AgentAttachmentRule.Enforce(retransformsClasses = true)
+    @IntegrationRule.Enforce
+    public void testRetransformationPrecomputed() throws Exception {
+        assertThat(ByteBuddyAgent.install(), instanceOf(Instrumentation.class));
+        assertThat(simpleTypeLoader.loadClass(SimpleType.class.getName()).getName(), is(SimpleType.class.getName())); // ensure that class is loaded
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            RecordingTransformer transformer = new RecordingTransformer(BAR);
+            AgentBuilder.Listener listener = mock(AgentBuilder.Listener.class);
+            ClassFileTransformer classFileTransformer = new AgentBuilder.Default()
+                    .ignore(none())
+                    .disableClassFormatChanges()
+                    .with(AgentBuilder.ClassFileBufferStrategy.Default.DISCARDING)
+                    .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+                    .with(new AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.ForExecutorService(executorService))
+                    .with(descriptionStrategy)
+                    .with(listener)
+                    .type(ElementMatchers.is(SimpleType.class), ElementMatchers.is(simpleTypeLoader)).transform(transformer)
+                    .installOnByteBuddyAgent();
+            try {
+                Class<?> type = simpleTypeLoader.loadClass(SimpleType.class.getName());
+                assertThat(type.getDeclaredMethod(FOO).invoke(type.getDeclaredConstructor().newInstance()), is((Object) BAR));
+                assertThat(transformer.threads.size(), is(1));
+                assertThat(transformer.threads.get(0) == Thread.currentThread(), is(false));
+                verify(listener).onDiscovery(SimpleType.class.getName(), simpleTypeLoader, JavaModule.ofType(type), true);
+                verify(listener).onTransformation(any(TypeDescription.class), eq(simpleTypeLoader), eq(JavaModule.ofType(type)), eq(true), any(DynamicType.class));
+                verify(listener).onComplete(SimpleType.class.getName(), simpleTypeLoader, JavaModule.ofType(type), true);
+            } finally {
+                assertThat(ByteBuddyAgent.getInstrumentation().removeTransformer(classFileTransformer), is(true));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     @AgentAttachmentRule.Enforce(retransformsClasses = true)
     @IntegrationRule.Enforce
@@ -302,6 +345,25 @@ public class AgentBuilderDefaultApplicationRedefineTest {
         }
     }
 
+    private static class RecordingTransformer implements AgentBuilder.Transformer {
+
+        private final String value;
+
+        private final List<Thread> threads = new CopyOnWriteArrayList<Thread>();
+
+        public RecordingTransformer(String value) {
+            this.value = value;
+        }
+
+        public DynamicType.Builder<?> transform(DynamicType.Builder<?> builder,
+                                                TypeDescription typeDescription,
+                                                ClassLoader classLoader,
+                                                JavaModule module) {
+            threads.add(Thread.currentThread());
+            return builder.method(named(FOO)).intercept(FixedValue.value(value));
+        }
+    }
+
     private static class ReturnTransformer implements AgentBuilder.Transformer {
 
         public DynamicType.Builder<?> transform(DynamicType.Builder<?> builder,
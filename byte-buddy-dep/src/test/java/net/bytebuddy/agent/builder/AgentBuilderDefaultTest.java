@@ -13,6 +13,7 @@ import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.LoadedTypeInitializer;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.matcher.StringMatcher;
 import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.test.utility.JavaVersionRule;
 import net.bytebuddy.test.utility.MockitoRule;
@@ -36,6 +37,8 @@ import java.lang.instrument.UnmodifiableClassException;
 import java.security.ProtectionDomain;
 import java.util.*;
 
+import static net.bytebuddy.matcher.ElementMatchers.isSynthetic;
+import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.none;
 import static net.bytebuddy.test.utility.FieldByFieldComparison.hasPrototype;
 import static org.hamcrest.CoreMatchers.*;
@@ -170,6 +173,123 @@ public class AgentBuilderDefaultTest {
         verifyNoMoreInteractions(installationListener);
     }
 
+    @Test
+    public void testWarmUpWithoutSideEffects() throws Exception {
+        when(resolution.resolve()).thenReturn(TypeDescription.ForLoadedType.of(REDEFINED));
+        when(typeMatcher.matches(TypeDescription.ForLoadedType.of(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), null, REDEFINED.getProtectionDomain()))
+                .thenReturn(true);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(installationListener)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .warmUp(REDEFINED)
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        verifyNoMoreInteractions(listener);
+        verify(dispatcher).apply(builder);
+        verifyNoMoreInteractions(dispatcher);
+        verify(transformer).transform(builder, TypeDescription.ForLoadedType.of(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED));
+        verifyNoMoreInteractions(transformer);
+        verify(installationListener).onBeforeInstall(instrumentation, classFileTransformer);
+        verify(installationListener).onBeforeWarmUp(Collections.<Class<?>>singleton(REDEFINED), classFileTransformer);
+        verify(installationListener).onAfterWarmUp(Collections.<Class<?>>singleton(REDEFINED), classFileTransformer, true);
+        verify(installationListener).onInstall(instrumentation, classFileTransformer);
+        verifyNoMoreInteractions(installationListener);
+    }
+
+    @Test
+    public void testSuccessfulWithMetrics() throws Exception {
+        when(dynamicType.getBytes()).thenReturn(BAZ);
+        when(resolution.resolve()).thenReturn(TypeDescription.ForLoadedType.of(REDEFINED));
+        when(typeMatcher.matches(TypeDescription.ForLoadedType.of(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), null, REDEFINED.getProtectionDomain()))
+                .thenReturn(true);
+        AgentBuilder.Metrics metrics = mock(AgentBuilder.Metrics.class);
+        AgentBuilder.Metrics.Measurement measurement = mock(AgentBuilder.Metrics.Measurement.class);
+        when(metrics.begin(REDEFINED.getName())).thenReturn(measurement);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .withMetrics(metrics)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName(), null, REDEFINED.getProtectionDomain(), QUX), is(BAZ));
+        verify(metrics).begin(REDEFINED.getName());
+        verifyNoMoreInteractions(metrics);
+        InOrder inOrder = inOrder(measurement);
+        inOrder.verify(measurement).onPhase(AgentBuilder.Metrics.Phase.DESCRIPTION);
+        inOrder.verify(measurement).onPhase(AgentBuilder.Metrics.Phase.IGNORE_MATCHING);
+        inOrder.verify(measurement).onMatcher(0, typeMatcher);
+        inOrder.verify(measurement).onPhase(AgentBuilder.Metrics.Phase.TRANSFORMATION);
+        inOrder.verify(measurement).onPhase(AgentBuilder.Metrics.Phase.MAKE);
+        inOrder.verify(measurement).onPhase(AgentBuilder.Metrics.Phase.INJECTION);
+        inOrder.verify(measurement).onComplete();
+        verifyNoMoreInteractions(measurement);
+    }
+
+    @Test
+    public void testIgnoredWithMetrics() throws Exception {
+        when(resolution.resolve()).thenReturn(TypeDescription.ForLoadedType.of(REDEFINED));
+        when(typeMatcher.matches(TypeDescription.ForLoadedType.of(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), null, REDEFINED.getProtectionDomain()))
+                .thenReturn(false);
+        AgentBuilder.Metrics metrics = mock(AgentBuilder.Metrics.class);
+        AgentBuilder.Metrics.Measurement measurement = mock(AgentBuilder.Metrics.Measurement.class);
+        when(metrics.begin(REDEFINED.getName())).thenReturn(measurement);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .withMetrics(metrics)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName(), null, REDEFINED.getProtectionDomain(), QUX),
+                nullValue(byte[].class));
+        InOrder inOrder = inOrder(measurement);
+        inOrder.verify(measurement).onPhase(AgentBuilder.Metrics.Phase.DESCRIPTION);
+        inOrder.verify(measurement).onPhase(AgentBuilder.Metrics.Phase.IGNORE_MATCHING);
+        inOrder.verify(measurement).onMatcher(0, typeMatcher);
+        inOrder.verify(measurement).onComplete();
+        verifyNoMoreInteractions(measurement);
+    }
+
+    @Test
+    public void testIgnoredByNameIndexWithoutDescription() throws Exception {
+        AgentBuilder.Metrics metrics = mock(AgentBuilder.Metrics.class);
+        AgentBuilder.Metrics.Measurement measurement = mock(AgentBuilder.Metrics.Measurement.class);
+        when(metrics.begin(REDEFINED.getName())).thenReturn(measurement);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(listener)
+                .withMetrics(metrics)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(named(REDEFINED.getName() + "$Other")).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName(), null, REDEFINED.getProtectionDomain(), QUX),
+                nullValue(byte[].class));
+        verifyNoMoreInteractions(typePool);
+        verify(listener).onDiscovery(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), false);
+        verify(listener).onIgnored(argThat(new ArgumentMatcher<TypeDescription>() {
+            public boolean matches(TypeDescription typeDescription) {
+                return typeDescription.getName().equals(REDEFINED.getName());
+            }
+        }), eq(REDEFINED.getClassLoader()), eq(JavaModule.ofType(REDEFINED)), eq(false));
+        verify(listener).onComplete(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), false);
+        verifyNoMoreInteractions(listener);
+        verify(measurement, never()).onPhase(AgentBuilder.Metrics.Phase.DESCRIPTION);
+        verify(measurement).onComplete();
+    }
+
     @Test
     public void testSuccessfulWithoutExistingClassConjunction() throws Exception {
         when(dynamicType.getBytes()).thenReturn(BAZ);
@@ -277,6 +397,83 @@ public class AgentBuilderDefaultTest {
         verifyNoMoreInteractions(installationListener);
     }
 
+    @Test
+    public void testPrecomputedTransformation() throws Exception {
+        when(dynamicType.getBytes()).thenReturn(BAZ);
+        when(typeMatcher.matches(TypeDescription.ForLoadedType.of(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain()))
+                .thenReturn(true);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        ((AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.Target) classFileTransformer).precompute(REDEFINED, false);
+        verify(transformer).transform(builder, TypeDescription.ForLoadedType.of(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED));
+        verifyNoMoreInteractions(listener);
+        assertThat(transform(classFileTransformer,
+                JavaModule.ofType(REDEFINED),
+                REDEFINED.getClassLoader(),
+                REDEFINED.getName(),
+                REDEFINED,
+                REDEFINED.getProtectionDomain(),
+                ClassFileLocator.ForClassLoader.read(REDEFINED)), is(BAZ));
+        verifyNoMoreInteractions(transformer);
+        verify(listener).onDiscovery(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true);
+        verify(listener).onTransformation(TypeDescription.ForLoadedType.of(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true, dynamicType);
+        verify(listener).onComplete(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true);
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void testPrecomputedTransformationDifferentClassFile() throws Exception {
+        when(dynamicType.getBytes()).thenReturn(BAZ);
+        when(typeMatcher.matches(TypeDescription.ForLoadedType.of(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain()))
+                .thenReturn(true);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        ((AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.Target) classFileTransformer).precompute(REDEFINED, false);
+        verify(transformer).transform(builder, TypeDescription.ForLoadedType.of(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED));
+        assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName(), REDEFINED, REDEFINED.getProtectionDomain(), QUX), is(BAZ));
+        verify(transformer, times(2)).transform(builder, TypeDescription.ForLoadedType.of(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED));
+        verify(listener).onDiscovery(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true);
+        verify(listener).onTransformation(TypeDescription.ForLoadedType.of(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true, dynamicType);
+        verify(listener).onComplete(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true);
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void testPrecomputedTransformationSkippedForRetransformation() throws Exception {
+        when(dynamicType.getBytes()).thenReturn(BAZ);
+        when(typeMatcher.matches(TypeDescription.ForLoadedType.of(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain()))
+                .thenReturn(true);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        ((AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.Target) classFileTransformer).precompute(REDEFINED, true);
+        verifyNoMoreInteractions(transformer);
+        verifyNoMoreInteractions(poolStrategy);
+        assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName(), REDEFINED, REDEFINED.getProtectionDomain(), QUX), is(BAZ));
+        verify(transformer).transform(builder, TypeDescription.ForLoadedType.of(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED));
+        verifyNoMoreInteractions(transformer);
+    }
+
     @Test
     public void testSuccessfulWithExistingClassFallback() throws Exception {
         when(dynamicType.getBytes()).thenReturn(BAZ);
@@ -2076,6 +2273,73 @@ public class AgentBuilderDefaultTest {
         verifyNoMoreInteractions(installationListener);
     }
 
+    @Test
+    public void testIgnoredByName() throws Exception {
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(installationListener)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignoreNames(new StringMatcher(REDEFINED.getName(), StringMatcher.Mode.EQUALS_FULLY))
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName().replace('.', '/'), REDEFINED, REDEFINED.getProtectionDomain(), QUX),
+                nullValue(byte[].class));
+        verifyZeroInteractions(listener);
+        verifyZeroInteractions(poolStrategy);
+        verifyZeroInteractions(typeMatcher);
+        verify(instrumentation).addTransformer(classFileTransformer, false);
+        verifyNoMoreInteractions(instrumentation);
+        verifyZeroInteractions(initializationStrategy);
+        verify(installationListener).onBeforeInstall(instrumentation, classFileTransformer);
+        verify(installationListener).onInstall(instrumentation, classFileTransformer);
+        verifyNoMoreInteractions(installationListener);
+    }
+
+    @Test
+    public void testIgnoredByNameDisjunction() throws Exception {
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(installationListener)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(isSynthetic())
+                .or(new AgentBuilder.RawMatcher.ForTypeNames(new StringMatcher(REDEFINED.getName(), StringMatcher.Mode.EQUALS_FULLY), ElementMatchers.<ClassLoader>is(REDEFINED.getClassLoader())))
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName().replace('.', '/'), REDEFINED, REDEFINED.getProtectionDomain(), QUX),
+                nullValue(byte[].class));
+        verifyZeroInteractions(listener);
+        verifyZeroInteractions(poolStrategy);
+        verifyZeroInteractions(typeMatcher);
+    }
+
+    @Test
+    public void testNotIgnoredByNameConjunction() throws Exception {
+        when(resolution.resolve()).thenReturn(TypeDescription.ForLoadedType.of(REDEFINED));
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(installationListener)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignoreNames(new StringMatcher(REDEFINED.getName(), StringMatcher.Mode.EQUALS_FULLY))
+                .and(isSynthetic())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName(), REDEFINED, REDEFINED.getProtectionDomain(), QUX),
+                nullValue(byte[].class));
+        verify(listener).onDiscovery(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true);
+        verify(listener).onIgnored(TypeDescription.ForLoadedType.of(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true);
+        verify(listener).onComplete(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true);
+        verifyNoMoreInteractions(listener);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testEmptyPrefixThrowsException() throws Exception {
         new AgentBuilder.Default(byteBuddy).enableNativeMethodPrefix("");
@@ -2287,6 +2551,7 @@ public class AgentBuilderDefaultTest {
     public void testExecutingTransformerReturnsNullValue() throws Exception {
         assertThat(new AgentBuilder.Default.ExecutingTransformer(byteBuddy,
                 listener,
+                AgentBuilder.Metrics.NoOp.INSTANCE,
                 poolStrategy,
                 typeStrategy,
                 locationStrategy,
@@ -2320,6 +2585,7 @@ public class AgentBuilderDefaultTest {
     public void testExecutingTransformerDoesNotRecurse() throws Exception {
         final AgentBuilder.Default.ExecutingTransformer executingTransformer = new AgentBuilder.Default.ExecutingTransformer(byteBuddy,
                 listener,
+                AgentBuilder.Metrics.NoOp.INSTANCE,
                 poolStrategy,
                 typeStrategy,
                 locationStrategy,
@@ -2359,6 +2625,7 @@ public class AgentBuilderDefaultTest {
     public void testExecutingTransformerDoesNotRecurseWithModules() throws Exception {
         final AgentBuilder.Default.ExecutingTransformer executingTransformer = new AgentBuilder.Default.ExecutingTransformer(byteBuddy,
                 listener,
+                AgentBuilder.Metrics.NoOp.INSTANCE,
                 poolStrategy,
                 typeStrategy,
                 locationStrategy,
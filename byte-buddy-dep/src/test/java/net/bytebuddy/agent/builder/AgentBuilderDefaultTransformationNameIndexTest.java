@@ -0,0 +1,79 @@
+package net.bytebuddy.agent.builder;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class AgentBuilderDefaultTransformationNameIndexTest {
+
+    private static final String FOO = "foo.Foo", BAR = "bar.Bar", QUX = "qux.Qux";
+
+    @Test
+    public void testTrivial() throws Exception {
+        AgentBuilder.Default.Transformation first = transformation(new AgentBuilder.RawMatcher.ForElementMatchers(isPublic()));
+        AgentBuilder.Default.Transformation second = transformation(mock(AgentBuilder.RawMatcher.class));
+        AgentBuilder.Default.Transformation.NameIndex nameIndex = new AgentBuilder.Default.Transformation.NameIndex(Arrays.asList(first, second));
+        assertThat(nameIndex.resolve(FOO), is(Arrays.asList(first, second)));
+    }
+
+    @Test
+    public void testNamed() throws Exception {
+        AgentBuilder.Default.Transformation first = transformation(new AgentBuilder.RawMatcher.ForElementMatchers(named(FOO)));
+        AgentBuilder.Default.Transformation second = transformation(new AgentBuilder.RawMatcher.ForElementMatchers(named(BAR).and(isPublic())));
+        AgentBuilder.Default.Transformation.NameIndex nameIndex = new AgentBuilder.Default.Transformation.NameIndex(Arrays.asList(first, second));
+        assertThat(nameIndex.resolve(FOO), is(Collections.singletonList(first)));
+        assertThat(nameIndex.resolve(BAR), is(Collections.singletonList(second)));
+        assertThat(nameIndex.resolve(QUX).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testNameStartsWith() throws Exception {
+        AgentBuilder.Default.Transformation first = transformation(new AgentBuilder.RawMatcher.ForElementMatchers(nameStartsWith("foo.")));
+        AgentBuilder.Default.Transformation second = transformation(new AgentBuilder.RawMatcher.ForElementMatchers(nameStartsWith("f")));
+        AgentBuilder.Default.Transformation third = transformation(new AgentBuilder.RawMatcher.ForElementMatchers(named("f")));
+        AgentBuilder.Default.Transformation.NameIndex nameIndex = new AgentBuilder.Default.Transformation.NameIndex(Arrays.asList(first, second, third));
+        assertThat(nameIndex.resolve(FOO), is(Arrays.asList(first, second)));
+        assertThat(nameIndex.resolve("f"), is(Arrays.asList(second, third)));
+        assertThat(nameIndex.resolve(BAR).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testOrderIsRetained() throws Exception {
+        AgentBuilder.Default.Transformation first = transformation(new AgentBuilder.RawMatcher.ForElementMatchers(nameStartsWith("foo.")));
+        AgentBuilder.Default.Transformation second = transformation(new AgentBuilder.RawMatcher.ForElementMatchers(isPublic()));
+        AgentBuilder.Default.Transformation third = transformation(new AgentBuilder.RawMatcher.ForElementMatchers(named(FOO)));
+        AgentBuilder.Default.Transformation fourth = transformation(new AgentBuilder.RawMatcher.ForElementMatchers(named(BAR)));
+        AgentBuilder.Default.Transformation.NameIndex nameIndex = new AgentBuilder.Default.Transformation.NameIndex(Arrays.asList(first, second, third, fourth));
+        assertThat(nameIndex.resolve(FOO), is(Arrays.asList(first, second, third)));
+        assertThat(nameIndex.resolve(QUX), is(Collections.singletonList(second)));
+    }
+
+    @Test
+    public void testRawMatcherJunctions() throws Exception {
+        AgentBuilder.RawMatcher.ForElementMatchers foo = new AgentBuilder.RawMatcher.ForElementMatchers(named(FOO));
+        AgentBuilder.RawMatcher.ForElementMatchers bar = new AgentBuilder.RawMatcher.ForElementMatchers(named(BAR));
+        AgentBuilder.RawMatcher other = mock(AgentBuilder.RawMatcher.class);
+        assertThat(AgentBuilder.Default.Transformation.NameIndex.toNameConstraint(new AgentBuilder.RawMatcher.Conjunction(foo, other)).matches(FOO), is(true));
+        assertThat(AgentBuilder.Default.Transformation.NameIndex.toNameConstraint(new AgentBuilder.RawMatcher.Conjunction(other, foo)).matches(BAR), is(false));
+        assertThat(AgentBuilder.Default.Transformation.NameIndex.toNameConstraint(new AgentBuilder.RawMatcher.Disjunction(foo, bar)).matches(BAR), is(true));
+        assertThat(AgentBuilder.Default.Transformation.NameIndex.toNameConstraint(new AgentBuilder.RawMatcher.Disjunction(foo, other)).isUnconstrained(), is(true));
+        assertThat(AgentBuilder.Default.Transformation.NameIndex.toNameConstraint(new AgentBuilder.RawMatcher.Inversion(foo)).isUnconstrained(), is(true));
+    }
+
+    @Test
+    public void testNoTransformations() throws Exception {
+        assertThat(new AgentBuilder.Default.Transformation.NameIndex(Collections.<AgentBuilder.Default.Transformation>emptyList()).resolve(FOO),
+                sameInstance((Object) Collections.emptyList()));
+    }
+
+    private static AgentBuilder.Default.Transformation transformation(AgentBuilder.RawMatcher matcher) {
+        return new AgentBuilder.Default.Transformation(matcher, Collections.<AgentBuilder.Transformer>emptyList(), false);
+    }
+}
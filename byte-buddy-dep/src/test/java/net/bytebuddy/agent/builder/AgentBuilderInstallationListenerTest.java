@@ -8,6 +8,8 @@ import org.mockito.Mock;
 
 import java.io.PrintStream;
 import java.lang.instrument.Instrumentation;
+import java.util.Collections;
+import java.util.Set;
 
 import static net.bytebuddy.test.utility.FieldByFieldComparison.hasPrototype;
 import static org.hamcrest.CoreMatchers.is;
@@ -29,12 +31,17 @@ public class AgentBuilderInstallationListenerTest {
     @Mock
     private Throwable throwable;
 
+    private final Set<Class<?>> types = Collections.<Class<?>>singleton(Object.class);
+
     @Test
     public void testNoOpListener() throws Exception {
         AgentBuilder.InstallationListener.NoOp.INSTANCE.onBeforeInstall(instrumentation, classFileTransformer);
         AgentBuilder.InstallationListener.NoOp.INSTANCE.onInstall(instrumentation, classFileTransformer);
         assertThat(AgentBuilder.InstallationListener.NoOp.INSTANCE.onError(instrumentation, classFileTransformer, throwable), is(throwable));
         AgentBuilder.InstallationListener.NoOp.INSTANCE.onReset(instrumentation, classFileTransformer);
+        AgentBuilder.InstallationListener.NoOp.INSTANCE.onBeforeWarmUp(types, classFileTransformer);
+        AgentBuilder.InstallationListener.NoOp.INSTANCE.onWarmUpError(Object.class, classFileTransformer, throwable);
+        AgentBuilder.InstallationListener.NoOp.INSTANCE.onAfterWarmUp(types, classFileTransformer, true);
         verifyZeroInteractions(instrumentation, classFileTransformer, throwable);
     }
 
@@ -45,6 +52,9 @@ public class AgentBuilderInstallationListenerTest {
         pseudoAdapter.onInstall(instrumentation, classFileTransformer);
         assertThat(pseudoAdapter.onError(instrumentation, classFileTransformer, throwable), is(throwable));
         pseudoAdapter.onReset(instrumentation, classFileTransformer);
+        pseudoAdapter.onBeforeWarmUp(types, classFileTransformer);
+        pseudoAdapter.onWarmUpError(Object.class, classFileTransformer, throwable);
+        pseudoAdapter.onAfterWarmUp(types, classFileTransformer, true);
         verifyZeroInteractions(instrumentation, classFileTransformer, throwable);
     }
 
@@ -53,6 +63,9 @@ public class AgentBuilderInstallationListenerTest {
         AgentBuilder.InstallationListener.ErrorSuppressing.INSTANCE.onBeforeInstall(instrumentation, classFileTransformer);
         AgentBuilder.InstallationListener.ErrorSuppressing.INSTANCE.onInstall(instrumentation, classFileTransformer);
         AgentBuilder.InstallationListener.NoOp.INSTANCE.onReset(instrumentation, classFileTransformer);
+        AgentBuilder.InstallationListener.ErrorSuppressing.INSTANCE.onBeforeWarmUp(types, classFileTransformer);
+        AgentBuilder.InstallationListener.ErrorSuppressing.INSTANCE.onWarmUpError(Object.class, classFileTransformer, throwable);
+        AgentBuilder.InstallationListener.ErrorSuppressing.INSTANCE.onAfterWarmUp(types, classFileTransformer, true);
         verifyZeroInteractions(instrumentation, classFileTransformer, throwable);
     }
 
@@ -100,6 +113,35 @@ public class AgentBuilderInstallationListenerTest {
         verifyNoMoreInteractions(printStream);
     }
 
+    @Test
+    public void testStreamWritingListenerBeforeWarmUp() throws Exception {
+        PrintStream printStream = mock(PrintStream.class);
+        AgentBuilder.InstallationListener installationListener = new AgentBuilder.InstallationListener.StreamWriting(printStream);
+        installationListener.onBeforeWarmUp(types, classFileTransformer);
+        verify(printStream).printf("[Byte Buddy] BEFORE_WARMUP %s on %s%n", classFileTransformer, types);
+        verifyNoMoreInteractions(printStream);
+    }
+
+    @Test
+    public void testStreamWritingListenerWarmUpError() throws Exception {
+        PrintStream printStream = mock(PrintStream.class);
+        AgentBuilder.InstallationListener installationListener = new AgentBuilder.InstallationListener.StreamWriting(printStream);
+        installationListener.onWarmUpError(Object.class, classFileTransformer, throwable);
+        verify(printStream).printf("[Byte Buddy] ERROR_WARMUP %s on %s%n", classFileTransformer, Object.class);
+        verifyNoMoreInteractions(printStream);
+        verify(throwable).printStackTrace(printStream);
+        verifyNoMoreInteractions(throwable);
+    }
+
+    @Test
+    public void testStreamWritingListenerAfterWarmUp() throws Exception {
+        PrintStream printStream = mock(PrintStream.class);
+        AgentBuilder.InstallationListener installationListener = new AgentBuilder.InstallationListener.StreamWriting(printStream);
+        installationListener.onAfterWarmUp(types, classFileTransformer, true);
+        verify(printStream).printf("[Byte Buddy] AFTER_WARMUP %s %s on %s%n", "transformed", classFileTransformer, types);
+        verifyNoMoreInteractions(printStream);
+    }
+
     @Test
     public void testCompoundListenerBeforeInstall() throws Exception {
         AgentBuilder.InstallationListener first = mock(AgentBuilder.InstallationListener.class), second = mock(AgentBuilder.InstallationListener.class);
@@ -153,6 +195,22 @@ public class AgentBuilderInstallationListenerTest {
         verifyNoMoreInteractions(first, second);
     }
 
+    @Test
+    public void testCompoundListenerWarmUp() throws Exception {
+        AgentBuilder.InstallationListener first = mock(AgentBuilder.InstallationListener.class), second = mock(AgentBuilder.InstallationListener.class);
+        AgentBuilder.InstallationListener installationListener = new AgentBuilder.InstallationListener.Compound(first, second);
+        installationListener.onBeforeWarmUp(types, classFileTransformer);
+        installationListener.onWarmUpError(Object.class, classFileTransformer, throwable);
+        installationListener.onAfterWarmUp(types, classFileTransformer, false);
+        verify(first).onBeforeWarmUp(types, classFileTransformer);
+        verify(first).onWarmUpError(Object.class, classFileTransformer, throwable);
+        verify(first).onAfterWarmUp(types, classFileTransformer, false);
+        verify(second).onBeforeWarmUp(types, classFileTransformer);
+        verify(second).onWarmUpError(Object.class, classFileTransformer, throwable);
+        verify(second).onAfterWarmUp(types, classFileTransformer, false);
+        verifyNoMoreInteractions(first, second);
+    }
+
     @Test
     public void testStreamWritingToSystem() throws Exception {
         assertThat(AgentBuilder.InstallationListener.StreamWriting.toSystemOut(),
@@ -0,0 +1,151 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.dynamic.ClassFileLocator;
+import org.junit.Test;
+import org.objectweb.asm.Type;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.util.Map;
+
+import static net.bytebuddy.matcher.ElementMatchers.none;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class AgentBuilderMetricsTest {
+
+    private static final String FOO = "foo";
+
+    @Test
+    public void testNoOp() throws Exception {
+        AgentBuilder.Metrics.Measurement measurement = AgentBuilder.Metrics.NoOp.INSTANCE.begin(FOO);
+        assertThat(measurement, sameInstance((AgentBuilder.Metrics.Measurement) AgentBuilder.Metrics.NoOp.INSTANCE));
+        measurement.onPhase(AgentBuilder.Metrics.Phase.DESCRIPTION);
+        measurement.onMatcher(0, mock(AgentBuilder.RawMatcher.class));
+        measurement.onComplete();
+    }
+
+    @Test
+    public void testHistogram() throws Exception {
+        AgentBuilder.Metrics.Histogram histogram = new AgentBuilder.Metrics.Histogram();
+        histogram.record(0L);
+        histogram.record(1L);
+        histogram.record(3L);
+        histogram.record(100L);
+        histogram.record(-1L);
+        AgentBuilder.Metrics.Histogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount(), is(5L));
+        assertThat(snapshot.getTotal(), is(104L));
+        assertThat(snapshot.getMaximum(), is(100L));
+        assertThat(snapshot.getMean(), is(104d / 5));
+        assertThat(snapshot.getBuckets()[0], is(2L));
+        assertThat(snapshot.getBuckets()[1], is(1L));
+        assertThat(snapshot.getBuckets()[2], is(1L));
+        assertThat(snapshot.getBuckets()[7], is(1L));
+        assertThat(snapshot.getPercentile(0d), is(0L));
+        assertThat(snapshot.getPercentile(40d), is(0L));
+        assertThat(snapshot.getPercentile(60d), is(1L));
+        assertThat(snapshot.getPercentile(80d), is(3L));
+        assertThat(snapshot.getPercentile(100d), is(100L));
+    }
+
+    @Test
+    public void testEmptyHistogram() throws Exception {
+        AgentBuilder.Metrics.Histogram.Snapshot snapshot = new AgentBuilder.Metrics.Histogram().snapshot();
+        assertThat(snapshot.getCount(), is(0L));
+        assertThat(snapshot.getMean(), is(0d));
+        assertThat(snapshot.getPercentile(99d), is(0L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalPercentile() throws Exception {
+        new AgentBuilder.Metrics.Histogram().snapshot().getPercentile(101d);
+    }
+
+    @Test
+    public void testCollector() throws Exception {
+        AgentBuilder.RawMatcher matcher = mock(AgentBuilder.RawMatcher.class);
+        AgentBuilder.Metrics.Collector collector = new AgentBuilder.Metrics.Collector();
+        AgentBuilder.Metrics.Measurement measurement = collector.begin(FOO);
+        measurement.onPhase(AgentBuilder.Metrics.Phase.DESCRIPTION);
+        measurement.onPhase(AgentBuilder.Metrics.Phase.IGNORE_MATCHING);
+        measurement.onMatcher(1, matcher);
+        measurement.onPhase(AgentBuilder.Metrics.Phase.TRANSFORMATION);
+        measurement.onComplete();
+        collector.begin(FOO).onComplete();
+        AgentBuilder.Metrics.Collector.Snapshot snapshot = collector.snapshot();
+        assertThat(snapshot.getDuration().getCount(), is(2L));
+        assertThat(snapshot.getDurations().size(), is(AgentBuilder.Metrics.Phase.values().length));
+        assertThat(snapshot.getDurations().get(AgentBuilder.Metrics.Phase.DESCRIPTION).getCount(), is(1L));
+        assertThat(snapshot.getDurations().get(AgentBuilder.Metrics.Phase.IGNORE_MATCHING).getCount(), is(1L));
+        assertThat(snapshot.getDurations().get(AgentBuilder.Metrics.Phase.TRANSFORMATION).getCount(), is(1L));
+        assertThat(snapshot.getDurations().get(AgentBuilder.Metrics.Phase.MAKE).getCount(), is(0L));
+        assertThat(snapshot.getDurations().get(AgentBuilder.Metrics.Phase.INJECTION).getCount(), is(0L));
+        assertThat(snapshot.getMatchers().size(), is(2));
+        assertThat(snapshot.getMatchers().get(0).getCount(), is(0L));
+        assertThat(snapshot.getMatchers().get(1).getCount(), is(1L));
+        if (AgentBuilder.Metrics.Collector.isAllocationMeasurable()) {
+            assertThat(snapshot.getAllocation().getCount(), is(2L));
+            assertThat(snapshot.getAllocations().get(AgentBuilder.Metrics.Phase.DESCRIPTION).getCount(), is(1L));
+        } else {
+            assertThat(snapshot.getAllocation().getCount(), is(0L));
+        }
+        long total = 0L;
+        for (Map.Entry<AgentBuilder.Metrics.Phase, AgentBuilder.Metrics.Histogram.Snapshot> entry : snapshot.getDurations().entrySet()) {
+            total += entry.getValue().getTotal();
+        }
+        assertThat(snapshot.getDuration().getTotal() >= total, is(true));
+        assertThat(snapshot.toString().contains(AgentBuilder.Metrics.Phase.DESCRIPTION.toString()), is(true));
+    }
+
+    @Test
+    public void testCollectorOnAgent() throws Exception {
+        AgentBuilder.Metrics.Collector collector = new AgentBuilder.Metrics.Collector();
+        new AgentBuilder.Default()
+                .withMetrics(collector)
+                .ignore(none())
+                .type(none())
+                .transform(mock(AgentBuilder.Transformer.class))
+                .makeRaw()
+                .transform(getClass().getClassLoader(), "foo/Bar", null, null, new byte[0]);
+        assertThat(collector.snapshot().getDuration().getCount(), is(1L));
+    }
+
+    @Test
+    public void testCollectorDistinguishesEqualMatchers() throws Exception {
+        AgentBuilder.RawMatcher matcher = mock(AgentBuilder.RawMatcher.class);
+        AgentBuilder.Metrics.Collector collector = new AgentBuilder.Metrics.Collector();
+        ClassFileTransformer classFileTransformer = new AgentBuilder.Default()
+                .withMetrics(collector)
+                .ignore(none())
+                .type(matcher)
+                .transform(mock(AgentBuilder.Transformer.class))
+                .type(matcher)
+                .transform(mock(AgentBuilder.Transformer.class))
+                .makeRaw();
+        classFileTransformer.transform(getClass().getClassLoader(),
+                Type.getInternalName(AgentBuilderMetricsTest.class),
+                null,
+                null,
+                ClassFileLocator.ForClassLoader.read(AgentBuilderMetricsTest.class));
+        AgentBuilder.Metrics.Collector.Snapshot snapshot = collector.snapshot();
+        assertThat(snapshot.getMatchers().size(), is(2));
+        assertThat(snapshot.getMatchers().get(0).getCount(), is(1L));
+        assertThat(snapshot.getMatchers().get(1).getCount(), is(1L));
+    }
+
+    @Test
+    public void testAllocationOverheadIsNotRecorded() throws Exception {
+        if (!AgentBuilder.Metrics.Collector.isAllocationMeasurable()) {
+            return;
+        }
+        AgentBuilder.Metrics.Collector collector = new AgentBuilder.Metrics.Collector();
+        for (int index = 0; index < 1000; index++) {
+            AgentBuilder.Metrics.Measurement measurement = collector.begin(FOO);
+            measurement.onPhase(AgentBuilder.Metrics.Phase.DESCRIPTION);
+            measurement.onComplete();
+        }
+        assertThat(collector.snapshot().getAllocations().get(AgentBuilder.Metrics.Phase.DESCRIPTION).getPercentile(50d), is(0L));
+    }
+}
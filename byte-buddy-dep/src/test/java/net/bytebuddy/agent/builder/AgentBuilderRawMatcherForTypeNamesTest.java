@@ -0,0 +1,116 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.PrefixMatcher;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.utility.JavaModule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.security.ProtectionDomain;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class AgentBuilderRawMatcherForTypeNamesTest {
+
+    private static final String FOO = "foo", QUX = "foo.bar.Qux";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private ElementMatcher<String> nameMatcher;
+
+    @Mock
+    private ElementMatcher<ClassLoader> classLoaderMatcher;
+
+    @Mock
+    private ElementMatcher<JavaModule> moduleMatcher;
+
+    @Mock
+    private TypeDescription typeDescription;
+
+    @Mock
+    private ClassLoader classLoader;
+
+    @Mock
+    private JavaModule module;
+
+    @Mock
+    private ProtectionDomain protectionDomain;
+
+    @Before
+    public void setUp() throws Exception {
+        when(typeDescription.getName()).thenReturn(FOO);
+    }
+
+    @Test
+    public void testNoneMatches() throws Exception {
+        assertThat(new AgentBuilder.RawMatcher.ForTypeNames(nameMatcher, classLoaderMatcher, moduleMatcher)
+                .matches(typeDescription, classLoader, module, Object.class, protectionDomain), is(false));
+        verify(moduleMatcher).matches(module);
+        verifyNoMoreInteractions(moduleMatcher);
+        verifyZeroInteractions(classLoaderMatcher);
+        verifyZeroInteractions(nameMatcher);
+    }
+
+    @Test
+    public void testModuleAndClassLoaderMatches() throws Exception {
+        when(moduleMatcher.matches(module)).thenReturn(true);
+        when(classLoaderMatcher.matches(classLoader)).thenReturn(true);
+        assertThat(new AgentBuilder.RawMatcher.ForTypeNames(nameMatcher, classLoaderMatcher, moduleMatcher)
+                .matches(typeDescription, classLoader, module, Object.class, protectionDomain), is(false));
+        verify(moduleMatcher).matches(module);
+        verifyNoMoreInteractions(moduleMatcher);
+        verify(classLoaderMatcher).matches(classLoader);
+        verifyNoMoreInteractions(classLoaderMatcher);
+        verify(nameMatcher).matches(FOO);
+        verifyNoMoreInteractions(nameMatcher);
+    }
+
+    @Test
+    public void testAllMatches() throws Exception {
+        when(moduleMatcher.matches(module)).thenReturn(true);
+        when(classLoaderMatcher.matches(classLoader)).thenReturn(true);
+        when(nameMatcher.matches(FOO)).thenReturn(true);
+        assertThat(new AgentBuilder.RawMatcher.ForTypeNames(nameMatcher, classLoaderMatcher, moduleMatcher)
+                .matches(typeDescription, classLoader, module, Object.class, protectionDomain), is(true));
+        verify(nameMatcher).matches(FOO);
+        verifyNoMoreInteractions(nameMatcher);
+    }
+
+    @Test
+    public void testMatchesName() throws Exception {
+        when(moduleMatcher.matches(module)).thenReturn(true);
+        when(classLoaderMatcher.matches(classLoader)).thenReturn(true);
+        when(nameMatcher.matches(FOO)).thenReturn(true);
+        assertThat(new AgentBuilder.RawMatcher.ForTypeNames(nameMatcher, classLoaderMatcher, moduleMatcher).matches(FOO, classLoader, module), is(true));
+        verifyZeroInteractions(typeDescription);
+    }
+
+    @Test
+    public void testMatchesInternalName() throws Exception {
+        when(moduleMatcher.matches(module)).thenReturn(true);
+        when(classLoaderMatcher.matches(classLoader)).thenReturn(true);
+        when(nameMatcher.matches(QUX)).thenReturn(true);
+        assertThat(new AgentBuilder.RawMatcher.ForTypeNames(nameMatcher, classLoaderMatcher, moduleMatcher)
+                .matchesInternalName(QUX.replace('.', '/'), classLoader, module), is(true));
+        verify(nameMatcher).matches(QUX);
+        verifyNoMoreInteractions(nameMatcher);
+    }
+
+    @Test
+    public void testMatchesInternalNameTranslated() throws Exception {
+        when(moduleMatcher.matches(module)).thenReturn(true);
+        when(classLoaderMatcher.matches(classLoader)).thenReturn(true);
+        AgentBuilder.RawMatcher.ForTypeNames matcher = new AgentBuilder.RawMatcher.ForTypeNames(new PrefixMatcher("foo.bar."), classLoaderMatcher, moduleMatcher);
+        assertThat(matcher.matchesInternalName(QUX.replace('.', '/'), classLoader, module), is(true));
+        assertThat(matcher.matchesInternalName(FOO, classLoader, module), is(false));
+    }
+}
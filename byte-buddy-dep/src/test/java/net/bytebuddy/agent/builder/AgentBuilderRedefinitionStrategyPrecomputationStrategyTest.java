@@ -0,0 +1,66 @@
+package net.bytebuddy.agent.builder;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.Mockito.*;
+
+public class AgentBuilderRedefinitionStrategyPrecomputationStrategyTest {
+
+    @Test
+    public void testDisabled() throws Exception {
+        AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.Target target = mock(AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.Target.class);
+        AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.Disabled.INSTANCE.apply(Collections.<Class<?>>singletonList(Object.class), false, target);
+        verifyNoMoreInteractions(target);
+    }
+
+    @Test
+    public void testForExecutorService() throws Exception {
+        AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.Target target = mock(AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.Target.class);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            new AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.ForExecutorService(executorService).apply(Arrays.<Class<?>>asList(Object.class, Void.class), true, target);
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(target).precompute(Object.class, true);
+        verify(target).precompute(Void.class, true);
+        verifyNoMoreInteractions(target);
+    }
+
+    @Test
+    public void testForExecutorServiceIgnoresError() throws Exception {
+        AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.Target target = mock(AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.Target.class);
+        doThrow(new RuntimeException()).when(target).precompute(Object.class, true);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            new AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.ForExecutorService(executorService).apply(Arrays.<Class<?>>asList(Object.class, Void.class), true, target);
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(target).precompute(Object.class, true);
+        verify(target).precompute(Void.class, true);
+        verifyNoMoreInteractions(target);
+    }
+
+    @Test
+    public void testBatchTrigger() throws Exception {
+        AgentBuilder.RedefinitionStrategy.PrecomputationStrategy precomputationStrategy = mock(AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.class);
+        AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.Target target = mock(AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.Target.class);
+        AgentBuilder.RedefinitionStrategy.Listener listener = new AgentBuilder.RedefinitionStrategy.PrecomputationStrategy.BatchTrigger(precomputationStrategy, true, target);
+        List<Class<?>> batch = Collections.<Class<?>>singletonList(Object.class);
+        listener.onBatch(0, batch, batch);
+        verify(target).discard();
+        verify(precomputationStrategy).apply(batch, true, target);
+        listener.onError(0, batch, new Throwable(), batch);
+        listener.onComplete(1, batch, Collections.<List<Class<?>>, Throwable>emptyMap());
+        verify(target, times(3)).discard();
+        verifyNoMoreInteractions(precomputationStrategy);
+        verifyNoMoreInteractions(target);
+    }
+}
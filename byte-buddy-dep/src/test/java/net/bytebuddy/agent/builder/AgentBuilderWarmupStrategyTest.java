@@ -0,0 +1,122 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.test.utility.MockitoRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class AgentBuilderWarmupStrategyTest {
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private ResettableClassFileTransformer classFileTransformer;
+
+    @Mock
+    private AgentBuilder.WarmupStrategy.Target target;
+
+    @Mock
+    private AgentBuilder.CircularityLock circularityLock;
+
+    @Mock
+    private AgentBuilder.InstallationListener installationListener;
+
+    @Mock
+    private Executor executor;
+
+    private final Set<Class<?>> types = Collections.<Class<?>>singleton(Foo.class);
+
+    @Test
+    public void testNoOp() throws Exception {
+        AgentBuilder.WarmupStrategy.NoOp.INSTANCE.apply(classFileTransformer, target, circularityLock, installationListener);
+        verifyNoMoreInteractions(classFileTransformer, target, circularityLock, installationListener);
+    }
+
+    @Test
+    public void testNoOpWithoutTypes() throws Exception {
+        assertThat(AgentBuilder.WarmupStrategy.NoOp.INSTANCE.with(Collections.<Class<?>>emptySet()),
+                is((AgentBuilder.WarmupStrategy) AgentBuilder.WarmupStrategy.NoOp.INSTANCE));
+    }
+
+    @Test
+    public void testEnabled() throws Exception {
+        when(target.warmUp(Foo.class)).thenReturn(true);
+        AgentBuilder.WarmupStrategy.NoOp.INSTANCE.with(types).apply(classFileTransformer, target, circularityLock, installationListener);
+        InOrder inOrder = inOrder(installationListener, target);
+        inOrder.verify(installationListener).onBeforeWarmUp(types, classFileTransformer);
+        inOrder.verify(target).warmUp(Foo.class);
+        inOrder.verify(installationListener).onAfterWarmUp(types, classFileTransformer, true);
+        verifyNoMoreInteractions(classFileTransformer, target, circularityLock, installationListener);
+    }
+
+    @Test
+    public void testEnabledNotTransformed() throws Exception {
+        AgentBuilder.WarmupStrategy.NoOp.INSTANCE.with(types).apply(classFileTransformer, target, circularityLock, installationListener);
+        verify(installationListener).onBeforeWarmUp(types, classFileTransformer);
+        verify(installationListener).onAfterWarmUp(types, classFileTransformer, false);
+        verifyNoMoreInteractions(installationListener, circularityLock);
+    }
+
+    @Test
+    public void testEnabledError() throws Exception {
+        RuntimeException exception = new RuntimeException();
+        when(target.warmUp(Foo.class)).thenThrow(exception);
+        AgentBuilder.WarmupStrategy.NoOp.INSTANCE.with(types).apply(classFileTransformer, target, circularityLock, installationListener);
+        verify(installationListener).onBeforeWarmUp(types, classFileTransformer);
+        verify(installationListener).onWarmUpError(Foo.class, classFileTransformer, exception);
+        verify(installationListener).onAfterWarmUp(types, classFileTransformer, false);
+        verifyNoMoreInteractions(installationListener, circularityLock);
+    }
+
+    @Test
+    public void testAsynchronous() throws Exception {
+        when(circularityLock.acquire()).thenReturn(true);
+        when(target.warmUp(Foo.class)).thenReturn(true);
+        AgentBuilder.WarmupStrategy.NoOp.INSTANCE.with(types).with(executor).apply(classFileTransformer, target, circularityLock, installationListener);
+        ArgumentCaptor<Runnable> runnable = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(runnable.capture());
+        verifyNoMoreInteractions(circularityLock, installationListener, classFileTransformer, target);
+        runnable.getValue().run();
+        InOrder inOrder = inOrder(circularityLock, installationListener, target);
+        inOrder.verify(installationListener).onBeforeWarmUp(types, classFileTransformer);
+        inOrder.verify(circularityLock).acquire();
+        inOrder.verify(target).warmUp(Foo.class);
+        inOrder.verify(circularityLock).release();
+        inOrder.verify(installationListener).onAfterWarmUp(types, classFileTransformer, true);
+        verifyNoMoreInteractions(circularityLock, installationListener, target);
+    }
+
+    @Test
+    public void testAsynchronousLocked() throws Exception {
+        AgentBuilder.WarmupStrategy.NoOp.INSTANCE.with(types).with(executor).apply(classFileTransformer, target, circularityLock, installationListener);
+        ArgumentCaptor<Runnable> runnable = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(runnable.capture());
+        runnable.getValue().run();
+        verify(installationListener).onBeforeWarmUp(types, classFileTransformer);
+        verify(circularityLock).acquire();
+        verify(installationListener).onAfterWarmUp(types, classFileTransformer, false);
+        verifyNoMoreInteractions(circularityLock, installationListener, target);
+    }
+
+    @Test
+    public void testAsynchronousWithoutTypes() throws Exception {
+        AgentBuilder.WarmupStrategy.NoOp.INSTANCE.with(executor).apply(classFileTransformer, target, circularityLock, installationListener);
+        verifyNoMoreInteractions(executor, circularityLock, installationListener, classFileTransformer, target);
+    }
+
+    private static class Foo {
+        /* empty */
+    }
+}
@@ -44,8 +44,10 @@ public class PluginEngineDefaultTest {
         return Arrays.asList(new Object[][]{
                 {Plugin.Engine.Dispatcher.ForSerialTransformation.Factory.INSTANCE, true},
                 {new Plugin.Engine.Dispatcher.ForParallelTransformation.WithThrowawayExecutorService.Factory(1), true},
+                {new Plugin.Engine.Dispatcher.ForBoundedParallelTransformation.WithThrowawayExecutorService.Factory(2, 1, 1), true},
                 {Plugin.Engine.Dispatcher.ForSerialTransformation.Factory.INSTANCE, false},
-                {new Plugin.Engine.Dispatcher.ForParallelTransformation.WithThrowawayExecutorService.Factory(1), false}
+                {new Plugin.Engine.Dispatcher.ForParallelTransformation.WithThrowawayExecutorService.Factory(1), false},
+                {new Plugin.Engine.Dispatcher.ForBoundedParallelTransformation.WithThrowawayExecutorService.Factory(2, 1, 1), false}
         });
     }
 
@@ -0,0 +1,220 @@
+package net.bytebuddy.build;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.test.utility.MockitoRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import static junit.framework.TestCase.fail;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class PluginEngineDispatcherForBoundedParallelTransformationTest {
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private Plugin.Engine.Target.Sink sink;
+
+    @Mock
+    private Plugin.Engine.Dispatcher.Materializable materializable, otherMaterializable;
+
+    @Mock
+    private Executor executor;
+
+    private List<TypeDescription> transformed;
+
+    private Map<TypeDescription, List<Throwable>> failed;
+
+    private List<String> unresolved;
+
+    private List<Runnable> queue;
+
+    private boolean inline;
+
+    private boolean preprocessing, processing;
+
+    private boolean preprocessingError, processingError;
+
+    @Before
+    public void setUp() throws Exception {
+        transformed = new ArrayList<TypeDescription>();
+        failed = new HashMap<TypeDescription, List<Throwable>>();
+        unresolved = new ArrayList<String>();
+        queue = new ArrayList<Runnable>();
+        inline = true;
+        Mockito.doAnswer(new Answer() {
+            public Object answer(InvocationOnMock invocationOnMock) {
+                if (inline) {
+                    ((Runnable) invocationOnMock.getArgument(0)).run();
+                } else {
+                    queue.add((Runnable) invocationOnMock.getArgument(0));
+                }
+                return null;
+            }
+        }).when(executor).execute(any(Runnable.class));
+    }
+
+    private Callable<Callable<Plugin.Engine.Dispatcher.Materializable>> work(final Plugin.Engine.Dispatcher.Materializable materializable) {
+        return new Callable<Callable<Plugin.Engine.Dispatcher.Materializable>>() {
+            public Callable<Plugin.Engine.Dispatcher.Materializable> call() {
+                preprocessing = true;
+                if (preprocessingError) {
+                    throw new IllegalStateException();
+                }
+                return new Callable<Plugin.Engine.Dispatcher.Materializable>() {
+                    public Plugin.Engine.Dispatcher.Materializable call() {
+                        processing = true;
+                        if (processingError) {
+                            throw new IllegalStateException();
+                        }
+                        return materializable;
+                    }
+                };
+            }
+        };
+    }
+
+    @Test
+    public void testEagerTransformationIsWrittenOnceBatchIsComplete() throws Exception {
+        Plugin.Engine.Dispatcher dispatcher = new Plugin.Engine.Dispatcher.ForBoundedParallelTransformation(executor, sink, transformed, failed, unresolved, 1, 1);
+        dispatcher.accept(work(materializable), true);
+        assertThat(preprocessing, is(true));
+        assertThat(processing, is(true));
+        verify(materializable).materialize(sink, transformed, failed, unresolved);
+        dispatcher.complete();
+        verifyNoMoreInteractions(materializable);
+    }
+
+    @Test
+    public void testEagerTransformationIsBatched() throws Exception {
+        Plugin.Engine.Dispatcher dispatcher = new Plugin.Engine.Dispatcher.ForBoundedParallelTransformation(executor, sink, transformed, failed, unresolved, 2, 1);
+        dispatcher.accept(work(materializable), true);
+        assertThat(preprocessing, is(false));
+        assertThat(processing, is(false));
+        dispatcher.complete();
+        assertThat(preprocessing, is(true));
+        assertThat(processing, is(true));
+        verify(materializable).materialize(sink, transformed, failed, unresolved);
+        verifyNoMoreInteractions(materializable);
+    }
+
+    @Test
+    public void testEagerTransformationIsBounded() throws Exception {
+        inline = false;
+        Plugin.Engine.Dispatcher dispatcher = new Plugin.Engine.Dispatcher.ForBoundedParallelTransformation(executor, sink, transformed, failed, unresolved, 1, 1);
+        dispatcher.accept(work(materializable), true);
+        assertThat(queue.size(), is(1));
+        queue.get(0).run();
+        dispatcher.accept(work(otherMaterializable), true);
+        verify(materializable).materialize(sink, transformed, failed, unresolved);
+        verifyZeroInteractions(otherMaterializable);
+        queue.get(1).run();
+        dispatcher.complete();
+        verify(otherMaterializable).materialize(sink, transformed, failed, unresolved);
+    }
+
+    @Test
+    public void testTransformationRetainsOrder() throws Exception {
+        inline = false;
+        Plugin.Engine.Dispatcher dispatcher = new Plugin.Engine.Dispatcher.ForBoundedParallelTransformation(executor, sink, transformed, failed, unresolved, 1, 2);
+        dispatcher.accept(work(materializable), true);
+        dispatcher.accept(work(otherMaterializable), true);
+        queue.get(1).run();
+        queue.get(0).run();
+        dispatcher.complete();
+        InOrder inOrder = inOrder(materializable, otherMaterializable);
+        inOrder.verify(materializable).materialize(sink, transformed, failed, unresolved);
+        inOrder.verify(otherMaterializable).materialize(sink, transformed, failed, unresolved);
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void testDeferredTransformation() throws Exception {
+        Plugin.Engine.Dispatcher dispatcher = new Plugin.Engine.Dispatcher.ForBoundedParallelTransformation(executor, sink, transformed, failed, unresolved, 1, 1);
+        dispatcher.accept(work(materializable), false);
+        assertThat(preprocessing, is(true));
+        assertThat(processing, is(false));
+        dispatcher.complete();
+        assertThat(processing, is(true));
+        verify(materializable).materialize(sink, transformed, failed, unresolved);
+        verifyNoMoreInteractions(materializable);
+    }
+
+    @Test
+    public void testDeferredTransformationRetainsOrder() throws Exception {
+        Plugin.Engine.Dispatcher dispatcher = new Plugin.Engine.Dispatcher.ForBoundedParallelTransformation(executor, sink, transformed, failed, unresolved, 2, 1);
+        dispatcher.accept(work(materializable), false);
+        dispatcher.accept(work(otherMaterializable), false);
+        dispatcher.accept(work(materializable), false);
+        dispatcher.complete();
+        InOrder inOrder = inOrder(materializable, otherMaterializable);
+        inOrder.verify(materializable).materialize(sink, transformed, failed, unresolved);
+        inOrder.verify(otherMaterializable).materialize(sink, transformed, failed, unresolved);
+        inOrder.verify(materializable).materialize(sink, transformed, failed, unresolved);
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void testTransformationPreprocessingException() throws Exception {
+        Plugin.Engine.Dispatcher dispatcher = new Plugin.Engine.Dispatcher.ForBoundedParallelTransformation(executor, sink, transformed, failed, unresolved, 1, 1);
+        preprocessingError = true;
+        dispatcher.accept(work(materializable), false);
+        try {
+            dispatcher.complete();
+            fail();
+        } catch (Exception exception) {
+            assertThat(exception, instanceOf(IllegalStateException.class));
+        }
+        assertThat(preprocessing, is(true));
+        assertThat(processing, is(false));
+        verifyZeroInteractions(materializable);
+    }
+
+    @Test
+    public void testTransformationProcessingException() throws Exception {
+        Plugin.Engine.Dispatcher dispatcher = new Plugin.Engine.Dispatcher.ForBoundedParallelTransformation(executor, sink, transformed, failed, unresolved, 1, 1);
+        processingError = true;
+        dispatcher.accept(work(materializable), false);
+        try {
+            dispatcher.complete();
+            fail();
+        } catch (Exception exception) {
+            assertThat(exception, instanceOf(IllegalStateException.class));
+        }
+        assertThat(processing, is(true));
+        verifyZeroInteractions(materializable);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalBatchSize() throws Exception {
+        new Plugin.Engine.Dispatcher.ForBoundedParallelTransformation.Factory(executor, 0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalMaximumPending() throws Exception {
+        new Plugin.Engine.Dispatcher.ForBoundedParallelTransformation.Factory(executor, 1, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalThreads() throws Exception {
+        new Plugin.Engine.Dispatcher.ForBoundedParallelTransformation.WithThrowawayExecutorService.Factory(0, 1, 1);
+    }
+}
@@ -0,0 +1,223 @@
+package net.bytebuddy.build;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.pool.TypePool;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class PluginEngineIncrementalStrategyTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("foo", "bar");
+        assertThat(file.delete(), is(true));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        assertThat(!file.exists() || file.delete(), is(true));
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        Plugin.Engine.Target.Sink sink = mock(Plugin.Engine.Target.Sink.class);
+        Plugin.Engine.IncrementalStrategy.Session session = Plugin.Engine.IncrementalStrategy.Disabled.INSTANCE.begin(Collections.<Plugin>emptyList());
+        assertThat(session.isTracking(), is(false));
+        session.register(FOO, new byte[0]);
+        assertThat(session.resolve().isEmpty(), is(true));
+        assertThat(session.wrap(sink), sameInstance(sink));
+        session.complete(mock(TypePool.class), Collections.<String>emptySet());
+        verifyZeroInteractions(sink);
+    }
+
+    @Test
+    public void testInitialApplication() throws Exception {
+        Plugin.Engine.Listener listener = mock(Plugin.Engine.Listener.class);
+        Plugin.Engine.Target.InMemory target = new Plugin.Engine.Target.InMemory();
+        Plugin.Engine.Summary summary = engine(listener, new Plugin.Engine.IncrementalStrategy.ForFile(file))
+                .apply(Plugin.Engine.Source.InMemory.ofTypes(Sample.class, SubSample.class), target, new Plugin.Factory.Simple(new SimplePlugin()));
+        assertThat(summary.getTransformed().size(), is(1));
+        assertThat(target.getStorage().size(), is(2));
+        assertThat(file.isFile(), is(true));
+        verify(listener).onDiscovery(Sample.class.getName());
+        verify(listener).onDiscovery(SubSample.class.getName());
+    }
+
+    @Test
+    public void testInPlaceApplicationRetainsUnchangedTypes() throws Exception {
+        Plugin.Engine.Target.InMemory target = new Plugin.Engine.Target.InMemory();
+        engine(mock(Plugin.Engine.Listener.class), new Plugin.Engine.IncrementalStrategy.ForFile(file))
+                .apply(Plugin.Engine.Source.InMemory.ofTypes(Sample.class, SubSample.class), target, new Plugin.Factory.Simple(new SimplePlugin()));
+        Map<String, byte[]> transformed = new HashMap<String, byte[]>(target.getStorage());
+        Plugin.Engine.Listener listener = mock(Plugin.Engine.Listener.class);
+        Plugin.Engine.Target.InMemory retained = new Plugin.Engine.Target.InMemory();
+        Plugin.Engine.Summary summary = engine(listener, new Plugin.Engine.IncrementalStrategy.ForFile(file))
+                .apply(new Plugin.Engine.Source.InMemory(transformed), retained, new Plugin.Factory.Simple(new SimplePlugin()));
+        assertThat(summary.getTransformed().size(), is(0));
+        assertThat(retained.getStorage().size(), is(2));
+        for (Map.Entry<String, byte[]> entry : transformed.entrySet()) {
+            assertThat(Arrays.equals(retained.getStorage().get(entry.getKey()), entry.getValue()), is(true));
+        }
+        verify(listener, never()).onDiscovery(Sample.class.getName());
+        verify(listener, never()).onDiscovery(SubSample.class.getName());
+    }
+
+    @Test
+    public void testOutOfPlaceApplicationRetainsUntransformedTypes() throws Exception {
+        engine(mock(Plugin.Engine.Listener.class), new Plugin.Engine.IncrementalStrategy.ForFile(file))
+                .apply(Plugin.Engine.Source.InMemory.ofTypes(Sample.class, SubSample.class), new Plugin.Engine.Target.InMemory(), new Plugin.Factory.Simple(new SimplePlugin()));
+        Plugin.Engine.Listener listener = mock(Plugin.Engine.Listener.class);
+        Plugin.Engine.Target.InMemory target = new Plugin.Engine.Target.InMemory();
+        Plugin.Engine.Summary summary = engine(listener, new Plugin.Engine.IncrementalStrategy.ForFile(file))
+                .apply(Plugin.Engine.Source.InMemory.ofTypes(Sample.class, SubSample.class), target, new Plugin.Factory.Simple(new SimplePlugin()));
+        assertThat(summary.getTransformed().size(), is(1));
+        assertThat(target.getStorage().size(), is(2));
+        verify(listener).onDiscovery(Sample.class.getName());
+        verify(listener, never()).onDiscovery(SubSample.class.getName());
+    }
+
+    @Test
+    public void testChangedSuperTypeTransformsSubType() throws Exception {
+        engine(mock(Plugin.Engine.Listener.class), new Plugin.Engine.IncrementalStrategy.ForFile(file))
+                .apply(Plugin.Engine.Source.InMemory.ofTypes(Sample.class, SubSample.class), new Plugin.Engine.Target.InMemory(), new Plugin.Factory.Simple(new IgnoringPlugin()));
+        Map<TypeDescription, byte[]> binaryRepresentations = new HashMap<TypeDescription, byte[]>();
+        binaryRepresentations.put(TypeDescription.ForLoadedType.of(Sample.class), new ByteBuddy()
+                .redefine(Sample.class)
+                .defineField(BAR, Void.class)
+                .make()
+                .getBytes());
+        binaryRepresentations.put(TypeDescription.ForLoadedType.of(SubSample.class), ClassFileLocator.ForClassLoader.read(SubSample.class));
+        Plugin.Engine.Listener listener = mock(Plugin.Engine.Listener.class);
+        engine(listener, new Plugin.Engine.IncrementalStrategy.ForFile(file))
+                .apply(Plugin.Engine.Source.InMemory.ofTypes(binaryRepresentations), new Plugin.Engine.Target.InMemory(), new Plugin.Factory.Simple(new IgnoringPlugin()));
+        verify(listener).onDiscovery(Sample.class.getName());
+        verify(listener).onDiscovery(SubSample.class.getName());
+    }
+
+    @Test
+    public void testUnchangedSuperTypeRetainsSubType() throws Exception {
+        engine(mock(Plugin.Engine.Listener.class), new Plugin.Engine.IncrementalStrategy.ForFile(file))
+                .apply(Plugin.Engine.Source.InMemory.ofTypes(Sample.class, SubSample.class), new Plugin.Engine.Target.InMemory(), new Plugin.Factory.Simple(new IgnoringPlugin()));
+        Map<TypeDescription, byte[]> binaryRepresentations = new HashMap<TypeDescription, byte[]>();
+        binaryRepresentations.put(TypeDescription.ForLoadedType.of(Sample.class), ClassFileLocator.ForClassLoader.read(Sample.class));
+        binaryRepresentations.put(TypeDescription.ForLoadedType.of(SubSample.class), new ByteBuddy()
+                .redefine(SubSample.class)
+                .defineField(BAR, Void.class)
+                .make()
+                .getBytes());
+        Plugin.Engine.Listener listener = mock(Plugin.Engine.Listener.class);
+        engine(listener, new Plugin.Engine.IncrementalStrategy.ForFile(file))
+                .apply(Plugin.Engine.Source.InMemory.ofTypes(binaryRepresentations), new Plugin.Engine.Target.InMemory(), new Plugin.Factory.Simple(new IgnoringPlugin()));
+        verify(listener, never()).onDiscovery(Sample.class.getName());
+        verify(listener).onDiscovery(SubSample.class.getName());
+    }
+
+    @Test
+    public void testChangedConfigurationTransformsAllTypes() throws Exception {
+        engine(mock(Plugin.Engine.Listener.class), new Plugin.Engine.IncrementalStrategy.ForFile(file, FOO))
+                .apply(Plugin.Engine.Source.InMemory.ofTypes(Sample.class, SubSample.class), new Plugin.Engine.Target.InMemory(), new Plugin.Factory.Simple(new IgnoringPlugin()));
+        Plugin.Engine.Listener listener = mock(Plugin.Engine.Listener.class);
+        engine(listener, new Plugin.Engine.IncrementalStrategy.ForFile(file, BAR))
+                .apply(Plugin.Engine.Source.InMemory.ofTypes(Sample.class, SubSample.class), new Plugin.Engine.Target.InMemory(), new Plugin.Factory.Simple(new IgnoringPlugin()));
+        verify(listener).onDiscovery(Sample.class.getName());
+        verify(listener).onDiscovery(SubSample.class.getName());
+    }
+
+    @Test
+    public void testChangedClassPathTransformsAllTypes() throws Exception {
+        File element = File.createTempFile(FOO, BAR);
+        try {
+            engine(mock(Plugin.Engine.Listener.class), new Plugin.Engine.IncrementalStrategy.ForFile(file, FOO, Collections.singletonList(element)))
+                    .apply(Plugin.Engine.Source.InMemory.ofTypes(Sample.class, SubSample.class), new Plugin.Engine.Target.InMemory(), new Plugin.Factory.Simple(new IgnoringPlugin()));
+            FileOutputStream outputStream = new FileOutputStream(element);
+            try {
+                outputStream.write(new byte[]{1, 2, 3});
+            } finally {
+                outputStream.close();
+            }
+            Plugin.Engine.Listener listener = mock(Plugin.Engine.Listener.class);
+            engine(listener, new Plugin.Engine.IncrementalStrategy.ForFile(file, FOO, Collections.singletonList(element)))
+                    .apply(Plugin.Engine.Source.InMemory.ofTypes(Sample.class, SubSample.class), new Plugin.Engine.Target.InMemory(), new Plugin.Factory.Simple(new IgnoringPlugin()));
+            verify(listener).onDiscovery(Sample.class.getName());
+            verify(listener).onDiscovery(SubSample.class.getName());
+        } finally {
+            assertThat(element.delete(), is(true));
+        }
+    }
+
+    @Test
+    public void testChangedPluginTransformsAllTypes() throws Exception {
+        engine(mock(Plugin.Engine.Listener.class), new Plugin.Engine.IncrementalStrategy.ForFile(file))
+                .apply(Plugin.Engine.Source.InMemory.ofTypes(Sample.class, SubSample.class), new Plugin.Engine.Target.InMemory(), new Plugin.Factory.Simple(new IgnoringPlugin()));
+        Plugin.Engine.Listener listener = mock(Plugin.Engine.Listener.class);
+        engine(listener, new Plugin.Engine.IncrementalStrategy.ForFile(file))
+                .apply(Plugin.Engine.Source.InMemory.ofTypes(Sample.class, SubSample.class), new Plugin.Engine.Target.InMemory(), new Plugin.Factory.Simple(new SimplePlugin()));
+        verify(listener).onDiscovery(Sample.class.getName());
+        verify(listener).onDiscovery(SubSample.class.getName());
+    }
+
+    private static Plugin.Engine engine(Plugin.Engine.Listener listener, Plugin.Engine.IncrementalStrategy incrementalStrategy) {
+        return new Plugin.Engine.Default()
+                .with(listener)
+                .with(ClassFileLocator.ForClassLoader.of(SimplePlugin.class.getClassLoader()))
+                .withIncrementalStrategy(incrementalStrategy);
+    }
+
+    private static class Sample {
+        /* empty */
+    }
+
+    private static class SubSample extends Sample {
+        /* empty */
+    }
+
+    private static class SimplePlugin implements Plugin {
+
+        public DynamicType.Builder<?> apply(DynamicType.Builder<?> builder, TypeDescription typeDescription, ClassFileLocator classFileLocator) {
+            return builder.defineField(FOO, Void.class);
+        }
+
+        public boolean matches(TypeDescription target) {
+            return target.represents(Sample.class);
+        }
+
+        public void close() {
+            /* empty */
+        }
+    }
+
+    private static class IgnoringPlugin implements Plugin {
+
+        public DynamicType.Builder<?> apply(DynamicType.Builder<?> builder, TypeDescription typeDescription, ClassFileLocator classFileLocator) {
+            throw new AssertionError();
+        }
+
+        public boolean matches(TypeDescription target) {
+            return false;
+        }
+
+        public void close() {
+            /* empty */
+        }
+    }
+}
@@ -61,4 +61,27 @@ public class ClassFileLocatorCompoundTest {
         verify(otherClassFileLocator).close();
         verifyNoMoreInteractions(otherClassFileLocator);
     }
+
+    @Test
+    public void testFingerprintOfFirstLocatorThatContainsType() throws Exception {
+        ClassFileLocator.Fingerprinting fingerprinting = mock(ClassFileLocator.Fingerprinting.class), otherFingerprinting = mock(ClassFileLocator.Fingerprinting.class);
+        when(fingerprinting.fingerprint(FOO)).thenReturn(ClassFileLocator.Fingerprinting.ABSENT);
+        when(otherFingerprinting.fingerprint(FOO)).thenReturn(42L);
+        assertThat(new ClassFileLocator.Compound(fingerprinting, otherFingerprinting).fingerprint(FOO), is(42L));
+    }
+
+    @Test
+    public void testFingerprintUnknownForNonFingerprintingLocator() throws Exception {
+        ClassFileLocator.Fingerprinting fingerprinting = mock(ClassFileLocator.Fingerprinting.class);
+        when(fingerprinting.fingerprint(FOO)).thenReturn(ClassFileLocator.Fingerprinting.ABSENT);
+        assertThat(new ClassFileLocator.Compound(fingerprinting, classFileLocator).fingerprint(FOO), is(ClassFileLocator.Fingerprinting.UNKNOWN));
+        verifyZeroInteractions(classFileLocator);
+    }
+
+    @Test
+    public void testFingerprintAbsent() throws Exception {
+        ClassFileLocator.Fingerprinting fingerprinting = mock(ClassFileLocator.Fingerprinting.class);
+        when(fingerprinting.fingerprint(FOO)).thenReturn(ClassFileLocator.Fingerprinting.ABSENT);
+        assertThat(new ClassFileLocator.Compound(fingerprinting).fingerprint(FOO), is(ClassFileLocator.Fingerprinting.ABSENT));
+    }
 }
@@ -8,6 +8,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.util.Random;
 
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -64,4 +65,30 @@ public class ClassFileLocatorForFolderTest {
     public void testClose() throws Exception {
         new ClassFileLocator.ForFolder(folder).close();
     }
+
+    @Test
+    public void testFingerprint() throws Exception {
+        File packageFolder = new File(folder, FOO);
+        assertThat(packageFolder.mkdir(), is(true));
+        File file = new File(packageFolder, BAR + ".class");
+        FileOutputStream fileOutputStream = new FileOutputStream(file);
+        try {
+            fileOutputStream.write(VALUE);
+        } finally {
+            fileOutputStream.close();
+        }
+        try {
+            ClassFileLocator.ForFolder classFileLocator = new ClassFileLocator.ForFolder(folder);
+            assertThat(file.setLastModified(1000L), is(true));
+            long fingerprint = classFileLocator.fingerprint(FOO + "." + BAR);
+            assertThat(fingerprint >= 0L, is(true));
+            assertThat(classFileLocator.fingerprint(FOO + "." + BAR), is(fingerprint));
+            assertThat(file.setLastModified(2000L), is(true));
+            assertThat(classFileLocator.fingerprint(FOO + "." + BAR), not(fingerprint));
+            assertThat(classFileLocator.fingerprint(BAR + "." + FOO), is(ClassFileLocator.Fingerprinting.ABSENT));
+        } finally {
+            assertThat(file.delete(), is(true));
+            assertThat(packageFolder.delete(), is(true));
+        }
+    }
 }
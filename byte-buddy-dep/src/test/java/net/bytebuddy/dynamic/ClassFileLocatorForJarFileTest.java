@@ -14,6 +14,7 @@ import java.io.FileOutputStream;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -114,4 +115,28 @@ public class ClassFileLocatorForJarFileTest {
         verify(jarFile).close();
         verifyNoMoreInteractions(jarFile);
     }
+
+    @Test
+    public void testFingerprint() throws Exception {
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            JarEntry jarEntry = new JarEntry(FOO + "/" + BAR + ".class");
+            jarOutputStream.putNextEntry(jarEntry);
+            jarOutputStream.write(VALUE);
+            jarOutputStream.write(VALUE * 2);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+        CRC32 crc32 = new CRC32();
+        crc32.update(new byte[]{VALUE, VALUE * 2});
+        JarFile jarFile = new JarFile(file);
+        try {
+            ClassFileLocator.ForJarFile classFileLocator = new ClassFileLocator.ForJarFile(jarFile);
+            assertThat(classFileLocator.fingerprint(FOO + "." + BAR), is(crc32.getValue() | 2L << 32));
+            assertThat(classFileLocator.fingerprint(BAR + "." + FOO), is(ClassFileLocator.Fingerprinting.ABSENT));
+        } finally {
+            jarFile.close();
+        }
+    }
 }
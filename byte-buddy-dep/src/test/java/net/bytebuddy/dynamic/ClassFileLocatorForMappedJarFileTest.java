@@ -0,0 +1,273 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.utility.StreamDrainer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.objectweb.asm.ClassVisitor;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ClassFileLocatorForMappedJarFileTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private static final int VALUE = 42, END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile(FOO, BAR);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        file.deleteOnExit();
+    }
+
+    @Test
+    public void testSuccessfulLocationDeflated() throws Exception {
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            JarEntry jarEntry = new JarEntry(FOO + "/" + BAR + ".class");
+            jarOutputStream.putNextEntry(jarEntry);
+            jarOutputStream.write(VALUE);
+            jarOutputStream.write(VALUE * 2);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+        ClassFileLocator.ForMappedJarFile classFileLocator = ClassFileLocator.ForMappedJarFile.of(file);
+        try {
+            ClassFileLocator.Resolution resolution = classFileLocator.locate(FOO + "." + BAR);
+            assertThat(resolution.isResolved(), is(true));
+            assertThat(resolution.resolve(), is(new byte[]{VALUE, VALUE * 2}));
+            ByteBuffer buffer = classFileLocator.locateBuffer(FOO + "." + BAR);
+            assertThat(buffer.remaining(), is(2));
+            assertThat(buffer.get(), is((byte) VALUE));
+            assertThat(buffer.get(), is((byte) (VALUE * 2)));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testSuccessfulLocationLanguageEncoding() throws Exception {
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            JarEntry jarEntry = new JarEntry(FOO + "/" + BAR + "\u00e4.class");
+            jarOutputStream.putNextEntry(jarEntry);
+            jarOutputStream.write(VALUE);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+        ClassFileLocator.ForMappedJarFile classFileLocator = ClassFileLocator.ForMappedJarFile.of(file, "ISO-8859-1");
+        try {
+            ClassFileLocator.Resolution resolution = classFileLocator.locate(FOO + "." + BAR + "\u00e4");
+            assertThat(resolution.isResolved(), is(true));
+            assertThat(resolution.resolve(), is(new byte[]{VALUE}));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testSuccessfulLocationStored() throws Exception {
+        byte[] binaryRepresentation = new byte[]{VALUE, VALUE * 2};
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            JarEntry jarEntry = new JarEntry(FOO + "/" + BAR + ".class");
+            jarEntry.setMethod(ZipEntry.STORED);
+            jarEntry.setSize(binaryRepresentation.length);
+            CRC32 crc32 = new CRC32();
+            crc32.update(binaryRepresentation);
+            jarEntry.setCrc(crc32.getValue());
+            jarOutputStream.putNextEntry(jarEntry);
+            jarOutputStream.write(binaryRepresentation);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+        ClassFileLocator.ForMappedJarFile classFileLocator = ClassFileLocator.ForMappedJarFile.of(file);
+        try {
+            ClassFileLocator.Resolution resolution = classFileLocator.locate(FOO + "." + BAR);
+            assertThat(resolution.isResolved(), is(true));
+            assertThat(resolution.resolve(), is(binaryRepresentation));
+            ByteBuffer buffer = classFileLocator.locateBuffer(FOO + "." + BAR);
+            assertThat(buffer.isReadOnly(), is(true));
+            assertThat(buffer.remaining(), is(2));
+            assertThat(buffer.get(), is((byte) VALUE));
+            assertThat(buffer.get(), is((byte) (VALUE * 2)));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testNonSuccessfulLocation() throws Exception {
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            JarEntry jarEntry = new JarEntry("noop.class");
+            jarOutputStream.putNextEntry(jarEntry);
+            jarOutputStream.write(VALUE);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+        ClassFileLocator.ForMappedJarFile classFileLocator = ClassFileLocator.ForMappedJarFile.of(file);
+        try {
+            assertThat(classFileLocator.locate(FOO + "." + BAR).isResolved(), is(false));
+            assertThat(classFileLocator.locateBuffer(FOO + "." + BAR), nullValue(ByteBuffer.class));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testClassPathJar() throws Exception {
+        File jar = new File(ClassVisitor.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        if (!jar.isFile()) {
+            return;
+        }
+        ClassFileLocator.ForMappedJarFile classFileLocator = ClassFileLocator.ForMappedJarFile.of(jar);
+        try {
+            InputStream inputStream = ClassVisitor.class.getResourceAsStream(ClassVisitor.class.getSimpleName() + ".class");
+            try {
+                assertThat(classFileLocator.locate(ClassVisitor.class.getName()).resolve(), is(StreamDrainer.DEFAULT.drain(inputStream)));
+            } finally {
+                inputStream.close();
+            }
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testEqualityByFile() throws Exception {
+        writeJar();
+        ClassFileLocator.ForMappedJarFile first = ClassFileLocator.ForMappedJarFile.of(file), second = ClassFileLocator.ForMappedJarFile.of(file);
+        try {
+            assertThat(first, is(second));
+            assertThat(first.hashCode(), is(second.hashCode()));
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testCorruptCentralDirectoryOffset() throws Exception {
+        writeJar();
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            writeInt(randomAccessFile, randomAccessFile.length() - END_OF_CENTRAL_DIRECTORY_SIZE + 16, Integer.MAX_VALUE);
+        } finally {
+            randomAccessFile.close();
+        }
+        ClassFileLocator.ForMappedJarFile.of(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testCorruptLocalHeaderOffset() throws Exception {
+        writeJar();
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            writeInt(randomAccessFile, centralDirectoryOffset(randomAccessFile) + 42, Integer.MAX_VALUE);
+        } finally {
+            randomAccessFile.close();
+        }
+        ClassFileLocator.ForMappedJarFile.of(file);
+    }
+
+    @Test
+    public void testCorruptCompressedSize() throws Exception {
+        writeJar();
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            writeInt(randomAccessFile, centralDirectoryOffset(randomAccessFile) + 20, Integer.MAX_VALUE);
+        } finally {
+            randomAccessFile.close();
+        }
+        ClassFileLocator.ForMappedJarFile classFileLocator = ClassFileLocator.ForMappedJarFile.of(file);
+        try {
+            classFileLocator.locate(FOO + "." + BAR);
+            fail();
+        } catch (IOException ignored) {
+            /* expected */
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testIllegalFile() throws Exception {
+        FileOutputStream outputStream = new FileOutputStream(file);
+        try {
+            outputStream.write(new byte[]{VALUE, VALUE, VALUE});
+        } finally {
+            outputStream.close();
+        }
+        ClassFileLocator.ForMappedJarFile.of(file);
+    }
+
+    private void writeJar() throws IOException {
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            JarEntry jarEntry = new JarEntry(FOO + "/" + BAR + ".class");
+            jarOutputStream.putNextEntry(jarEntry);
+            jarOutputStream.write(VALUE);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+    }
+
+    private static long centralDirectoryOffset(RandomAccessFile randomAccessFile) throws IOException {
+        randomAccessFile.seek(randomAccessFile.length() - END_OF_CENTRAL_DIRECTORY_SIZE + 16);
+        return Integer.reverseBytes(randomAccessFile.readInt());
+    }
+
+    private static void writeInt(RandomAccessFile randomAccessFile, long position, int value) throws IOException {
+        randomAccessFile.seek(position);
+        randomAccessFile.writeInt(Integer.reverseBytes(value));
+    }
+
+    @Test
+    public void testFingerprint() throws Exception {
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            JarEntry jarEntry = new JarEntry(FOO + "/" + BAR + ".class");
+            jarOutputStream.putNextEntry(jarEntry);
+            jarOutputStream.write(VALUE);
+            jarOutputStream.write(VALUE * 2);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+        CRC32 crc32 = new CRC32();
+        crc32.update(new byte[]{VALUE, VALUE * 2});
+        ClassFileLocator.ForMappedJarFile classFileLocator = ClassFileLocator.ForMappedJarFile.of(file);
+        try {
+            assertThat(classFileLocator.fingerprint(FOO + "." + BAR), is(crc32.getValue() | 2L << 32));
+            assertThat(classFileLocator.fingerprint(BAR + "." + FOO), is(ClassFileLocator.Fingerprinting.ABSENT));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package net.bytebuddy.dynamic.loading;
 
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.test.utility.IntegrationRule;
+import net.bytebuddy.test.utility.JavaVersionRule;
 import net.bytebuddy.test.utility.MockitoRule;
 import org.hamcrest.CoreMatchers;
 import org.junit.Before;
@@ -20,9 +22,19 @@ import java.io.InputStream;
 import java.lang.instrument.ClassFileTransformer;
 import java.net.URL;
 import java.security.ProtectionDomain;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static junit.framework.TestCase.assertEquals;
 import static org.hamcrest.CoreMatchers.*;
@@ -38,6 +50,8 @@ public class ByteArrayClassLoaderTest {
 
     private static final String FOO = "foo", BAR = "bar", QUX = "qux", CLASS_FILE = ".class";
 
+    private static final int TYPES = 64, THREADS = 8;
+
     private final ByteArrayClassLoader.PersistenceHandler persistenceHandler;
 
     private final boolean expectedResourceLookup;
@@ -48,6 +62,9 @@ public class ByteArrayClassLoaderTest {
     @Rule
     public MethodRule integrationRule = new IntegrationRule();
 
+    @Rule
+    public MethodRule javaVersionRule = new JavaVersionRule();
+
     private InjectionClassLoader classLoader;
 
     private URL sealBase;
@@ -247,6 +264,67 @@ public class ByteArrayClassLoaderTest {
         assertThat(type, is((Object) classLoader.loadClass(Foo.class.getName())));
     }
 
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testParallelCapable() throws Exception {
+        Object lock = ByteArrayClassLoader.SYNCHRONIZATION_STRATEGY.initialize().getClassLoadingLock((ByteArrayClassLoader) classLoader, FOO);
+        assertThat(lock, not((Object) classLoader));
+        assertThat(lock, not(ByteArrayClassLoader.SYNCHRONIZATION_STRATEGY.initialize().getClassLoadingLock((ByteArrayClassLoader) classLoader, BAR)));
+        assertThat(ByteArrayClassLoader.SYNCHRONIZATION_STRATEGY.initialize().getClassLoadingLock((ByteArrayClassLoader) classLoader, FOO), is(lock));
+    }
+
+    @Test
+    public void testConcurrentLoading() throws Exception {
+        Map<String, byte[]> typeDefinitions = new HashMap<String, byte[]>();
+        final List<String> names = new ArrayList<String>(TYPES);
+        for (int index = 0; index < TYPES; index++) {
+            String name = FOO + (index % 2 == 0 ? "" : "." + BAR) + "." + QUX + index;
+            typeDefinitions.put(name, new ByteBuddy().subclass(Object.class).name(name).make().getBytes());
+            names.add(name);
+        }
+        final ClassLoader classLoader = new ByteArrayClassLoader(ClassLoadingStrategy.BOOTSTRAP_LOADER, typeDefinitions, persistenceHandler);
+        final CountDownLatch latch = new CountDownLatch(THREADS);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<List<Class<?>>>> futures = new ArrayList<Future<List<Class<?>>>>(THREADS);
+            for (int thread = 0; thread < THREADS; thread++) {
+                final int offset = thread;
+                futures.add(executorService.submit(new Callable<List<Class<?>>>() {
+                    public List<Class<?>> call() throws Exception {
+                        latch.countDown();
+                        latch.await();
+                        Class<?>[] types = new Class<?>[TYPES];
+                        for (int index = 0; index < TYPES; index++) {
+                            int position = (index + offset * (TYPES / THREADS)) % TYPES;
+                            types[position] = classLoader.loadClass(names.get(position));
+                        }
+                        return Arrays.asList(types);
+                    }
+                }));
+            }
+            List<Class<?>> expected = null;
+            for (Future<List<Class<?>>> future : futures) {
+                List<Class<?>> types = future.get(10, TimeUnit.SECONDS);
+                if (expected == null) {
+                    expected = types;
+                } else {
+                    assertThat(types, is(expected));
+                }
+            }
+            for (int index = 0; index < TYPES; index++) {
+                assertThat(expected.get(index).getName(), is(names.get(index)));
+                assertThat(expected.get(index).getClassLoader(), is(classLoader));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        for (String name : names) {
+            assertThat(classLoader.getResource(name.replace('.', '/') + CLASS_FILE), expectedResourceLookup
+                    ? notNullValue(URL.class)
+                    : nullValue(URL.class));
+        }
+    }
+
     private static class Foo {
         /* Note: Foo is know to the system class loader but not to the bootstrap class loader */
     }
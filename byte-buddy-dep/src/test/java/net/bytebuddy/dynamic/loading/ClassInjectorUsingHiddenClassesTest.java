@@ -0,0 +1,144 @@
+package net.bytebuddy.dynamic.loading;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.FixedValue;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.test.utility.JavaVersionRule;
+import net.bytebuddy.utility.JavaType;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.MethodRule;
+
+import java.util.Collections;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassInjectorUsingHiddenClassesTest {
+
+    private static final String FOO = "foo";
+
+    @Rule
+    public MethodRule javaVersionRule = new JavaVersionRule();
+
+    private Class<?> type;
+
+    @Before
+    public void setUp() throws Exception {
+        type = new ByteBuddy()
+                .subclass(Object.class)
+                .name("net.bytebuddy.test.Foo")
+                .defineMethod("lookup", Object.class, Ownership.STATIC, Visibility.PUBLIC)
+                .intercept(MethodCall.invoke(Class.forName("java.lang.invoke.MethodHandles").getMethod("lookup")))
+                .make()
+                .load(ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(15)
+    public void testIsAvailable() {
+        assertThat(ClassInjector.UsingHiddenClasses.isAvailable(), is(true));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(15)
+    public void testLookupType() throws Exception {
+        assertThat(ClassInjector.UsingHiddenClasses.of(type.getMethod("lookup").invoke(null)).lookupType(), is((Object) type));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(15)
+    public void testHiddenClassInjection() throws Exception {
+        ClassInjector injector = ClassInjector.UsingHiddenClasses.of(type.getMethod("lookup").invoke(null));
+        DynamicType dynamicType = new ByteBuddy()
+                .subclass(Object.class)
+                .name("net.bytebuddy.test.Bar")
+                .method(named("toString"))
+                .intercept(FixedValue.value(FOO))
+                .make();
+        Class<?> injected = injector.inject(Collections.singletonMap(dynamicType.getTypeDescription(), dynamicType.getBytes()))
+                .get(dynamicType.getTypeDescription());
+        assertThat(injected.getName(), startsWith("net.bytebuddy.test.Bar/"));
+        assertThat(Class.class.getMethod("isHidden").invoke(injected), is((Object) true));
+        assertThat(injected.getClassLoader(), is(type.getClassLoader()));
+        assertThat(injected.getDeclaredConstructor().newInstance().toString(), is(FOO));
+        assertThat(Class.class.getMethod("getNestHost").invoke(injected), is((Object) injected));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(15)
+    public void testHiddenClassInjectionNestMate() throws Exception {
+        ClassInjector injector = ClassInjector.UsingHiddenClasses.of(type.getMethod("lookup").invoke(null), true);
+        DynamicType dynamicType = new ByteBuddy()
+                .subclass(Object.class)
+                .name("net.bytebuddy.test.Bar")
+                .make();
+        Class<?> injected = injector.inject(Collections.singletonMap(dynamicType.getTypeDescription(), dynamicType.getBytes()))
+                .get(dynamicType.getTypeDescription());
+        assertThat(Class.class.getMethod("isHidden").invoke(injected), is((Object) true));
+        assertThat(Class.class.getMethod("getNestHost").invoke(injected), is((Object) type));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(15)
+    public void testHiddenClassInjectionPropagate() throws Exception {
+        ClassInjector injector = ClassInjector.UsingHiddenClasses.of(type.getMethod("lookup").invoke(null)).in(type);
+        DynamicType dynamicType = new ByteBuddy()
+                .subclass(Object.class)
+                .name("net.bytebuddy.test.Bar")
+                .make();
+        assertThat(injector.inject(Collections.singletonMap(dynamicType.getTypeDescription(), dynamicType.getBytes()))
+                .get(dynamicType.getTypeDescription()).getName(), startsWith("net.bytebuddy.test.Bar/"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @JavaVersionRule.Enforce(15)
+    public void testHiddenClassInjectionPropagateOtherModule() throws Exception {
+        ClassInjector.UsingHiddenClasses.of(JavaType.METHOD_HANDLES.load().getMethod("lookup").invoke(null)).in(type);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @JavaVersionRule.Enforce(15)
+    public void testHiddenClassInjectionNoFullPrivilege() throws Exception {
+        Object lookup = type.getMethod("lookup").invoke(null);
+        ClassInjector.UsingHiddenClasses.of(JavaType.METHOD_HANDLES_LOOKUP.load().getMethod("dropLookupMode", int.class).invoke(lookup, 0x10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @JavaVersionRule.Enforce(15)
+    public void testHiddenClassInjectionOtherPackage() throws Exception {
+        ClassInjector injector = ClassInjector.UsingHiddenClasses.of(type.getMethod("lookup").invoke(null));
+        DynamicType dynamicType = new ByteBuddy()
+                .subclass(Object.class)
+                .name("net.bytebuddy.other.Bar")
+                .make();
+        injector.inject(Collections.singletonMap(dynamicType.getTypeDescription(), dynamicType.getBytes()));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(15)
+    public void testClassLoadingStrategy() throws Exception {
+        Class<?> loaded = new ByteBuddy()
+                .subclass(Object.class)
+                .name("net.bytebuddy.test.Bar")
+                .method(named("toString"))
+                .intercept(FixedValue.value(FOO))
+                .make()
+                .load(type.getClassLoader(), ClassLoadingStrategy.UsingHiddenClasses.of(type.getMethod("lookup").invoke(null)))
+                .getLoaded();
+        assertThat(Class.class.getMethod("isHidden").invoke(loaded), is((Object) true));
+        assertThat(loaded.getDeclaredConstructor().newInstance().toString(), is(FOO));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(15)
+    public void testAvailable() throws Exception {
+        assertThat(ClassInjector.UsingHiddenClasses.of(type.getMethod("lookup").invoke(null)).isAlive(), is(true));
+    }
+}
@@ -20,11 +20,13 @@ import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.*;
 
 public class ClassInjectorUsingReflectionTest {
 
@@ -56,6 +58,27 @@ public class ClassInjectorUsingReflectionTest {
         assertThat(classLoader.loadClass(Foo.class.getName()).getClassLoader(), is(classLoader));
     }
 
+    @Test
+    @ClassReflectionInjectionAvailableRule.Enforce
+    public void testBatchInjection() throws Exception {
+        PackageDefinitionStrategy packageDefinitionStrategy = mock(PackageDefinitionStrategy.class);
+        when(packageDefinitionStrategy.define(eq(classLoader), eq(Foo.class.getPackage().getName()), any(String.class)))
+                .thenReturn(PackageDefinitionStrategy.Definition.Trivial.INSTANCE);
+        Map<TypeDescription, byte[]> types = new LinkedHashMap<TypeDescription, byte[]>();
+        types.put(TypeDescription.ForLoadedType.of(Foo.class), ClassFileLocator.ForClassLoader.read(Foo.class));
+        types.put(TypeDescription.ForLoadedType.of(Bar.class), ClassFileLocator.ForClassLoader.read(Bar.class));
+        Map<TypeDescription, Class<?>> loaded = new ClassInjector.UsingReflection(classLoader,
+                ClassLoadingStrategy.NO_PROTECTION_DOMAIN,
+                packageDefinitionStrategy,
+                false).inject(types);
+        assertThat(loaded.size(), is(2));
+        assertThat(loaded.get(TypeDescription.ForLoadedType.of(Foo.class)).getClassLoader(), is(classLoader));
+        assertThat(loaded.get(TypeDescription.ForLoadedType.of(Bar.class)).getClassLoader(), is(classLoader));
+        assertThat(classLoader.loadClass(Bar.class.getName()), is((Object) loaded.get(TypeDescription.ForLoadedType.of(Bar.class))));
+        verify(packageDefinitionStrategy).define(classLoader, Foo.class.getPackage().getName(), Foo.class.getName());
+        verifyNoMoreInteractions(packageDefinitionStrategy);
+    }
+
     @Test
     @ClassReflectionInjectionAvailableRule.Enforce
     @JavaVersionRule.Enforce(atMost = 8)
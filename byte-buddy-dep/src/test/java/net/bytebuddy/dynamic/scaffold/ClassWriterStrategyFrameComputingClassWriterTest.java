@@ -12,8 +12,7 @@ import org.objectweb.asm.ClassReader;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class ClassWriterStrategyFrameComputingClassWriterTest {
 
@@ -74,4 +73,13 @@ public class ClassWriterStrategyFrameComputingClassWriterTest {
         when(superClass.isAssignableFrom(rightType)).thenReturn(true);
         assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(FOOBAR));
     }
+
+    @Test
+    public void testCommonSuperClassIsMemorized() throws Exception {
+        when(leftType.isAssignableFrom(rightType)).thenReturn(true);
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(QUX));
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(QUX));
+        verify(typePool, times(1)).describe(FOO.replace('/', '.'));
+        verify(typePool, times(1)).describe(BAR.replace('/', '.'));
+    }
 }
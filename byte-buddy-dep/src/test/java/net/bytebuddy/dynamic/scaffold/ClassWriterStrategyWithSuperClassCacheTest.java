@@ -0,0 +1,87 @@
+package net.bytebuddy.dynamic.scaffold;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Type;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class ClassWriterStrategyWithSuperClassCacheTest {
+
+    private static final String ARRAY_LIST = "java/util/ArrayList", LIST = "java/util/List", ABSTRACT_LIST = "java/util/AbstractList";
+
+    @Test
+    public void testCommonSuperClassIsSharedForSameTypePool() throws Exception {
+        TypePool typePool = spy(TypePool.Default.ofSystemLoader());
+        ClassWriterStrategy classWriterStrategy = new ClassWriterStrategy.WithSuperClassCache();
+        ClassWriterStrategy.FrameComputingClassWriter first = (ClassWriterStrategy.FrameComputingClassWriter) classWriterStrategy.resolve(ClassWriter.COMPUTE_FRAMES, typePool);
+        ClassWriterStrategy.FrameComputingClassWriter second = (ClassWriterStrategy.FrameComputingClassWriter) classWriterStrategy.resolve(ClassWriter.COMPUTE_FRAMES, typePool);
+        assertThat(first.getCommonSuperClass(ARRAY_LIST, ABSTRACT_LIST), is(ABSTRACT_LIST));
+        assertThat(second.getCommonSuperClass(ARRAY_LIST, ABSTRACT_LIST), is(ABSTRACT_LIST));
+        verify(typePool, times(1)).describe(ArrayList.class.getName());
+    }
+
+    @Test
+    public void testCommonSuperClassIsNotSharedForDifferentTypePool() throws Exception {
+        TypePool typePool = spy(TypePool.Default.ofSystemLoader()), otherTypePool = spy(TypePool.Default.ofSystemLoader());
+        ClassWriterStrategy classWriterStrategy = new ClassWriterStrategy.WithSuperClassCache();
+        ClassWriterStrategy.FrameComputingClassWriter first = (ClassWriterStrategy.FrameComputingClassWriter) classWriterStrategy.resolve(ClassWriter.COMPUTE_FRAMES, typePool);
+        ClassWriterStrategy.FrameComputingClassWriter second = (ClassWriterStrategy.FrameComputingClassWriter) classWriterStrategy.resolve(ClassWriter.COMPUTE_FRAMES, otherTypePool);
+        assertThat(first.getCommonSuperClass(ARRAY_LIST, LIST), is(LIST));
+        assertThat(second.getCommonSuperClass(ARRAY_LIST, LIST), is(LIST));
+        verify(typePool, times(1)).describe(ArrayList.class.getName());
+        verify(otherTypePool, times(1)).describe(ArrayList.class.getName());
+    }
+
+    @Test
+    public void testCommonSuperClassIsSharedForSameCacheProvider() throws Exception {
+        TypePool.CacheProvider cacheProvider = new TypePool.CacheProvider.Simple();
+        TypePool typePool = spy(new TypePool.Default(cacheProvider, ClassFileLocator.ForClassLoader.ofSystemLoader(), TypePool.Default.ReaderMode.FAST));
+        TypePool otherTypePool = spy(new TypePool.Default(cacheProvider, ClassFileLocator.ForClassLoader.ofSystemLoader(), TypePool.Default.ReaderMode.FAST));
+        ClassWriterStrategy classWriterStrategy = new ClassWriterStrategy.WithSuperClassCache();
+        ClassWriterStrategy.FrameComputingClassWriter first = (ClassWriterStrategy.FrameComputingClassWriter) classWriterStrategy.resolve(ClassWriter.COMPUTE_FRAMES, typePool);
+        ClassWriterStrategy.FrameComputingClassWriter second = (ClassWriterStrategy.FrameComputingClassWriter) classWriterStrategy.resolve(ClassWriter.COMPUTE_FRAMES, otherTypePool);
+        assertThat(first.getCommonSuperClass(ARRAY_LIST, ABSTRACT_LIST), is(ABSTRACT_LIST));
+        assertThat(second.getCommonSuperClass(ARRAY_LIST, ABSTRACT_LIST), is(ABSTRACT_LIST));
+        verify(typePool, times(1)).describe(ArrayList.class.getName());
+        verify(otherTypePool, never()).describe(ArrayList.class.getName());
+    }
+
+    @Test
+    public void testCommonSuperClassIsNotSharedForNoOpCacheProvider() throws Exception {
+        TypePool typePool = spy(new TypePool.Default(TypePool.CacheProvider.NoOp.INSTANCE, ClassFileLocator.ForClassLoader.ofSystemLoader(), TypePool.Default.ReaderMode.FAST));
+        TypePool otherTypePool = spy(new TypePool.Default(TypePool.CacheProvider.NoOp.INSTANCE, ClassFileLocator.ForClassLoader.ofBootLoader(), TypePool.Default.ReaderMode.FAST));
+        ClassWriterStrategy classWriterStrategy = new ClassWriterStrategy.WithSuperClassCache();
+        ClassWriterStrategy.FrameComputingClassWriter first = (ClassWriterStrategy.FrameComputingClassWriter) classWriterStrategy.resolve(ClassWriter.COMPUTE_FRAMES, typePool);
+        ClassWriterStrategy.FrameComputingClassWriter second = (ClassWriterStrategy.FrameComputingClassWriter) classWriterStrategy.resolve(ClassWriter.COMPUTE_FRAMES, otherTypePool);
+        assertThat(first.getCommonSuperClass(ARRAY_LIST, ABSTRACT_LIST), is(ABSTRACT_LIST));
+        assertThat(second.getCommonSuperClass(ARRAY_LIST, ABSTRACT_LIST), is(ABSTRACT_LIST));
+        verify(typePool, times(1)).describe(ArrayList.class.getName());
+        verify(otherTypePool, times(1)).describe(ArrayList.class.getName());
+    }
+
+    @Test
+    public void testInterfaceResolvesObject() throws Exception {
+        ClassWriterStrategy.FrameComputingClassWriter classWriter = (ClassWriterStrategy.FrameComputingClassWriter) new ClassWriterStrategy.WithSuperClassCache()
+                .resolve(ClassWriter.COMPUTE_FRAMES, TypePool.Default.ofSystemLoader());
+        assertThat(classWriter.getCommonSuperClass(LIST, Type.getInternalName(Serializable.class)), is(TypeDescription.OBJECT.getInternalName()));
+    }
+
+    @Test
+    public void testConstantPoolRetention() throws Exception {
+        ClassReader classReader = new ClassReader(Object.class.getName());
+        assertThat(new ClassWriterStrategy.WithSuperClassCache().resolve(0, TypePool.Empty.INSTANCE, classReader), instanceOf(ClassWriterStrategy.FrameComputingClassWriter.class));
+        assertThat(new ClassWriterStrategy.WithSuperClassCache(ClassWriterStrategy.Default.CONSTANT_POOL_DISCARDING).resolve(0, TypePool.Empty.INSTANCE, classReader),
+                instanceOf(ClassWriterStrategy.FrameComputingClassWriter.class));
+    }
+}
@@ -0,0 +1,118 @@
+package net.bytebuddy.dynamic.scaffold;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.MethodList;
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MethodGraphCompilerDefaultWithSuperTypeCacheTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    @Test
+    public void testGraphEqualsUncachedGraph() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Default.WithSuperTypeCache.forJavaHierarchy(16);
+        TypeDescription superClass = TypeDescription.ForLoadedType.of(SampleClass.class);
+        for (int index = 0; index < 2; index++) {
+            TypeDescription instrumentedType = InstrumentedType.Default.of(FOO + "." + BAR + index, superClass.asGenericType(), Opcodes.ACC_PUBLIC);
+            MethodGraph.Linked cached = compiler.compile(instrumentedType), uncached = MethodGraph.Compiler.Default.forJavaHierarchy().compile(instrumentedType);
+            assertThat(cached.listNodes().asMethodList().asDefined(), is(uncached.listNodes().asMethodList().asDefined()));
+            assertThat(cached.getSuperClassGraph().listNodes().asMethodList().asDefined(), is(uncached.getSuperClassGraph().listNodes().asMethodList().asDefined()));
+        }
+    }
+
+    @Test
+    public void testSuperTypeIsAnalyzedOnce() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Default.WithSuperTypeCache.forJavaHierarchy(16);
+        CountingTypeDescription superClass = new CountingTypeDescription(SampleClass.class);
+        compiler.compile(InstrumentedType.Default.of(FOO + "." + BAR, new TypeDescription.Generic.OfNonGenericType.ForErasure(superClass), Opcodes.ACC_PUBLIC));
+        compiler.compile(InstrumentedType.Default.of(FOO + "." + QUX, new TypeDescription.Generic.OfNonGenericType.ForErasure(superClass), Opcodes.ACC_PUBLIC));
+        assertThat(superClass.count, is(1));
+        assertThat(((MethodGraph.Compiler.Default.WithSuperTypeCache<?>) compiler).getSize(), is(2));
+    }
+
+    @Test
+    public void testSuperTypeIsAnalyzedPerPackage() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Default.WithSuperTypeCache.forJavaHierarchy(16);
+        CountingTypeDescription superClass = new CountingTypeDescription(SampleClass.class);
+        compiler.compile(InstrumentedType.Default.of(FOO + "." + BAR, new TypeDescription.Generic.OfNonGenericType.ForErasure(superClass), Opcodes.ACC_PUBLIC));
+        compiler.compile(InstrumentedType.Default.of(QUX + "." + BAR, new TypeDescription.Generic.OfNonGenericType.ForErasure(superClass), Opcodes.ACC_PUBLIC));
+        assertThat(superClass.count, is(2));
+    }
+
+    @Test
+    public void testSuperTypeIsAnalyzedPerIdentity() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Default.WithSuperTypeCache.forJavaHierarchy(16);
+        CountingTypeDescription superClass = new CountingTypeDescription(SampleClass.class), otherSuperClass = new CountingTypeDescription(SampleClass.class);
+        compiler.compile(InstrumentedType.Default.of(FOO + "." + BAR, new TypeDescription.Generic.OfNonGenericType.ForErasure(superClass), Opcodes.ACC_PUBLIC));
+        compiler.compile(InstrumentedType.Default.of(FOO + "." + QUX, new TypeDescription.Generic.OfNonGenericType.ForErasure(otherSuperClass), Opcodes.ACC_PUBLIC));
+        assertThat(superClass.count, is(1));
+        assertThat(otherSuperClass.count, is(1));
+    }
+
+    @Test
+    public void testCacheIsBounded() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Default.WithSuperTypeCache.forJVMHierarchy(1);
+        compiler.compile(InstrumentedType.Default.of(FOO + "." + BAR, TypeDescription.ForLoadedType.of(SampleClass.class).asGenericType(), Opcodes.ACC_PUBLIC));
+        assertThat(((MethodGraph.Compiler.Default.WithSuperTypeCache<?>) compiler).getSize(), is(1));
+        ((MethodGraph.Compiler.Default.WithSuperTypeCache<?>) compiler).clear();
+        assertThat(((MethodGraph.Compiler.Default.WithSuperTypeCache<?>) compiler).getSize(), is(0));
+    }
+
+    @Test
+    public void testForeignViewPointIsNotCached() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Default.WithSuperTypeCache.forJavaHierarchy(16);
+        compiler.compile(TypeDescription.ForLoadedType.of(SampleClass.class), TypeDescription.OBJECT);
+        assertThat(((MethodGraph.Compiler.Default.WithSuperTypeCache<?>) compiler).getSize(), is(0));
+    }
+
+    @Test
+    public void testGenericTypeIsNotCached() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Default.WithSuperTypeCache.forJavaHierarchy(16);
+        compiler.compile(TypeDescription.ForLoadedType.of(GenericSampleClass.class));
+        assertThat(((MethodGraph.Compiler.Default.WithSuperTypeCache<?>) compiler).getSize(), is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalMaximumSize() throws Exception {
+        MethodGraph.Compiler.Default.WithSuperTypeCache.forJavaHierarchy(0);
+    }
+
+    private static class CountingTypeDescription extends TypeDescription.ForLoadedType {
+
+        private int count;
+
+        private CountingTypeDescription(Class<?> type) {
+            super(type);
+        }
+
+        @Override
+        public MethodList<MethodDescription.InDefinedShape> getDeclaredMethods() {
+            count++;
+            return super.getDeclaredMethods();
+        }
+    }
+
+    public static class SampleClass {
+
+        public void foo() {
+            /* empty */
+        }
+    }
+
+    public static class GenericSampleClass<T> extends GenericSuperClass<T> {
+        /* empty */
+    }
+
+    public static class GenericSuperClass<T> {
+
+        public void foo(T value) {
+            /* empty */
+        }
+    }
+}
@@ -14,9 +14,11 @@ import net.bytebuddy.dynamic.loading.InjectionClassLoader;
 import net.bytebuddy.dynamic.loading.PackageDefinitionStrategy;
 import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
 import net.bytebuddy.implementation.FixedValue;
+import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.StubMethod;
 import net.bytebuddy.implementation.SuperMethodCall;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.test.utility.JavaVersionRule;
 import net.bytebuddy.utility.JavaConstant;
 import net.bytebuddy.utility.OpenedClassReader;
@@ -41,7 +43,7 @@ import static org.mockito.Mockito.when;
 
 public class TypeWriterDefaultTest {
 
-    private static final String FOO = "foo", BAR = "bar";
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
 
     private static final String LEGACY_INTERFACE = "net.bytebuddy.test.precompiled.LegacyInterface";
 
@@ -713,8 +715,103 @@ public class TypeWriterDefaultTest {
         }, 0);
     }
 
+    @Test
+    public void testUnalteredMethodIsCopiedOnRedefinition() throws Exception {
+        assertLineNumbers(new ByteBuddy()
+                .redefine(CopyThroughSample.class)
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods().readerFlags(ClassReader.SKIP_DEBUG))
+                .method(named(BAR)).intercept(StubMethod.INSTANCE)
+                .make()
+                .getBytes(), FOO, true);
+    }
+
+    @Test
+    public void testAlteredMethodIsNotCopiedOnRedefinition() throws Exception {
+        assertLineNumbers(new ByteBuddy()
+                .redefine(CopyThroughSample.class)
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods().readerFlags(ClassReader.SKIP_DEBUG))
+                .method(named(BAR)).intercept(StubMethod.INSTANCE)
+                .make()
+                .getBytes(), BAR, false);
+    }
+
+    @Test
+    public void testUnalteredGenericMethodIsCopiedOnRebase() throws Exception {
+        assertLineNumbers(new ByteBuddy()
+                .rebase(CopyThroughSample.class)
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods().readerFlags(ClassReader.SKIP_DEBUG))
+                .method(named(BAR)).intercept(StubMethod.INSTANCE)
+                .make()
+                .getBytes(), QUX, true);
+    }
+
+    @Test
+    public void testUnalteredMethodIsCopiedOnDecoration() throws Exception {
+        assertLineNumbers(new ByteBuddy()
+                .decorate(CopyThroughSample.class)
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods().readerFlags(ClassReader.SKIP_DEBUG))
+                .make()
+                .getBytes(), FOO, true);
+    }
+
+    @Test
+    public void testMethodVisitedByWrapperIsNotCopied() throws Exception {
+        assertLineNumbers(new ByteBuddy()
+                .redefine(CopyThroughSample.class)
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods()
+                        .readerFlags(ClassReader.SKIP_DEBUG)
+                        .method(named(FOO), new AsmVisitorWrapper.ForDeclaredMethods.MethodVisitorWrapper() {
+                            public MethodVisitor wrap(TypeDescription instrumentedType,
+                                                      MethodDescription instrumentedMethod,
+                                                      MethodVisitor methodVisitor,
+                                                      Implementation.Context implementationContext,
+                                                      TypePool typePool,
+                                                      int writerFlags,
+                                                      int readerFlags) {
+                                return new MethodVisitor(OpenedClassReader.ASM_API, methodVisitor) {
+                                    /* empty */
+                                };
+                            }
+                        }))
+                .make()
+                .getBytes(), FOO, false);
+    }
+
+    private static void assertLineNumbers(byte[] binaryRepresentation, final String name, boolean lineNumbers) {
+        final boolean[] found = new boolean[1];
+        new ClassReader(binaryRepresentation).accept(new ClassVisitor(OpenedClassReader.ASM_API) {
+            @Override
+            public MethodVisitor visitMethod(int access, String internalName, String descriptor, String signature, String[] exceptions) {
+                return internalName.equals(name)
+                        ? new MethodVisitor(OpenedClassReader.ASM_API) {
+                    @Override
+                    public void visitLineNumber(int line, Label start) {
+                        found[0] = true;
+                    }
+                }
+                        : null;
+            }
+        }, 0);
+        assertThat(found[0], is(lineNumbers));
+    }
+
     @Retention(RetentionPolicy.RUNTIME)
     public @interface Foo {
         /* empty */
     }
+
+    public static class CopyThroughSample {
+
+        public String foo() {
+            return FOO;
+        }
+
+        public String bar() {
+            return BAR;
+        }
+
+        public <T extends Serializable> T qux(T value) throws Exception {
+            return value;
+        }
+    }
 }
@@ -6,6 +6,7 @@ import net.bytebuddy.description.annotation.AnnotationDescription;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.MethodGraph;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.LoadedTypeInitializer;
 import net.bytebuddy.implementation.attribute.AnnotationRetention;
@@ -24,6 +25,9 @@ import static net.bytebuddy.matcher.ElementMatchers.*;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 public class DecoratingDynamicTypeBuilderTest {
 
@@ -63,6 +67,52 @@ public class DecoratingDynamicTypeBuilderTest {
         assertThat(instance.getClass().isAnnotationPresent(Qux.class), is(true));
     }
 
+    @Test
+    public void testDecorationOfDeclaredMethodsDoesNotCompileMethodGraph() throws Exception {
+        MethodGraph.Compiler methodGraphCompiler = mock(MethodGraph.Compiler.class);
+        Object instance = new ByteBuddy()
+                .with(methodGraphCompiler)
+                .decorate(Foo.class)
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods().method(named(FOO), new AsmVisitorWrapper.ForDeclaredMethods.MethodVisitorWrapper() {
+                    public MethodVisitor wrap(TypeDescription instrumentedType,
+                                              MethodDescription instrumentedMethod,
+                                              MethodVisitor methodVisitor,
+                                              Implementation.Context implementationContext,
+                                              TypePool typePool,
+                                              int writerFlags,
+                                              int readerFlags) {
+                        return new MethodVisitor(OpenedClassReader.ASM_API, methodVisitor) {
+                            @Override
+                            public void visitLdcInsn(Object value) {
+                                if (FOO.equals(value)) {
+                                    value = BAR;
+                                }
+                                super.visitLdcInsn(value);
+                            }
+                        };
+                    }
+                }))
+                .make()
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded()
+                .getConstructor()
+                .newInstance();
+        assertThat(instance.getClass().getMethod(FOO).invoke(instance), is((Object) BAR));
+        verifyZeroInteractions(methodGraphCompiler);
+    }
+
+    @Test
+    public void testDecorationOfOtherVisitorCompilesMethodGraph() throws Exception {
+        MethodGraph.Compiler methodGraphCompiler = spy(MethodGraph.Compiler.DEFAULT);
+        new ByteBuddy()
+                .with(methodGraphCompiler)
+                .decorate(Foo.class)
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods())
+                .visit(new AsmVisitorWrapper.ForDeclaredFields())
+                .make();
+        verify(methodGraphCompiler).compile(TypeDescription.ForLoadedType.of(Foo.class));
+    }
+
     @Test
     public void testDecorationNonVirtualMember() throws Exception {
         Object instance = new ByteBuddy()
@@ -0,0 +1,135 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.MethodList;
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Test;
+
+import static net.bytebuddy.matcher.ElementMatchers.isPrivate;
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
+import static net.bytebuddy.matcher.ElementMatchers.isStatic;
+import static net.bytebuddy.matcher.ElementMatchers.nameContains;
+import static net.bytebuddy.matcher.ElementMatchers.nameEndsWith;
+import static net.bytebuddy.matcher.ElementMatchers.nameMatches;
+import static net.bytebuddy.matcher.ElementMatchers.nameStartsWith;
+import static net.bytebuddy.matcher.ElementMatchers.nameStartsWithIgnoreCase;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.namedIgnoreCase;
+import static net.bytebuddy.matcher.ElementMatchers.not;
+import static net.bytebuddy.matcher.ElementMatchers.returns;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class CompiledMatcherTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private static final MethodList<MethodDescription.InDefinedShape> METHODS = TypeDescription.ForLoadedType.of(Sample.class).getDeclaredMethods();
+
+    @Test
+    public void testName() throws Exception {
+        assertEquivalent(named(FOO));
+        assertEquivalent(namedIgnoreCase("FOO"));
+        assertEquivalent(nameStartsWith("f"));
+        assertEquivalent(nameEndsWith("oo"));
+        assertEquivalent(nameContains("a"));
+        assertEquivalent(nameStartsWithIgnoreCase("F"));
+        assertEquivalent(nameMatches("b.*"));
+    }
+
+    @Test
+    public void testModifiers() throws Exception {
+        assertEquivalent(isStatic());
+        assertEquivalent(isPublic());
+        assertEquivalent(isPrivate());
+    }
+
+    @Test
+    public void testConstants() throws Exception {
+        assertEquivalent(ElementMatchers.any());
+        assertEquivalent(ElementMatchers.none());
+    }
+
+    @Test
+    public void testJunctions() throws Exception {
+        assertEquivalent(named(FOO).and(isStatic()));
+        assertEquivalent(named(FOO).or(isStatic()));
+        assertEquivalent(not(named(FOO)).and(not(isStatic())));
+        assertEquivalent(not(named(FOO).or(named(BAR))).or(isPrivate().and(not(isStatic()))));
+        assertEquivalent(isPublic().and(named(FOO).or(named(BAR)).or(nameStartsWith("q"))));
+    }
+
+    @Test
+    public void testDelegation() throws Exception {
+        assertEquivalent(returns(void.class).and(named(FOO)));
+        assertEquivalent(takesArguments(1).or(not(returns(int.class))));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDelegateIsInvoked() throws Exception {
+        ElementMatcher<MethodDescription> delegate = mock(ElementMatcher.class);
+        MethodDescription foo = METHODS.filter(named(FOO)).getOnly(), bar = METHODS.filter(named(BAR)).getOnly();
+        when(delegate.matches(foo)).thenReturn(true);
+        ElementMatcher<MethodDescription> matcher = ElementMatchers.compiled(named(BAR).or(delegate));
+        assertThat(matcher.matches(foo), is(true));
+        assertThat(matcher.matches(bar), is(true));
+        verify(delegate).matches(foo);
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    public void testCompiledIsNotRecompiled() throws Exception {
+        CompiledMatcher<MethodDescription> matcher = CompiledMatcher.of(named(FOO));
+        assertThat(CompiledMatcher.<MethodDescription>of(matcher), sameInstance(matcher));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ElementMatcher<MethodDescription> matcher = named(FOO).and(isStatic());
+        CompiledMatcher<MethodDescription> compiled = CompiledMatcher.of(matcher);
+        assertThat(compiled.equals(CompiledMatcher.<MethodDescription>of(named(FOO).and(isStatic()))), is(true));
+        assertThat(compiled.hashCode(), is(CompiledMatcher.<MethodDescription>of(named(FOO).and(isStatic())).hashCode()));
+        assertThat(compiled.equals(CompiledMatcher.<MethodDescription>of(named(BAR))), is(false));
+        assertThat(compiled.toString(), is("compiled(" + matcher + ")"));
+    }
+
+    @Test
+    public void testNameConstraint() throws Exception {
+        assertThat(CompiledMatcher.of(named(FOO).and(isStatic())).getNameConstraint(), is(NameConstraint.named(FOO)));
+        assertThat(CompiledMatcher.of(isStatic()).getNameConstraint(), is(NameConstraint.UNCONSTRAINED));
+    }
+
+    private static void assertEquivalent(ElementMatcher<? super MethodDescription> matcher) {
+        ElementMatcher<MethodDescription> compiled = ElementMatchers.compiled(matcher);
+        for (MethodDescription methodDescription : METHODS) {
+            assertThat(methodDescription.toString(), compiled.matches(methodDescription), is(matcher.matches(methodDescription)));
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Sample {
+
+        public static void foo() {
+            /* empty */
+        }
+
+        private int bar(int value) {
+            return value;
+        }
+
+        protected void qux() {
+            /* empty */
+        }
+
+        public static int baz(Object value) {
+            return 0;
+        }
+    }
+}
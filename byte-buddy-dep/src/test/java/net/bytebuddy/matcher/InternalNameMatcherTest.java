@@ -0,0 +1,59 @@
+package net.bytebuddy.matcher;
+
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class InternalNameMatcherTest extends AbstractElementMatcherTest<InternalNameMatcher> {
+
+    private static final String FOO = "foo/Bar", BAR = "foo.Bar";
+
+    @Mock
+    private ElementMatcher<String> matcher;
+
+    public InternalNameMatcherTest() {
+        super(InternalNameMatcher.class, "internalName");
+    }
+
+    @Test
+    public void testMatch() throws Exception {
+        when(matcher.matches(BAR)).thenReturn(true);
+        assertThat(new InternalNameMatcher(matcher).matches(FOO), is(true));
+        verify(matcher).matches(BAR);
+        verifyNoMoreInteractions(matcher);
+    }
+
+    @Test
+    public void testNoMatch() throws Exception {
+        assertThat(new InternalNameMatcher(matcher).matches(FOO), is(false));
+        verify(matcher).matches(BAR);
+        verifyNoMoreInteractions(matcher);
+    }
+
+    @Test
+    public void testUntranslatable() throws Exception {
+        assertThat(InternalNameMatcher.of(matcher), is((ElementMatcher<String>) new InternalNameMatcher(matcher)));
+    }
+
+    @Test
+    public void testTranslatable() throws Exception {
+        ElementMatcher<String> internalNameMatcher = InternalNameMatcher.of(new StringMatcher("foo.", StringMatcher.Mode.STARTS_WITH)
+                .and(new NegatingMatcher<String>(new StringMatcher("Qux", StringMatcher.Mode.ENDS_WITH)))
+                .or(new BooleanMatcher<String>(false)));
+        assertThat(internalNameMatcher, instanceOf(ElementMatcher.Junction.Disjunction.class));
+        assertThat(internalNameMatcher.matches(FOO), is(true));
+        assertThat(internalNameMatcher.matches("foo/Qux"), is(false));
+        assertThat(internalNameMatcher.matches(BAR), is(false));
+    }
+
+    @Test
+    public void testRegularExpressionIsNotTranslated() throws Exception {
+        ElementMatcher<String> internalNameMatcher = InternalNameMatcher.of(new StringMatcher("foo\\..*", StringMatcher.Mode.MATCHES));
+        assertThat(internalNameMatcher, instanceOf(InternalNameMatcher.class));
+        assertThat(internalNameMatcher.matches(FOO), is(true));
+    }
+}
@@ -0,0 +1,66 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class NameConstraintTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    @Test
+    public void testUnconstrained() throws Exception {
+        assertThat(NameConstraint.UNCONSTRAINED.isUnconstrained(), is(true));
+        assertThat(NameConstraint.UNCONSTRAINED.matches(FOO), is(true));
+        assertThat(NameConstraint.of(isPublic()), is(NameConstraint.UNCONSTRAINED));
+    }
+
+    @Test
+    public void testNamed() throws Exception {
+        NameConstraint nameConstraint = NameConstraint.of(named(FOO));
+        assertThat(nameConstraint, is(NameConstraint.named(FOO)));
+        assertThat(nameConstraint.isUnconstrained(), is(false));
+        assertThat(nameConstraint.matches(FOO), is(true));
+        assertThat(nameConstraint.matches(FOO + BAR), is(false));
+    }
+
+    @Test
+    public void testNameStartsWith() throws Exception {
+        NameConstraint nameConstraint = NameConstraint.of(nameStartsWith(FOO));
+        assertThat(nameConstraint, is(NameConstraint.nameStartsWith(FOO)));
+        assertThat(nameConstraint.isUnconstrained(), is(false));
+        assertThat(nameConstraint.matches(FOO), is(true));
+        assertThat(nameConstraint.matches(FOO + BAR), is(true));
+        assertThat(nameConstraint.matches(BAR), is(false));
+    }
+
+    @Test
+    public void testConjunction() throws Exception {
+        assertThat(NameConstraint.of(named(FOO).and(isPublic())), is(NameConstraint.named(FOO)));
+        assertThat(NameConstraint.of(isPublic().and(named(FOO))), is(NameConstraint.named(FOO)));
+        assertThat(NameConstraint.of(named(FOO).and(nameStartsWith(BAR))).getNames().isEmpty(), is(true));
+        assertThat(NameConstraint.of(named(FOO).and(nameStartsWith(BAR))).matches(FOO), is(false));
+    }
+
+    @Test
+    public void testDisjunction() throws Exception {
+        assertThat(NameConstraint.of(named(FOO).or(nameStartsWith(BAR))), is(new NameConstraint(Collections.singleton(FOO), Collections.singleton(BAR))));
+        assertThat(NameConstraint.of(named(FOO).or(named(BAR))).getNames(), is((Object) new HashSet<String>(Arrays.asList(FOO, BAR))));
+        assertThat(NameConstraint.of(named(FOO).or(isPublic())), is(NameConstraint.UNCONSTRAINED));
+    }
+
+    @Test
+    public void testTypeMatcher() throws Exception {
+        NameConstraint nameConstraint = NameConstraint.of(ElementMatchers.<TypeDescription>named(FOO).or(nameStartsWith(BAR)).and(not(isInterface())));
+        assertThat(nameConstraint.matches(FOO), is(true));
+        assertThat(nameConstraint.matches(BAR + QUX), is(true));
+        assertThat(nameConstraint.matches(QUX), is(false));
+    }
+}
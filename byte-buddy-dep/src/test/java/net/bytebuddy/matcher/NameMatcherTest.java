@@ -44,4 +44,10 @@ public class NameMatcherTest extends AbstractElementMatcherTest<NameMatcher<?>>
         verify(nameMatcher).matches(FOO);
         verifyNoMoreInteractions(nameMatcher);
     }
+
+    @Test
+    public void testNameConstraint() throws Exception {
+        assertThat(new NameMatcher<NamedElement>(new StringMatcher(FOO, StringMatcher.Mode.EQUALS_FULLY)).getNameConstraint(), is(NameConstraint.named(FOO)));
+        assertThat(new NameMatcher<NamedElement>(nameMatcher).getNameConstraint(), is(NameConstraint.UNCONSTRAINED));
+    }
 }
@@ -0,0 +1,76 @@
+package net.bytebuddy.matcher;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PrefixMatcherTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    @Test
+    public void testMatch() throws Exception {
+        ElementMatcher<String> matcher = new PrefixMatcher("java.", "javax.", "sun.", "com.sun.");
+        assertThat(matcher.matches("java.lang.Object"), is(true));
+        assertThat(matcher.matches("javax.net.SocketFactory"), is(true));
+        assertThat(matcher.matches("sun.misc.Unsafe"), is(true));
+        assertThat(matcher.matches("com.sun.Foo"), is(true));
+        assertThat(matcher.matches("java."), is(true));
+    }
+
+    @Test
+    public void testNoMatch() throws Exception {
+        ElementMatcher<String> matcher = new PrefixMatcher("java.", "javax.", "sun.", "com.sun.");
+        assertThat(matcher.matches("java"), is(false));
+        assertThat(matcher.matches("javaz.Foo"), is(false));
+        assertThat(matcher.matches("com.example.Foo"), is(false));
+        assertThat(matcher.matches(""), is(false));
+    }
+
+    @Test
+    public void testNestedPrefixes() throws Exception {
+        ElementMatcher<String> matcher = new PrefixMatcher(FOO + BAR, FOO);
+        assertThat(matcher.matches(FOO), is(true));
+        assertThat(matcher.matches(FOO + BAR), is(true));
+        assertThat(matcher.matches(BAR), is(false));
+    }
+
+    @Test
+    public void testEmptyPrefix() throws Exception {
+        assertThat(new PrefixMatcher("").matches(FOO), is(true));
+        assertThat(new PrefixMatcher("").matches(""), is(true));
+    }
+
+    @Test
+    public void testNoPrefixes() throws Exception {
+        assertThat(new PrefixMatcher().matches(FOO), is(false));
+        assertThat(new PrefixMatcher().matches(""), is(false));
+    }
+
+    @Test
+    public void testNameConstraint() throws Exception {
+        assertThat(new PrefixMatcher(FOO, BAR).getNameConstraint(), is(new NameConstraint(Collections.<String>emptySet(), new HashSet<String>(Arrays.asList(FOO, BAR)))));
+    }
+
+    @Test
+    public void testInternalName() throws Exception {
+        ElementMatcher<String> matcher = new PrefixMatcher("java.lang.", FOO).toInternalNameMatcher();
+        assertThat(matcher.matches("java/lang/Object"), is(true));
+        assertThat(matcher.matches(FOO + "/Bar"), is(true));
+        assertThat(matcher.matches("java/util/List"), is(false));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        assertThat(new PrefixMatcher(FOO, BAR).equals(new PrefixMatcher(FOO, BAR)), is(true));
+        assertThat(new PrefixMatcher(FOO, BAR).hashCode(), is(new PrefixMatcher(FOO, BAR).hashCode()));
+        assertThat(new PrefixMatcher(FOO).equals(new PrefixMatcher(BAR)), is(false));
+        assertThat(new PrefixMatcher(FOO).toString(), startsWith("startsWithAny("));
+    }
+}
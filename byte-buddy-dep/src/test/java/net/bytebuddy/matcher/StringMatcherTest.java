@@ -6,8 +6,10 @@ import org.junit.runners.Parameterized;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.regex.PatternSyntaxException;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -52,8 +54,31 @@ public class StringMatcherTest extends AbstractElementMatcherTest<StringMatcher>
         assertThat(new StringMatcher(nonMatching, mode).matches(FOO), is(false));
     }
 
+    @Test
+    public void testNameConstraint() throws Exception {
+        assertThat(new StringMatcher(matching, mode).getNameConstraint().matches(FOO), is(true));
+        assertThat(new StringMatcher(nonMatching, mode).getNameConstraint().isUnconstrained(), is(mode != StringMatcher.Mode.EQUALS_FULLY && mode != StringMatcher.Mode.STARTS_WITH));
+    }
+
     @Test
     public void testStringRepresentation() throws Exception {
         assertThat(new StringMatcher(FOO, mode).toString(), startsWith(mode.getDescription()));
     }
+
+    @Test
+    public void testInternalName() throws Exception {
+        assertThat(new StringMatcher(matching, mode).toInternalNameMatcher().matches(FOO), is(true));
+        assertThat(new StringMatcher(nonMatching, mode).toInternalNameMatcher().matches(FOO), is(false));
+    }
+
+    @Test
+    public void testIllegalPatternIsOnlyReportedOnMatch() throws Exception {
+        StringMatcher matcher = new StringMatcher("(", mode);
+        try {
+            matcher.matches(FOO);
+            assertThat(mode, is(not(StringMatcher.Mode.MATCHES)));
+        } catch (PatternSyntaxException ignored) {
+            assertThat(mode, is(StringMatcher.Mode.MATCHES));
+        }
+    }
 }
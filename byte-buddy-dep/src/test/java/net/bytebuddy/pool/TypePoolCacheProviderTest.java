@@ -1,5 +1,7 @@
 package net.bytebuddy.pool;
 
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.test.utility.MockitoRule;
 import org.hamcrest.CoreMatchers;
 import org.junit.Rule;
@@ -7,17 +9,23 @@ import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.mockito.Mock;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.Mockito.mock;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.*;
 
 public class TypePoolCacheProviderTest {
 
-    private static final String FOO = "foo";
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
 
     @Rule
     public TestRule mockitoRule = new MockitoRule(this);
@@ -54,4 +62,267 @@ public class TypePoolCacheProviderTest {
         TypePool.CacheProvider.Simple cacheProvider = new TypePool.CacheProvider.Simple(storage);
         assertThat(cacheProvider.getStorage(), sameInstance(storage));
     }
+
+    @Test
+    public void testBounded() throws Exception {
+        TypePool.CacheProvider.Bounded bounded = new TypePool.CacheProvider.Bounded(2);
+        assertThat(bounded.find(FOO), nullValue(TypePool.Resolution.class));
+        assertThat(bounded.register(FOO, resolution), sameInstance(resolution));
+        assertThat(bounded.find(FOO), sameInstance(resolution));
+        TypePool.Resolution resolution = mock(TypePool.Resolution.class);
+        assertThat(bounded.register(FOO, resolution), sameInstance(this.resolution));
+        assertThat(bounded.find(FOO), sameInstance(this.resolution));
+        assertThat(bounded.getHitCount(), is(2L));
+        assertThat(bounded.getMissCount(), is(1L));
+        assertThat(bounded.getSize(), is(1));
+        bounded.clear();
+        assertThat(bounded.find(FOO), nullValue(TypePool.Resolution.class));
+        assertThat(bounded.register(FOO, resolution), sameInstance(resolution));
+        assertThat(bounded.find(FOO), sameInstance(resolution));
+    }
+
+    @Test
+    public void testBoundedEvictsLeastRecentlyUsed() throws Exception {
+        TypePool.CacheProvider.Bounded bounded = new TypePool.CacheProvider.Bounded(2);
+        bounded.register(FOO, resolution);
+        bounded.register(BAR, resolution);
+        assertThat(bounded.find(FOO), sameInstance(resolution));
+        bounded.register(QUX, resolution);
+        assertThat(bounded.getEvictionCount(), is(1L));
+        assertThat(bounded.getSize(), is(2));
+        assertThat(bounded.getMaximumSize(), is(2));
+        assertThat(bounded.find(FOO), sameInstance(resolution));
+        assertThat(bounded.find(QUX), sameInstance(resolution));
+        assertThat(bounded.find(BAR), nullValue(TypePool.Resolution.class));
+    }
+
+    @Test
+    public void testBoundedEvictsInRegistrationOrderWithoutLookup() throws Exception {
+        TypePool.CacheProvider.Bounded bounded = new TypePool.CacheProvider.Bounded(32);
+        for (int index = 0; index < 34; index++) {
+            bounded.register(FOO + index, resolution);
+        }
+        assertThat(bounded.getEvictionCount(), is(2L));
+        assertThat(bounded.getSize(), is(32));
+        assertThat(bounded.find(FOO + 0), nullValue(TypePool.Resolution.class));
+        assertThat(bounded.find(FOO + 1), nullValue(TypePool.Resolution.class));
+        assertThat(bounded.find(FOO + 2), sameInstance(resolution));
+    }
+
+    @Test
+    public void testBoundedGivesSecondChanceOnce() throws Exception {
+        TypePool.CacheProvider.Bounded bounded = new TypePool.CacheProvider.Bounded(2);
+        bounded.register(FOO, resolution);
+        bounded.register(BAR, resolution);
+        assertThat(bounded.find(FOO), sameInstance(resolution));
+        assertThat(bounded.find(BAR), sameInstance(resolution));
+        bounded.register(QUX, resolution);
+        assertThat(bounded.getEvictionCount(), is(1L));
+        assertThat(bounded.getSize(), is(2));
+        assertThat(bounded.find(FOO), nullValue(TypePool.Resolution.class));
+        assertThat(bounded.find(BAR), sameInstance(resolution));
+        assertThat(bounded.find(QUX), sameInstance(resolution));
+    }
+
+    @Test
+    public void testBoundedWithObjectType() throws Exception {
+        TypePool.CacheProvider cacheProvider = TypePool.CacheProvider.Bounded.withObjectType(1);
+        assertThat(cacheProvider.find(Object.class.getName()).resolve(), is(TypeDescription.OBJECT));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBoundedIllegalSize() throws Exception {
+        new TypePool.CacheProvider.Bounded(0);
+    }
+
+    @Test
+    public void testSingleFlight() throws Exception {
+        TypePool.CacheProvider.SingleFlight singleFlight = new TypePool.CacheProvider.SingleFlight(2);
+        assertThat(singleFlight.find(FOO), nullValue(TypePool.Resolution.class));
+        assertThat(singleFlight.register(FOO, resolution), sameInstance(resolution));
+        assertThat(singleFlight.find(FOO), sameInstance(resolution));
+        TypePool.Resolution resolution = mock(TypePool.Resolution.class);
+        assertThat(singleFlight.register(FOO, resolution), sameInstance(this.resolution));
+        assertThat(singleFlight.register(BAR, resolution), sameInstance(resolution));
+        assertThat(singleFlight.getSize(), is(2));
+        singleFlight.clear();
+        assertThat(singleFlight.find(FOO), nullValue(TypePool.Resolution.class));
+        assertThat(singleFlight.getSize(), is(0));
+    }
+
+    @Test
+    public void testDefaultWithoutCoalescingCacheProvider() throws Exception {
+        TypePool.CacheProvider cacheProvider = spy(new PlainCacheProvider());
+        TypePool typePool = new TypePool.Default(cacheProvider, ClassFileLocator.ForClassLoader.ofSystemLoader(), TypePool.Default.ReaderMode.FAST);
+        assertThat(typePool.describe(Object.class.getName()).resolve().getName(), is(Object.class.getName()));
+        assertThat(typePool.describe(Object.class.getName()).resolve().getName(), is(Object.class.getName()));
+        verify(cacheProvider, times(2)).find(Object.class.getName());
+        verify(cacheProvider).register(eq(Object.class.getName()), any(TypePool.Resolution.class));
+        verifyNoMoreInteractions(cacheProvider);
+    }
+
+    @Test
+    public void testSingleFlightResolver() throws Exception {
+        TypePool.CacheProvider.SingleFlight singleFlight = new TypePool.CacheProvider.SingleFlight();
+        TypePool.CacheProvider.Coalescing.Resolver resolver = mock(TypePool.CacheProvider.Coalescing.Resolver.class);
+        when(resolver.resolve(FOO)).thenReturn(resolution);
+        assertThat(singleFlight.find(FOO, resolver), sameInstance(resolution));
+        assertThat(singleFlight.find(FOO, resolver), sameInstance(resolution));
+        assertThat(singleFlight.find(FOO), sameInstance(resolution));
+        verify(resolver).resolve(FOO);
+        verifyNoMoreInteractions(resolver);
+    }
+
+    @Test
+    public void testSingleFlightResolverFailure() throws Exception {
+        TypePool.CacheProvider.SingleFlight singleFlight = new TypePool.CacheProvider.SingleFlight();
+        TypePool.CacheProvider.Coalescing.Resolver resolver = mock(TypePool.CacheProvider.Coalescing.Resolver.class);
+        when(resolver.resolve(FOO)).thenThrow(new IllegalStateException()).thenReturn(resolution);
+        try {
+            singleFlight.find(FOO, resolver);
+            fail();
+        } catch (IllegalStateException ignored) {
+            /* expected */
+        }
+        assertThat(singleFlight.find(FOO), nullValue(TypePool.Resolution.class));
+        assertThat(singleFlight.find(FOO, resolver), sameInstance(resolution));
+    }
+
+    @Test
+    public void testSingleFlightReentrant() throws Exception {
+        final TypePool.CacheProvider.SingleFlight singleFlight = new TypePool.CacheProvider.SingleFlight();
+        final TypePool.Resolution resolution = this.resolution;
+        assertThat(singleFlight.find(FOO, new TypePool.CacheProvider.Coalescing.Resolver() {
+            public TypePool.Resolution resolve(String name) {
+                return singleFlight.find(FOO, new TypePool.CacheProvider.Coalescing.Resolver() {
+                    public TypePool.Resolution resolve(String name) {
+                        return resolution;
+                    }
+                });
+            }
+        }), sameInstance(resolution));
+    }
+
+    @Test(timeout = 10000L)
+    public void testSingleFlightNestedCrossKey() throws Exception {
+        final TypePool.CacheProvider.SingleFlight singleFlight = new TypePool.CacheProvider.SingleFlight();
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<TypePool.Resolution> left = executorService.submit(new NestedResolution(singleFlight, barrier, FOO, BAR, resolution));
+            Future<TypePool.Resolution> right = executorService.submit(new NestedResolution(singleFlight, barrier, BAR, FOO, resolution));
+            assertThat(left.get(), sameInstance(resolution));
+            assertThat(right.get(), sameInstance(resolution));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 10000L)
+    public void testSingleFlightCoalescesConcurrentResolutions() throws Exception {
+        final TypePool.CacheProvider.SingleFlight singleFlight = new TypePool.CacheProvider.SingleFlight();
+        final CountDownLatch started = new CountDownLatch(1), release = new CountDownLatch(1);
+        final AtomicInteger resolutions = new AtomicInteger();
+        final TypePool.CacheProvider.Coalescing.Resolver resolver = new TypePool.CacheProvider.Coalescing.Resolver() {
+            public TypePool.Resolution resolve(String name) {
+                resolutions.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException exception) {
+                    throw new IllegalStateException(exception);
+                }
+                return resolution;
+            }
+        };
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<TypePool.Resolution>> futures = new ArrayList<Future<TypePool.Resolution>>();
+            for (int index = 0; index < 4; index++) {
+                futures.add(executorService.submit(new Callable<TypePool.Resolution>() {
+                    public TypePool.Resolution call() {
+                        return singleFlight.find(FOO, resolver);
+                    }
+                }));
+            }
+            started.await();
+            Thread.sleep(100L);
+            release.countDown();
+            for (Future<TypePool.Resolution> future : futures) {
+                assertThat(future.get(), sameInstance(resolution));
+            }
+            assertThat(resolutions.get(), is(1));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testSingleFlightWithObjectType() throws Exception {
+        TypePool.CacheProvider cacheProvider = TypePool.CacheProvider.SingleFlight.withObjectType();
+        assertThat(cacheProvider.find(Object.class.getName()).resolve(), is(TypeDescription.OBJECT));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSingleFlightIllegalSegments() throws Exception {
+        new TypePool.CacheProvider.SingleFlight(0);
+    }
+
+    public static class PlainCacheProvider implements TypePool.CacheProvider {
+
+        private final Map<String, TypePool.Resolution> storage = new HashMap<String, TypePool.Resolution>();
+
+        public TypePool.Resolution find(String name) {
+            return storage.get(name);
+        }
+
+        public TypePool.Resolution register(String name, TypePool.Resolution resolution) {
+            storage.put(name, resolution);
+            return resolution;
+        }
+
+        public void clear() {
+            storage.clear();
+        }
+    }
+
+    private static class NestedResolution implements Callable<TypePool.Resolution> {
+
+        private final TypePool.CacheProvider.SingleFlight singleFlight;
+
+        private final CyclicBarrier barrier;
+
+        private final String outer, inner;
+
+        private final TypePool.Resolution resolution;
+
+        private NestedResolution(TypePool.CacheProvider.SingleFlight singleFlight,
+                                 CyclicBarrier barrier,
+                                 String outer,
+                                 String inner,
+                                 TypePool.Resolution resolution) {
+            this.singleFlight = singleFlight;
+            this.barrier = barrier;
+            this.outer = outer;
+            this.inner = inner;
+            this.resolution = resolution;
+        }
+
+        public TypePool.Resolution call() {
+            return singleFlight.find(outer, new TypePool.CacheProvider.Coalescing.Resolver() {
+                public TypePool.Resolution resolve(String name) {
+                    try {
+                        barrier.await(5, TimeUnit.SECONDS);
+                    } catch (Exception exception) {
+                        throw new IllegalStateException(exception);
+                    }
+                    return singleFlight.find(inner, new TypePool.CacheProvider.Coalescing.Resolver() {
+                        public TypePool.Resolution resolve(String name) {
+                            return resolution;
+                        }
+                    });
+                }
+            });
+        }
+    }
 }
@@ -1,9 +1,12 @@
 package net.bytebuddy.pool;
 
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -17,4 +20,23 @@ public class TypePoolDefaultCacheTest {
         typePool.clear();
         assertThat(typePool.describe(Void.class.getName()).resolve(), not(sameInstance(typeDescription)));
     }
+
+    @Test
+    public void testSingleFlightCache() throws Exception {
+        TypePool.CacheProvider.SingleFlight cacheProvider = new TypePool.CacheProvider.SingleFlight();
+        TypePool typePool = new TypePool.Default(cacheProvider, ClassFileLocator.ForClassLoader.ofSystemLoader(), TypePool.Default.ReaderMode.FAST);
+        TypeDescription typeDescription = typePool.describe(Void.class.getName()).resolve();
+        assertThat(cacheProvider.find(Void.class.getName()).resolve(), sameInstance(typeDescription));
+        assertThat(typePool.describe(Void.class.getName()).resolve(), sameInstance(typeDescription));
+    }
+
+    @Test
+    public void testSingleFlightCacheLazy() throws Exception {
+        TypePool.CacheProvider.SingleFlight cacheProvider = new TypePool.CacheProvider.SingleFlight();
+        TypePool typePool = new TypePool.Default.WithLazyResolution(cacheProvider, ClassFileLocator.ForClassLoader.ofSystemLoader(), TypePool.Default.ReaderMode.FAST);
+        TypeDescription typeDescription = typePool.describe(Void.class.getName()).resolve();
+        assertThat(cacheProvider.find(Void.class.getName()), nullValue(TypePool.Resolution.class));
+        assertThat(typeDescription.getModifiers(), is(Void.class.getModifiers()));
+        assertThat(cacheProvider.find(Void.class.getName()).resolve(), is(typeDescription));
+    }
 }
@@ -12,11 +12,16 @@ public class TypePoolDefaultReaderModeTest {
     public void testDefinition() throws Exception {
         assertThat(TypePool.Default.ReaderMode.EXTENDED.isExtended(), is(true));
         assertThat(TypePool.Default.ReaderMode.FAST.isExtended(), is(false));
+        assertThat(TypePool.Default.ReaderMode.TIERED.isExtended(), is(false));
+        assertThat(TypePool.Default.ReaderMode.EXTENDED.isTiered(), is(false));
+        assertThat(TypePool.Default.ReaderMode.FAST.isTiered(), is(false));
+        assertThat(TypePool.Default.ReaderMode.TIERED.isTiered(), is(true));
     }
 
     @Test
     public void testFlags() throws Exception {
         assertThat(TypePool.Default.ReaderMode.EXTENDED.getFlags(), is(ClassReader.SKIP_FRAMES));
         assertThat(TypePool.Default.ReaderMode.FAST.getFlags(), is(ClassReader.SKIP_CODE));
+        assertThat(TypePool.Default.ReaderMode.TIERED.getFlags(), is(ClassReader.SKIP_CODE));
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package net.bytebuddy.pool;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypePoolDefaultSymbolTableTest {
+
+    private static final String FOO = "foo";
+
+    @Test
+    public void testNoOp() throws Exception {
+        String foo = new String(FOO);
+        assertThat(TypePool.Default.SymbolTable.NoOp.INSTANCE.intern(foo), sameInstance(foo));
+        assertThat(TypePool.Default.SymbolTable.NoOp.INSTANCE.intern(null), nullValue(String.class));
+        TypePool.Default.SymbolTable.NoOp.INSTANCE.clear();
+    }
+
+    @Test
+    public void testInterning() throws Exception {
+        TypePool.Default.SymbolTable symbolTable = new TypePool.Default.SymbolTable.Interning();
+        String foo = new String(FOO), other = new String(FOO);
+        assertThat(symbolTable.intern(foo), sameInstance(foo));
+        assertThat(symbolTable.intern(other), sameInstance(foo));
+        assertThat(symbolTable.intern(null), nullValue(String.class));
+    }
+
+    @Test
+    public void testInterningClear() throws Exception {
+        TypePool.Default.SymbolTable symbolTable = new TypePool.Default.SymbolTable.Interning();
+        String foo = new String(FOO), other = new String(FOO);
+        assertThat(symbolTable.intern(foo), sameInstance(foo));
+        symbolTable.clear();
+        assertThat(symbolTable.intern(other), sameInstance(other));
+        assertThat(symbolTable.intern(other), not(sameInstance(foo)));
+    }
+
+    @Test
+    public void testInterningObjectProperties() throws Exception {
+        assertThat(new TypePool.Default.SymbolTable.Interning(), is((Object) new TypePool.Default.SymbolTable.Interning()));
+        assertThat(new TypePool.Default.SymbolTable.Interning().hashCode(), is(new TypePool.Default.SymbolTable.Interning().hashCode()));
+    }
+}
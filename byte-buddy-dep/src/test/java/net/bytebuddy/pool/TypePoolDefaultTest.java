@@ -9,7 +9,10 @@ import org.junit.Test;
 import org.objectweb.asm.Opcodes;
 
 import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.*;
@@ -76,6 +79,43 @@ public class TypePoolDefaultTest {
         verifyNoMoreInteractions(classFileLocator);
     }
 
+    @Test
+    public void testTieredParsingDefersMembers() throws Exception {
+        TypePool typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(),
+                ClassFileLocator.ForClassLoader.ofSystemLoader(),
+                TypePool.Default.ReaderMode.TIERED);
+        TypeDescription typeDescription = typePool.describe(String.class.getName()).resolve();
+        assertThat(typeDescription, instanceOf(TypePool.Default.TieredTypeDescription.class));
+        TypeDescription header = ((TypePool.Default.TieredTypeDescription) typeDescription).delegate();
+        assertThat(header.getDeclaredMethods().size(), is(0));
+        assertThat(header.getDeclaredFields().size(), is(0));
+        assertThat(typeDescription.getModifiers(), is(TypeDescription.ForLoadedType.of(String.class).getModifiers()));
+        assertThat(typeDescription.getSuperClass().asErasure(), is(TypeDescription.OBJECT));
+        assertThat(((TypePool.Default.TieredTypeDescription) typeDescription).delegate(), sameInstance(header));
+        assertThat(typeDescription.getDeclaredMethods().filter(named("length")).size(), is(1));
+        assertThat(typeDescription.getDeclaredFields().isEmpty(), is(false));
+        assertThat(((TypePool.Default.TieredTypeDescription) typeDescription).delegate(), not(sameInstance(header)));
+        assertThat(typeDescription.getName(), is(String.class.getName()));
+    }
+
+    @Test
+    public void testInterningSharesSymbols() throws Exception {
+        TypePool.Default.SymbolTable symbolTable = new TypePool.Default.SymbolTable.Interning();
+        TypePool typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(),
+                ClassFileLocator.ForClassLoader.ofSystemLoader(),
+                TypePool.Default.ReaderMode.FAST,
+                TypePool.Empty.INSTANCE,
+                symbolTable);
+        TypeDescription first = typePool.describe(InterningSample.class.getName()).resolve();
+        TypeDescription second = typePool.describe(OtherInterningSample.class.getName()).resolve();
+        assertThat(first.getDeclaredMethods().filter(named("foo")).getOnly().getInternalName(),
+                sameInstance(second.getDeclaredMethods().filter(named("foo")).getOnly().getInternalName()));
+        assertThat(first.getDeclaredFields().filter(named("bar")).getOnly().getName(),
+                sameInstance(second.getDeclaredFields().filter(named("bar")).getOnly().getName()));
+        typePool.clear();
+        assertThat(symbolTable.intern(new String("bar")), not(sameInstance(first.getDeclaredFields().filter(named("bar")).getOnly().getName())));
+    }
+
     @Deprecated
     private static class DeprecationSample {
 
@@ -87,4 +127,24 @@ public class TypePoolDefaultTest {
             /* empty */
         }
     }
+
+    @SuppressWarnings("unused")
+    private static class InterningSample {
+
+        Object bar;
+
+        void foo(String value) {
+            /* empty */
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class OtherInterningSample {
+
+        Object bar;
+
+        void foo(String value) {
+            /* empty */
+        }
+    }
 }
@@ -0,0 +1,293 @@
+package net.bytebuddy.pool;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.AbstractTypeDescriptionTest;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import org.hamcrest.CoreMatchers;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.Serializable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static net.bytebuddy.matcher.ElementMatchers.is;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class TypePoolDefaultWithPersistentIndexTypeDescriptionTest extends AbstractTypeDescriptionTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    protected TypeDescription describe(Class<?> type) {
+        try {
+            File file = File.createTempFile(FOO, BAR);
+            try {
+                ClassFileLocator classFileLocator = ClassFileLocator.ForClassLoader.of(type.getClassLoader());
+                assertThat(file.delete(), CoreMatchers.is(true));
+                TypePool.Default.WithPersistentIndex typePool = new TypePool.Default.WithPersistentIndex(TypePool.CacheProvider.NoOp.INSTANCE,
+                        classFileLocator,
+                        TypePool.Default.ReaderMode.EXTENDED,
+                        file);
+                typePool.describe(type.getName()).resolve().getModifiers();
+                typePool.persist();
+                return new TypePool.Default.WithPersistentIndex(TypePool.CacheProvider.NoOp.INSTANCE,
+                        classFileLocator,
+                        TypePool.Default.ReaderMode.EXTENDED,
+                        file).describe(type.getName()).resolve();
+            } finally {
+                file.delete();
+            }
+        } catch (Exception exception) {
+            throw new AssertionError(exception);
+        }
+    }
+
+    protected TypeDescription.Generic describeType(Field field) {
+        return describe(field.getDeclaringClass()).getDeclaredFields().filter(is(field)).getOnly().getType();
+    }
+
+    protected TypeDescription.Generic describeReturnType(Method method) {
+        return describe(method.getDeclaringClass()).getDeclaredMethods().filter(is(method)).getOnly().getReturnType();
+    }
+
+    protected TypeDescription.Generic describeParameterType(Method method, int index) {
+        return describe(method.getDeclaringClass()).getDeclaredMethods().filter(is(method)).getOnly().getParameters().get(index).getType();
+    }
+
+    protected TypeDescription.Generic describeExceptionType(Method method, int index) {
+        return describe(method.getDeclaringClass()).getDeclaredMethods().filter(is(method)).getOnly().getExceptionTypes().get(index);
+    }
+
+    protected TypeDescription.Generic describeSuperClass(Class<?> type) {
+        return describe(type).getSuperClass();
+    }
+
+    protected TypeDescription.Generic describeInterfaceType(Class<?> type, int index) {
+        return describe(type).getInterfaces().get(index);
+    }
+
+    @Test
+    public void testIndexedTypeIsNotParsed() throws Exception {
+        File file = File.createTempFile(FOO, BAR);
+        try {
+            TypePool.Default.WithPersistentIndex typePool = TypePool.Default.WithPersistentIndex.of(ClassFileLocator.ForClassLoader.of(Sample.class.getClassLoader()), file);
+            assertThat(typePool.describe(Sample.class.getName()).resolve().getModifiers(), CoreMatchers.is(Sample.class.getModifiers()));
+            assertThat(typePool.getIndexSize(), CoreMatchers.is(1));
+            typePool.persist();
+            ClassFileLocator classFileLocator = spy(ClassFileLocator.ForClassLoader.of(Sample.class.getClassLoader()));
+            typePool = TypePool.Default.WithPersistentIndex.of(classFileLocator, file);
+            assertThat(typePool.getIndexSize(), CoreMatchers.is(1));
+            TypeDescription typeDescription = typePool.describe(Sample.class.getName()).resolve();
+            assertThat(typeDescription.getModifiers(), CoreMatchers.is(Sample.class.getModifiers()));
+            assertThat(typeDescription.getSuperClass().asErasure().represents(Object.class), CoreMatchers.is(true));
+            assertThat(typeDescription.getInterfaces().asErasures().getOnly().represents(Serializable.class), CoreMatchers.is(true));
+            assertThat(typeDescription.isAssignableTo(Serializable.class), CoreMatchers.is(true));
+            verify(classFileLocator).locate(Sample.class.getName());
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testTypeIsLocatedOnce() throws Exception {
+        File file = File.createTempFile(FOO, BAR);
+        try {
+            ClassFileLocator classFileLocator = spy(ClassFileLocator.ForClassLoader.of(Sample.class.getClassLoader()));
+            TypePool.Default.WithPersistentIndex typePool = new TypePool.Default.WithPersistentIndex(TypePool.CacheProvider.NoOp.INSTANCE,
+                    classFileLocator,
+                    TypePool.Default.ReaderMode.FAST,
+                    file);
+            TypePool.Resolution resolution = typePool.describe(Sample.class.getName());
+            assertThat(resolution.isResolved(), CoreMatchers.is(true));
+            assertThat(resolution.resolve().getModifiers(), CoreMatchers.is(Sample.class.getModifiers()));
+            verify(classFileLocator).locate(Sample.class.getName());
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testPersistReplacesIndexFile() throws Exception {
+        File folder = File.createTempFile(FOO, BAR);
+        assertThat(folder.delete(), CoreMatchers.is(true));
+        assertThat(folder.mkdir(), CoreMatchers.is(true));
+        File file = new File(folder, FOO);
+        try {
+            TypePool.Default.WithPersistentIndex typePool = TypePool.Default.WithPersistentIndex.of(ClassFileLocator.ForClassLoader.of(Sample.class.getClassLoader()), file);
+            typePool.describe(Sample.class.getName()).resolve().getModifiers();
+            typePool.persist();
+            typePool.describe(Other.class.getName()).resolve().getModifiers();
+            typePool.persist();
+            assertThat(folder.list().length, CoreMatchers.is(1));
+            assertThat(TypePool.Default.WithPersistentIndex.of(ClassFileLocator.NoOp.INSTANCE, file).getIndexSize(), CoreMatchers.is(2));
+        } finally {
+            file.delete();
+            folder.delete();
+        }
+    }
+
+    @Test
+    public void testChangedTypeIsReindexed() throws Exception {
+        File file = File.createTempFile(FOO, BAR);
+        try {
+            TypePool.Default.WithPersistentIndex typePool = TypePool.Default.WithPersistentIndex.of(ClassFileLocator.ForClassLoader.of(Sample.class.getClassLoader()), file);
+            typePool.describe(Sample.class.getName()).resolve().getModifiers();
+            typePool.persist();
+            typePool = TypePool.Default.WithPersistentIndex.of(ClassFileLocator.Simple.of(Sample.class.getName(),
+                    ClassFileLocator.ForClassLoader.read(Other.class)), file);
+            TypeDescription typeDescription = typePool.describe(Sample.class.getName()).resolve();
+            assertThat(typePool.getIndexSize(), CoreMatchers.is(1));
+            assertThat(typeDescription.getInterfaces().isEmpty(), CoreMatchers.is(true));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testIllegalIndexIsDiscarded() throws Exception {
+        File file = File.createTempFile(FOO, BAR);
+        try {
+            FileOutputStream outputStream = new FileOutputStream(file);
+            try {
+                outputStream.write(new byte[]{1, 2, 3});
+            } finally {
+                outputStream.close();
+            }
+            assertThat(TypePool.Default.WithPersistentIndex.of(ClassFileLocator.NoOp.INSTANCE, file).getIndexSize(), CoreMatchers.is(0));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testFingerprintedTypeIsNotLocated() throws Exception {
+        File folder = File.createTempFile(FOO, BAR), file = File.createTempFile(FOO, BAR);
+        assertThat(folder.delete(), CoreMatchers.is(true));
+        File classFile = write(folder, Annotated.class);
+        try {
+            TypePool.Default.WithPersistentIndex typePool = TypePool.Default.WithPersistentIndex.of(new ClassFileLocator.Compound(new ClassFileLocator.ForFolder(folder),
+                    ClassFileLocator.ForClassLoader.of(Annotated.class.getClassLoader())), file);
+            typePool.describe(Annotated.class.getName()).resolve().getModifiers();
+            typePool.persist();
+            ClassFileLocator classFileLocator = spy(new ClassFileLocator.ForFolder(folder));
+            typePool = TypePool.Default.WithPersistentIndex.of(new ClassFileLocator.Compound(classFileLocator,
+                    ClassFileLocator.ForClassLoader.of(Annotated.class.getClassLoader())), file);
+            TypeDescription typeDescription = typePool.describe(Annotated.class.getName()).resolve();
+            assertThat(typeDescription.getDeclaredAnnotations().ofType(SampleAnnotation.class).load().value(), CoreMatchers.is(FOO));
+            MethodDescription.InDefinedShape methodDescription = typeDescription.getDeclaredMethods().filter(named(FOO)).getOnly();
+            assertThat(methodDescription.getDescriptor(), CoreMatchers.is("(Ljava/util/List;)Ljava/lang/Number;"));
+            assertThat(methodDescription.getReturnType().getSort(), CoreMatchers.is(TypeDefinition.Sort.VARIABLE));
+            assertThat(methodDescription.getDeclaredAnnotations().ofType(SampleAnnotation.class).load().value(), CoreMatchers.is(BAR));
+            assertThat(typeDescription.getDeclaredFields().filter(named(BAR)).getOnly().getType().asErasure().represents(String.class), CoreMatchers.is(true));
+            verify(classFileLocator, never()).locate(Annotated.class.getName());
+        } finally {
+            file.delete();
+            delete(folder, classFile);
+        }
+    }
+
+    @Test
+    public void testTieredIndexParsesMembersOnce() throws Exception {
+        File folder = File.createTempFile(FOO, BAR), file = File.createTempFile(FOO, BAR);
+        assertThat(folder.delete(), CoreMatchers.is(true));
+        File classFile = write(folder, Annotated.class);
+        try {
+            TypePool.Default.WithPersistentIndex typePool = new TypePool.Default.WithPersistentIndex(TypePool.CacheProvider.NoOp.INSTANCE,
+                    new ClassFileLocator.Compound(new ClassFileLocator.ForFolder(folder), ClassFileLocator.ForClassLoader.of(Annotated.class.getClassLoader())),
+                    TypePool.Default.ReaderMode.TIERED,
+                    file);
+            typePool.describe(Annotated.class.getName()).resolve().getModifiers();
+            typePool.persist();
+            ClassFileLocator classFileLocator = spy(new ClassFileLocator.ForFolder(folder));
+            typePool = new TypePool.Default.WithPersistentIndex(TypePool.CacheProvider.NoOp.INSTANCE,
+                    new ClassFileLocator.Compound(classFileLocator, ClassFileLocator.ForClassLoader.of(Annotated.class.getClassLoader())),
+                    TypePool.Default.ReaderMode.TIERED,
+                    file);
+            assertThat(typePool.getIndexSize(), CoreMatchers.is(1));
+            TypeDescription typeDescription = typePool.describe(Annotated.class.getName()).resolve();
+            assertThat(typeDescription.getDeclaredAnnotations().ofType(SampleAnnotation.class).load().value(), CoreMatchers.is(FOO));
+            verify(classFileLocator, never()).locate(Annotated.class.getName());
+            assertThat(typeDescription.getDeclaredMethods().filter(named(FOO)).getOnly().getDescriptor(), CoreMatchers.is("(Ljava/util/List;)Ljava/lang/Number;"));
+            assertThat(typeDescription.getDeclaredFields().filter(named(BAR)).getOnly().getType().asErasure().represents(String.class), CoreMatchers.is(true));
+            verify(classFileLocator).locate(Annotated.class.getName());
+        } finally {
+            file.delete();
+            delete(folder, classFile);
+        }
+    }
+
+    @Test
+    public void testIndexOfOtherReaderModeIsDiscarded() throws Exception {
+        File file = File.createTempFile(FOO, BAR);
+        try {
+            TypePool.Default.WithPersistentIndex typePool = new TypePool.Default.WithPersistentIndex(TypePool.CacheProvider.NoOp.INSTANCE,
+                    ClassFileLocator.ForClassLoader.of(Sample.class.getClassLoader()),
+                    TypePool.Default.ReaderMode.FAST,
+                    file);
+            typePool.describe(Sample.class.getName()).resolve().getModifiers();
+            typePool.persist();
+            assertThat(new TypePool.Default.WithPersistentIndex(TypePool.CacheProvider.NoOp.INSTANCE,
+                    ClassFileLocator.NoOp.INSTANCE,
+                    TypePool.Default.ReaderMode.FAST,
+                    file).getIndexSize(), CoreMatchers.is(1));
+            assertThat(new TypePool.Default.WithPersistentIndex(TypePool.CacheProvider.NoOp.INSTANCE,
+                    ClassFileLocator.NoOp.INSTANCE,
+                    TypePool.Default.ReaderMode.EXTENDED,
+                    file).getIndexSize(), CoreMatchers.is(0));
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static File write(File folder, Class<?> type) throws Exception {
+        File classFile = new File(folder, type.getName().replace('.', File.separatorChar) + ".class");
+        assertThat(classFile.getParentFile().mkdirs(), CoreMatchers.is(true));
+        FileOutputStream outputStream = new FileOutputStream(classFile);
+        try {
+            outputStream.write(ClassFileLocator.ForClassLoader.read(type));
+        } finally {
+            outputStream.close();
+        }
+        return classFile;
+    }
+
+    private static void delete(File folder, File file) {
+        while (file != null && !file.equals(folder.getParentFile())) {
+            file.delete();
+            file = file.getParentFile();
+        }
+    }
+
+    public static class Sample implements Serializable {
+        /* empty */
+    }
+
+    public static class Other {
+        /* empty */
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface SampleAnnotation {
+
+        String value();
+    }
+
+    @SampleAnnotation(FOO)
+    public static class Annotated {
+
+        public String bar;
+
+        @SampleAnnotation(BAR)
+        public <T extends Number> T foo(List<? super T> list) {
+            return null;
+        }
+    }
+}
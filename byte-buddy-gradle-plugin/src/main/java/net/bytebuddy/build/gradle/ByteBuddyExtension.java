@@ -70,6 +70,11 @@ public class ByteBuddyExtension {
      */
     public int threads;
 
+    /**
+     * {@code true} if only class files that changed since the previous build should be transformed.
+     */
+    private boolean incremental;
+
     /**
      * A list of task names for which to apply a transformation or {@code null} if the task should apply to all tasks.
      */
@@ -139,6 +144,15 @@ public class ByteBuddyExtension {
                 : new MethodNameTransformer.Suffixing(suffix);
     }
 
+    /**
+     * Returns the suffix to apply upon rebased methods or {@code null} if a random suffix should be used.
+     *
+     * @return The suffix to apply upon rebased methods or {@code null} if a random suffix should be used.
+     */
+    public String getSuffix() {
+        return suffix;
+    }
+
     /**
      * Sets the suffix to apply upon rebased methods.
      *
@@ -220,6 +234,26 @@ public class ByteBuddyExtension {
         this.threads = threads;
     }
 
+    /**
+     * Returns {@code true} if only class files that changed since the previous build should be transformed. A class file is
+     * also transformed if one of its super types, the plugin configuration or the class path changed. A manifest of the
+     * previous build is stored next to the output directory.
+     *
+     * @return {@code true} if only class files that changed since the previous build should be transformed.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Determines if only class files that changed since the previous build should be transformed.
+     *
+     * @param incremental {@code true} if only class files that changed since the previous build should be transformed.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
     /**
      * Sets the initialization that should be used.
      *
@@ -50,6 +50,15 @@ public class PluginArgument {
         this.value = value;
     }
 
+    /**
+     * Returns the argument index.
+     *
+     * @return The argument index.
+     */
+    public int getIndex() {
+        return index;
+    }
+
     /**
      * Sets the argument index.
      *
@@ -59,6 +68,15 @@ public class PluginArgument {
         this.index = index;
     }
 
+    /**
+     * Returns the argument value.
+     *
+     * @return The argument value.
+     */
+    public Object getValue() {
+        return value;
+    }
+
     /**
      * Sets the argument value.
      *
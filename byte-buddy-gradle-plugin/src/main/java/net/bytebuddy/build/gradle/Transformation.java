@@ -93,6 +93,15 @@ public class Transformation extends AbstractUserConfiguration {
         this.plugin = plugin;
     }
 
+    /**
+     * Returns the arguments that are provided to the plugin for construction.
+     *
+     * @return The arguments that are provided to the plugin for construction.
+     */
+    public List<PluginArgument> getArguments() {
+        return arguments;
+    }
+
     /**
      * Creates the argument resolvers for the plugin's constructor by transforming the plugin arguments.
      *
@@ -32,8 +32,10 @@ import org.gradle.api.tasks.compile.AbstractCompile;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Applies a transformation to the classes that were generated by a compilation task.
@@ -94,12 +96,17 @@ public class TransformationAction implements Action<Task> {
         ClassLoaderResolver classLoaderResolver = new ClassLoaderResolver();
         try {
             List<Plugin.Factory> factories = new ArrayList<Plugin.Factory>(byteBuddyExtension.getTransformations().size());
+            Set<File> incrementalClassPath = new LinkedHashSet<File>();
             for (Transformation transformation : byteBuddyExtension.getTransformations()) {
                 String plugin = transformation.getPlugin();
                 try {
+                    Iterable<? extends File> pluginClassPath = transformation.getClassPath(root, classPath);
+                    for (File element : pluginClassPath) {
+                        incrementalClassPath.add(element);
+                    }
                     factories.add(new Plugin.Factory.UsingReflection((Class<? extends Plugin>) Class.forName(plugin,
                             false,
-                            classLoaderResolver.resolve(transformation.getClassPath(root, classPath))))
+                            classLoaderResolver.resolve(pluginClassPath)))
                             .with(transformation.makeArgumentResolvers())
                             .with(Plugin.Factory.UsingReflection.ArgumentResolver.ForType.of(File.class, root),
                                     Plugin.Factory.UsingReflection.ArgumentResolver.ForType.of(Logger.class, project.getLogger()),
@@ -133,6 +140,15 @@ public class TransformationAction implements Action<Task> {
                         project.getLogger().debug("Java version detected: {}", convention.getTargetCompatibility().getMajorVersion());
                     }
                     pluginEngine = Plugin.Engine.Default.of(entryPoint, classFileVersion, byteBuddyExtension.getMethodNameTransformer());
+                    if (byteBuddyExtension.isIncremental()) {
+                        for (File element : classPath) {
+                            incrementalClassPath.add(element);
+                        }
+                        incrementalClassPath.remove(root);
+                        pluginEngine = pluginEngine.withIncrementalStrategy(new Plugin.Engine.IncrementalStrategy.ForFile(new File(root.getParentFile(), root.getName() + ".byte-buddy"),
+                                toConfiguration(entryPoint, classFileVersion),
+                                new ArrayList<File>(incrementalClassPath)));
+                    }
                 } catch (Throwable throwable) {
                     throw new GradleException("Cannot create plugin engine", throwable);
                 }
@@ -170,6 +186,32 @@ public class TransformationAction implements Action<Task> {
         }
     }
 
+    /**
+     * Creates a textual representation of this action's configuration that determines if the result of a previous incremental build can be retained.
+     *
+     * @param entryPoint       The entry point that is used.
+     * @param classFileVersion The class file version that is assumed.
+     * @return A textual representation of this action's configuration.
+     */
+    private String toConfiguration(EntryPoint entryPoint, ClassFileVersion classFileVersion) {
+        StringBuilder configuration = new StringBuilder().append(entryPoint.getClass().getName());
+        if (entryPoint instanceof Enum<?>) {
+            configuration.append('.').append(((Enum<?>) entryPoint).name());
+        }
+        configuration.append('\n')
+                .append(classFileVersion).append('\n')
+                .append(byteBuddyExtension.getSuffix()).append('\n')
+                .append(byteBuddyExtension.isExtendedParsing()).append('\n');
+        for (Transformation transformation : byteBuddyExtension.getTransformations()) {
+            configuration.append(transformation.getRawPlugin());
+            for (PluginArgument argument : transformation.getArguments()) {
+                configuration.append(' ').append(argument.getIndex()).append('=').append(argument.getValue());
+            }
+            configuration.append('\n');
+        }
+        return configuration.toString();
+    }
+
     /**
      * A {@link BuildLogger} implementation for a Gradle {@link Logger}.
      */
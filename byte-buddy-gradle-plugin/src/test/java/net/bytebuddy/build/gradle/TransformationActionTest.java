@@ -129,6 +129,34 @@ public class TransformationActionTest {
         }
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testIncrementalTransformation() throws Exception {
+        Set<File> files = new HashSet<File>();
+        files.addAll(addClass("foo.Bar"));
+        files.addAll(addClass("foo.Qux"));
+        File manifest = new File(target.getParentFile(), target.getName() + ".byte-buddy");
+        try {
+            when(byteBuddyExtension.isIncremental()).thenReturn(true);
+            when(transformation.getPlugin()).thenReturn(SimplePlugin.class.getName());
+            when(initialization.getEntryPoint(any(ClassLoaderResolver.class), any(File.class), any(Iterable.class))).thenReturn(EntryPoint.Default.REBASE);
+            transformationAction.execute(task);
+            assertThat(manifest.isFile(), is(true));
+            transformationAction.execute(task);
+            ClassLoader classLoader = new URLClassLoader(new URL[]{target.toURI().toURL()});
+            assertMethod(classLoader.loadClass("foo.Bar"), FOO, QUX);
+            assertMethod(classLoader.loadClass("foo.Bar"), BAR, BAR);
+            assertMethod(classLoader.loadClass("foo.Qux"), FOO, FOO);
+            assertMethod(classLoader.loadClass("foo.Qux"), BAR, BAR);
+        } finally {
+            for (File file : files) {
+                assertThat(file.delete(), is(true));
+            }
+            assertThat(new File(target, FOO).delete(), is(true));
+            assertThat(manifest.delete(), is(true));
+        }
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testSimpleTransformationWithArgument() throws Exception {
@@ -36,9 +36,13 @@ import org.eclipse.aether.repository.RemoteRepository;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A Maven plugin for applying Byte Buddy transformations during a build.
@@ -168,6 +172,14 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
     @Parameter(defaultValue = "0", required = true)
     public int threads;
 
+    /**
+     * When set to {@code true}, a class file is only transformed if it changed since the previous build, if one of its super types
+     * changed or if the plugin configuration or the class path changed. Any other class file is retained as it is. A manifest of the previous build
+     * is stored next to the output directory.
+     */
+    @Parameter(defaultValue = "false", required = true)
+    public boolean incremental;
+
     /**
      * The currently used repository system.
      */
@@ -241,12 +253,19 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
         ClassLoaderResolver classLoaderResolver = new ClassLoaderResolver(getLog(), repositorySystem, repositorySystemSession, remoteRepositories);
         try {
             List<Plugin.Factory> factories = new ArrayList<Plugin.Factory>(transformations.size());
+            Set<File> pluginClassPath = new LinkedHashSet<File>();
             for (Transformation transformation : transformations) {
                 String plugin = transformation.getPlugin();
                 try {
-                    factories.add(new Plugin.Factory.UsingReflection((Class<? extends Plugin>) Class.forName(plugin,
-                            false,
-                            classLoaderResolver.resolve(transformation.asCoordinate(groupId, artifactId, version, packaging))))
+                    ClassLoader classLoader = classLoaderResolver.resolve(transformation.asCoordinate(groupId, artifactId, version, packaging));
+                    if (classLoader instanceof URLClassLoader) {
+                        for (URL url : ((URLClassLoader) classLoader).getURLs()) {
+                            if (url.getProtocol().equals("file")) {
+                                pluginClassPath.add(new File(url.toURI()));
+                            }
+                        }
+                    }
+                    factories.add(new Plugin.Factory.UsingReflection((Class<? extends Plugin>) Class.forName(plugin, false, classLoader))
                             .with(transformation.makeArgumentResolvers())
                             .with(Plugin.Factory.UsingReflection.ArgumentResolver.ForType.of(File.class, root),
                                     Plugin.Factory.UsingReflection.ArgumentResolver.ForType.of(Log.class, getLog()),
@@ -285,6 +304,16 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
                     pluginEngine = Plugin.Engine.Default.of(entryPoint, classFileVersion, suffix == null || suffix.length() == 0
                             ? MethodNameTransformer.Suffixing.withRandomSuffix()
                             : new MethodNameTransformer.Suffixing(suffix));
+                    if (incremental) {
+                        Set<File> incrementalClassPath = new LinkedHashSet<File>(pluginClassPath);
+                        for (String element : classPath) {
+                            incrementalClassPath.add(new File(element));
+                        }
+                        incrementalClassPath.remove(root);
+                        pluginEngine = pluginEngine.withIncrementalStrategy(new Plugin.Engine.IncrementalStrategy.ForFile(new File(root.getParentFile(), root.getName() + ".byte-buddy"),
+                                toConfiguration(entryPoint, classFileVersion),
+                                new ArrayList<File>(incrementalClassPath)));
+                    }
                 } catch (Throwable throwable) {
                     throw new MojoExecutionException("Cannot create plugin engine", throwable);
                 }
@@ -322,6 +351,34 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * Creates a textual representation of this mojo's configuration that determines if the result of a previous incremental build can be retained.
+     *
+     * @param entryPoint       The entry point that is used.
+     * @param classFileVersion The class file version that is assumed.
+     * @return A textual representation of this mojo's configuration.
+     */
+    private String toConfiguration(EntryPoint entryPoint, ClassFileVersion classFileVersion) {
+        StringBuilder configuration = new StringBuilder().append(entryPoint.getClass().getName());
+        if (entryPoint instanceof Enum<?>) {
+            configuration.append('.').append(((Enum<?>) entryPoint).name());
+        }
+        configuration.append('\n')
+                .append(classFileVersion).append('\n')
+                .append(suffix).append('\n')
+                .append(extendedParsing).append('\n');
+        for (Transformation transformation : transformations) {
+            configuration.append(transformation.asCoordinate(groupId, artifactId, version, packaging)).append(':').append(transformation.getRawPlugin());
+            if (transformation.arguments != null) {
+                for (PluginArgument argument : transformation.arguments) {
+                    configuration.append(' ').append(argument.index).append('=').append(argument.value);
+                }
+            }
+            configuration.append('\n');
+        }
+        return configuration.toString();
+    }
+
     /**
      * Makes a best effort of locating the configured Java target version.
      *
@@ -92,6 +92,30 @@ public class ByteBuddyMojoTest {
         }
     }
 
+    @Test
+    public void testIncrementalTransformation() throws Exception {
+        Set<File> files = new HashSet<File>();
+        files.addAll(addClass("foo.Bar"));
+        files.addAll(addClass("foo.Qux"));
+        File manifest = new File(project.getParentFile(), project.getName() + ".byte-buddy");
+        try {
+            execute("transform", "incremental");
+            assertThat(manifest.isFile(), is(true));
+            execute("transform", "incremental");
+            ClassLoader classLoader = new URLClassLoader(new URL[]{project.toURI().toURL()});
+            assertMethod(classLoader.loadClass("foo.Bar"), FOO, QUX);
+            assertMethod(classLoader.loadClass("foo.Bar"), BAR, BAR);
+            assertMethod(classLoader.loadClass("foo.Qux"), FOO, FOO);
+            assertMethod(classLoader.loadClass("foo.Qux"), BAR, BAR);
+        } finally {
+            for (File file : files) {
+                assertThat(file.delete(), is(true));
+            }
+            assertThat(new File(project, FOO).delete(), is(true));
+            assertThat(manifest.delete(), is(true));
+        }
+    }
+
     @Test
     public void testSimpleTransformationWithSuffix() throws Exception {
         Set<File> files = new HashSet<File>();